@@ -0,0 +1,135 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnitArray;
+import de.xn__ho_hia.storage_unit.StorageUnitCollectors;
+import de.xn__ho_hia.storage_unit.StorageUnitColumn;
+import de.xn__ho_hia.storage_unit.StorageUnits;
+
+/**
+ * Benchmarks aggregates over many storage units held in a {@link List}, a {@link StorageUnitArray} and an off-heap
+ * {@link StorageUnitColumn}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AggregationBenchmark {
+
+    /** The number of storage units to aggregate. */
+    @Param({ "100000" })
+    public int size;
+
+    private List<StorageUnit<?>> list;
+
+    private StorageUnitArray array;
+
+    private StorageUnitColumn column;
+
+    /**
+     * Prepares random file sizes of up to 1 GiB.
+     */
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        list = new ArrayList<>(size);
+        array = new StorageUnitArray();
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(size * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int index = 0; index < size; index++) {
+            final long bytes = random.nextInt(1 << 30);
+            list.add(StorageUnits.bytes(bytes));
+            array.add(bytes);
+            buffer.putLong(bytes);
+        }
+        buffer.flip();
+        column = StorageUnitColumn.wrap(buffer);
+    }
+
+    /**
+     * @return The sum of all units in the list.
+     */
+    @Benchmark
+    public StorageUnit<?> listSum() {
+        StorageUnit<?> sum = StorageUnits.bytes(0);
+        for (final StorageUnit<?> unit : list) {
+            sum = sum.add(unit);
+        }
+        return sum;
+    }
+
+    /**
+     * @return The sum of all units in the list reduced by a stream.
+     */
+    @Benchmark
+    public StorageUnit<?> listStreamReduce() {
+        return list.stream().reduce(StorageUnits.bytes(0), StorageUnit::add);
+    }
+
+    /**
+     * @return The sum of all units in the list collected by a stream.
+     */
+    @Benchmark
+    public StorageUnit<?> listStreamSumming() {
+        return list.stream().collect(StorageUnitCollectors.summing());
+    }
+
+    /**
+     * @return The sum of all entries in the array.
+     */
+    @Benchmark
+    public StorageUnit<?> arraySum() {
+        return array.sum();
+    }
+
+    /**
+     * @return The largest entry in the array.
+     */
+    @Benchmark
+    public StorageUnit<?> arrayMax() {
+        return array.max();
+    }
+
+    /**
+     * @return The sum of all entries in the column.
+     */
+    @Benchmark
+    public StorageUnit<?> columnSum() {
+        return column.sum();
+    }
+
+    /**
+     * @return The number of entries per binary unit in the column.
+     */
+    @Benchmark
+    public Object columnCountByBinaryUnit() {
+        return column.countByBinaryUnit();
+    }
+
+}
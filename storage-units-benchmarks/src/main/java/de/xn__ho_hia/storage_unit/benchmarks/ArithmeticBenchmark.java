@@ -0,0 +1,130 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.xn__ho_hia.storage_unit.Kibibyte;
+import de.xn__ho_hia.storage_unit.StorageUnit;
+
+/**
+ * Benchmarks the arithmetic and comparison methods of {@link StorageUnit}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ArithmeticBenchmark {
+
+    /** The amount of bytes to start with. The last value forces an overflow of <code>long</code>. */
+    @Param({ "1536", "5368709120", "9223372036854775807" })
+    public long bytes;
+
+    /** The amount of bytes to add/subtract or the factor/divisor to apply. */
+    @Param({ "3" })
+    public long operand;
+
+    private Kibibyte unit;
+
+    private Kibibyte other;
+
+    /**
+     * Prepares the units to calculate with.
+     */
+    @Setup
+    public void setup() {
+        unit = Kibibyte.valueOf(bytes);
+        other = Kibibyte.valueOf(bytes);
+    }
+
+    /**
+     * @return The sum of the unit and the operand.
+     */
+    @Benchmark
+    public Kibibyte addLong() {
+        return unit.add(operand);
+    }
+
+    /**
+     * @return The sum of both units.
+     */
+    @Benchmark
+    public Kibibyte addUnit() {
+        return unit.add(other);
+    }
+
+    /**
+     * @return The difference of the unit and the operand.
+     */
+    @Benchmark
+    public Kibibyte subtractLong() {
+        return unit.subtract(operand);
+    }
+
+    /**
+     * @return The difference of both units.
+     */
+    @Benchmark
+    public Kibibyte subtractUnit() {
+        return unit.subtract(other);
+    }
+
+    /**
+     * @return The product of the unit and the operand.
+     */
+    @Benchmark
+    public Kibibyte multiply() {
+        return unit.multiply(operand);
+    }
+
+    /**
+     * @return The quotient of the unit and the operand.
+     */
+    @Benchmark
+    public Kibibyte divide() {
+        return unit.divide(operand);
+    }
+
+    /**
+     * @return The comparison result of both units.
+     */
+    @Benchmark
+    public int compareTo() {
+        return unit.compareTo(other);
+    }
+
+    /**
+     * @return Whether both units are equal.
+     */
+    @Benchmark
+    public boolean equalsUnit() {
+        return unit.equals(other);
+    }
+
+    /**
+     * @return The hash code of the unit.
+     */
+    @Benchmark
+    public int hashCodeOfUnit() {
+        return unit.hashCode();
+    }
+
+}
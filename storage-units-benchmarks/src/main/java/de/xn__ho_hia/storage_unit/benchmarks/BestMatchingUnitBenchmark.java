@@ -0,0 +1,100 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.benchmarks;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnits;
+
+/**
+ * Benchmarks the selection of the best matching unit in {@link StorageUnits}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BestMatchingUnitBenchmark {
+
+    /** The amount of bytes to represent. */
+    @Param({ "512", "1536", "5368709120", "-5368709120", "1152921504606846976" })
+    public long bytes;
+
+    private BigInteger bigBytes;
+
+    /**
+     * Prepares the {@link BigInteger} representation of the bytes.
+     */
+    @Setup
+    public void setup() {
+        bigBytes = BigInteger.valueOf(bytes);
+    }
+
+    /**
+     * @return The best matching binary unit.
+     */
+    @Benchmark
+    public StorageUnit<?> binaryValueOfLong() {
+        return StorageUnits.binaryValueOf(bytes);
+    }
+
+    /**
+     * @return The best matching binary unit.
+     */
+    @Benchmark
+    public StorageUnit<?> binaryValueOfBigInteger() {
+        return StorageUnits.binaryValueOf(bigBytes);
+    }
+
+    /**
+     * @return The best matching decimal unit.
+     */
+    @Benchmark
+    public StorageUnit<?> decimalValueOfLong() {
+        return StorageUnits.decimalValueOf(bytes);
+    }
+
+    /**
+     * @return The best matching decimal unit.
+     */
+    @Benchmark
+    public StorageUnit<?> decimalValueOfBigInteger() {
+        return StorageUnits.decimalValueOf(bigBytes);
+    }
+
+    /**
+     * @return The best matching common unit.
+     */
+    @Benchmark
+    public StorageUnit<?> commonValueOfLong() {
+        return StorageUnits.commonValueOf(bytes);
+    }
+
+    /**
+     * @return The best matching common unit.
+     */
+    @Benchmark
+    public StorageUnit<?> commonValueOfBigInteger() {
+        return StorageUnits.commonValueOf(bigBytes);
+    }
+
+}
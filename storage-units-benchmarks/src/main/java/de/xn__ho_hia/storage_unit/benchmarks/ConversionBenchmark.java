@@ -0,0 +1,166 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.xn__ho_hia.storage_unit.Byte;
+import de.xn__ho_hia.storage_unit.Gibibyte;
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnitType;
+import de.xn__ho_hia.storage_unit.StorageUnits;
+
+/**
+ * Benchmarks the conversions between units, e.g. {@link StorageUnit#inGibibyte()} and
+ * {@link StorageUnit#asGibibyte()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ConversionBenchmark {
+
+    /** The amount of bytes to convert. */
+    @Param({ "1536", "5368709120", "1152921504606846976" })
+    public long bytes;
+
+    private StorageUnit<?> unit;
+
+    private BigDecimal bytesInAGibibyte;
+
+    /**
+     * Prepares the unit to convert.
+     */
+    @Setup
+    public void setup() {
+        unit = Byte.valueOf(bytes);
+        bytesInAGibibyte = new BigDecimal(StorageUnits.gibibyte(1).inByte());
+    }
+
+    /**
+     * Baseline for the <code>inUnit</code> methods which divides the amount of bytes by the bytes per unit.
+     *
+     * @return The unit quantified as gibibyte.
+     */
+    @Benchmark
+    public BigDecimal inGibibyteByDivision() {
+        return new BigDecimal(unit.inByte()).divide(bytesInAGibibyte, 24, RoundingMode.CEILING);
+    }
+
+    /**
+     * @return The unit quantified as kibibyte.
+     */
+    @Benchmark
+    public BigDecimal inKibibyte() {
+        return unit.inKibibyte();
+    }
+
+    /**
+     * @return The unit quantified as mebibyte.
+     */
+    @Benchmark
+    public BigDecimal inMebibyte() {
+        return unit.inMebibyte();
+    }
+
+    /**
+     * @return The unit quantified as gibibyte.
+     */
+    @Benchmark
+    public BigDecimal inGibibyte() {
+        return unit.inGibibyte();
+    }
+
+    /**
+     * @return The unit quantified as yobibyte.
+     */
+    @Benchmark
+    public BigDecimal inYobibyte() {
+        return unit.inYobibyte();
+    }
+
+    /**
+     * @return The unit quantified as kilobyte.
+     */
+    @Benchmark
+    public BigDecimal inKilobyte() {
+        return unit.inKilobyte();
+    }
+
+    /**
+     * @return The unit quantified as gigabyte.
+     */
+    @Benchmark
+    public BigDecimal inGigabyte() {
+        return unit.inGigabyte();
+    }
+
+    /**
+     * @return The unit quantified as common gigabyte.
+     */
+    @Benchmark
+    public BigDecimal inCommonGigabyte() {
+        return unit.inCommonGigabyte();
+    }
+
+    /**
+     * @return The unit as gibibyte.
+     */
+    @Benchmark
+    public Gibibyte asGibibyte() {
+        return unit.asGibibyte();
+    }
+
+    /**
+     * @return The unit as best matching binary unit.
+     */
+    @Benchmark
+    public StorageUnit<?> asBestMatchingBinaryUnit() {
+        return unit.asBestMatchingBinaryUnit();
+    }
+
+    /**
+     * @return The unit as best matching decimal unit.
+     */
+    @Benchmark
+    public StorageUnit<?> asBestMatchingDecimalUnit() {
+        return unit.asBestMatchingDecimalUnit();
+    }
+
+    /**
+     * @return The bytes converted to mebibyte using primitives only.
+     */
+    @Benchmark
+    public long typeConvertToMebibyte() {
+        return StorageUnitType.MEBIBYTE.convert(bytes, StorageUnitType.BYTE);
+    }
+
+    /**
+     * @return The bytes converted to gigabyte using primitives only.
+     */
+    @Benchmark
+    public long typeConvertToGigabyte() {
+        return StorageUnitType.GIGABYTE.convert(bytes, StorageUnitType.BYTE);
+    }
+
+}
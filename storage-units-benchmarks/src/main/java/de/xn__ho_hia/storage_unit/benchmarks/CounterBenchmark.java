@@ -0,0 +1,59 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnitAdder;
+import de.xn__ho_hia.storage_unit.StorageUnits;
+
+/**
+ * Benchmarks counters of transferred bytes shared by several threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CounterBenchmark {
+
+    private final AtomicReference<StorageUnit<?>> reference = new AtomicReference<>(StorageUnits.bytes(0));
+
+    private final StorageUnitAdder adder = new StorageUnitAdder();
+
+    /**
+     * Adds to an immutable unit in a compare-and-set loop.
+     */
+    @Benchmark
+    public void atomicReferenceAdd() {
+        reference.accumulateAndGet(StorageUnits.bytes(1_500), StorageUnit::add);
+    }
+
+    /**
+     * Adds to striped counters.
+     */
+    @Benchmark
+    public void adderAdd() {
+        adder.add(1_500L);
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnits;
+import de.xn__ho_hia.storage_unit.eclipselink.BinaryStorageUnitConverter;
+
+/**
+ * Benchmarks the EclipseLink converter over a large result set against parsing the string representation of each
+ * value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EclipseLinkBenchmark {
+
+    private static final int ROWS = 1_000_000;
+
+    private final BinaryStorageUnitConverter converter = new BinaryStorageUnitConverter();
+
+    private final Object[] longRows = new Object[ROWS];
+
+    private final Object[] decimalRows = new Object[ROWS];
+
+    private final StorageUnit<?>[] units = new StorageUnit<?>[ROWS];
+
+    /**
+     * Creates the rows as returned by a JDBC driver for a <code>BIGINT</code> and a <code>NUMERIC</code> column.
+     */
+    public EclipseLinkBenchmark() {
+        final Random random = new Random(1);
+        for (int index = 0; index < ROWS; index++) {
+            final long bytes = random.nextLong() >>> 1 + random.nextInt(Long.SIZE - 1);
+            longRows[index] = Long.valueOf(bytes);
+            decimalRows[index] = BigDecimal.valueOf(bytes);
+            units[index] = StorageUnits.bytes(bytes);
+        }
+    }
+
+    /**
+     * @param blackhole
+     *            The blackhole to consume the converted units.
+     */
+    @Benchmark
+    public void convertLongRows(final Blackhole blackhole) {
+        for (final Object row : longRows) {
+            blackhole.consume(converter.convertDataValueToObjectValue(row, null));
+        }
+    }
+
+    /**
+     * @param blackhole
+     *            The blackhole to consume the converted units.
+     */
+    @Benchmark
+    public void convertDecimalRows(final Blackhole blackhole) {
+        for (final Object row : decimalRows) {
+            blackhole.consume(converter.convertDataValueToObjectValue(row, null));
+        }
+    }
+
+    /**
+     * @param blackhole
+     *            The blackhole to consume the converted units.
+     */
+    @Benchmark
+    public void parseLongRows(final Blackhole blackhole) {
+        for (final Object row : longRows) {
+            blackhole.consume(StorageUnits.binaryValueOf(new BigInteger(row.toString())));
+        }
+    }
+
+    /**
+     * @param blackhole
+     *            The blackhole to consume the bound values.
+     */
+    @Benchmark
+    public void bindUnits(final Blackhole blackhole) {
+        for (final StorageUnit<?> unit : units) {
+            blackhole.consume(converter.convertObjectValueToDataValue(unit, null));
+        }
+    }
+
+    /**
+     * @param blackhole
+     *            The blackhole to consume the bound values.
+     */
+    @Benchmark
+    public void bindBigIntegers(final Blackhole blackhole) {
+        for (final StorageUnit<?> unit : units) {
+            blackhole.consume(unit.inByte());
+        }
+    }
+
+}
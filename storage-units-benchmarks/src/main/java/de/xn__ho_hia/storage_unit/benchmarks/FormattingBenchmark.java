@@ -0,0 +1,374 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.benchmarks;
+
+import java.math.BigInteger;
+import java.text.DecimalFormat;
+import java.text.Format;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnitFormatter;
+import de.xn__ho_hia.storage_unit.StorageUnits;
+
+/**
+ * Benchmarks the <code>toString</code> methods of {@link StorageUnit}, the <code>formatAs</code> methods of
+ * {@link StorageUnits} and the {@link StorageUnitFormatter}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FormattingBenchmark {
+
+    /** The amount of bytes to format. */
+    @Param({ "512", "1536", "5368709120" })
+    public long bytes;
+
+    /** The pattern to format with. */
+    @Param({ "#,##0.00" })
+    public String pattern;
+
+    private BigInteger bigBytes;
+
+    private Locale locale;
+
+    private Format format;
+
+    private StorageUnit<?> unit;
+
+    private StorageUnitFormatter formatter;
+
+    private StringBuilder builder;
+
+    /**
+     * Prepares the values to format.
+     */
+    @Setup
+    public void setup() {
+        bigBytes = BigInteger.valueOf(bytes);
+        locale = Locale.GERMANY;
+        format = new DecimalFormat(pattern);
+        unit = StorageUnits.binaryValueOf(bytes);
+        formatter = StorageUnitFormatter.ofBinaryUnits().withPattern(pattern).withLocale(locale);
+        builder = new StringBuilder(32);
+    }
+
+    /**
+     * @return The unit formatted with the default pattern.
+     */
+    @Benchmark
+    public String toStringDefault() {
+        return unit.toString();
+    }
+
+    /**
+     * @return The unit formatted with a pattern.
+     */
+    @Benchmark
+    public String toStringPattern() {
+        return unit.toString(pattern);
+    }
+
+    /**
+     * @return The unit formatted with a pattern and locale.
+     */
+    @Benchmark
+    public String toStringPatternLocale() {
+        return unit.toString(pattern, locale);
+    }
+
+    /**
+     * @return The unit formatted with a format.
+     */
+    @Benchmark
+    public String toStringFormat() {
+        return unit.toString(format);
+    }
+
+    /**
+     * @return The bytes formatted as byte.
+     */
+    @Benchmark
+    public String formatAsByte() {
+        return StorageUnits.formatAsByte(bytes);
+    }
+
+    /**
+     * @return The bytes formatted as byte.
+     */
+    @Benchmark
+    public String formatAsByteBigInteger() {
+        return StorageUnits.formatAsByte(bigBytes);
+    }
+
+    /**
+     * @return The bytes formatted as best matching binary unit.
+     */
+    @Benchmark
+    public String formatAsBinaryUnit() {
+        return StorageUnits.formatAsBinaryUnit(bytes);
+    }
+
+    /**
+     * @return The bytes formatted as best matching binary unit.
+     */
+    @Benchmark
+    public String formatAsBinaryUnitBigInteger() {
+        return StorageUnits.formatAsBinaryUnit(bigBytes);
+    }
+
+    /**
+     * @return The bytes formatted as best matching binary unit with a pattern.
+     */
+    @Benchmark
+    public String formatAsBinaryUnitPattern() {
+        return StorageUnits.formatAsBinaryUnit(bytes, pattern);
+    }
+
+    /**
+     * @return The bytes formatted as best matching binary unit with a pattern and locale.
+     */
+    @Benchmark
+    public String formatAsBinaryUnitPatternLocale() {
+        return StorageUnits.formatAsBinaryUnit(bytes, pattern, locale);
+    }
+
+    /**
+     * @return The bytes formatted as best matching binary unit with a format.
+     */
+    @Benchmark
+    public String formatAsBinaryUnitFormat() {
+        return StorageUnits.formatAsBinaryUnit(bytes, format);
+    }
+
+    /**
+     * @return The bytes formatted as best matching decimal unit.
+     */
+    @Benchmark
+    public String formatAsDecimalUnit() {
+        return StorageUnits.formatAsDecimalUnit(bytes);
+    }
+
+    /**
+     * @return The bytes formatted as best matching decimal unit.
+     */
+    @Benchmark
+    public String formatAsDecimalUnitBigInteger() {
+        return StorageUnits.formatAsDecimalUnit(bigBytes);
+    }
+
+    /**
+     * @return The bytes formatted as best matching decimal unit with a pattern.
+     */
+    @Benchmark
+    public String formatAsDecimalUnitPattern() {
+        return StorageUnits.formatAsDecimalUnit(bytes, pattern);
+    }
+
+    /**
+     * @return The bytes formatted as best matching decimal unit with a pattern and locale.
+     */
+    @Benchmark
+    public String formatAsDecimalUnitPatternLocale() {
+        return StorageUnits.formatAsDecimalUnit(bytes, pattern, locale);
+    }
+
+    /**
+     * @return The bytes formatted as best matching decimal unit with a format.
+     */
+    @Benchmark
+    public String formatAsDecimalUnitFormat() {
+        return StorageUnits.formatAsDecimalUnit(bytes, format);
+    }
+
+    /**
+     * @return The bytes formatted as best matching common unit.
+     */
+    @Benchmark
+    public String formatAsCommonUnit() {
+        return StorageUnits.formatAsCommonUnit(bytes);
+    }
+
+    /**
+     * @return The bytes formatted as best matching common unit.
+     */
+    @Benchmark
+    public String formatAsCommonUnitBigInteger() {
+        return StorageUnits.formatAsCommonUnit(bigBytes);
+    }
+
+    /**
+     * @return The bytes formatted as best matching common unit with a pattern.
+     */
+    @Benchmark
+    public String formatAsCommonUnitPattern() {
+        return StorageUnits.formatAsCommonUnit(bytes, pattern);
+    }
+
+    /**
+     * @return The bytes formatted as best matching common unit with a pattern and locale.
+     */
+    @Benchmark
+    public String formatAsCommonUnitPatternLocale() {
+        return StorageUnits.formatAsCommonUnit(bytes, pattern, locale);
+    }
+
+    /**
+     * @return The bytes formatted as best matching common unit with a format.
+     */
+    @Benchmark
+    public String formatAsCommonUnitFormat() {
+        return StorageUnits.formatAsCommonUnit(bytes, format);
+    }
+
+    /**
+     * @return The bytes formatted as gibibyte.
+     */
+    @Benchmark
+    public String formatAsGibibyte() {
+        return StorageUnits.formatAsGibibyte(bytes);
+    }
+
+    /**
+     * @return The bytes formatted as gibibyte with a pattern.
+     */
+    @Benchmark
+    public String formatAsGibibytePattern() {
+        return StorageUnits.formatAsGibibyte(bytes, pattern);
+    }
+
+    /**
+     * @return The bytes formatted as gibibyte with a pattern and locale.
+     */
+    @Benchmark
+    public String formatAsGibibytePatternLocale() {
+        return StorageUnits.formatAsGibibyte(bytes, pattern, locale);
+    }
+
+    /**
+     * @return The bytes formatted as gibibyte with a format.
+     */
+    @Benchmark
+    public String formatAsGibibyteFormat() {
+        return StorageUnits.formatAsGibibyte(bytes, format);
+    }
+
+    /**
+     * @return The bytes formatted as gigabyte.
+     */
+    @Benchmark
+    public String formatAsGigabyte() {
+        return StorageUnits.formatAsGigabyte(bytes);
+    }
+
+    /**
+     * @return The bytes formatted as gigabyte with a pattern.
+     */
+    @Benchmark
+    public String formatAsGigabytePattern() {
+        return StorageUnits.formatAsGigabyte(bytes, pattern);
+    }
+
+    /**
+     * @return The bytes formatted as gigabyte with a pattern and locale.
+     */
+    @Benchmark
+    public String formatAsGigabytePatternLocale() {
+        return StorageUnits.formatAsGigabyte(bytes, pattern, locale);
+    }
+
+    /**
+     * @return The bytes formatted as gigabyte with a format.
+     */
+    @Benchmark
+    public String formatAsGigabyteFormat() {
+        return StorageUnits.formatAsGigabyte(bytes, format);
+    }
+
+    /**
+     * @return The bytes formatted as common gigabyte.
+     */
+    @Benchmark
+    public String formatAsCommonGigabyte() {
+        return StorageUnits.formatAsCommonGigabyte(bytes);
+    }
+
+    /**
+     * @return The bytes formatted as common gigabyte with a pattern.
+     */
+    @Benchmark
+    public String formatAsCommonGigabytePattern() {
+        return StorageUnits.formatAsCommonGigabyte(bytes, pattern);
+    }
+
+    /**
+     * @return The bytes formatted as common gigabyte with a pattern and locale.
+     */
+    @Benchmark
+    public String formatAsCommonGigabytePatternLocale() {
+        return StorageUnits.formatAsCommonGigabyte(bytes, pattern, locale);
+    }
+
+    /**
+     * @return The bytes formatted as common gigabyte with a format.
+     */
+    @Benchmark
+    public String formatAsCommonGigabyteFormat() {
+        return StorageUnits.formatAsCommonGigabyte(bytes, format);
+    }
+
+    /**
+     * @return The bytes formatted as best matching binary unit with a shared formatter.
+     */
+    @Benchmark
+    public String formatterBinaryUnit() {
+        return formatter.format(bytes);
+    }
+
+    /**
+     * @return The unit formatted as best matching binary unit with a shared formatter.
+     */
+    @Benchmark
+    public String formatterUnit() {
+        return formatter.format(unit);
+    }
+
+    /**
+     * @return The unit formatted with the default pattern into a reused builder.
+     */
+    @Benchmark
+    public StringBuilder formatToBuilder() {
+        builder.setLength(0);
+        return unit.formatTo(builder);
+    }
+
+    /**
+     * @return The bytes formatted as best matching binary unit into a reused builder.
+     */
+    @Benchmark
+    public StringBuilder formatAsBinaryUnitToBuilder() {
+        builder.setLength(0);
+        return StorageUnits.formatAsBinaryUnitTo(bytes, builder);
+    }
+
+}
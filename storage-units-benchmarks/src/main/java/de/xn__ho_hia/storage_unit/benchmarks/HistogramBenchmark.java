@@ -0,0 +1,86 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnitHistogram;
+import de.xn__ho_hia.storage_unit.StorageUnits;
+
+/**
+ * Benchmarks the 99th percentile of many file sizes calculated with a sorted {@link List} and a
+ * {@link StorageUnitHistogram}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HistogramBenchmark {
+
+    /** The number of file sizes to record. */
+    @Param({ "100000" })
+    public int size;
+
+    private long[] sizes;
+
+    /**
+     * Prepares random file sizes of up to 1 GiB.
+     */
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        sizes = new long[size];
+        for (int index = 0; index < size; index++) {
+            sizes[index] = random.nextInt(1 << 30);
+        }
+    }
+
+    /**
+     * @return The 99th percentile calculated by sorting all units.
+     */
+    @Benchmark
+    public StorageUnit<?> sortedListPercentile() {
+        final List<StorageUnit<?>> list = new ArrayList<>(size);
+        for (final long bytes : sizes) {
+            list.add(StorageUnits.binaryValueOf(bytes));
+        }
+        Collections.sort(list, (first, second) -> first.inByte().compareTo(second.inByte()));
+        return list.get((int) Math.ceil(0.99 * size) - 1);
+    }
+
+    /**
+     * @return The 99th percentile estimated by a histogram with 8 significant bits.
+     */
+    @Benchmark
+    public StorageUnit<?> histogramPercentile() {
+        final StorageUnitHistogram histogram = StorageUnitHistogram.binary(8);
+        for (final long bytes : sizes) {
+            histogram.record(bytes);
+        }
+        return histogram.quantile(0.99);
+    }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.benchmarks;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.xn__ho_hia.storage_unit.Mebibyte;
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnitArray;
+import de.xn__ho_hia.storage_unit.StorageUnits;
+import de.xn__ho_hia.storage_unit.jackson.StorageUnitModule;
+
+/**
+ * Benchmarks de-/serialization of storage units with Jackson against plain {@link BigInteger} values.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JacksonBenchmark {
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new StorageUnitModule());
+
+    private final StorageUnit<?> unit = StorageUnits.mebibyte(3);
+
+    private final BigInteger bigInteger = unit.inByte();
+
+    private final String json = "3145728"; //$NON-NLS-1$
+
+    private final StorageUnitArray array = randomArray(1_000);
+
+    private final String jsonArray = serialize(array);
+
+    private static StorageUnitArray randomArray(final int size) {
+        final Random random = new Random(1);
+        final StorageUnitArray sizes = new StorageUnitArray();
+        for (int index = 0; index < size; index++) {
+            sizes.add(random.nextLong() >>> 1 + random.nextInt(Long.SIZE - 1));
+        }
+        return sizes;
+    }
+
+    private String serialize(final StorageUnitArray sizes) {
+        try {
+            return mapper.writeValueAsString(sizes);
+        } catch (final JsonProcessingException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * @return The serialized unit.
+     * @throws JsonProcessingException
+     *             Never.
+     */
+    @Benchmark
+    public String serializeUnit() throws JsonProcessingException {
+        return mapper.writeValueAsString(unit);
+    }
+
+    /**
+     * @return The serialized {@link BigInteger}.
+     * @throws JsonProcessingException
+     *             Never.
+     */
+    @Benchmark
+    public String serializeBigInteger() throws JsonProcessingException {
+        return mapper.writeValueAsString(bigInteger);
+    }
+
+    /**
+     * @return The deserialized unit.
+     * @throws IOException
+     *             Never.
+     */
+    @Benchmark
+    public StorageUnit<?> deserializeUnit() throws IOException {
+        return mapper.readValue(json, StorageUnit.class);
+    }
+
+    /**
+     * @return The deserialized unit of a concrete type.
+     * @throws IOException
+     *             Never.
+     */
+    @Benchmark
+    public Mebibyte deserializeConcreteUnit() throws IOException {
+        return mapper.readValue(json, Mebibyte.class);
+    }
+
+    /**
+     * @return The unit created from a deserialized {@link BigInteger}.
+     * @throws IOException
+     *             Never.
+     */
+    @Benchmark
+    public StorageUnit<?> deserializeBigInteger() throws IOException {
+        return StorageUnits.binaryValueOf(mapper.readValue(json, BigInteger.class));
+    }
+
+    /**
+     * @return The serialized array of 1000 amounts.
+     * @throws JsonProcessingException
+     *             Never.
+     */
+    @Benchmark
+    public String serializeStorageUnitArray() throws JsonProcessingException {
+        return mapper.writeValueAsString(array);
+    }
+
+    /**
+     * @return The deserialized array of 1000 amounts.
+     * @throws IOException
+     *             Never.
+     */
+    @Benchmark
+    public StorageUnitArray deserializeStorageUnitArray() throws IOException {
+        return mapper.readValue(jsonArray, StorageUnitArray.class);
+    }
+
+    /**
+     * @return The deserialized list of 1000 units.
+     * @throws IOException
+     *             Never.
+     */
+    @Benchmark
+    public List<StorageUnit<?>> deserializeUnitList() throws IOException {
+        return mapper.readValue(jsonArray, new TypeReference<List<StorageUnit<?>>>() {
+            // capture type
+        });
+    }
+
+    /**
+     * @return The deserialized primitive array of 1000 amounts as baseline.
+     * @throws IOException
+     *             Never.
+     */
+    @Benchmark
+    public long[] deserializeLongArray() throws IOException {
+        return mapper.readValue(jsonArray, long[].class);
+    }
+
+}
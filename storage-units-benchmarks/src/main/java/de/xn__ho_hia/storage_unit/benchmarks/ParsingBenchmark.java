@@ -0,0 +1,89 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnitParseMode;
+import de.xn__ho_hia.storage_unit.StorageUnitType;
+import de.xn__ho_hia.storage_unit.StorageUnits;
+
+/**
+ * Benchmarks the <code>parse</code> methods of {@link StorageUnits} against a regular expression based parser.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParsingBenchmark {
+
+    private static final Pattern PATTERN = Pattern.compile("(-?\\d+(?:\\.\\d+)?) ?([kKMGTPEZY]i?B|B)"); //$NON-NLS-1$
+
+    /** The text to parse. */
+    @Param({ "512 B", "1.50 GiB", "10kB" })
+    public String text;
+
+    /**
+     * @return The parsed unit.
+     */
+    @Benchmark
+    public StorageUnit<?> parse() {
+        return StorageUnits.parse(text);
+    }
+
+    /**
+     * @return The parsed amount of bytes.
+     */
+    @Benchmark
+    public long parseBytes() {
+        return StorageUnits.parseBytes(text);
+    }
+
+    /**
+     * @return The parsed amount of bytes.
+     */
+    @Benchmark
+    public long parseBytesLenient() {
+        return StorageUnits.parseBytes(text, StorageUnitParseMode.LENIENT);
+    }
+
+    /**
+     * @return The amount of bytes parsed with a regular expression, as commonly done without a parser.
+     */
+    @Benchmark
+    public long parseBytesWithRegex() {
+        final Matcher matcher = PATTERN.matcher(text);
+        if (!matcher.matches()) {
+            throw new NumberFormatException(text);
+        }
+        for (final StorageUnitType type : StorageUnitType.values()) {
+            if (type.getSymbol().equals(matcher.group(2))) {
+                return new BigDecimal(matcher.group(1)).multiply(new BigDecimal(type.getNumberOfBytes()))
+                        .longValue();
+            }
+        }
+        throw new NumberFormatException(text);
+    }
+
+}
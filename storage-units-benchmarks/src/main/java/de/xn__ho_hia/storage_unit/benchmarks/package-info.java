@@ -0,0 +1,13 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+/**
+ * JMH benchmarks for storage units. Build the module and run <code>java -jar target/benchmarks.jar</code> to execute
+ * all benchmarks with the GC profiler enabled.
+ *
+ * @see <a href="http://openjdk.java.net/projects/code-tools/jmh/">JMH Homepage</a>
+ */
+package de.xn__ho_hia.storage_unit.benchmarks;
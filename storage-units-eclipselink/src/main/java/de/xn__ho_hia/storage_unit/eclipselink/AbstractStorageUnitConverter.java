@@ -6,6 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit.eclipselink;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 
 import org.eclipse.jdt.annotation.NonNull;
@@ -15,10 +16,15 @@ import org.eclipse.persistence.mappings.DirectCollectionMapping;
 import org.eclipse.persistence.mappings.converters.Converter;
 import org.eclipse.persistence.sessions.Session;
 
+import de.xn__ho_hia.quality.null_analysis.Nullsafe;
 import de.xn__ho_hia.storage_unit.StorageUnit;
 
 /**
  * Abstract implementation of a EclipseLink {@link Converter} for {@link StorageUnit StorageUnits}.
+ * <p>
+ * Units are bound as {@link Long} in case they fit into a <code>long</code>, otherwise as {@link BigInteger}. Numbers
+ * returned by the JDBC driver are converted without parsing their string representation, thus reading
+ * <code>BIGINT</code> columns does not create any {@link BigInteger}.
  *
  * @see <a href=
  *      "https://www.eclipse.org/eclipselink/documentation/2.6/jpa/extensions/annotations_ref.htm#CHDEHJEB">EclipseLink
@@ -30,15 +36,37 @@ abstract class AbstractStorageUnitConverter implements Converter {
 
     @Override
     public Object convertObjectValueToDataValue(final Object objectValue, final Session session) {
-        return ((StorageUnit<?>) objectValue).inByte();
+        if (objectValue == null) {
+            return null;
+        }
+        final StorageUnit<?> unit = (StorageUnit<?>) objectValue;
+        if (unit.fitsIntoLong()) {
+            return Long.valueOf(unit.longValue());
+        }
+        return unit.inByte();
     }
 
     @Override
     public Object convertDataValueToObjectValue(final Object dataValue, final Session session) {
-        final BigInteger value = new BigInteger(dataValue.toString());
-        return convertToStorageUnit(value);
+        if (dataValue == null) {
+            return null;
+        }
+        if (dataValue instanceof Long || dataValue instanceof Integer || dataValue instanceof Short
+                || dataValue instanceof Byte) {
+            return convertToStorageUnit(((Number) dataValue).longValue());
+        }
+        if (dataValue instanceof BigInteger) {
+            return convertToStorageUnit((BigInteger) dataValue);
+        }
+        if (dataValue instanceof BigDecimal) {
+            // fails for fractional amounts of bytes instead of silently truncating them
+            return convertToStorageUnit(Nullsafe.nonNull(((BigDecimal) dataValue).toBigIntegerExact()));
+        }
+        return convertToStorageUnit(new BigInteger(dataValue.toString()));
     }
 
+    protected abstract StorageUnit<?> convertToStorageUnit(long value);
+
     protected abstract StorageUnit<?> convertToStorageUnit(@NonNull BigInteger value);
 
     @Override
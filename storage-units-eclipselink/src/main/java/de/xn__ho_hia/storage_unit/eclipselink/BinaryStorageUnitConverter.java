@@ -20,6 +20,11 @@ public final class BinaryStorageUnitConverter extends AbstractStorageUnitConvert
 
     private static final long serialVersionUID = 7476654237380243377L;
 
+    @Override
+    protected StorageUnit<?> convertToStorageUnit(final long value) {
+        return StorageUnits.binaryValueOf(value);
+    }
+
     @Override
     protected StorageUnit<?> convertToStorageUnit(@NonNull final BigInteger value) {
         return StorageUnits.binaryValueOf(value);
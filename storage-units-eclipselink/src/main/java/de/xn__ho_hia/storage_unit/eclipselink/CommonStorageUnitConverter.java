@@ -20,6 +20,11 @@ public final class CommonStorageUnitConverter extends AbstractStorageUnitConvert
 
     private static final long serialVersionUID = -3710617517690757565L;
 
+    @Override
+    protected StorageUnit<?> convertToStorageUnit(final long value) {
+        return StorageUnits.commonValueOf(value);
+    }
+
     @Override
     protected StorageUnit<?> convertToStorageUnit(@NonNull final BigInteger value) {
         return StorageUnits.commonValueOf(value);
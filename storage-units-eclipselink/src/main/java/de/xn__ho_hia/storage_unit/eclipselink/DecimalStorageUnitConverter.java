@@ -20,6 +20,11 @@ public final class DecimalStorageUnitConverter extends AbstractStorageUnitConver
 
     private static final long serialVersionUID = -6919304587763247036L;
 
+    @Override
+    protected StorageUnit<?> convertToStorageUnit(final long value) {
+        return StorageUnits.decimalValueOf(value);
+    }
+
     @Override
     protected StorageUnit<?> convertToStorageUnit(@NonNull final BigInteger value) {
         return StorageUnits.decimalValueOf(value);
@@ -6,6 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit.eclipselink;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
@@ -72,7 +73,7 @@ public class StorageUnitConverterTest {
      *            The supplier to use.
      */
     @Theory
-    public void shouldConvertUnitToBigInteger(
+    public void shouldConvertUnitToLong(
             @FromDataPoints("supplier") final Tuple2<Supplier<AbstractStorageUnitConverter>, Class<?>> supplier) {
         // given
         final StorageUnit<?> unit = StorageUnits.kilobyte(1);
@@ -83,7 +84,44 @@ public class StorageUnitConverterTest {
 
         // then
         Assert.assertNotNull(dataValue);
-        Assert.assertEquals(new BigInteger("1000"), dataValue);
+        Assert.assertEquals(Long.valueOf(1000), dataValue);
+    }
+
+    /**
+     * @param supplier
+     *            The supplier to use.
+     */
+    @Theory
+    public void shouldConvertUnitBeyondLongToBigInteger(
+            @FromDataPoints("supplier") final Tuple2<Supplier<AbstractStorageUnitConverter>, Class<?>> supplier) {
+        // given
+        final StorageUnit<?> unit = StorageUnits.yobibyte(1);
+        final AbstractStorageUnitConverter converter = supplier.v1.get();
+
+        // when
+        final Object dataValue = converter.convertObjectValueToDataValue(unit, null);
+
+        // then
+        Assert.assertEquals(unit.inByte(), dataValue);
+    }
+
+    /**
+     * @param supplier
+     *            The supplier to use.
+     */
+    @Theory
+    public void shouldConvertNullToNull(
+            @FromDataPoints("supplier") final Tuple2<Supplier<AbstractStorageUnitConverter>, Class<?>> supplier) {
+        // given
+        final AbstractStorageUnitConverter converter = supplier.v1.get();
+
+        // when
+        final Object dataValue = converter.convertObjectValueToDataValue(null, null);
+        final Object objectValue = converter.convertDataValueToObjectValue(null, null);
+
+        // then
+        Assert.assertNull(dataValue);
+        Assert.assertNull(objectValue);
     }
 
     /**
@@ -145,4 +183,65 @@ public class StorageUnitConverterTest {
         Assert.assertEquals(java.sql.Types.BIGINT, field.getSqlType());
     }
 
+    /**
+     * @param supplier
+     *            The supplier to use.
+     */
+    @Theory
+    public void shouldConvertNumbersToUnit(
+            @FromDataPoints("supplier") final Tuple2<Supplier<AbstractStorageUnitConverter>, Class<?>> supplier) {
+        // given
+        final Object[] dataValues = { Long.valueOf(2000), Integer.valueOf(2000), Short.valueOf((short) 2000),
+                new BigDecimal("2000"), new BigDecimal("2.000E+3"), "2000" };
+        final AbstractStorageUnitConverter converter = supplier.v1.get();
+
+        for (final Object dataValue : dataValues) {
+            // when
+            final Object objectValue = converter.convertDataValueToObjectValue(dataValue, null);
+
+            // then
+            Assert.assertEquals(supplier.v2, objectValue.getClass());
+            Assert.assertEquals(BigInteger.valueOf(2000), ((StorageUnit<?>) objectValue).inByte());
+        }
+    }
+
+    /**
+     * @param supplier
+     *            The supplier to use.
+     */
+    @Theory
+    public void shouldConvertBigDecimalBeyondLongToUnit(
+            @FromDataPoints("supplier") final Tuple2<Supplier<AbstractStorageUnitConverter>, Class<?>> supplier) {
+        // given
+        final BigInteger bytes = StorageUnits.yobibyte(1).inByte();
+        final AbstractStorageUnitConverter converter = supplier.v1.get();
+
+        // when
+        final Object objectValue = converter.convertDataValueToObjectValue(new BigDecimal(bytes), null);
+
+        // then
+        Assert.assertEquals(bytes, ((StorageUnit<?>) objectValue).inByte());
+    }
+
+    /**
+     * @param supplier
+     *            The supplier to use.
+     */
+    @Theory
+    public void shouldRejectFractionalBytes(
+            @FromDataPoints("supplier") final Tuple2<Supplier<AbstractStorageUnitConverter>, Class<?>> supplier) {
+        // given
+        final BigDecimal dataValue = new BigDecimal("2000.5");
+        final AbstractStorageUnitConverter converter = supplier.v1.get();
+
+        try {
+            // when
+            converter.convertDataValueToObjectValue(dataValue, null);
+            Assert.fail("Expected an ArithmeticException");
+        } catch (final ArithmeticException exception) {
+            // then
+            Assert.assertNotNull(exception);
+        }
+    }
+
 }
@@ -0,0 +1,110 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.jackson;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonParser.NumberType;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.xn__ho_hia.quality.null_analysis.Nullsafe;
+import de.xn__ho_hia.storage_unit.StorageUnit;
+
+/**
+ * Common base of all storage unit deserializers. Subclasses are stateless apart from their shape, thus a single
+ * instance per shape is shared by all properties.
+ * <p>
+ * The deserializer of a property is resolved once through {@link #createContextual(DeserializationContext,
+ * BeanProperty)}: properties typed as a concrete unit, e.g. <code>Gibibyte</code>, or annotated with
+ * {@link JsonStorageUnit} get the matching deserializer, all others keep the unit type of the module.
+ */
+abstract class AbstractStorageUnitDeserializer extends JsonDeserializer<StorageUnit<?>>
+        implements ContextualDeserializer {
+
+    private final boolean stringShape;
+
+    AbstractStorageUnitDeserializer(final boolean stringShape) {
+        this.stringShape = stringShape;
+    }
+
+    static JsonFormat.Shape shape(final boolean stringShape) {
+        return stringShape ? JsonFormat.Shape.STRING : JsonFormat.Shape.NUMBER;
+    }
+
+    @Override
+    public final JsonDeserializer<?> createContextual(final DeserializationContext context,
+            @Nullable final BeanProperty property) {
+        final boolean propertyStringShape = ShapeUtils.isStringShape(context.getConfig(), property, stringShape);
+        final JavaType type = context.getContextualType();
+        if (type != null) {
+            final JsonDeserializer<?> exact = ExactStorageUnitDeserializer.instance(type.getRawClass(),
+                    propertyStringShape);
+            if (exact != null) {
+                return exact;
+            }
+        }
+        final JsonStorageUnit annotation = property == null ? null : property.getAnnotation(JsonStorageUnit.class);
+        if (annotation != null) {
+            final JsonDeserializer<?> exact = ExactStorageUnitDeserializer.instance(annotation.exact(),
+                    propertyStringShape);
+            if (exact != null) {
+                return exact;
+            }
+            return annotation.value().deserializer.apply(shape(propertyStringShape));
+        }
+        if (propertyStringShape == stringShape) {
+            return this;
+        }
+        return withShape(propertyStringShape);
+    }
+
+    @Override
+    public final StorageUnit<?> deserialize(final JsonParser jsonParser, final DeserializationContext context)
+            throws IOException {
+        if (stringShape && jsonParser.getCurrentToken() == JsonToken.VALUE_STRING) {
+            return convert(ShapeUtils.parse(jsonParser, context));
+        }
+        final NumberType numberType = jsonParser.getNumberType();
+        if (numberType == NumberType.INT || numberType == NumberType.LONG) {
+            return valueOf(jsonParser.getLongValue());
+        }
+        @NonNull
+        final BigInteger value = Nullsafe.nonNull(jsonParser.getBigIntegerValue());
+        return valueOf(value);
+    }
+
+    /**
+     * @return The shared instance of this deserializer using the given shape.
+     */
+    abstract JsonDeserializer<?> withShape(boolean propertyStringShape);
+
+    @NonNull
+    abstract StorageUnit<?> valueOf(long bytes);
+
+    @NonNull
+    abstract StorageUnit<?> valueOf(@NonNull BigInteger bytes);
+
+    /**
+     * @return The given unit parsed from a string, converted into the unit type of this deserializer if necessary.
+     */
+    @NonNull
+    StorageUnit<?> convert(@NonNull final StorageUnit<?> parsed) {
+        return parsed;
+    }
+
+}
@@ -6,30 +6,62 @@
  */
 package de.xn__ho_hia.storage_unit.jackson;
 
-import java.io.IOException;
 import java.math.BigInteger;
 
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.annotation.JsonFormat;
 
-import org.eclipse.jdt.annotation.NonNull;
-
-import de.xn__ho_hia.quality.null_analysis.Nullsafe;
+import de.xn__ho_hia.storage_unit.PreferredUnitType;
 import de.xn__ho_hia.storage_unit.StorageUnit;
-import de.xn__ho_hia.storage_unit.StorageUnits;
 
 /**
- * Deserializes value back into common storage units.
+ * Deserializes value back into common storage units. Numbers which fit into a <code>long</code> are read without
+ * creating a {@link BigInteger}.
+ * <p>
+ * Properties using the string shape additionally accept strings like <code>"10 GiB"</code>, which are parsed into
+ * the unit given by their symbol. The shape is resolved once per property.
  */
-public final class CommonStorageUnitDeserializer extends JsonDeserializer<StorageUnit<?>> {
+public final class CommonStorageUnitDeserializer extends AbstractStorageUnitDeserializer {
+
+    private static final CommonStorageUnitDeserializer NUMBER_INSTANCE = new CommonStorageUnitDeserializer(false);
+    private static final CommonStorageUnitDeserializer STRING_INSTANCE = new CommonStorageUnitDeserializer(true);
+
+    /**
+     * Creates a new deserializer which reads numbers unless a property requests the string shape.
+     */
+    public CommonStorageUnitDeserializer() {
+        this(JsonFormat.Shape.NUMBER);
+    }
+
+    /**
+     * @param defaultShape
+     *            The shape to use for properties without an explicit shape, either {@link JsonFormat.Shape#NUMBER} or
+     *            {@link JsonFormat.Shape#STRING}.
+     */
+    public CommonStorageUnitDeserializer(final JsonFormat.Shape defaultShape) {
+        this(defaultShape == JsonFormat.Shape.STRING);
+    }
+
+    private CommonStorageUnitDeserializer(final boolean stringShape) {
+        super(stringShape);
+    }
+
+    static CommonStorageUnitDeserializer instance(final JsonFormat.Shape shape) {
+        return shape == JsonFormat.Shape.STRING ? STRING_INSTANCE : NUMBER_INSTANCE;
+    }
+
+    @Override
+    CommonStorageUnitDeserializer withShape(final boolean propertyStringShape) {
+        return propertyStringShape ? STRING_INSTANCE : NUMBER_INSTANCE;
+    }
+
+    @Override
+    StorageUnit<?> valueOf(final long bytes) {
+        return PreferredUnitType.COMMON.valueOf(bytes);
+    }
 
     @Override
-    public StorageUnit<?> deserialize(final JsonParser jsonParser, final DeserializationContext context)
-            throws IOException {
-        @NonNull
-        final BigInteger value = Nullsafe.nonNull(jsonParser.getBigIntegerValue());
-        return StorageUnits.commonValueOf(value);
+    StorageUnit<?> valueOf(final BigInteger bytes) {
+        return PreferredUnitType.COMMON.valueOf(bytes);
     }
 
 }
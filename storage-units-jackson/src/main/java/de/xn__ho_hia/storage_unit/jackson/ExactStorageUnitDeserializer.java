@@ -0,0 +1,77 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.jackson;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.xn__ho_hia.quality.null_analysis.Nullsafe;
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnitType;
+
+/**
+ * Deserializes values directly into one concrete unit, e.g. <code>Gibibyte</code>, without selecting the
+ * best-matching unit first. Used for properties typed as a concrete unit or annotated with
+ * <code>&#64;JsonStorageUnit(exact = ...)</code>.
+ */
+final class ExactStorageUnitDeserializer extends AbstractStorageUnitDeserializer {
+
+    private static final Map<Class<?>, ExactStorageUnitDeserializer> NUMBER_INSTANCES = new HashMap<>();
+    private static final Map<Class<?>, ExactStorageUnitDeserializer> STRING_INSTANCES = new HashMap<>();
+
+    static {
+        for (final StorageUnitType type : StorageUnitType.values()) {
+            NUMBER_INSTANCES.put(type.getUnitClass(), new ExactStorageUnitDeserializer(type, false));
+            STRING_INSTANCES.put(type.getUnitClass(), new ExactStorageUnitDeserializer(type, true));
+        }
+    }
+
+    private final StorageUnitType type;
+
+    private ExactStorageUnitDeserializer(final StorageUnitType type, final boolean stringShape) {
+        super(stringShape);
+        this.type = type;
+    }
+
+    /**
+     * @return The shared deserializer for the given unit class or <code>null</code> in case the given class is not
+     *         a concrete unit.
+     */
+    @Nullable
+    static ExactStorageUnitDeserializer instance(final Class<?> unitClass, final boolean stringShape) {
+        return (stringShape ? STRING_INSTANCES : NUMBER_INSTANCES).get(unitClass);
+    }
+
+    @Override
+    JsonDeserializer<?> withShape(final boolean propertyStringShape) {
+        return Nullsafe.nonNull(instance(type.getUnitClass(), propertyStringShape));
+    }
+
+    @Override
+    StorageUnit<?> valueOf(final long bytes) {
+        return type.ofBytes(bytes);
+    }
+
+    @Override
+    StorageUnit<?> valueOf(final BigInteger bytes) {
+        return type.ofBytes(bytes);
+    }
+
+    @Override
+    StorageUnit<?> convert(final StorageUnit<?> parsed) {
+        if (type.getUnitClass() == parsed.getClass()) {
+            return parsed;
+        }
+        return parsed.fitsIntoLong() ? valueOf(parsed.longValue()) : valueOf(parsed.inByte());
+    }
+
+}
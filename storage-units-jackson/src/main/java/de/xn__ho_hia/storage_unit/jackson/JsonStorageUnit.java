@@ -0,0 +1,50 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.jackson;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotation;
+
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.jackson.StorageUnitModule.PreferredUnitType;
+
+/**
+ * Overrides the unit type of the {@link StorageUnitModule} for a single property, e.g.:
+ *
+ * <pre>
+ * &#64;JsonStorageUnit(PreferredUnitType.DECIMAL)
+ * public StorageUnit&lt;?&gt; diskSize;
+ *
+ * &#64;JsonStorageUnit(exact = Mebibyte.class)
+ * public StorageUnit&lt;?&gt; heapSize;
+ * </pre>
+ *
+ * Properties typed as a concrete unit, e.g. <code>Gibibyte</code>, are deserialized into that unit without any
+ * annotation.
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+@JacksonAnnotation
+public @interface JsonStorageUnit {
+
+    /**
+     * @return The unit type to deserialize values into.
+     */
+    PreferredUnitType value() default PreferredUnitType.BINARY;
+
+    /**
+     * @return The concrete unit to deserialize values into, e.g. <code>Gibibyte.class</code>. Takes precedence over
+     *         {@link #value()} unless it is {@link StorageUnit} itself.
+     */
+    @SuppressWarnings("rawtypes")
+    Class<? extends StorageUnit> exact() default StorageUnit.class;
+
+}
@@ -0,0 +1,172 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.jackson;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.xn__ho_hia.quality.null_analysis.Nullsafe;
+import de.xn__ho_hia.storage_unit.Exbibyte;
+import de.xn__ho_hia.storage_unit.Gibibyte;
+import de.xn__ho_hia.storage_unit.Kibibyte;
+import de.xn__ho_hia.storage_unit.Mebibyte;
+import de.xn__ho_hia.storage_unit.Pebibyte;
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnitParseMode;
+import de.xn__ho_hia.storage_unit.StorageUnitType;
+import de.xn__ho_hia.storage_unit.StorageUnits;
+import de.xn__ho_hia.storage_unit.Tebibyte;
+import de.xn__ho_hia.storage_unit.Yobibyte;
+import de.xn__ho_hia.storage_unit.Zebibyte;
+
+/**
+ * Resolves, writes and reads the string shape of storage units, e.g. <code>"10 GiB"</code>.
+ * <p>
+ * Strings are written in the largest binary or decimal unit that holds the amount of bytes exactly, thus the string
+ * shape is lossless and reads back into the same amount of bytes, e.g. 1536 bytes are written as
+ * <code>"1536 B"</code> rather than a rounded <code>"1.50 KiB"</code>, while 10 GiB stay <code>"10 GiB"</code>.
+ */
+final class ShapeUtils {
+
+    private static final String[] BINARY_SYMBOLS = symbols(StorageUnitType.BYTE, StorageUnitType.KIBIBYTE,
+            StorageUnitType.MEBIBYTE, StorageUnitType.GIBIBYTE, StorageUnitType.TEBIBYTE, StorageUnitType.PEBIBYTE,
+            StorageUnitType.EXBIBYTE, StorageUnitType.ZEBIBYTE, StorageUnitType.YOBIBYTE);
+
+    private static final String[] DECIMAL_SYMBOLS = symbols(StorageUnitType.BYTE, StorageUnitType.KILOBYTE,
+            StorageUnitType.MEGABYTE, StorageUnitType.GIGABYTE, StorageUnitType.TERABYTE, StorageUnitType.PETABYTE,
+            StorageUnitType.EXABYTE, StorageUnitType.ZETTABYTE, StorageUnitType.YOTTABYTE);
+
+    // Amounts divisible by binary and decimal units alike keep the kind of unit they were created with
+    private static final Set<Class<?>> BINARY_UNITS = new HashSet<>(Arrays.asList(Kibibyte.class, Mebibyte.class,
+            Gibibyte.class, Tebibyte.class, Pebibyte.class, Exbibyte.class, Zebibyte.class, Yobibyte.class));
+
+    // Largest units within the range of long, i.e. EiB and EB
+    private static final int LARGEST_LONG_EXPONENT = 6;
+
+    private static final int LARGEST_EXPONENT = BINARY_SYMBOLS.length - 1;
+
+    private static final int BITS_PER_EXPONENT = 10;
+
+    private static final BigInteger DECIMAL_BASE = BigInteger.valueOf(1_000L);
+
+    private ShapeUtils() {
+        // Hidden constructor.
+    }
+
+    private static String[] symbols(final StorageUnitType... types) {
+        final String[] symbols = new String[types.length];
+        for (int index = 0; index < types.length; index++) {
+            symbols[index] = types[index].getSymbol();
+        }
+        return symbols;
+    }
+
+    /**
+     * @return <code>true</code> in case the given property uses the string shape.
+     */
+    static boolean isStringShape(final MapperConfig<?> config, @Nullable final BeanProperty property,
+            final boolean defaultStringShape) {
+        if (property == null) {
+            return defaultStringShape;
+        }
+        final JsonFormat.Value format = property.findPropertyFormat(config, StorageUnit.class);
+        if (format == null) {
+            return defaultStringShape;
+        }
+        switch (format.getShape()) {
+            case STRING:
+                return true;
+            case NUMBER:
+            case NUMBER_INT:
+                return false;
+            default:
+                return defaultStringShape;
+        }
+    }
+
+    /**
+     * Parses the current string token leniently, e.g. <code>"10 GiB"</code>, <code>"1.5gb"</code> or
+     * <code>"512"</code>.
+     */
+    @NonNull
+    static StorageUnit<?> parse(final JsonParser jsonParser, final DeserializationContext context)
+            throws IOException {
+        final String text = Nullsafe.nonNull(jsonParser.getText());
+        try {
+            return StorageUnits.parse(text, StorageUnitParseMode.LENIENT);
+        } catch (final NumberFormatException exception) {
+            throw context.weirdStringException(text, StorageUnit.class, exception.getMessage());
+        }
+    }
+
+    @NonNull
+    static String format(@NonNull final StorageUnit<?> unit) {
+        final boolean preferBinary = BINARY_UNITS.contains(unit.getClass());
+        if (unit.fitsIntoLong()) {
+            return format(unit.longValue(), preferBinary);
+        }
+        return format(unit.inByte(), preferBinary);
+    }
+
+    private static String format(final long bytes, final boolean preferBinary) {
+        if (bytes == 0) {
+            return "0 B"; //$NON-NLS-1$
+        }
+        final int binaryExponent = Math.min(Long.numberOfTrailingZeros(bytes) / BITS_PER_EXPONENT,
+                LARGEST_LONG_EXPONENT);
+        int decimalExponent = 0;
+        long decimalAmount = bytes;
+        while (decimalExponent < LARGEST_LONG_EXPONENT && decimalAmount % 1_000L == 0) {
+            decimalAmount /= 1_000L;
+            decimalExponent++;
+        }
+        if (binaryExponent > decimalExponent || binaryExponent == decimalExponent && preferBinary) {
+            return join(Long.toString(bytes >> binaryExponent * BITS_PER_EXPONENT), BINARY_SYMBOLS[binaryExponent]);
+        }
+        return join(Long.toString(decimalAmount), DECIMAL_SYMBOLS[decimalExponent]);
+    }
+
+    private static String format(final BigInteger bytes, final boolean preferBinary) {
+        final int binaryExponent = Math.min(bytes.getLowestSetBit() / BITS_PER_EXPONENT, LARGEST_EXPONENT);
+        int decimalExponent = 0;
+        BigInteger decimalAmount = bytes;
+        while (decimalExponent < LARGEST_EXPONENT) {
+            final BigInteger[] quotientAndRemainder = decimalAmount.divideAndRemainder(DECIMAL_BASE);
+            if (quotientAndRemainder[1].signum() != 0) {
+                break;
+            }
+            decimalAmount = quotientAndRemainder[0];
+            decimalExponent++;
+        }
+        if (binaryExponent > decimalExponent || binaryExponent == decimalExponent && preferBinary) {
+            return join(bytes.shiftRight(binaryExponent * BITS_PER_EXPONENT).toString(),
+                    BINARY_SYMBOLS[binaryExponent]);
+        }
+        return join(decimalAmount.toString(), DECIMAL_SYMBOLS[decimalExponent]);
+    }
+
+    private static String join(final String amount, final String symbol) {
+        return Nullsafe.nonNull(new StringBuilder(amount.length() + 1 + symbol.length())
+                .append(amount)
+                .append(' ')
+                .append(symbol)
+                .toString());
+    }
+
+}
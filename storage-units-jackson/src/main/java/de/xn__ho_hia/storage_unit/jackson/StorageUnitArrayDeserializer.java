@@ -0,0 +1,93 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.jackson;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonParser.NumberType;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+
+import de.xn__ho_hia.quality.null_analysis.Nullsafe;
+import de.xn__ho_hia.storage_unit.StorageUnitArray;
+
+/**
+ * Deserializes a JSON array of amounts of bytes into a {@link StorageUnitArray}. Numbers are appended to the
+ * primitive storage of the array directly, thus no storage unit is created per entry and only numbers beyond the
+ * range of <code>long</code> are read as {@link java.math.BigInteger}.
+ * <p>
+ * Properties using the string shape additionally accept strings like <code>"10 GiB"</code>.
+ */
+public final class StorageUnitArrayDeserializer extends JsonDeserializer<StorageUnitArray>
+        implements ContextualDeserializer {
+
+    private static final StorageUnitArrayDeserializer NUMBER_INSTANCE = new StorageUnitArrayDeserializer(false);
+    private static final StorageUnitArrayDeserializer STRING_INSTANCE = new StorageUnitArrayDeserializer(true);
+
+    private final boolean stringShape;
+
+    /**
+     * Creates a new deserializer which reads numbers unless a property requests the string shape.
+     */
+    public StorageUnitArrayDeserializer() {
+        this(JsonFormat.Shape.NUMBER);
+    }
+
+    /**
+     * @param defaultShape
+     *            The shape to use for properties without an explicit shape, either {@link JsonFormat.Shape#NUMBER} or
+     *            {@link JsonFormat.Shape#STRING}.
+     */
+    public StorageUnitArrayDeserializer(final JsonFormat.Shape defaultShape) {
+        this(defaultShape == JsonFormat.Shape.STRING);
+    }
+
+    private StorageUnitArrayDeserializer(final boolean stringShape) {
+        this.stringShape = stringShape;
+    }
+
+    static StorageUnitArrayDeserializer instance(final JsonFormat.Shape shape) {
+        return shape == JsonFormat.Shape.STRING ? STRING_INSTANCE : NUMBER_INSTANCE;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(final DeserializationContext context, final BeanProperty property) {
+        final boolean propertyStringShape = ShapeUtils.isStringShape(context.getConfig(), property, stringShape);
+        return propertyStringShape ? STRING_INSTANCE : NUMBER_INSTANCE;
+    }
+
+    @Override
+    public StorageUnitArray deserialize(final JsonParser jsonParser, final DeserializationContext context)
+            throws IOException {
+        if (!jsonParser.isExpectedStartArrayToken()) {
+            throw context.mappingException(StorageUnitArray.class);
+        }
+        final StorageUnitArray array = new StorageUnitArray();
+        JsonToken token;
+        while ((token = jsonParser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                final NumberType numberType = jsonParser.getNumberType();
+                if (numberType == NumberType.INT || numberType == NumberType.LONG) {
+                    array.add(jsonParser.getLongValue());
+                } else {
+                    array.add(Nullsafe.nonNull(jsonParser.getBigIntegerValue()));
+                }
+            } else if (stringShape && token == JsonToken.VALUE_STRING) {
+                array.add(ShapeUtils.parse(jsonParser, context));
+            } else {
+                throw context.mappingException(StorageUnitArray.class, token);
+            }
+        }
+        return array;
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.jackson;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+
+import de.xn__ho_hia.storage_unit.StorageUnitArray;
+
+/**
+ * Serializes a {@link StorageUnitArray} into a JSON array of amounts of bytes. Arrays whose entries all fit into a
+ * <code>long</code> are written in bulk from a single primitive array without creating any storage units.
+ * <p>
+ * Properties using the string shape are written as arrays of strings instead, e.g. <code>["10 GiB","512 B"]</code>.
+ */
+public final class StorageUnitArraySerializer extends JsonSerializer<StorageUnitArray>
+        implements ContextualSerializer {
+
+    private final boolean stringShape;
+
+    /**
+     * Creates a new serializer which writes numbers unless a property requests the string shape.
+     */
+    public StorageUnitArraySerializer() {
+        this(JsonFormat.Shape.NUMBER);
+    }
+
+    /**
+     * @param defaultShape
+     *            The shape to use for properties without an explicit shape, either {@link JsonFormat.Shape#NUMBER} or
+     *            {@link JsonFormat.Shape#STRING}.
+     */
+    public StorageUnitArraySerializer(final JsonFormat.Shape defaultShape) {
+        this(defaultShape == JsonFormat.Shape.STRING);
+    }
+
+    private StorageUnitArraySerializer(final boolean stringShape) {
+        this.stringShape = stringShape;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(final SerializerProvider provider, final BeanProperty property) {
+        final boolean propertyStringShape = ShapeUtils.isStringShape(provider.getConfig(), property, stringShape);
+        if (propertyStringShape == stringShape) {
+            return this;
+        }
+        return new StorageUnitArraySerializer(propertyStringShape);
+    }
+
+    @Override
+    public boolean isEmpty(final SerializerProvider provider, final StorageUnitArray value) {
+        return value.isEmpty();
+    }
+
+    @Override
+    public void serialize(final StorageUnitArray value, final JsonGenerator jsonGenerator,
+            final SerializerProvider serializers)
+            throws IOException {
+        final int size = value.size();
+        if (stringShape) {
+            jsonGenerator.writeStartArray(size);
+            for (int index = 0; index < size; index++) {
+                jsonGenerator.writeString(ShapeUtils.format(value.get(index)));
+            }
+            jsonGenerator.writeEndArray();
+        } else if (value.fitsIntoLong()) {
+            jsonGenerator.writeArray(value.toLongArray(), 0, size);
+        } else {
+            jsonGenerator.writeStartArray(size);
+            for (int index = 0; index < size; index++) {
+                jsonGenerator.writeNumber(value.getAsBigInteger(index));
+            }
+            jsonGenerator.writeEndArray();
+        }
+    }
+
+}
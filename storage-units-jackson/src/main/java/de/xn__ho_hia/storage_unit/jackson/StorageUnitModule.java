@@ -6,8 +6,9 @@
  */
 package de.xn__ho_hia.storage_unit.jackson;
 
-import java.util.function.Supplier;
+import java.util.function.Function;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.DeserializationConfig;
@@ -21,6 +22,7 @@ import com.fasterxml.jackson.databind.deser.Deserializers;
 import com.fasterxml.jackson.databind.ser.Serializers;
 
 import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnitArray;
 
 /**
  * High-level Jackson module to configure de-/serialization of storage units.
@@ -30,10 +32,11 @@ public class StorageUnitModule extends Module {
     private static final String MODULE_NAME = StorageUnitModule.class.getSimpleName();
 
     @SuppressWarnings("nls")
-    private static final Version MODULE_VERSION = new Version(4, 0, 0, "", "de.xn--ho-hia.storage_units",
+    private static final Version MODULE_VERSION = new Version(5, 0, 0, "", "de.xn--ho-hia.storage_units",
             "storage-units-jackson");
 
     private final PreferredUnitType preferredUnitType;
+    private final JsonFormat.Shape shape;
 
     /**
      * Creates a new module which defaults to binary unit types.
@@ -47,7 +50,20 @@ public class StorageUnitModule extends Module {
      *            The preferred de-serialization unit type.
      */
     public StorageUnitModule(final PreferredUnitType preferredUnitType) {
+        this(preferredUnitType, JsonFormat.Shape.NUMBER);
+    }
+
+    /**
+     * @param preferredUnitType
+     *            The preferred de-serialization unit type.
+     * @param shape
+     *            The default shape of storage units, either {@link JsonFormat.Shape#NUMBER} for amounts of bytes or
+     *            {@link JsonFormat.Shape#STRING} for strings like <code>"10 GiB"</code>. Properties annotated with
+     *            <code>@JsonFormat(shape = ...)</code> override the default shape.
+     */
+    public StorageUnitModule(final PreferredUnitType preferredUnitType, final JsonFormat.Shape shape) {
         this.preferredUnitType = preferredUnitType;
+        this.shape = shape;
     }
 
     @Override
@@ -62,8 +78,8 @@ public class StorageUnitModule extends Module {
 
     @Override
     public void setupModule(final SetupContext context) {
-        context.addSerializers(new StorageUnitSerializers());
-        context.addDeserializers(new StorageUnitDeserializers(preferredUnitType));
+        context.addSerializers(new StorageUnitSerializers(shape));
+        context.addDeserializers(new StorageUnitDeserializers(preferredUnitType, shape));
     }
 
     /**
@@ -72,18 +88,18 @@ public class StorageUnitModule extends Module {
     public enum PreferredUnitType {
 
         /** Deserializes values as binary units. */
-        BINARY(BinaryStorageUnitDeserializer::new),
+        BINARY(BinaryStorageUnitDeserializer::instance),
 
         /** Deserializes values as common units. */
-        COMMON(CommonStorageUnitDeserializer::new),
+        COMMON(CommonStorageUnitDeserializer::instance),
 
         /** Deserializes values as decimal units. */
-        DECIMAL(DecimalStorageUnitDeserializer::new);
+        DECIMAL(DecimalStorageUnitDeserializer::instance);
 
-        /** The deserializer to use. */
-        final Supplier<JsonDeserializer<?>> deserializer;
+        /** The shared deserializer to use for a given default shape. */
+        final Function<JsonFormat.Shape, JsonDeserializer<?>> deserializer;
 
-        private PreferredUnitType(final Supplier<JsonDeserializer<?>> deserializer) {
+        private PreferredUnitType(final Function<JsonFormat.Shape, JsonDeserializer<?>> deserializer) {
             this.deserializer = deserializer;
         }
 
@@ -91,8 +107,12 @@ public class StorageUnitModule extends Module {
 
     private static final class StorageUnitSerializers extends Serializers.Base {
 
-        StorageUnitSerializers() {
-            // no config yet
+        private final UnwrappingStorageUnitSerializer unwrappingSerializer;
+        private final StorageUnitArraySerializer arraySerializer;
+
+        StorageUnitSerializers(final JsonFormat.Shape shape) {
+            this.unwrappingSerializer = new UnwrappingStorageUnitSerializer(shape);
+            this.arraySerializer = new StorageUnitArraySerializer(shape);
         }
 
         @Override
@@ -103,7 +123,9 @@ public class StorageUnitModule extends Module {
             final Class<?> rawClass = type.getRawClass();
             JsonSerializer<?> serializer = null;
             if (StorageUnit.class.isAssignableFrom(rawClass)) {
-                serializer = new UnwrappingStorageUnitSerializer();
+                serializer = unwrappingSerializer;
+            } else if (StorageUnitArray.class.equals(rawClass)) {
+                serializer = arraySerializer;
             }
             return serializer;
         }
@@ -113,9 +135,11 @@ public class StorageUnitModule extends Module {
     private static final class StorageUnitDeserializers extends Deserializers.Base {
 
         private final PreferredUnitType preferredUnitType;
+        private final JsonFormat.Shape shape;
 
-        StorageUnitDeserializers(final PreferredUnitType preferredUnitType) {
+        StorageUnitDeserializers(final PreferredUnitType preferredUnitType, final JsonFormat.Shape shape) {
             this.preferredUnitType = preferredUnitType;
+            this.shape = shape;
         }
 
         @Override
@@ -127,7 +151,15 @@ public class StorageUnitModule extends Module {
             final Class<?> rawClass = type.getRawClass();
 
             if (StorageUnit.class.isAssignableFrom(rawClass)) {
-                return preferredUnitType.deserializer.get();
+                final JsonDeserializer<?> exact = ExactStorageUnitDeserializer.instance(rawClass,
+                        shape == JsonFormat.Shape.STRING);
+                if (exact != null) {
+                    return exact;
+                }
+                return preferredUnitType.deserializer.apply(shape);
+            }
+            if (StorageUnitArray.class.equals(rawClass)) {
+                return StorageUnitArrayDeserializer.instance(shape);
             }
 
             return super.findBeanDeserializer(type, config, beanDesc);
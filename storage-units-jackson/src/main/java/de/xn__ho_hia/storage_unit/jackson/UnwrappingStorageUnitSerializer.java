@@ -9,22 +9,68 @@ package de.xn__ho_hia.storage_unit.jackson;
 import java.io.IOException;
 import java.math.BigInteger;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
 
 import de.xn__ho_hia.storage_unit.StorageUnit;
 
 /**
- * Serializes a {@link StorageUnit} by unwrapping the enclosed {@link BigInteger} value.
+ * Serializes a {@link StorageUnit} by unwrapping the enclosed amount of bytes. Amounts which fit into a
+ * <code>long</code> are written as such, larger amounts are written as {@link BigInteger}.
+ * <p>
+ * Properties annotated with <code>@JsonFormat(shape = Shape.STRING)</code> are written as strings instead, e.g.
+ * <code>"10 GiB"</code>, using the largest unit that holds the amount of bytes exactly. The shape is resolved once per
+ * property.
  */
-public final class UnwrappingStorageUnitSerializer extends JsonSerializer<StorageUnit<?>> {
+public final class UnwrappingStorageUnitSerializer extends JsonSerializer<StorageUnit<?>>
+        implements ContextualSerializer {
+
+    private final boolean stringShape;
+
+    /**
+     * Creates a new serializer which writes numbers unless a property requests the string shape.
+     */
+    public UnwrappingStorageUnitSerializer() {
+        this(JsonFormat.Shape.NUMBER);
+    }
+
+    /**
+     * @param defaultShape
+     *            The shape to use for properties without an explicit shape, either {@link JsonFormat.Shape#NUMBER} or
+     *            {@link JsonFormat.Shape#STRING}.
+     */
+    public UnwrappingStorageUnitSerializer(final JsonFormat.Shape defaultShape) {
+        this(defaultShape == JsonFormat.Shape.STRING);
+    }
+
+    private UnwrappingStorageUnitSerializer(final boolean stringShape) {
+        this.stringShape = stringShape;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(final SerializerProvider provider, final BeanProperty property) {
+        final boolean propertyStringShape = ShapeUtils.isStringShape(provider.getConfig(), property, stringShape);
+        if (propertyStringShape == stringShape) {
+            return this;
+        }
+        return new UnwrappingStorageUnitSerializer(propertyStringShape);
+    }
 
     @Override
     public void serialize(final StorageUnit<?> value, final JsonGenerator jsonGenerator,
             final SerializerProvider serializers)
             throws IOException {
-        jsonGenerator.writeNumber(value.inByte());
+        if (stringShape) {
+            jsonGenerator.writeString(ShapeUtils.format(value));
+        } else if (value.fitsIntoLong()) {
+            jsonGenerator.writeNumber(value.longValue());
+        } else {
+            jsonGenerator.writeNumber(value.inByte());
+        }
     }
 
 }
@@ -0,0 +1,198 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.jackson;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+import de.xn__ho_hia.storage_unit.Gibibyte;
+import de.xn__ho_hia.storage_unit.Megabyte;
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnitArray;
+import de.xn__ho_hia.storage_unit.StorageUnits;
+
+/**
+ * Tests de-/serialization of arrays of storage units with Jackson.
+ */
+@SuppressWarnings(CompilerWarnings.NLS)
+public class JacksonArrayTest {
+
+    /**
+     * Bean with sequences of storage units.
+     */
+    public static class Metrics {
+
+        /** Sizes written as strings. */
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        public StorageUnitArray sizes;
+
+        /** Annotated with a unit type. */
+        @JsonStorageUnit(StorageUnitModule.PreferredUnitType.DECIMAL)
+        public List<StorageUnit<?>> transfers;
+
+    }
+
+    private ObjectMapper mapper;
+
+    /**
+     * Creates the {@link ObjectMapper}.
+     */
+    @Before
+    public void setUp() {
+        mapper = new ObjectMapper();
+        mapper.registerModule(new StorageUnitModule());
+    }
+
+    /**
+     * @throws IOException
+     *             In case something goes wrong during (de-)serialization.
+     */
+    @Test
+    public void shouldRoundTripStorageUnitArray() throws IOException {
+        // given
+        final StorageUnitArray array = new StorageUnitArray();
+        array.add(0).add(1_024).add(Long.MAX_VALUE).add(StorageUnits.gigabyte(3));
+
+        // when
+        final String json = mapper.writeValueAsString(array);
+        final StorageUnitArray result = mapper.readValue(json, StorageUnitArray.class);
+
+        // then
+        Assert.assertEquals("[0,1024,9223372036854775807,3000000000]", json);
+        Assert.assertArrayEquals(array.toLongArray(), result.toLongArray());
+    }
+
+    /**
+     * @throws IOException
+     *             In case something goes wrong during (de-)serialization.
+     */
+    @Test
+    public void shouldRoundTripStorageUnitArrayBeyondLong() throws IOException {
+        // given
+        final StorageUnitArray array = new StorageUnitArray();
+        array.add(1).add(StorageUnits.yobibyte(1));
+
+        // when
+        final String json = mapper.writeValueAsString(array);
+        final StorageUnitArray result = mapper.readValue(json, StorageUnitArray.class);
+
+        // then
+        Assert.assertEquals("[1,1208925819614629174706176]", json);
+        Assert.assertEquals(2, result.size());
+        Assert.assertEquals(StorageUnits.yobibyte(1).inByte(), result.getAsBigInteger(1));
+    }
+
+    /**
+     * @throws IOException
+     *             In case something goes wrong during deserialization.
+     */
+    @Test(expected = JsonMappingException.class)
+    public void shouldRejectStringsInNumberShape() throws IOException {
+        // given
+        final String input = "[1,\"2 KiB\"]";
+
+        // when
+        mapper.readValue(input, StorageUnitArray.class);
+
+        // then
+        // expect exception
+    }
+
+    /**
+     * @throws IOException
+     *             In case something goes wrong during deserialization.
+     */
+    @Test
+    public void shouldDeserializeArrayOfConcreteUnits() throws IOException {
+        // given
+        final String input = "[1024,null,1073741824]";
+
+        // when
+        final Gibibyte[] units = mapper.readValue(input, Gibibyte[].class);
+
+        // then
+        Assert.assertEquals(3, units.length);
+        Assert.assertEquals(Gibibyte.class, units[0].getClass());
+        Assert.assertNull(units[1]);
+        Assert.assertEquals(Gibibyte.ONE, units[2]);
+    }
+
+    /**
+     * @throws IOException
+     *             In case something goes wrong during deserialization.
+     */
+    @Test
+    public void shouldDeserializeListOfUnits() throws IOException {
+        // given
+        final String input = "[1024,1208925819614629174706176]";
+
+        // when
+        final List<StorageUnit<?>> units = mapper.readValue(input, new TypeReference<List<StorageUnit<?>>>() {
+            // capture type
+        });
+
+        // then
+        Assert.assertEquals("1.00 KiB", units.get(0).toString());
+        Assert.assertEquals(StorageUnits.yobibyte(1).inByte(), units.get(1).inByte());
+    }
+
+    /**
+     * Ensures that lists of units are read by the collection deserializer of Jackson, which honors its features.
+     *
+     * @throws IOException
+     *             In case something goes wrong during deserialization.
+     */
+    @Test
+    public void shouldAcceptSingleValueAsList() throws IOException {
+        // given
+        mapper.enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY);
+        final String input = "{\"l\":1024}";
+
+        // when
+        final Map<String, List<StorageUnit<?>>> units = mapper.readValue(input,
+                new TypeReference<Map<String, List<StorageUnit<?>>>>() {
+                    // capture type
+                });
+
+        // then
+        Assert.assertEquals(1, units.get("l").size());
+        Assert.assertEquals("1.00 KiB", units.get("l").get(0).toString());
+    }
+
+    /**
+     * @throws IOException
+     *             In case something goes wrong during (de-)serialization.
+     */
+    @Test
+    public void shouldResolveShapeAndUnitTypeOfSequences() throws IOException {
+        // given
+        final String input = "{\"sizes\":[\"10 GiB\",512],\"transfers\":[1000000,2048]}";
+
+        // when
+        final Metrics metrics = mapper.readValue(input, Metrics.class);
+        final String json = mapper.writeValueAsString(metrics);
+
+        // then
+        Assert.assertEquals(BigInteger.valueOf(10_737_418_240L), metrics.sizes.getAsBigInteger(0));
+        Assert.assertEquals(Megabyte.class, metrics.transfers.get(0).getClass());
+        Assert.assertEquals("{\"sizes\":[\"10 GiB\",\"512 B\"],\"transfers\":[1000000,2048]}", json);
+    }
+
+}
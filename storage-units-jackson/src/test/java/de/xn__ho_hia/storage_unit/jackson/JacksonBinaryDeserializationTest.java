@@ -50,4 +50,37 @@ public class JacksonBinaryDeserializationTest {
         Assert.assertEquals("1.00 KiB", unit.toString());
     }
 
+    /**
+     * @throws IOException
+     *             In case something goes wrong during deserialization.
+     */
+    @Test
+    public void shouldDeserializeStorageUnitBeyondLong() throws IOException {
+        // given
+        final String input = "1208925819614629174706176";
+
+        // when
+        final StorageUnit<?> unit = mapper.readValue(input, StorageUnit.class);
+
+        // then
+        Assert.assertEquals("1.00 YiB", unit.toString());
+    }
+
+    /**
+     * @throws IOException
+     *             In case something goes wrong during deserialization.
+     */
+    @Test
+    public void shouldDeserializeLargestLongStorageUnit() throws IOException {
+        // given
+        final String input = "9223372036854775807";
+
+        // when
+        final StorageUnit<?> unit = mapper.readValue(input, StorageUnit.class);
+
+        // then
+        Assert.assertEquals(9223372036854775807L, unit.longValue());
+        Assert.assertTrue(unit.fitsIntoLong());
+    }
+
 }
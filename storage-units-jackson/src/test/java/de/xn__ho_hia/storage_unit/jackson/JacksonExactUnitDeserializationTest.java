@@ -0,0 +1,144 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.jackson;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+import de.xn__ho_hia.storage_unit.CommonGigabyte;
+import de.xn__ho_hia.storage_unit.Gibibyte;
+import de.xn__ho_hia.storage_unit.Mebibyte;
+import de.xn__ho_hia.storage_unit.Megabyte;
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.Yobibyte;
+import de.xn__ho_hia.storage_unit.jackson.StorageUnitModule.PreferredUnitType;
+
+/**
+ * Tests deserialization with Jackson into concrete units and per-property unit types.
+ */
+@SuppressWarnings(CompilerWarnings.NLS)
+public class JacksonExactUnitDeserializationTest {
+
+    /**
+     * Bean with properties of different unit types.
+     */
+    public static class Machine {
+
+        /** Typed as concrete unit. */
+        public Gibibyte memory;
+
+        /** Annotated with a unit type. */
+        @JsonStorageUnit(PreferredUnitType.DECIMAL)
+        public StorageUnit<?> disk;
+
+        /** Annotated with a concrete unit. */
+        @JsonStorageUnit(exact = Mebibyte.class)
+        public StorageUnit<?> heap;
+
+        /** Annotated with a concrete unit and string shape. */
+        @JsonStorageUnit(exact = CommonGigabyte.class)
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        public StorageUnit<?> swap;
+
+        /** Uses the unit type of the module. */
+        public StorageUnit<?> cache;
+
+    }
+
+    private ObjectMapper mapper;
+
+    /**
+     * Creates the {@link ObjectMapper}.
+     */
+    @Before
+    public void setUp() {
+        mapper = new ObjectMapper();
+        mapper.registerModule(new StorageUnitModule(PreferredUnitType.BINARY));
+    }
+
+    /**
+     * @throws IOException
+     *             In case something goes wrong during deserialization.
+     */
+    @Test
+    public void shouldDeserializeConcreteUnit() throws IOException {
+        // given
+        final String input = "1024";
+
+        // when
+        final Gibibyte unit = mapper.readValue(input, Gibibyte.class);
+
+        // then
+        Assert.assertEquals(Gibibyte.class, unit.getClass());
+        Assert.assertEquals(1_024L, unit.longValue());
+    }
+
+    /**
+     * @throws IOException
+     *             In case something goes wrong during deserialization.
+     */
+    @Test
+    public void shouldDeserializeConcreteUnitBeyondLong() throws IOException {
+        // given
+        final String input = "1208925819614629174706176";
+
+        // when
+        final Yobibyte unit = mapper.readValue(input, Yobibyte.class);
+
+        // then
+        Assert.assertEquals("1.00 YiB", unit.toString());
+    }
+
+    /**
+     * @throws IOException
+     *             In case something goes wrong during deserialization.
+     */
+    @Test
+    public void shouldResolveUnitTypePerProperty() throws IOException {
+        // given
+        final String input = "{\"memory\":1048576,\"disk\":1048576,\"heap\":1024,\"swap\":\"2 GiB\",\"cache\":1048576}";
+
+        // when
+        final Machine machine = mapper.readValue(input, Machine.class);
+
+        // then
+        Assert.assertEquals(Gibibyte.class, machine.memory.getClass());
+        Assert.assertEquals(Megabyte.class, machine.disk.getClass());
+        Assert.assertEquals(Mebibyte.class, machine.heap.getClass());
+        Assert.assertEquals(CommonGigabyte.class, machine.swap.getClass());
+        Assert.assertEquals(2_147_483_648L, machine.swap.longValue());
+        Assert.assertEquals("1.00 MiB", machine.cache.toString());
+    }
+
+    /**
+     * Ensures that the module hands out shared deserializers.
+     */
+    @Test
+    public void shouldShareDeserializers() {
+        // given
+        final PreferredUnitType type = PreferredUnitType.DECIMAL;
+
+        // when
+        final Object first = type.deserializer.apply(JsonFormat.Shape.NUMBER);
+        final Object second = type.deserializer.apply(JsonFormat.Shape.NUMBER);
+
+        // then
+        Assert.assertSame(first, second);
+        Assert.assertNotSame(first, type.deserializer.apply(JsonFormat.Shape.STRING));
+        Assert.assertSame(ExactStorageUnitDeserializer.instance(Gibibyte.class, false),
+                ExactStorageUnitDeserializer.instance(Gibibyte.class, false));
+        Assert.assertNull(ExactStorageUnitDeserializer.instance(StorageUnit.class, false));
+    }
+
+}
@@ -50,6 +50,38 @@ public class JacksonSerializationTest {
         Assert.assertEquals("1024", output);
     }
 
+    /**
+     * @throws JsonProcessingException
+     *             In case something goes wrong during serialization
+     */
+    @Test
+    public void shouldSerializeLargestLongStorageUnit() throws JsonProcessingException {
+        // given
+        final StorageUnit<?> unit = StorageUnits.bytes(Long.MAX_VALUE);
+
+        // when
+        final String output = mapper.writeValueAsString(unit);
+
+        // then
+        Assert.assertEquals("9223372036854775807", output);
+    }
+
+    /**
+     * @throws JsonProcessingException
+     *             In case something goes wrong during serialization
+     */
+    @Test
+    public void shouldSerializeStorageUnitBeyondLong() throws JsonProcessingException {
+        // given
+        final StorageUnit<?> unit = StorageUnits.yobibyte(1L);
+
+        // when
+        final String output = mapper.writeValueAsString(unit);
+
+        // then
+        Assert.assertEquals("1208925819614629174706176", output);
+    }
+
     /**
      * @throws JsonProcessingException
      *             In case something goes wrong during serialization
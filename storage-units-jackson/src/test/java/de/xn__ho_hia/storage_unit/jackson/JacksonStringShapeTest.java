@@ -0,0 +1,171 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.jackson;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnits;
+import de.xn__ho_hia.storage_unit.jackson.StorageUnitModule.PreferredUnitType;
+
+/**
+ * Tests the string shape of storage units with Jackson.
+ */
+@SuppressWarnings(CompilerWarnings.NLS)
+public class JacksonStringShapeTest {
+
+    /**
+     * Bean with one property in string shape and one in default shape.
+     */
+    public static class Quota {
+
+        /** Limit written as string. */
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        public StorageUnit<?> limit;
+
+        /** Usage written in default shape. */
+        public StorageUnit<?> used;
+
+    }
+
+    /**
+     * @throws IOException
+     *             In case something goes wrong during serialization
+     */
+    @Test
+    public void shouldSerializeExactUnitAsString() throws IOException {
+        // given
+        final ObjectMapper mapper = stringMapper(PreferredUnitType.BINARY);
+
+        // when
+        final String binary = mapper.writeValueAsString(StorageUnits.gibibyte(10L));
+        final String decimal = mapper.writeValueAsString(StorageUnits.gigabyte(10L));
+        final String bytes = mapper.writeValueAsString(StorageUnits.kibibyte(1L).add(512L));
+        final String beyondLong = mapper.writeValueAsString(StorageUnits.yobibyte(3L));
+
+        // then
+        Assert.assertEquals("\"10 GiB\"", binary);
+        Assert.assertEquals("\"10 GB\"", decimal);
+        Assert.assertEquals("\"1536 B\"", bytes);
+        Assert.assertEquals("\"3 YiB\"", beyondLong);
+    }
+
+    /**
+     * @throws IOException
+     *             In case something goes wrong during serialization
+     */
+    @Test
+    public void shouldRoundTripStrings() throws IOException {
+        // given
+        final ObjectMapper mapper = stringMapper(PreferredUnitType.DECIMAL);
+        final StorageUnit<?>[] units = { StorageUnits.bytes(0L), StorageUnits.bytes(1_536L),
+                StorageUnits.mebibyte(5L), StorageUnits.terabyte(7L), StorageUnits.bytes(Long.MAX_VALUE),
+                StorageUnits.zettabyte(2L) };
+
+        for (final StorageUnit<?> unit : units) {
+            // when
+            final String json = mapper.writeValueAsString(unit);
+            final StorageUnit<?> result = mapper.readValue(json, StorageUnit.class);
+
+            // then
+            Assert.assertEquals(json, unit.inByte(), result.inByte());
+        }
+    }
+
+    /**
+     * @throws IOException
+     *             In case something goes wrong during deserialization
+     */
+    @Test
+    public void shouldReadStringsAndNumbersLeniently() throws IOException {
+        // given
+        final ObjectMapper mapper = stringMapper(PreferredUnitType.BINARY);
+
+        // when
+        final StorageUnit<?> symbol = mapper.readValue("\"10 GiB\"", StorageUnit.class);
+        final StorageUnit<?> lenient = mapper.readValue("\"2gb\"", StorageUnit.class);
+        final StorageUnit<?> number = mapper.readValue("1024", StorageUnit.class);
+
+        // then
+        Assert.assertEquals(StorageUnits.gibibyte(10L), symbol);
+        Assert.assertEquals(StorageUnits.gigabyte(2L), lenient);
+        Assert.assertEquals(StorageUnits.kibibyte(1L), number);
+    }
+
+    /**
+     * @throws IOException
+     *             In case something goes wrong during deserialization
+     */
+    @Test(expected = JsonMappingException.class)
+    public void shouldRejectInvalidString() throws IOException {
+        // given
+        final ObjectMapper mapper = stringMapper(PreferredUnitType.COMMON);
+
+        // when
+        mapper.readValue("\"ten gigs\"", StorageUnit.class);
+
+        // then
+        // expect exception
+    }
+
+    /**
+     * @throws IOException
+     *             In case something goes wrong during (de-)serialization
+     */
+    @Test
+    public void shouldUseShapeOfProperty() throws IOException {
+        // given
+        final ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new StorageUnitModule());
+        final Quota quota = new Quota();
+        quota.limit = StorageUnits.gibibyte(10L);
+        quota.used = StorageUnits.mebibyte(1L);
+
+        // when
+        final String json = mapper.writeValueAsString(quota);
+        final Quota result = mapper.readValue(json, Quota.class);
+
+        // then
+        Assert.assertEquals("{\"limit\":\"10 GiB\",\"used\":1048576}", json);
+        Assert.assertEquals(quota.limit, result.limit);
+        Assert.assertEquals(quota.used, result.used);
+    }
+
+    /**
+     * @throws IOException
+     *             In case something goes wrong during serialization
+     */
+    @Test
+    public void shouldApplyShapeOfModuleToUnannotatedProperties() throws IOException {
+        // given
+        final ObjectMapper mapper = stringMapper(PreferredUnitType.BINARY);
+        final Quota quota = new Quota();
+        quota.limit = StorageUnits.gibibyte(10L);
+        quota.used = StorageUnits.mebibyte(1L);
+
+        // when
+        final String json = mapper.writeValueAsString(quota);
+
+        // then
+        Assert.assertEquals("{\"limit\":\"10 GiB\",\"used\":\"1 MiB\"}", json);
+    }
+
+    private static ObjectMapper stringMapper(final PreferredUnitType preferredUnitType) {
+        final ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new StorageUnitModule(preferredUnitType, JsonFormat.Shape.STRING));
+        return mapper;
+    }
+
+}
@@ -6,8 +6,9 @@
  */
 package de.xn__ho_hia.storage_unit.jackson;
 
-import java.util.function.Supplier;
+import java.util.function.Function;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 
 import org.junit.Assert;
@@ -46,11 +47,12 @@ public class PreferredUnitTypeTest {
         final PreferredUnitType type = StorageUnitModule.PreferredUnitType.BINARY;
 
         // when
-        final Supplier<JsonDeserializer<?>> deserializer = type.deserializer;
+        final Function<JsonFormat.Shape, JsonDeserializer<?>> deserializer = type.deserializer;
 
         // then
-        Assert.assertNotNull(deserializer.get());
-        Assert.assertTrue(BinaryStorageUnitDeserializer.class.isAssignableFrom(deserializer.get().getClass()));
+        Assert.assertNotNull(deserializer.apply(JsonFormat.Shape.NUMBER));
+        Assert.assertTrue(BinaryStorageUnitDeserializer.class
+                .isAssignableFrom(deserializer.apply(JsonFormat.Shape.NUMBER).getClass()));
     }
 
     /**
@@ -77,11 +79,12 @@ public class PreferredUnitTypeTest {
         final PreferredUnitType type = StorageUnitModule.PreferredUnitType.COMMON;
 
         // when
-        final Supplier<JsonDeserializer<?>> deserializer = type.deserializer;
+        final Function<JsonFormat.Shape, JsonDeserializer<?>> deserializer = type.deserializer;
 
         // then
-        Assert.assertNotNull(deserializer.get());
-        Assert.assertTrue(CommonStorageUnitDeserializer.class.isAssignableFrom(deserializer.get().getClass()));
+        Assert.assertNotNull(deserializer.apply(JsonFormat.Shape.NUMBER));
+        Assert.assertTrue(CommonStorageUnitDeserializer.class
+                .isAssignableFrom(deserializer.apply(JsonFormat.Shape.NUMBER).getClass()));
     }
 
     /**
@@ -108,11 +111,12 @@ public class PreferredUnitTypeTest {
         final PreferredUnitType type = StorageUnitModule.PreferredUnitType.DECIMAL;
 
         // when
-        final Supplier<JsonDeserializer<?>> deserializer = type.deserializer;
+        final Function<JsonFormat.Shape, JsonDeserializer<?>> deserializer = type.deserializer;
 
         // then
-        Assert.assertNotNull(deserializer.get());
-        Assert.assertTrue(DecimalStorageUnitDeserializer.class.isAssignableFrom(deserializer.get().getClass()));
+        Assert.assertNotNull(deserializer.apply(JsonFormat.Shape.NUMBER));
+        Assert.assertTrue(DecimalStorageUnitDeserializer.class
+                .isAssignableFrom(deserializer.apply(JsonFormat.Shape.NUMBER).getClass()));
     }
 
 }
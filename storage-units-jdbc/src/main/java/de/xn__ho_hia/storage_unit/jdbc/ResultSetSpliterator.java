@@ -0,0 +1,113 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Sequential {@link Spliterator} which maps each remaining row of a {@link ResultSet} into an element. Rows are
+ * fetched lazily, thus large result sets can be streamed with a constant amount of memory if the JDBC driver uses a
+ * fetch size. The {@link ResultSet} is neither closed nor positioned before the first row.
+ *
+ * @param <T>
+ *            The type of elements.
+ */
+public final class ResultSetSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+    private final ResultSet resultSet;
+    private final RowMapper<T> mapper;
+
+    /**
+     * @param resultSet
+     *            The result set to read.
+     * @param mapper
+     *            The mapper to convert the current row.
+     */
+    public ResultSetSpliterator(final ResultSet resultSet, final RowMapper<T> mapper) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED);
+        this.resultSet = resultSet;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        return advance(this.resultSet, row -> action.accept(this.mapper.map(row)));
+    }
+
+    private static boolean advance(final ResultSet resultSet, final RowConsumer consumer) {
+        try {
+            if (!resultSet.next()) {
+                return false;
+            }
+            consumer.accept(resultSet);
+            return true;
+        } catch (final SQLException exception) {
+            throw new UncheckedSQLException(exception);
+        }
+    }
+
+    /**
+     * Primitive variant which maps each remaining row into a <code>long</code> without boxing.
+     */
+    static final class OfLong extends Spliterators.AbstractLongSpliterator {
+
+        private final ResultSet resultSet;
+        private final LongRowMapper mapper;
+
+        OfLong(final ResultSet resultSet, final LongRowMapper mapper) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.resultSet = resultSet;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean tryAdvance(final LongConsumer action) {
+            return advance(this.resultSet, row -> action.accept(this.mapper.map(row)));
+        }
+
+    }
+
+    /**
+     * Maps the current row of a {@link ResultSet}.
+     *
+     * @param <T>
+     *            The type of elements.
+     */
+    @FunctionalInterface
+    public interface RowMapper<T> {
+
+        /**
+         * @param resultSet
+         *            The result set positioned on the row to map.
+         * @return The mapped element.
+         * @throws SQLException
+         *             In case the row cannot be read.
+         */
+        T map(ResultSet resultSet) throws SQLException;
+
+    }
+
+    @FunctionalInterface
+    interface LongRowMapper {
+
+        long map(ResultSet resultSet) throws SQLException;
+
+    }
+
+    @FunctionalInterface
+    private interface RowConsumer {
+
+        void accept(ResultSet resultSet) throws SQLException;
+
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.jdbc;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.xn__ho_hia.quality.null_analysis.Nullsafe;
+import de.xn__ho_hia.storage_unit.PreferredUnitType;
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnitArray;
+
+/**
+ * Reads storage units from {@link ResultSet ResultSets}. Columns may be of any integral SQL type or
+ * <code>NUMERIC</code>/<code>DECIMAL</code> without fractional part. Integral columns are read with
+ * {@link ResultSet#getLong(int)}, thus neither a {@link BigInteger} nor a {@link BigDecimal} is created per row.
+ *
+ * <pre>
+ * try (ResultSet resultSet = statement.executeQuery("SELECT bytes FROM usage")) {
+ *     StorageUnitArray sizes = StorageUnitResultSets.readColumn(resultSet, 1, new StorageUnitArray());
+ * }
+ * </pre>
+ *
+ * Streams returned by this class read rows lazily and leave closing the {@link ResultSet} to the caller.
+ */
+public final class StorageUnitResultSets {
+
+    private StorageUnitResultSets() {
+        // Hidden constructor.
+    }
+
+    /**
+     * @param resultSet
+     *            The result set positioned on the row to read.
+     * @param columnIndex
+     *            The index of the column to read, starting at 1.
+     * @param type
+     *            The unit type to create.
+     * @return The storage unit stored in the column, <code>null</code> in case the column is SQL <code>NULL</code>.
+     * @throws SQLException
+     *             In case the column cannot be read or contains a fractional amount of bytes.
+     */
+    @Nullable
+    public static StorageUnit<?> getStorageUnit(final ResultSet resultSet, final int columnIndex,
+            final PreferredUnitType type) throws SQLException {
+        final Object value = resultSet.getObject(columnIndex);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short
+                || value instanceof Byte) {
+            return type.valueOf(((Number) value).longValue());
+        }
+        if (value instanceof BigInteger) {
+            return type.valueOf((BigInteger) value);
+        }
+        if (value instanceof BigDecimal) {
+            return type.valueOf(exact((BigDecimal) value, columnIndex));
+        }
+        throw new SQLDataException("Column " + columnIndex + " does not contain an amount of bytes: " + value); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * Appends the given column of all remaining rows to an array without creating a storage unit per row.
+     *
+     * @param resultSet
+     *            The result set to read.
+     * @param columnIndex
+     *            The index of the column to read, starting at 1.
+     * @param target
+     *            The array to append to.
+     * @return The given array.
+     * @throws SQLException
+     *             In case the column cannot be read or contains SQL <code>NULL</code> or a fractional amount of bytes.
+     */
+    @NonNull
+    public static StorageUnitArray readColumn(final ResultSet resultSet, final int columnIndex,
+            @NonNull final StorageUnitArray target) throws SQLException {
+        if (isIntegral(resultSet, columnIndex)) {
+            while (resultSet.next()) {
+                target.add(getLong(resultSet, columnIndex));
+            }
+        } else {
+            while (resultSet.next()) {
+                target.add(getBigInteger(resultSet, columnIndex));
+            }
+        }
+        return target;
+    }
+
+    /**
+     * @param resultSet
+     *            The result set to read.
+     * @param columnIndex
+     *            The index of the column to read, starting at 1.
+     * @return A lazy stream of the amounts of bytes in the given column of all remaining rows. Reading a row throws
+     *         an {@link UncheckedSQLException} in case the column contains SQL <code>NULL</code> or an amount of bytes
+     *         that does not fit into a <code>long</code>.
+     * @throws SQLException
+     *             In case the type of the column cannot be determined.
+     */
+    @NonNull
+    public static LongStream streamBytes(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        final ResultSetSpliterator.LongRowMapper mapper = isIntegral(resultSet, columnIndex)
+                ? row -> getLong(row, columnIndex)
+                : row -> longValueExact(getBigInteger(row, columnIndex), columnIndex);
+        return Nullsafe.nonNull(StreamSupport.longStream(new ResultSetSpliterator.OfLong(resultSet, mapper), false));
+    }
+
+    /**
+     * @param resultSet
+     *            The result set to read.
+     * @param columnIndex
+     *            The index of the column to read, starting at 1.
+     * @param type
+     *            The unit type to create.
+     * @return A lazy stream of the storage units in the given column of all remaining rows, SQL <code>NULL</code> is
+     *         streamed as <code>null</code>.
+     */
+    @NonNull
+    public static Stream<@Nullable StorageUnit<?>> stream(final ResultSet resultSet, final int columnIndex,
+            final PreferredUnitType type) {
+        return stream(resultSet, row -> getStorageUnit(row, columnIndex, type));
+    }
+
+    /**
+     * @param resultSet
+     *            The result set to read.
+     * @param mapper
+     *            The mapper to convert each row, e.g. into a pair of tenant and storage unit.
+     * @return A lazy stream of all remaining rows.
+     * @param <T>
+     *            The type of elements.
+     */
+    @NonNull
+    public static <T> Stream<T> stream(final ResultSet resultSet, final ResultSetSpliterator.RowMapper<T> mapper) {
+        return Nullsafe.nonNull(StreamSupport.stream(new ResultSetSpliterator<>(resultSet, mapper), false));
+    }
+
+    private static boolean isIntegral(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        switch (resultSet.getMetaData().getColumnType(columnIndex)) {
+            case Types.BIGINT:
+            case Types.INTEGER:
+            case Types.SMALLINT:
+            case Types.TINYINT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static long getLong(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        final long value = resultSet.getLong(columnIndex);
+        if (value == 0 && resultSet.wasNull()) {
+            throw nullValue(columnIndex);
+        }
+        return value;
+    }
+
+    @NonNull
+    private static BigInteger getBigInteger(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        final BigDecimal value = resultSet.getBigDecimal(columnIndex);
+        if (value == null) {
+            throw nullValue(columnIndex);
+        }
+        return exact(value, columnIndex);
+    }
+
+    @NonNull
+    private static BigInteger exact(final BigDecimal value, final int columnIndex) throws SQLDataException {
+        try {
+            return Nullsafe.nonNull(value.toBigIntegerExact());
+        } catch (final ArithmeticException exception) {
+            throw new SQLDataException("Column " + columnIndex + " contains a fractional amount of bytes: " + value, //$NON-NLS-1$ //$NON-NLS-2$
+                    exception);
+        }
+    }
+
+    private static long longValueExact(final BigInteger value, final int columnIndex) throws SQLDataException {
+        if (value.bitLength() >= Long.SIZE) {
+            throw new SQLDataException("Column " + columnIndex + " exceeds the range of long: " + value); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        return value.longValue();
+    }
+
+    private static SQLDataException nullValue(final int columnIndex) {
+        return new SQLDataException("Column " + columnIndex + " contains NULL"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnitArray;
+
+/**
+ * Binds storage units to {@link PreparedStatement PreparedStatements}. Amounts of bytes that fit into a
+ * <code>long</code> are bound with {@link PreparedStatement#setLong(int, long)}, larger amounts with
+ * {@link PreparedStatement#setBigDecimal(int, BigDecimal)}.
+ *
+ * <pre>
+ * try (PreparedStatement insert = connection.prepareStatement("INSERT INTO usage VALUES (?, ?)")) {
+ *     StorageUnitStatements.executeBatch(insert, 2, sizes, 1_000,
+ *             (statement, row) -&gt; statement.setString(1, tenants[row]));
+ * }
+ * </pre>
+ */
+public final class StorageUnitStatements {
+
+    private StorageUnitStatements() {
+        // Hidden constructor.
+    }
+
+    /**
+     * @param statement
+     *            The statement to bind to.
+     * @param parameterIndex
+     *            The index of the parameter to bind, starting at 1.
+     * @param unit
+     *            The unit to bind, <code>null</code> binds SQL <code>NULL</code>.
+     * @throws SQLException
+     *             In case the parameter cannot be bound.
+     */
+    public static void setStorageUnit(final PreparedStatement statement, final int parameterIndex,
+            @Nullable final StorageUnit<?> unit) throws SQLException {
+        if (unit == null) {
+            statement.setNull(parameterIndex, Types.BIGINT);
+        } else if (unit.fitsIntoLong()) {
+            statement.setLong(parameterIndex, unit.longValue());
+        } else {
+            statement.setBigDecimal(parameterIndex, new BigDecimal(unit.inByte()));
+        }
+    }
+
+    /**
+     * Binds a single entry of an array without materializing it into a storage unit.
+     *
+     * @param statement
+     *            The statement to bind to.
+     * @param parameterIndex
+     *            The index of the parameter to bind, starting at 1.
+     * @param sizes
+     *            The array to read from.
+     * @param index
+     *            The index of the entry to bind.
+     * @throws SQLException
+     *             In case the parameter cannot be bound.
+     */
+    public static void setStorageUnit(final PreparedStatement statement, final int parameterIndex,
+            final StorageUnitArray sizes, final int index) throws SQLException {
+        if (sizes.fitsIntoLong(index)) {
+            statement.setLong(parameterIndex, sizes.getAsLong(index));
+        } else {
+            statement.setBigDecimal(parameterIndex, new BigDecimal(sizes.getAsBigInteger(index)));
+        }
+    }
+
+    /**
+     * Adds one batch row per entry of the given array and executes the batch every <code>batchSize</code> rows.
+     *
+     * @param statement
+     *            The statement to execute.
+     * @param parameterIndex
+     *            The index of the parameter to bind the entries to, starting at 1.
+     * @param sizes
+     *            The entries to bind.
+     * @param batchSize
+     *            The maximum number of rows per batch.
+     * @param binder
+     *            Binds the remaining parameters of each row.
+     * @return The total number of updated rows as reported by the JDBC driver, rows reported as
+     *         {@link Statement#SUCCESS_NO_INFO} are counted once.
+     * @throws SQLException
+     *             In case a row cannot be bound or a batch fails.
+     */
+    public static long executeBatch(final PreparedStatement statement, final int parameterIndex,
+            final StorageUnitArray sizes, final int batchSize, final RowBinder binder) throws SQLException {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Illegal batch size: " + batchSize); //$NON-NLS-1$
+        }
+        long updated = 0;
+        int pending = 0;
+        for (int row = 0; row < sizes.size(); row++) {
+            binder.bind(statement, row);
+            setStorageUnit(statement, parameterIndex, sizes, row);
+            statement.addBatch();
+            if (++pending == batchSize) {
+                updated += sum(statement.executeBatch());
+                pending = 0;
+            }
+        }
+        if (pending > 0) {
+            updated += sum(statement.executeBatch());
+        }
+        return updated;
+    }
+
+    private static long sum(final int[] updateCounts) {
+        long sum = 0;
+        for (final int updateCount : updateCounts) {
+            if (updateCount > 0) {
+                sum += updateCount;
+            } else if (updateCount == Statement.SUCCESS_NO_INFO) {
+                // the row was inserted, but the driver does not know how many rows were affected
+                sum++;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Binds the parameters of a single batch row other than the storage unit.
+     */
+    @FunctionalInterface
+    public interface RowBinder {
+
+        /**
+         * @param statement
+         *            The statement to bind to.
+         * @param row
+         *            The index of the row in the array of storage units.
+         * @throws SQLException
+         *             In case a parameter cannot be bound.
+         */
+        void bind(PreparedStatement statement, int row) throws SQLException;
+
+    }
+
+}
@@ -0,0 +1,31 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.jdbc;
+
+import java.sql.SQLException;
+
+/**
+ * Wraps a {@link SQLException} thrown while streaming a {@link java.sql.ResultSet}.
+ */
+public final class UncheckedSQLException extends RuntimeException {
+
+    private static final long serialVersionUID = -3046718254961395263L;
+
+    /**
+     * @param cause
+     *            The original exception.
+     */
+    public UncheckedSQLException(final SQLException cause) {
+        super(cause);
+    }
+
+    @Override
+    public synchronized SQLException getCause() {
+        return (SQLException) super.getCause();
+    }
+
+}
@@ -0,0 +1,12 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+/**
+ * Helpers to bind and read storage units with plain JDBC without creating a {@link java.math.BigInteger} per row.
+ *
+ * @see <a href="https://docs.oracle.com/javase/8/docs/technotes/guides/jdbc/">JDBC Documentation</a>
+ */
+package de.xn__ho_hia.storage_unit.jdbc;
@@ -0,0 +1,223 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.jdbc;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+import de.xn__ho_hia.storage_unit.Kibibyte;
+import de.xn__ho_hia.storage_unit.Megabyte;
+import de.xn__ho_hia.storage_unit.PreferredUnitType;
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnitArray;
+import de.xn__ho_hia.storage_unit.StorageUnits;
+
+/**
+ * Reads storage units from an in-memory H2 database.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class StorageUnitResultSetsTest {
+
+    private Connection connection;
+    private Statement statement;
+
+    /**
+     * @throws SQLException
+     *             In case the database cannot be created.
+     */
+    @Before
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:");
+        statement = connection.createStatement();
+        statement.execute("CREATE TABLE usage (id INT PRIMARY KEY, tenant VARCHAR(20), bytes BIGINT, big NUMERIC(38))");
+        statement.execute("INSERT INTO usage VALUES (1, 'a', 1024, 1024)");
+        statement.execute("INSERT INTO usage VALUES (2, 'b', 1000000, 1208925819614629174706176)");
+        statement.execute("INSERT INTO usage VALUES (3, 'c', NULL, NULL)");
+    }
+
+    /**
+     * @throws SQLException
+     *             In case the database cannot be closed.
+     */
+    @After
+    public void tearDown() throws SQLException {
+        statement.close();
+        connection.close();
+    }
+
+    /**
+     * @throws SQLException
+     *             In case something goes wrong while reading.
+     */
+    @Test
+    public void shouldGetStorageUnit() throws SQLException {
+        // given
+        try (ResultSet resultSet = statement.executeQuery("SELECT bytes, big FROM usage ORDER BY id")) {
+            // when
+            resultSet.next();
+            final StorageUnit<?> binary = StorageUnitResultSets.getStorageUnit(resultSet, 1, PreferredUnitType.BINARY);
+            resultSet.next();
+            final StorageUnit<?> decimal = StorageUnitResultSets.getStorageUnit(resultSet, 1,
+                    PreferredUnitType.DECIMAL);
+            final StorageUnit<?> big = StorageUnitResultSets.getStorageUnit(resultSet, 2, PreferredUnitType.BINARY);
+            resultSet.next();
+            final StorageUnit<?> none = StorageUnitResultSets.getStorageUnit(resultSet, 1, PreferredUnitType.COMMON);
+
+            // then
+            Assert.assertEquals(Kibibyte.class, binary.getClass());
+            Assert.assertEquals(Megabyte.class, decimal.getClass());
+            Assert.assertEquals(StorageUnits.yobibyte(1).inByte(), big.inByte());
+            Assert.assertNull(none);
+        }
+    }
+
+    /**
+     * @throws SQLException
+     *             In case something goes wrong while reading.
+     */
+    @Test
+    public void shouldReadColumns() throws SQLException {
+        // given
+        final StorageUnitArray longs = new StorageUnitArray();
+        final StorageUnitArray bigs = new StorageUnitArray();
+
+        // when
+        try (ResultSet resultSet = statement.executeQuery("SELECT bytes FROM usage WHERE id < 3 ORDER BY id")) {
+            StorageUnitResultSets.readColumn(resultSet, 1, longs);
+        }
+        try (ResultSet resultSet = statement.executeQuery("SELECT big FROM usage WHERE id < 3 ORDER BY id")) {
+            StorageUnitResultSets.readColumn(resultSet, 1, bigs);
+        }
+
+        // then
+        Assert.assertArrayEquals(new long[] { 1_024L, 1_000_000L }, longs.toLongArray());
+        Assert.assertEquals(2, bigs.size());
+        Assert.assertEquals(1_024L, bigs.getAsLong(0));
+        Assert.assertEquals(StorageUnits.yobibyte(1).inByte(), bigs.getAsBigInteger(1));
+    }
+
+    /**
+     * @throws SQLException
+     *             In case something goes wrong while reading.
+     */
+    @Test(expected = SQLDataException.class)
+    public void shouldRejectNullInColumn() throws SQLException {
+        // given
+        try (ResultSet resultSet = statement.executeQuery("SELECT bytes FROM usage ORDER BY id")) {
+            // when
+            StorageUnitResultSets.readColumn(resultSet, 1, new StorageUnitArray());
+        }
+
+        // then
+        // expect exception
+    }
+
+    /**
+     * @throws SQLException
+     *             In case something goes wrong while reading.
+     */
+    @Test(expected = SQLDataException.class)
+    public void shouldRejectFractionalBytes() throws SQLException {
+        // given
+        try (ResultSet resultSet = statement.executeQuery("SELECT CAST(1.5 AS NUMERIC(10, 1)) FROM usage")) {
+            // when
+            StorageUnitResultSets.readColumn(resultSet, 1, new StorageUnitArray());
+        }
+
+        // then
+        // expect exception
+    }
+
+    /**
+     * @throws SQLException
+     *             In case something goes wrong while reading.
+     */
+    @Test
+    public void shouldStreamBytes() throws SQLException {
+        // given
+        try (ResultSet resultSet = statement.executeQuery("SELECT bytes FROM usage WHERE id < 3 ORDER BY id")) {
+            // when
+            final long sum = StorageUnitResultSets.streamBytes(resultSet, 1).sum();
+
+            // then
+            Assert.assertEquals(1_001_024L, sum);
+        }
+    }
+
+    /**
+     * @throws SQLException
+     *             In case something goes wrong while reading.
+     */
+    @Test
+    public void shouldWrapExceptionsWhileStreaming() throws SQLException {
+        // given
+        try (ResultSet resultSet = statement.executeQuery("SELECT big FROM usage ORDER BY id")) {
+            try {
+                // when
+                StorageUnitResultSets.streamBytes(resultSet, 1).sum();
+                Assert.fail("Expected an UncheckedSQLException");
+            } catch (final UncheckedSQLException exception) {
+                // then
+                Assert.assertEquals(SQLDataException.class, exception.getCause().getClass());
+            }
+        }
+    }
+
+    /**
+     * @throws SQLException
+     *             In case something goes wrong while reading.
+     */
+    @Test
+    public void shouldStreamStorageUnits() throws SQLException {
+        // given
+        try (ResultSet resultSet = statement.executeQuery("SELECT big FROM usage ORDER BY id")) {
+            // when
+            final List<StorageUnit<?>> units = StorageUnitResultSets.stream(resultSet, 1, PreferredUnitType.BINARY)
+                    .collect(Collectors.toList());
+
+            // then
+            Assert.assertEquals(3, units.size());
+            Assert.assertEquals(StorageUnits.kibibyte(1), units.get(0));
+            Assert.assertEquals(StorageUnits.yobibyte(1).inByte(), units.get(1).inByte());
+            Assert.assertNull(units.get(2));
+        }
+    }
+
+    /**
+     * @throws SQLException
+     *             In case something goes wrong while reading.
+     */
+    @Test
+    public void shouldStreamMappedRows() throws SQLException {
+        // given
+        try (ResultSet resultSet = statement.executeQuery("SELECT tenant, bytes FROM usage WHERE id < 3 ORDER BY id")) {
+            // when
+            final List<String> rows = StorageUnitResultSets
+                    .stream(resultSet, row -> row.getString(1) + "="
+                            + StorageUnitResultSets.getStorageUnit(row, 2, PreferredUnitType.DECIMAL))
+                    .collect(Collectors.toList());
+
+            // then
+            Assert.assertEquals(2, rows.size());
+            Assert.assertEquals("a=1.02 kB", rows.get(0));
+            Assert.assertEquals("b=1.00 MB", rows.get(1));
+        }
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+import de.xn__ho_hia.storage_unit.StorageUnitArray;
+import de.xn__ho_hia.storage_unit.StorageUnits;
+
+/**
+ * Binds storage units against an in-memory H2 database.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class StorageUnitStatementsTest {
+
+    private Connection connection;
+
+    /**
+     * @throws SQLException
+     *             In case the database cannot be created.
+     */
+    @Before
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE usage (tenant VARCHAR(20), bytes NUMERIC(38))");
+        }
+    }
+
+    /**
+     * @throws SQLException
+     *             In case the database cannot be closed.
+     */
+    @After
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    /**
+     * @throws SQLException
+     *             In case something goes wrong during binding.
+     */
+    @Test
+    public void shouldBindStorageUnits() throws SQLException {
+        // given
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO usage VALUES (?, ?)")) {
+            // when
+            insert.setString(1, "small");
+            StorageUnitStatements.setStorageUnit(insert, 2, StorageUnits.kibibyte(1));
+            insert.executeUpdate();
+            insert.setString(1, "large");
+            StorageUnitStatements.setStorageUnit(insert, 2, StorageUnits.yobibyte(1));
+            insert.executeUpdate();
+            insert.setString(1, "none");
+            StorageUnitStatements.setStorageUnit(insert, 2, null);
+            insert.executeUpdate();
+        }
+
+        // then
+        Assert.assertEquals(new BigDecimal("1024"), select("small"));
+        Assert.assertEquals(new BigDecimal(StorageUnits.yobibyte(1).inByte()), select("large"));
+        Assert.assertNull(select("none"));
+    }
+
+    /**
+     * @throws SQLException
+     *             In case something goes wrong during binding.
+     */
+    @Test
+    public void shouldExecuteBatches() throws SQLException {
+        // given
+        final StorageUnitArray sizes = new StorageUnitArray();
+        final String[] tenants = new String[25];
+        for (int index = 0; index < tenants.length; index++) {
+            tenants[index] = "tenant-" + index;
+            sizes.add(index * 1_024L);
+        }
+        sizes.add(StorageUnits.yobibyte(1));
+
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO usage VALUES (?, ?)")) {
+            // when
+            final long updated = StorageUnitStatements.executeBatch(insert, 2, sizes, 10,
+                    (statement, row) -> statement.setString(1, row < tenants.length ? tenants[row] : "big"));
+
+            // then
+            Assert.assertEquals(26L, updated);
+        }
+        Assert.assertEquals(new BigDecimal("24576"), select("tenant-24"));
+        Assert.assertEquals(new BigDecimal(StorageUnits.yobibyte(1).inByte()), select("big"));
+    }
+
+    /**
+     * @throws SQLException
+     *             In case something goes wrong during binding.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectIllegalBatchSize() throws SQLException {
+        // given
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO usage VALUES (?, ?)")) {
+            // when
+            StorageUnitStatements.executeBatch(insert, 2, new StorageUnitArray(), 0, (statement, row) -> {
+                // nothing to bind
+            });
+        }
+
+        // then
+        // expect exception
+    }
+
+    private BigDecimal select(final String tenant) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement("SELECT bytes FROM usage WHERE tenant = ?")) {
+            select.setString(1, tenant);
+            try (ResultSet resultSet = select.executeQuery()) {
+                Assert.assertTrue(resultSet.next());
+                return resultSet.getBigDecimal(1);
+            }
+        }
+    }
+
+}
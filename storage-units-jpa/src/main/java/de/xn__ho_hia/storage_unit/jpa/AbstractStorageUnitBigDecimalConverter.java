@@ -0,0 +1,59 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.jpa;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import javax.persistence.AttributeConverter;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+import de.xn__ho_hia.quality.null_analysis.Nullsafe;
+import de.xn__ho_hia.storage_unit.StorageUnit;
+
+/**
+ * Abstract implementation of a JPA {@link AttributeConverter} which stores {@link StorageUnit StorageUnits} as amount
+ * of bytes in a <code>NUMERIC</code> column. Units that fit into a <code>long</code> are converted using primitive
+ * values, only larger units fall back to {@link BigInteger}. Map the column with a precision of at least 25 digits to
+ * store all units up to 1 YiB.
+ * <p>
+ * Subclasses have to repeat the {@link AttributeConverter} interface since some providers, e.g. EclipseLink, resolve
+ * the attribute and column type from the interfaces declared directly on the converter class.
+ */
+abstract class AbstractStorageUnitBigDecimalConverter implements AttributeConverter<StorageUnit<?>, BigDecimal> {
+
+    @Override
+    public final BigDecimal convertToDatabaseColumn(final StorageUnit<?> attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        if (attribute.fitsIntoLong()) {
+            return BigDecimal.valueOf(attribute.longValue());
+        }
+        return new BigDecimal(attribute.inByte());
+    }
+
+    @Override
+    public final StorageUnit<?> convertToEntityAttribute(final BigDecimal dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        // fails for fractional amounts of bytes instead of silently truncating them
+        @NonNull
+        final BigInteger value = Nullsafe.nonNull(dbData.toBigIntegerExact());
+        if (value.bitLength() < Long.SIZE) {
+            return convertToStorageUnit(value.longValue());
+        }
+        return convertToStorageUnit(value);
+    }
+
+    protected abstract StorageUnit<?> convertToStorageUnit(long value);
+
+    protected abstract StorageUnit<?> convertToStorageUnit(@NonNull BigInteger value);
+
+}
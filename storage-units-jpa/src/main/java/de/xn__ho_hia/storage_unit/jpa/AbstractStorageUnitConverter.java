@@ -0,0 +1,46 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.jpa;
+
+import javax.persistence.AttributeConverter;
+
+import de.xn__ho_hia.storage_unit.StorageUnit;
+
+/**
+ * Abstract implementation of a JPA {@link AttributeConverter} which stores {@link StorageUnit StorageUnits} as amount
+ * of bytes in a <code>BIGINT</code> column. Both directions use primitive <code>long</code> values only, thus units
+ * larger than {@link Long#MAX_VALUE} bytes are rejected. Use one of the <code>BigDecimal</code> converters to store
+ * those units.
+ * <p>
+ * Subclasses have to repeat the {@link AttributeConverter} interface since some providers, e.g. EclipseLink, resolve
+ * the attribute and column type from the interfaces declared directly on the converter class.
+ */
+abstract class AbstractStorageUnitConverter implements AttributeConverter<StorageUnit<?>, Long> {
+
+    @Override
+    public final Long convertToDatabaseColumn(final StorageUnit<?> attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        if (!attribute.fitsIntoLong()) {
+            throw new IllegalArgumentException("Cannot store " + attribute.inByte() //$NON-NLS-1$
+                    + " bytes in a BIGINT column, use a BigDecimal converter instead."); //$NON-NLS-1$
+        }
+        return Long.valueOf(attribute.longValue());
+    }
+
+    @Override
+    public final StorageUnit<?> convertToEntityAttribute(final Long dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        return convertToStorageUnit(dbData.longValue());
+    }
+
+    protected abstract StorageUnit<?> convertToStorageUnit(long value);
+
+}
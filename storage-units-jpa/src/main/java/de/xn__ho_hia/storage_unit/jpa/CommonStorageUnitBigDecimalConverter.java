@@ -0,0 +1,37 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.jpa;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnits;
+
+/**
+ * Converts <code>NUMERIC</code> values to common storage units.
+ */
+@Converter
+public final class CommonStorageUnitBigDecimalConverter extends AbstractStorageUnitBigDecimalConverter
+        implements AttributeConverter<StorageUnit<?>, BigDecimal> {
+
+    @Override
+    protected StorageUnit<?> convertToStorageUnit(final long value) {
+        return StorageUnits.commonValueOf(value);
+    }
+
+    @Override
+    protected StorageUnit<?> convertToStorageUnit(@NonNull final BigInteger value) {
+        return StorageUnits.commonValueOf(value);
+    }
+
+}
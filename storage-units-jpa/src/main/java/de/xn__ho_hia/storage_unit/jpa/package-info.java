@@ -0,0 +1,13 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+/**
+ * Standard JPA {@link javax.persistence.AttributeConverter AttributeConverters} usable with any JPA 2.1 provider,
+ * e.g. Hibernate or EclipseLink.
+ *
+ * @see <a href="https://jcp.org/en/jsr/detail?id=338">JSR 338: Java Persistence 2.1</a>
+ */
+package de.xn__ho_hia.storage_unit.jpa;
@@ -0,0 +1,39 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.jpa;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import de.xn__ho_hia.storage_unit.StorageUnit;
+
+/**
+ * Entity with storage units stored by all kinds of converters.
+ */
+@Entity
+public class HardDisk {
+
+    /** Primary key. */
+    @Id
+    public long id;
+
+    /** Stored as binary unit in a BIGINT column. */
+    @Convert(converter = BinaryStorageUnitConverter.class)
+    public StorageUnit<?> freeSize;
+
+    /** Stored as decimal unit in a BIGINT column. */
+    @Convert(converter = DecimalStorageUnitConverter.class)
+    public StorageUnit<?> usedSize;
+
+    /** Stored as common unit in a NUMERIC column. */
+    @Convert(converter = CommonStorageUnitBigDecimalConverter.class)
+    @Column(precision = 38)
+    public StorageUnit<?> totalSize;
+
+}
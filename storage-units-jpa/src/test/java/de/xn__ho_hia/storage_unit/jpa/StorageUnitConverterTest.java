@@ -0,0 +1,215 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.jpa;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.jooq.lambda.tuple.Tuple2;
+import org.junit.Assert;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.FromDataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+import de.xn__ho_hia.storage_unit.CommonKilobyte;
+import de.xn__ho_hia.storage_unit.Kibibyte;
+import de.xn__ho_hia.storage_unit.Kilobyte;
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnits;
+
+/**
+ *
+ */
+@RunWith(Theories.class)
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class StorageUnitConverterTest {
+
+    /**
+     * @return Suppliers to create a BIGINT converter.
+     */
+    @DataPoints("long")
+    public static final List<Tuple2<Supplier<AbstractStorageUnitConverter>, Class<?>>> longConverters() {
+        final List<Tuple2<Supplier<AbstractStorageUnitConverter>, Class<?>>> suppliers = new ArrayList<>();
+        suppliers.add(new Tuple2<>(BinaryStorageUnitConverter::new, Kibibyte.class));
+        suppliers.add(new Tuple2<>(CommonStorageUnitConverter::new, CommonKilobyte.class));
+        suppliers.add(new Tuple2<>(DecimalStorageUnitConverter::new, Kilobyte.class));
+        return suppliers;
+    }
+
+    /**
+     * @return Suppliers to create a NUMERIC converter.
+     */
+    @DataPoints("big")
+    public static final List<Tuple2<Supplier<AbstractStorageUnitBigDecimalConverter>, Class<?>>> decimalConverters() {
+        final List<Tuple2<Supplier<AbstractStorageUnitBigDecimalConverter>, Class<?>>> suppliers = new ArrayList<>();
+        suppliers.add(new Tuple2<>(BinaryStorageUnitBigDecimalConverter::new, Kibibyte.class));
+        suppliers.add(new Tuple2<>(CommonStorageUnitBigDecimalConverter::new, CommonKilobyte.class));
+        suppliers.add(new Tuple2<>(DecimalStorageUnitBigDecimalConverter::new, Kilobyte.class));
+        return suppliers;
+    }
+
+    /**
+     * @param supplier
+     *            The supplier to use.
+     */
+    @Theory
+    public void shouldConvertUnitToLong(
+            @FromDataPoints("long") final Tuple2<Supplier<AbstractStorageUnitConverter>, Class<?>> supplier) {
+        // given
+        final StorageUnit<?> unit = StorageUnits.kilobyte(1);
+        final AbstractStorageUnitConverter converter = supplier.v1.get();
+
+        // when
+        final Long dbData = converter.convertToDatabaseColumn(unit);
+
+        // then
+        Assert.assertEquals(Long.valueOf(1000), dbData);
+    }
+
+    /**
+     * @param supplier
+     *            The supplier to use.
+     */
+    @Theory
+    public void shouldConvertLongToUnit(
+            @FromDataPoints("long") final Tuple2<Supplier<AbstractStorageUnitConverter>, Class<?>> supplier) {
+        // given
+        final AbstractStorageUnitConverter converter = supplier.v1.get();
+
+        // when
+        final StorageUnit<?> unit = converter.convertToEntityAttribute(Long.valueOf(2000));
+
+        // then
+        Assert.assertEquals(supplier.v2, unit.getClass());
+        Assert.assertEquals(2000L, unit.longValue());
+    }
+
+    /**
+     * @param supplier
+     *            The supplier to use.
+     */
+    @Theory
+    public void shouldRejectUnitBeyondLong(
+            @FromDataPoints("long") final Tuple2<Supplier<AbstractStorageUnitConverter>, Class<?>> supplier) {
+        // given
+        final StorageUnit<?> unit = StorageUnits.yobibyte(1);
+        final AbstractStorageUnitConverter converter = supplier.v1.get();
+
+        try {
+            // when
+            converter.convertToDatabaseColumn(unit);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (final IllegalArgumentException exception) {
+            // then
+            Assert.assertNotNull(exception.getMessage());
+        }
+    }
+
+    /**
+     * @param supplier
+     *            The supplier to use.
+     */
+    @Theory
+    public void shouldConvertNullsOfLongConverter(
+            @FromDataPoints("long") final Tuple2<Supplier<AbstractStorageUnitConverter>, Class<?>> supplier) {
+        // given
+        final AbstractStorageUnitConverter converter = supplier.v1.get();
+
+        // when
+        final Long dbData = converter.convertToDatabaseColumn(null);
+        final StorageUnit<?> unit = converter.convertToEntityAttribute(null);
+
+        // then
+        Assert.assertNull(dbData);
+        Assert.assertNull(unit);
+    }
+
+    /**
+     * @param supplier
+     *            The supplier to use.
+     */
+    @Theory
+    public void shouldConvertUnitsToBigDecimal(
+            @FromDataPoints("big") final Tuple2<Supplier<AbstractStorageUnitBigDecimalConverter>, Class<?>> supplier) {
+        // given
+        final AbstractStorageUnitBigDecimalConverter converter = supplier.v1.get();
+
+        // when
+        final BigDecimal small = converter.convertToDatabaseColumn(StorageUnits.kilobyte(1));
+        final BigDecimal large = converter.convertToDatabaseColumn(StorageUnits.yobibyte(1));
+
+        // then
+        Assert.assertEquals(BigDecimal.valueOf(1000), small);
+        Assert.assertEquals(new BigDecimal(StorageUnits.yobibyte(1).inByte()), large);
+    }
+
+    /**
+     * @param supplier
+     *            The supplier to use.
+     */
+    @Theory
+    public void shouldConvertBigDecimalsToUnit(
+            @FromDataPoints("big") final Tuple2<Supplier<AbstractStorageUnitBigDecimalConverter>, Class<?>> supplier) {
+        // given
+        final AbstractStorageUnitBigDecimalConverter converter = supplier.v1.get();
+
+        // when
+        final StorageUnit<?> small = converter.convertToEntityAttribute(new BigDecimal("2.000E+3"));
+        final StorageUnit<?> large = converter
+                .convertToEntityAttribute(new BigDecimal(StorageUnits.yobibyte(1).inByte()));
+
+        // then
+        Assert.assertEquals(supplier.v2, small.getClass());
+        Assert.assertEquals(2000L, small.longValue());
+        Assert.assertEquals(StorageUnits.yobibyte(1).inByte(), large.inByte());
+    }
+
+    /**
+     * @param supplier
+     *            The supplier to use.
+     */
+    @Theory
+    public void shouldRejectFractionalBytes(
+            @FromDataPoints("big") final Tuple2<Supplier<AbstractStorageUnitBigDecimalConverter>, Class<?>> supplier) {
+        // given
+        final AbstractStorageUnitBigDecimalConverter converter = supplier.v1.get();
+
+        try {
+            // when
+            converter.convertToEntityAttribute(new BigDecimal("2000.5"));
+            Assert.fail("Expected an ArithmeticException");
+        } catch (final ArithmeticException exception) {
+            // then
+            Assert.assertNotNull(exception);
+        }
+    }
+
+    /**
+     * @param supplier
+     *            The supplier to use.
+     */
+    @Theory
+    public void shouldConvertNullsOfBigDecimalConverter(
+            @FromDataPoints("big") final Tuple2<Supplier<AbstractStorageUnitBigDecimalConverter>, Class<?>> supplier) {
+        // given
+        final AbstractStorageUnitBigDecimalConverter converter = supplier.v1.get();
+
+        // when
+        final BigDecimal dbData = converter.convertToDatabaseColumn(null);
+        final StorageUnit<?> unit = converter.convertToEntityAttribute(null);
+
+        // then
+        Assert.assertNull(dbData);
+        Assert.assertNull(unit);
+    }
+
+}
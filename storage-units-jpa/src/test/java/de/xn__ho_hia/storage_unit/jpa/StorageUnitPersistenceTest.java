@@ -0,0 +1,149 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.jpa;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+import de.xn__ho_hia.storage_unit.CommonYottabyte;
+import de.xn__ho_hia.storage_unit.Gibibyte;
+import de.xn__ho_hia.storage_unit.Megabyte;
+import de.xn__ho_hia.storage_unit.StorageUnits;
+
+/**
+ * Stores and loads storage units with an in-memory H2 database.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class StorageUnitPersistenceTest {
+
+    private static EntityManagerFactory factory;
+
+    private EntityManager entityManager;
+
+    /**
+     * Creates the persistence unit.
+     */
+    @BeforeClass
+    public static void createFactory() {
+        factory = Persistence.createEntityManagerFactory("storage-units");
+    }
+
+    /**
+     * Closes the persistence unit.
+     */
+    @AfterClass
+    public static void closeFactory() {
+        factory.close();
+    }
+
+    /**
+     * Opens a new entity manager.
+     */
+    @Before
+    public void setUp() {
+        entityManager = factory.createEntityManager();
+    }
+
+    /**
+     * Closes the entity manager.
+     */
+    @After
+    public void tearDown() {
+        entityManager.close();
+    }
+
+    /**
+     *
+     */
+    @Test
+    public void shouldStoreAndLoadUnits() {
+        // given
+        final HardDisk disk = new HardDisk();
+        disk.id = 1;
+        disk.freeSize = StorageUnits.gibibyte(250);
+        disk.usedSize = StorageUnits.megabyte(500);
+        disk.totalSize = StorageUnits.yobibyte(2);
+
+        // when
+        persist(disk);
+        final HardDisk loaded = entityManager.find(HardDisk.class, Long.valueOf(1));
+
+        // then
+        Assert.assertNotSame(disk, loaded);
+        Assert.assertEquals(Gibibyte.class, loaded.freeSize.getClass());
+        Assert.assertEquals(disk.freeSize.inByte(), loaded.freeSize.inByte());
+        Assert.assertEquals(Megabyte.class, loaded.usedSize.getClass());
+        Assert.assertEquals(disk.usedSize.inByte(), loaded.usedSize.inByte());
+        Assert.assertEquals(CommonYottabyte.class, loaded.totalSize.getClass());
+        Assert.assertEquals(disk.totalSize.inByte(), loaded.totalSize.inByte());
+    }
+
+    /**
+     *
+     */
+    @Test
+    public void shouldStoreNulls() {
+        // given
+        final HardDisk disk = new HardDisk();
+        disk.id = 2;
+
+        // when
+        persist(disk);
+        final HardDisk loaded = entityManager.find(HardDisk.class, Long.valueOf(2));
+
+        // then
+        Assert.assertNull(loaded.freeSize);
+        Assert.assertNull(loaded.usedSize);
+        Assert.assertNull(loaded.totalSize);
+    }
+
+    /**
+     *
+     */
+    @Test
+    public void shouldStorePlainNumbers() {
+        // given
+        final HardDisk disk = new HardDisk();
+        disk.id = 3;
+        disk.freeSize = StorageUnits.kibibyte(1);
+        disk.totalSize = StorageUnits.zettabyte(3);
+
+        // when
+        persist(disk);
+        final Object[] row = (Object[]) entityManager
+                .createNativeQuery("SELECT FREESIZE, TOTALSIZE FROM HARDDISK WHERE ID = 3")
+                .getSingleResult();
+
+        // then
+        Assert.assertEquals(1_024L, ((Number) row[0]).longValue());
+        Assert.assertEquals(new BigInteger("3000000000000000000000"), ((BigDecimal) row[1]).toBigIntegerExact());
+    }
+
+    private void persist(final HardDisk disk) {
+        final EntityManager writer = factory.createEntityManager();
+        try {
+            writer.getTransaction().begin();
+            writer.persist(disk);
+            writer.getTransaction().commit();
+        } finally {
+            writer.close();
+        }
+    }
+
+}
@@ -20,14 +20,36 @@ import de.xn__ho_hia.storage_unit.StorageUnit;
 
 /**
  * Abstract implementation of a MongoDB {@link Codec} for {@link StorageUnit StorageUnits}.
+ * <p>
+ * Units are encoded according to the {@link BsonEncoding} of the codec. Decoding accepts <code>Int32</code>,
+ * <code>Int64</code>, <code>Double</code>, <code>Decimal128</code> and <code>String</code> values alike. Values which
+ * fit into a <code>long</code> are converted without creating a {@link BigInteger}, fractional values are rounded to
+ * the nearest byte.
  *
- * @see <a href="http://mongodb.github.io/mongo-java-driver/3.3/bson/codecs/">MongoDB Codec documentation</a>
+ * @see <a href="http://mongodb.github.io/mongo-java-driver/3.4/bson/codecs/">MongoDB Codec documentation</a>
  */
 abstract class AbstractStorageUnitCodec implements Codec<StorageUnit<?>> {
 
+    private final BsonEncoding encoding;
+
+    AbstractStorageUnitCodec() {
+        this(BsonEncoding.STRING);
+    }
+
+    AbstractStorageUnitCodec(final BsonEncoding encoding) {
+        this.encoding = encoding;
+    }
+
+    /**
+     * @return The encoding used by this codec.
+     */
+    public final BsonEncoding getEncoding() {
+        return encoding;
+    }
+
     @Override
     public final void encode(final BsonWriter writer, final StorageUnit<?> value, final EncoderContext encoderContext) {
-        writer.writeString(value.inByte().toString());
+        CodecUtils.write(writer, value, encoding);
     }
 
     @Override
@@ -38,11 +60,11 @@ abstract class AbstractStorageUnitCodec implements Codec<StorageUnit<?>> {
 
     @Override
     public final StorageUnit<?> decode(final BsonReader reader, final DecoderContext decoderContext) {
-        final String bsonValue = reader.readString();
-        final BigInteger value = new BigInteger(bsonValue);
-        return convertToStorageUnit(value);
+        return CodecUtils.read(reader, this::convertToStorageUnit, this::convertToStorageUnit);
     }
 
+    protected abstract StorageUnit<?> convertToStorageUnit(long value);
+
     protected abstract StorageUnit<?> convertToStorageUnit(@NonNull BigInteger value);
 
 }
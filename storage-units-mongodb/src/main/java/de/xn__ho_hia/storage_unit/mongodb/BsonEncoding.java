@@ -0,0 +1,28 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.mongodb;
+
+/**
+ * The BSON type used to encode storage units. Codecs decode all encodings regardless of their own encoding, thus
+ * existing collections can be migrated one document at a time.
+ */
+public enum BsonEncoding {
+
+    /**
+     * Encodes the amount of bytes as decimal string, e.g. <code>"1024"</code>. Compatible with all previous versions,
+     * but cannot be used in range queries or aggregations.
+     */
+    STRING,
+
+    /**
+     * Encodes the amount of bytes as <code>Int64</code> in case it fits into a <code>long</code>, otherwise as
+     * <code>Decimal128</code>. Amounts which cannot be represented exactly in 34 decimal digits fall back to
+     * {@link #STRING}. Requires MongoDB 3.4 or later to store values beyond <code>Int64</code>.
+     */
+    NUMERIC;
+
+}
@@ -0,0 +1,156 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.mongodb;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import org.bson.BsonDecimal128;
+import org.bson.BsonInt64;
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.types.Decimal128;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.xn__ho_hia.quality.null_analysis.Nullsafe;
+import de.xn__ho_hia.storage_unit.StorageUnit;
+
+/**
+ * Reads and writes amounts of bytes in all supported BSON types.
+ */
+final class CodecUtils {
+
+    // Decimal128 holds up to 34 significant decimal digits
+    private static final int DECIMAL128_PRECISION = 34;
+
+    // longest decimal strings that always fit into a long
+    private static final int MAX_LONG_DIGITS = 18;
+
+    // layout of the high bits of a Decimal128 in binary integer decimal encoding
+    private static final long DECIMAL128_SIGN = Long.MIN_VALUE;
+    private static final long DECIMAL128_LARGE_COEFFICIENT = 0x6000_0000_0000_0000L;
+    private static final int DECIMAL128_EXPONENT_SHIFT = 49;
+    private static final long DECIMAL128_EXPONENT_MASK = 0x3FFF;
+    private static final long DECIMAL128_EXPONENT_BIAS = 6176;
+    private static final long DECIMAL128_HIGH_COEFFICIENT = (1L << DECIMAL128_EXPONENT_SHIFT) - 1;
+
+    private CodecUtils() {
+        // Hidden constructor.
+    }
+
+    static void write(final BsonWriter writer, final StorageUnit<?> value, final BsonEncoding encoding) {
+        if (encoding == BsonEncoding.NUMERIC) {
+            if (value.fitsIntoLong()) {
+                writer.writeInt64(value.longValue());
+                return;
+            }
+            final Decimal128 decimal = toDecimal128(value.inByte());
+            if (decimal != null) {
+                writer.writeDecimal128(decimal);
+                return;
+            }
+        }
+        writer.writeString(value.fitsIntoLong() ? Long.toString(value.longValue()) : value.inByte().toString());
+    }
+
+    /**
+     * @return The amount of bytes of the given unit as it is stored by the {@link BsonEncoding#NUMERIC numeric}
+     *         encoding.
+     * @throws IllegalArgumentException
+     *             In case the amount of bytes cannot be represented as <code>Decimal128</code>.
+     */
+    static BsonValue toBsonValue(final StorageUnit<?> value) {
+        if (value.fitsIntoLong()) {
+            return new BsonInt64(value.longValue());
+        }
+        final Decimal128 decimal = toDecimal128(value.inByte());
+        if (decimal == null) {
+            throw new IllegalArgumentException("Storage unit exceeds the precision of Decimal128: " + value); //$NON-NLS-1$
+        }
+        return new BsonDecimal128(decimal);
+    }
+
+    @Nullable
+    private static Decimal128 toDecimal128(final BigInteger bytes) {
+        final BigDecimal decimal = new BigDecimal(bytes).stripTrailingZeros();
+        if (decimal.precision() > DECIMAL128_PRECISION) {
+            return null;
+        }
+        return new Decimal128(decimal);
+    }
+
+    static <T> T read(final BsonReader reader, final LongFunction<T> longFactory,
+            final Function<@NonNull BigInteger, T> bigFactory) {
+        final BsonType bsonType = reader.getCurrentBsonType();
+        switch (bsonType) {
+            case INT32:
+                return longFactory.apply(reader.readInt32());
+            case INT64:
+                return longFactory.apply(reader.readInt64());
+            case DOUBLE:
+                return readDouble(reader.readDouble(), longFactory, bigFactory);
+            case DECIMAL128:
+                return readDecimal(reader.readDecimal128(), longFactory, bigFactory);
+            case STRING:
+                return readString(reader.readString(), longFactory, bigFactory);
+            default:
+                throw new BsonInvalidOperationException("Cannot decode storage unit from BSON type " + bsonType); //$NON-NLS-1$
+        }
+    }
+
+    private static <T> T readDouble(final double value, final LongFunction<T> longFactory,
+            final Function<@NonNull BigInteger, T> bigFactory) {
+        final long longValue = (long) value;
+        if (longValue == value && longValue != Long.MAX_VALUE && longValue != Long.MIN_VALUE) {
+            return longFactory.apply(longValue);
+        }
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new BsonInvalidOperationException("Cannot decode storage unit from " + value); //$NON-NLS-1$
+        }
+        return bigFactory.apply(toBigInteger(new BigDecimal(value)));
+    }
+
+    private static <T> T readDecimal(final Decimal128 value, final LongFunction<T> longFactory,
+            final Function<@NonNull BigInteger, T> bigFactory) {
+        if (value.isNaN() || value.isInfinite()) {
+            throw new BsonInvalidOperationException("Cannot decode storage unit from " + value); //$NON-NLS-1$
+        }
+        final long high = value.getHigh();
+        final long low = value.getLow();
+        if ((high & DECIMAL128_LARGE_COEFFICIENT) != DECIMAL128_LARGE_COEFFICIENT
+                && (high >>> DECIMAL128_EXPONENT_SHIFT & DECIMAL128_EXPONENT_MASK) == DECIMAL128_EXPONENT_BIAS
+                && (high & DECIMAL128_HIGH_COEFFICIENT) == 0 && low >= 0) {
+            // integers with exponent zero that fit into a long, e.g. sums calculated by the server, including -0
+            return longFactory.apply(value.isNegative() ? -low : low);
+        }
+        // negative zero has no BigDecimal representation, thus the magnitude is converted and negated
+        final BigDecimal magnitude = Decimal128.fromIEEE754BIDEncoding(high & ~DECIMAL128_SIGN, low)
+                .bigDecimalValue();
+        return bigFactory.apply(toBigInteger(value.isNegative() ? magnitude.negate() : magnitude));
+    }
+
+    private static <T> T readString(final String value, final LongFunction<T> longFactory,
+            final Function<@NonNull BigInteger, T> bigFactory) {
+        if (value.length() <= MAX_LONG_DIGITS) {
+            return longFactory.apply(Long.parseLong(value));
+        }
+        return bigFactory.apply(new BigInteger(value));
+    }
+
+    @NonNull
+    private static BigInteger toBigInteger(final BigDecimal value) {
+        return Nullsafe.nonNull(value.setScale(0, RoundingMode.HALF_UP).toBigInteger());
+    }
+
+}
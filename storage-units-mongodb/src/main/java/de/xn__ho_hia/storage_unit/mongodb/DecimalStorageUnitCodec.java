@@ -18,6 +18,26 @@ import de.xn__ho_hia.storage_unit.StorageUnits;
  */
 public final class DecimalStorageUnitCodec extends AbstractStorageUnitCodec {
 
+    /**
+     * Creates a new codec which encodes units as {@link BsonEncoding#STRING strings}.
+     */
+    public DecimalStorageUnitCodec() {
+        super();
+    }
+
+    /**
+     * @param encoding
+     *            The encoding to use for storage units.
+     */
+    public DecimalStorageUnitCodec(final BsonEncoding encoding) {
+        super(encoding);
+    }
+
+    @Override
+    protected StorageUnit<?> convertToStorageUnit(final long value) {
+        return StorageUnits.decimalValueOf(value);
+    }
+
     @Override
     protected StorageUnit<?> convertToStorageUnit(@NonNull final BigInteger value) {
         return StorageUnits.decimalValueOf(value);
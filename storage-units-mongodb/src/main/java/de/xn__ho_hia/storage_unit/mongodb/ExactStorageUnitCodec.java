@@ -0,0 +1,49 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.mongodb;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnitType;
+
+/**
+ * Codec for a single concrete unit, e.g. <code>Kibibyte</code>. Decodes values directly into that unit instead of
+ * selecting the best-matching unit first.
+ */
+final class ExactStorageUnitCodec implements Codec<StorageUnit<?>> {
+
+    private final StorageUnitType type;
+    private final BsonEncoding encoding;
+
+    ExactStorageUnitCodec(final StorageUnitType type, final BsonEncoding encoding) {
+        this.type = type;
+        this.encoding = encoding;
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final StorageUnit<?> value, final EncoderContext encoderContext) {
+        CodecUtils.write(writer, value, encoding);
+    }
+
+    @Override
+    @SuppressWarnings(CompilerWarnings.UNCHECKED)
+    public Class<StorageUnit<?>> getEncoderClass() {
+        return (Class<StorageUnit<?>>) type.getUnitClass();
+    }
+
+    @Override
+    public StorageUnit<?> decode(final BsonReader reader, final DecoderContext decoderContext) {
+        return CodecUtils.read(reader, type::ofBytes, type::ofBytes);
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.mongodb;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.BsonField;
+
+import org.bson.BsonArray;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonNull;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+import org.bson.types.Decimal128;
+import org.eclipse.jdt.annotation.NonNull;
+
+
+/**
+ * Builds aggregation stages which sum fields stored with the {@link BsonEncoding#NUMERIC numeric} encoding on the
+ * server, e.g. the storage used per tenant:
+ *
+ * <pre>
+ * collection.aggregate(Arrays.asList(
+ *         Aggregates.match(StorageUnitFilters.gte("size", kibibyte(4))),
+ *         StorageUnitAggregates.groupBySum("tenant", "size", "total")));
+ * </pre>
+ *
+ * Sums are calculated as <code>Decimal128</code>, thus they never overflow into an imprecise <code>Double</code> like
+ * sums of <code>Int64</code> values do. Decode them with any of the storage unit codecs. Values which are not numeric,
+ * e.g. those still stored with the {@link BsonEncoding#STRING string} encoding in a partially migrated collection, are
+ * skipped by the sum, thus all documents have to be migrated to the numeric encoding for complete sums.
+ */
+public final class StorageUnitAggregates {
+
+    private static final String ADD = "$add"; //$NON-NLS-1$
+    private static final String COND = "$cond"; //$NON-NLS-1$
+    private static final String IN = "$in"; //$NON-NLS-1$
+    private static final String TYPE = "$type"; //$NON-NLS-1$
+
+    // the aggregation type names of all numeric BSON types
+    private static final List<BsonValue> NUMERIC_TYPES = Collections.unmodifiableList(Arrays.asList(
+            new BsonString("int"), new BsonString("long"), //$NON-NLS-1$ //$NON-NLS-2$
+            new BsonString("double"), new BsonString("decimal"))); //$NON-NLS-1$ //$NON-NLS-2$
+
+    // adding a decimal zero promotes Int64 values to Decimal128 on MongoDB 3.4 and later
+    private static final BsonDecimal128 DECIMAL_ZERO = new BsonDecimal128(new Decimal128(0));
+
+    private StorageUnitAggregates() {
+        // Hidden constructor.
+    }
+
+    /**
+     * @param outputFieldName
+     *            The name of the field holding the sum.
+     * @param fieldName
+     *            The name of the field to sum up.
+     * @return An accumulator summing up the numeric values of the given field as <code>Decimal128</code>.
+     */
+    @NonNull
+    public static BsonField sum(@NonNull final String outputFieldName, @NonNull final String fieldName) {
+        final BsonString field = new BsonString("$" + fieldName); //$NON-NLS-1$
+        final BsonDocument isNumeric = new BsonDocument(IN,
+                new BsonArray(Arrays.asList(new BsonDocument(TYPE, field), new BsonArray(NUMERIC_TYPES))));
+        final BsonDocument promoted = new BsonDocument(ADD, new BsonArray(Arrays.asList(field, DECIMAL_ZERO)));
+        // $add fails on strings, thus only numbers are promoted while $sum ignores the null of all other values
+        final BsonDocument expression = new BsonDocument(COND,
+                new BsonArray(Arrays.asList(isNumeric, promoted, BsonNull.VALUE)));
+        return Accumulators.sum(outputFieldName, expression);
+    }
+
+    /**
+     * @param groupFieldName
+     *            The name of the field to group by, e.g. a tenant.
+     * @param fieldName
+     *            The name of the field to sum up.
+     * @param outputFieldName
+     *            The name of the field holding the sum of each group.
+     * @return A <code>$group</code> stage summing up the given field per group.
+     */
+    @NonNull
+    public static Bson groupBySum(@NonNull final String groupFieldName, @NonNull final String fieldName,
+            @NonNull final String outputFieldName) {
+        return Aggregates.group("$" + groupFieldName, sum(outputFieldName, fieldName)); //$NON-NLS-1$
+    }
+
+    /**
+     * @param fieldName
+     *            The name of the field to sum up.
+     * @param outputFieldName
+     *            The name of the field holding the sum.
+     * @return A <code>$group</code> stage summing up the given field over all documents.
+     */
+    @NonNull
+    public static Bson totalSum(@NonNull final String fieldName, @NonNull final String outputFieldName) {
+        return Aggregates.group(null, sum(outputFieldName, fieldName));
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.mongodb;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnitType;
+
+/**
+ * MongoDB {@link CodecProvider} for all storage units. Every concrete unit, e.g. <code>Kibibyte</code> or
+ * <code>CommonGigabyte</code>, gets its own codec which decodes directly into that unit, thus fields typed as concrete
+ * units are resolved with a single lookup in a precomputed map. Fields typed as {@link StorageUnit} itself use the
+ * given codec, e.g.:
+ *
+ * <pre>
+ * CodecRegistry registry = CodecRegistries.fromRegistries(
+ *         CodecRegistries.fromProviders(new StorageUnitCodecProvider(BsonEncoding.NUMERIC)),
+ *         MongoClient.getDefaultCodecRegistry());
+ * </pre>
+ *
+ * @see <a href="http://mongodb.github.io/mongo-java-driver/3.4/bson/codecs/">MongoDB Codec documentation</a>
+ */
+public final class StorageUnitCodecProvider implements CodecProvider {
+
+    private final Map<Class<?>, Codec<?>> codecs = new IdentityHashMap<>();
+
+    /**
+     * Creates a new provider which encodes units as {@link BsonEncoding#STRING strings} and decodes fields typed as
+     * {@link StorageUnit} into binary units.
+     */
+    public StorageUnitCodecProvider() {
+        this(BsonEncoding.STRING);
+    }
+
+    /**
+     * Creates a new provider which decodes fields typed as {@link StorageUnit} into binary units.
+     *
+     * @param encoding
+     *            The encoding to use for storage units.
+     */
+    public StorageUnitCodecProvider(final BsonEncoding encoding) {
+        this(encoding, new BinaryStorageUnitCodec(encoding));
+    }
+
+    /**
+     * @param encoding
+     *            The encoding to use for concrete storage units.
+     * @param storageUnitCodec
+     *            The codec to use for fields typed as {@link StorageUnit}, e.g. a {@link DecimalStorageUnitCodec}.
+     */
+    public StorageUnitCodecProvider(final BsonEncoding encoding, final Codec<StorageUnit<?>> storageUnitCodec) {
+        codecs.put(StorageUnit.class, storageUnitCodec);
+        for (final StorageUnitType type : StorageUnitType.values()) {
+            codecs.put(type.getUnitClass(), new ExactStorageUnitCodec(type, encoding));
+        }
+    }
+
+    @Override
+    @SuppressWarnings(CompilerWarnings.UNCHECKED)
+    public <T> Codec<T> get(final Class<T> clazz, final CodecRegistry registry) {
+        return (Codec<T>) codecs.get(clazz);
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.mongodb;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Indexes;
+
+import org.bson.conversions.Bson;
+import org.eclipse.jdt.annotation.NonNull;
+
+import de.xn__ho_hia.storage_unit.StorageUnit;
+
+/**
+ * Builds query filters over fields stored with the {@link BsonEncoding#NUMERIC numeric} encoding, thus documents are
+ * filtered by the server using an index on the field, e.g.:
+ *
+ * <pre>
+ * collection.createIndex(StorageUnitFilters.index("size"));
+ * collection.find(StorageUnitFilters.between("size", gibibyte(1), gibibyte(10)))
+ *         .hint(StorageUnitFilters.index("size"));
+ * </pre>
+ *
+ * Bounds are written as <code>Int64</code> or <code>Decimal128</code>, which MongoDB compares numerically. Values
+ * stored as strings by the {@link BsonEncoding#STRING string} encoding never match.
+ */
+public final class StorageUnitFilters {
+
+    private StorageUnitFilters() {
+        // Hidden constructor.
+    }
+
+    /**
+     * @param fieldName
+     *            The name of the field to filter.
+     * @param value
+     *            The amount of bytes to match.
+     * @return A filter matching documents whose field equals the given amount of bytes.
+     */
+    @NonNull
+    public static Bson eq(@NonNull final String fieldName, @NonNull final StorageUnit<?> value) {
+        return Filters.eq(fieldName, CodecUtils.toBsonValue(value));
+    }
+
+    /**
+     * @param fieldName
+     *            The name of the field to filter.
+     * @param value
+     *            The exclusive lower bound.
+     * @return A filter matching documents whose field is greater than the given amount of bytes.
+     */
+    @NonNull
+    public static Bson gt(@NonNull final String fieldName, @NonNull final StorageUnit<?> value) {
+        return Filters.gt(fieldName, CodecUtils.toBsonValue(value));
+    }
+
+    /**
+     * @param fieldName
+     *            The name of the field to filter.
+     * @param value
+     *            The inclusive lower bound.
+     * @return A filter matching documents whose field is greater than or equal to the given amount of bytes.
+     */
+    @NonNull
+    public static Bson gte(@NonNull final String fieldName, @NonNull final StorageUnit<?> value) {
+        return Filters.gte(fieldName, CodecUtils.toBsonValue(value));
+    }
+
+    /**
+     * @param fieldName
+     *            The name of the field to filter.
+     * @param value
+     *            The exclusive upper bound.
+     * @return A filter matching documents whose field is less than the given amount of bytes.
+     */
+    @NonNull
+    public static Bson lt(@NonNull final String fieldName, @NonNull final StorageUnit<?> value) {
+        return Filters.lt(fieldName, CodecUtils.toBsonValue(value));
+    }
+
+    /**
+     * @param fieldName
+     *            The name of the field to filter.
+     * @param value
+     *            The inclusive upper bound.
+     * @return A filter matching documents whose field is less than or equal to the given amount of bytes.
+     */
+    @NonNull
+    public static Bson lte(@NonNull final String fieldName, @NonNull final StorageUnit<?> value) {
+        return Filters.lte(fieldName, CodecUtils.toBsonValue(value));
+    }
+
+    /**
+     * @param fieldName
+     *            The name of the field to filter.
+     * @param from
+     *            The inclusive lower bound.
+     * @param to
+     *            The exclusive upper bound.
+     * @return A filter matching documents whose field lies within the given range, e.g. between 1 GiB and 10 GiB.
+     */
+    @NonNull
+    public static Bson between(@NonNull final String fieldName, @NonNull final StorageUnit<?> from,
+            @NonNull final StorageUnit<?> to) {
+        return Filters.and(gte(fieldName, from), lt(fieldName, to));
+    }
+
+    /**
+     * @param fieldName
+     *            The name of the field to index.
+     * @return An ascending index on the given field, used to create the index as well as to hint queries to it.
+     */
+    @NonNull
+    public static Bson index(@NonNull final String fieldName) {
+        return Indexes.ascending(fieldName);
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.mongodb;
+
+import com.mongodb.MongoClient;
+import com.mongodb.client.model.BsonField;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.codecs.DecoderContext;
+import org.bson.conversions.Bson;
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnits;
+
+/**
+ * Test cases for the {@link StorageUnitAggregates}.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class StorageUnitAggregatesTest {
+
+    /**
+     * Ensures that sums are promoted to <code>Decimal128</code>.
+     */
+    @Test
+    public void shouldSumAsDecimal128() {
+        // Given
+        final BsonField sum = StorageUnitAggregates.sum("total", "size");
+
+        // When
+        final BsonDocument document = render(sum.getValue());
+
+        // Then
+        Assert.assertEquals("total", sum.getName());
+        Assert.assertEquals(BsonDocument.parse("{ $sum : " + guardedSize() + " }"), document);
+    }
+
+    /**
+     * Ensures that only numeric values are promoted, since <code>$add</code> fails on values still stored as strings.
+     */
+    @Test
+    public void shouldSkipNonNumericValues() {
+        // Given
+        final BsonField sum = StorageUnitAggregates.sum("total", "size");
+
+        // When
+        final BsonArray condition = render(sum.getValue()).getDocument("$sum").getArray("$cond");
+
+        // Then
+        Assert.assertEquals(BsonDocument.parse(
+                "{ $in : [ { $type : '$size' }, [ 'int', 'long', 'double', 'decimal' ] ] }"), condition.get(0));
+        Assert.assertTrue(condition.get(2).isNull());
+    }
+
+    /**
+     * Ensures that sums are grouped by the given field.
+     */
+    @Test
+    public void shouldGroupBySum() {
+        // Given
+        final Bson stage = StorageUnitAggregates.groupBySum("tenant", "size", "total");
+
+        // When
+        final BsonDocument document = render(stage);
+
+        // Then
+        Assert.assertEquals(BsonDocument.parse(
+                "{ $group : { _id : '$tenant', total : { $sum : " + guardedSize() + " } } }"),
+                document);
+    }
+
+    /**
+     * Ensures that sums over all documents are grouped by <code>null</code>.
+     */
+    @Test
+    public void shouldSumAllDocuments() {
+        // Given
+        final Bson stage = StorageUnitAggregates.totalSum("size", "total");
+
+        // When
+        final BsonDocument document = render(stage);
+
+        // Then
+        Assert.assertEquals(BsonDocument.parse(
+                "{ $group : { _id : null, total : { $sum : " + guardedSize() + " } } }"),
+                document);
+    }
+
+    /**
+     * Ensures that <code>Decimal128</code> sums as returned by the server decode into storage units.
+     */
+    @Test
+    public void shouldDecodeDecimalSum() {
+        // Given
+        final BsonDocument result = BsonDocument.parse(
+                "{ _id : 'tenant', total : { $numberDecimal : '18446744073709551614' } }");
+        final BsonDocumentReader reader = new BsonDocumentReader(result);
+        reader.readStartDocument();
+        reader.readName("_id");
+        reader.skipValue();
+        reader.readName("total");
+
+        // When
+        final StorageUnit<?> total = new BinaryStorageUnitCodec().decode(reader, DecoderContext.builder().build());
+
+        // Then
+        Assert.assertEquals(StorageUnits.bytes(Long.MAX_VALUE).add(Long.MAX_VALUE).inByte(), total.inByte());
+    }
+
+    private static String guardedSize() {
+        return "{ $cond : [ { $in : [ { $type : '$size' }, [ 'int', 'long', 'double', 'decimal' ] ] }, "
+                + "{ $add : [ '$size', { $numberDecimal : '0' } ] }, null ] }";
+    }
+
+    private static BsonDocument render(final Bson bson) {
+        return bson.toBsonDocument(BsonDocument.class, MongoClient.getDefaultCodecRegistry());
+    }
+
+}
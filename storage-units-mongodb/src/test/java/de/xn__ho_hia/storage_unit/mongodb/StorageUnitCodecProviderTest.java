@@ -0,0 +1,149 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.mongodb;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+import de.xn__ho_hia.storage_unit.Byte;
+import de.xn__ho_hia.storage_unit.CommonExabyte;
+import de.xn__ho_hia.storage_unit.CommonGigabyte;
+import de.xn__ho_hia.storage_unit.CommonKilobyte;
+import de.xn__ho_hia.storage_unit.CommonMegabyte;
+import de.xn__ho_hia.storage_unit.CommonPetabyte;
+import de.xn__ho_hia.storage_unit.CommonTerabyte;
+import de.xn__ho_hia.storage_unit.CommonYottabyte;
+import de.xn__ho_hia.storage_unit.CommonZettabyte;
+import de.xn__ho_hia.storage_unit.Exabyte;
+import de.xn__ho_hia.storage_unit.Exbibyte;
+import de.xn__ho_hia.storage_unit.Gibibyte;
+import de.xn__ho_hia.storage_unit.Gigabyte;
+import de.xn__ho_hia.storage_unit.Kibibyte;
+import de.xn__ho_hia.storage_unit.Kilobyte;
+import de.xn__ho_hia.storage_unit.Mebibyte;
+import de.xn__ho_hia.storage_unit.Megabyte;
+import de.xn__ho_hia.storage_unit.Pebibyte;
+import de.xn__ho_hia.storage_unit.Petabyte;
+import de.xn__ho_hia.storage_unit.StorageUnit;
+import de.xn__ho_hia.storage_unit.StorageUnits;
+import de.xn__ho_hia.storage_unit.Tebibyte;
+import de.xn__ho_hia.storage_unit.Terabyte;
+import de.xn__ho_hia.storage_unit.Yobibyte;
+import de.xn__ho_hia.storage_unit.Yottabyte;
+import de.xn__ho_hia.storage_unit.Zebibyte;
+import de.xn__ho_hia.storage_unit.Zettabyte;
+
+/**
+ * Test cases for the {@link StorageUnitCodecProvider}.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class StorageUnitCodecProviderTest {
+
+    private static final List<Class<?>> UNIT_CLASSES = Arrays.asList(Byte.class,
+            Kibibyte.class, Mebibyte.class, Gibibyte.class, Tebibyte.class,
+            Pebibyte.class, Exbibyte.class, Zebibyte.class, Yobibyte.class,
+            Kilobyte.class, Megabyte.class, Gigabyte.class, Terabyte.class,
+            Petabyte.class, Exabyte.class, Zettabyte.class, Yottabyte.class,
+            CommonKilobyte.class, CommonMegabyte.class, CommonGigabyte.class, CommonTerabyte.class,
+            CommonPetabyte.class, CommonExabyte.class, CommonZettabyte.class, CommonYottabyte.class);
+
+    /**
+     * Ensures that every concrete unit is provided with a codec for exactly that unit.
+     */
+    @Test
+    public void shouldProvideCodecForEveryUnit() {
+        // Given
+        final CodecRegistry registry = CodecRegistries.fromProviders(new StorageUnitCodecProvider());
+
+        for (final Class<?> unitClass : UNIT_CLASSES) {
+            // When
+            final Codec<?> codec = registry.get(unitClass);
+
+            // Then
+            Assert.assertEquals(unitClass, codec.getEncoderClass());
+        }
+    }
+
+    /**
+     * Ensures that every concrete unit is decoded into exactly that unit.
+     */
+    @Test
+    @SuppressWarnings({ CompilerWarnings.UNCHECKED, CompilerWarnings.RAWTYPES })
+    public void shouldDecodeExactUnit() {
+        // Given
+        final StorageUnitCodecProvider provider = new StorageUnitCodecProvider(BsonEncoding.NUMERIC);
+        final StorageUnit<?> value = StorageUnits.kibibyte(3);
+
+        for (final Class<?> unitClass : UNIT_CLASSES) {
+            final Codec codec = provider.get(unitClass, CodecRegistries.fromProviders(provider));
+
+            // When
+            final BsonDocument document = new BsonDocument();
+            final BsonWriter writer = new BsonDocumentWriter(document);
+            writer.writeStartDocument();
+            writer.writeName("size");
+            codec.encode(writer, value, EncoderContext.builder().build());
+            writer.writeEndDocument();
+            final BsonReader reader = new BsonDocumentReader(document);
+            reader.readStartDocument();
+            reader.readName();
+            final StorageUnit<?> decoded = (StorageUnit<?>) codec.decode(reader, DecoderContext.builder().build());
+
+            // Then
+            Assert.assertEquals(BsonType.INT64, document.get("size").getBsonType());
+            Assert.assertEquals(unitClass, decoded.getClass());
+            Assert.assertEquals(value.inByte(), decoded.inByte());
+        }
+    }
+
+    /**
+     * Ensures that fields typed as {@link StorageUnit} use the given codec.
+     */
+    @Test
+    public void shouldUseGivenCodecForStorageUnit() {
+        // Given
+        final DecimalStorageUnitCodec decimalCodec = new DecimalStorageUnitCodec();
+        final StorageUnitCodecProvider provider = new StorageUnitCodecProvider(BsonEncoding.STRING, decimalCodec);
+
+        // When
+        final Codec<?> codec = provider.get(StorageUnit.class, CodecRegistries.fromProviders(provider));
+
+        // Then
+        Assert.assertSame(decimalCodec, codec);
+    }
+
+    /**
+     * Ensures that other classes are left to other providers.
+     */
+    @Test
+    public void shouldNotProvideCodecForOtherClasses() {
+        // Given
+        final StorageUnitCodecProvider provider = new StorageUnitCodecProvider();
+
+        // When
+        final Codec<?> codec = provider.get(String.class, CodecRegistries.fromProviders(provider));
+
+        // Then
+        Assert.assertNull(codec);
+    }
+
+}
@@ -6,14 +6,26 @@
  */
 package de.xn__ho_hia.storage_unit.mongodb;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
 
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
 import org.bson.BsonReader;
+import org.bson.BsonString;
+import org.bson.BsonType;
+import org.bson.BsonValue;
 import org.bson.BsonWriter;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
+import org.bson.types.Decimal128;
 import org.jooq.lambda.tuple.Tuple2;
 import org.junit.Assert;
 import org.junit.experimental.theories.DataPoints;
@@ -101,6 +113,7 @@ public class StorageUnitCodecTest {
         final AbstractStorageUnitCodec codec = supplier.v1.get();
         final BsonReader reader = Mockito.mock(BsonReader.class);
         final DecoderContext context = DecoderContext.builder().build();
+        BDDMockito.given(reader.getCurrentBsonType()).willReturn(BsonType.STRING);
         BDDMockito.given(reader.readString()).willReturn("2000");
 
         // when
@@ -111,4 +124,189 @@ public class StorageUnitCodecTest {
         Assert.assertEquals(supplier.v2, value.getClass());
     }
 
+    /**
+     * @param supplier
+     *            The supplier to use.
+     */
+    @Theory
+    public void shouldEncodeInt64(
+            @FromDataPoints("supplier") final Tuple2<Supplier<AbstractStorageUnitCodec>, Class<?>> supplier) {
+        // given
+        final AbstractStorageUnitCodec codec = numericCodec(supplier);
+        final StorageUnit<?> value = StorageUnits.kilobyte(2L);
+
+        // when
+        final BsonValue encoded = encode(codec, value);
+
+        // then
+        Assert.assertEquals(BsonType.INT64, encoded.getBsonType());
+        Assert.assertEquals(2_000L, encoded.asInt64().getValue());
+        Assert.assertEquals(value.inByte(), decode(codec, encoded).inByte());
+    }
+
+    /**
+     * @param supplier
+     *            The supplier to use.
+     */
+    @Theory
+    public void shouldEncodeDecimal128BeyondLong(
+            @FromDataPoints("supplier") final Tuple2<Supplier<AbstractStorageUnitCodec>, Class<?>> supplier) {
+        // given
+        final AbstractStorageUnitCodec codec = numericCodec(supplier);
+        final StorageUnit<?> value = StorageUnits.yobibyte(3L);
+
+        // when
+        final BsonValue encoded = encode(codec, value);
+
+        // then
+        Assert.assertEquals(BsonType.DECIMAL128, encoded.getBsonType());
+        Assert.assertEquals(value.inByte(), decode(codec, encoded).inByte());
+    }
+
+    /**
+     * @param supplier
+     *            The supplier to use.
+     */
+    @Theory
+    public void shouldFallBackToStringBeyondDecimal128(
+            @FromDataPoints("supplier") final Tuple2<Supplier<AbstractStorageUnitCodec>, Class<?>> supplier) {
+        // given
+        final AbstractStorageUnitCodec codec = numericCodec(supplier);
+        final BigInteger bytes = BigInteger.TEN.pow(40).add(BigInteger.ONE);
+        final StorageUnit<?> value = StorageUnits.bytes(bytes);
+
+        // when
+        final BsonValue encoded = encode(codec, value);
+
+        // then
+        Assert.assertEquals(BsonType.STRING, encoded.getBsonType());
+        Assert.assertEquals(bytes, decode(codec, encoded).inByte());
+    }
+
+    /**
+     * @param supplier
+     *            The supplier to use.
+     */
+    @Theory
+    @SuppressWarnings(CompilerWarnings.NLS)
+    public void shouldDecodeAllNumericTypes(
+            @FromDataPoints("supplier") final Tuple2<Supplier<AbstractStorageUnitCodec>, Class<?>> supplier) {
+        // given
+        final AbstractStorageUnitCodec codec = supplier.v1.get();
+        final BigInteger expected = BigInteger.valueOf(2_000L);
+
+        // when
+        final StorageUnit<?> int32 = decode(codec, new BsonInt32(2_000));
+        final StorageUnit<?> doubleValue = decode(codec, new BsonDouble(1_999.6));
+        final StorageUnit<?> decimal = decode(codec, new BsonDecimal128(Decimal128.parse("2.0E3")));
+        final StorageUnit<?> string = decode(codec, new BsonString("2000"));
+
+        // then
+        Assert.assertEquals(expected, int32.inByte());
+        Assert.assertEquals(expected, doubleValue.inByte());
+        Assert.assertEquals(expected, decimal.inByte());
+        Assert.assertEquals(expected, string.inByte());
+        Assert.assertEquals(supplier.v2, int32.getClass());
+    }
+
+    /**
+     * Ensures that negative zeros, e.g. results of server arithmetic, decode into zero.
+     *
+     * @param supplier
+     *            The supplier to use.
+     */
+    @Theory
+    @SuppressWarnings(CompilerWarnings.NLS)
+    public void shouldDecodeNegativeZeroDecimal(
+            @FromDataPoints("supplier") final Tuple2<Supplier<AbstractStorageUnitCodec>, Class<?>> supplier) {
+        // given
+        final AbstractStorageUnitCodec codec = supplier.v1.get();
+
+        // when
+        final StorageUnit<?> zero = decode(codec, new BsonDecimal128(Decimal128.NEGATIVE_ZERO));
+        final StorageUnit<?> scaledZero = decode(codec, new BsonDecimal128(Decimal128.parse("-0E+3")));
+        final StorageUnit<?> fractionalZero = decode(codec, new BsonDecimal128(Decimal128.parse("-0.00")));
+
+        // then
+        Assert.assertEquals(BigInteger.ZERO, zero.inByte());
+        Assert.assertEquals(BigInteger.ZERO, scaledZero.inByte());
+        Assert.assertEquals(BigInteger.ZERO, fractionalZero.inByte());
+    }
+
+    /**
+     * Ensures that decimals decode exactly across the range of <code>long</code> and beyond.
+     *
+     * @param supplier
+     *            The supplier to use.
+     */
+    @Theory
+    @SuppressWarnings(CompilerWarnings.NLS)
+    public void shouldDecodeDecimalsAroundLongRange(
+            @FromDataPoints("supplier") final Tuple2<Supplier<AbstractStorageUnitCodec>, Class<?>> supplier) {
+        // given
+        final AbstractStorageUnitCodec codec = supplier.v1.get();
+        final String[] values = { "9223372036854775807", "-9223372036854775807", "-9223372036854775808",
+                "9223372036854775808", "-1208925819614629174706176", "-1536", "1.5E3" };
+
+        for (final String value : values) {
+            // when
+            final StorageUnit<?> unit = decode(codec, new BsonDecimal128(Decimal128.parse(value)));
+
+            // then
+            Assert.assertEquals(value, new BigDecimal(value).toBigIntegerExact(), unit.inByte());
+        }
+    }
+
+    /**
+     * @param supplier
+     *            The supplier to use.
+     */
+    @Theory
+    @SuppressWarnings(CompilerWarnings.NLS)
+    public void shouldDecodeLongStrings(
+            @FromDataPoints("supplier") final Tuple2<Supplier<AbstractStorageUnitCodec>, Class<?>> supplier) {
+        // given
+        final AbstractStorageUnitCodec codec = supplier.v1.get();
+
+        // when
+        final StorageUnit<?> largestLong = decode(codec, new BsonString("9223372036854775807"));
+        final StorageUnit<?> beyondLong = decode(codec, new BsonString("1208925819614629174706176"));
+
+        // then
+        Assert.assertEquals(BigInteger.valueOf(Long.MAX_VALUE), largestLong.inByte());
+        Assert.assertEquals(StorageUnits.yobibyte(1L).inByte(), beyondLong.inByte());
+    }
+
+    private static AbstractStorageUnitCodec numericCodec(
+            final Tuple2<Supplier<AbstractStorageUnitCodec>, Class<?>> supplier) {
+        final AbstractStorageUnitCodec codec = supplier.v1.get();
+        if (codec instanceof BinaryStorageUnitCodec) {
+            return new BinaryStorageUnitCodec(BsonEncoding.NUMERIC);
+        } else if (codec instanceof CommonStorageUnitCodec) {
+            return new CommonStorageUnitCodec(BsonEncoding.NUMERIC);
+        }
+        return new DecimalStorageUnitCodec(BsonEncoding.NUMERIC);
+    }
+
+    @SuppressWarnings(CompilerWarnings.NLS)
+    private static BsonValue encode(final AbstractStorageUnitCodec codec, final StorageUnit<?> value) {
+        final BsonDocument document = new BsonDocument();
+        final BsonWriter writer = new BsonDocumentWriter(document);
+        writer.writeStartDocument();
+        writer.writeName("size");
+        codec.encode(writer, value, EncoderContext.builder().build());
+        writer.writeEndDocument();
+        return document.get("size");
+    }
+
+    @SuppressWarnings(CompilerWarnings.NLS)
+    private static StorageUnit<?> decode(final AbstractStorageUnitCodec codec, final BsonValue value) {
+        final BsonReader reader = new BsonDocumentReader(new BsonDocument("size", value));
+        reader.readStartDocument();
+        reader.readName();
+        final StorageUnit<?> unit = codec.decode(reader, DecoderContext.builder().build());
+        reader.readEndDocument();
+        return unit;
+    }
+
 }
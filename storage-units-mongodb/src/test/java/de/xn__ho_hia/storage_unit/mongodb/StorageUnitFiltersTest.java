@@ -0,0 +1,122 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit.mongodb;
+
+import java.math.BigInteger;
+
+import com.mongodb.MongoClient;
+
+import org.bson.BsonDocument;
+import org.bson.conversions.Bson;
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+import de.xn__ho_hia.storage_unit.StorageUnits;
+
+/**
+ * Test cases for the {@link StorageUnitFilters}.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class StorageUnitFiltersTest {
+
+    /**
+     * Ensures that ranges are rendered as a single numeric range on the field.
+     */
+    @Test
+    public void shouldFilterRange() {
+        // Given
+        final Bson filter = StorageUnitFilters.between("size", StorageUnits.gibibyte(1), StorageUnits.gibibyte(10));
+
+        // When
+        final BsonDocument document = render(filter);
+
+        // Then
+        Assert.assertEquals(BsonDocument.parse(
+                "{ size : { $gte : { $numberLong : '1073741824' }, $lt : { $numberLong : '10737418240' } } }"),
+                document);
+    }
+
+    /**
+     * Ensures that all comparisons use numeric values.
+     */
+    @Test
+    public void shouldCompareNumerically() {
+        // Given
+        final Bson[] filters = { StorageUnitFilters.eq("size", StorageUnits.kibibyte(1)),
+                StorageUnitFilters.gt("size", StorageUnits.kibibyte(1)),
+                StorageUnitFilters.gte("size", StorageUnits.kibibyte(1)),
+                StorageUnitFilters.lt("size", StorageUnits.kibibyte(1)),
+                StorageUnitFilters.lte("size", StorageUnits.kibibyte(1)) };
+
+        // When
+        final String[] rendered = new String[filters.length];
+        for (int index = 0; index < filters.length; index++) {
+            rendered[index] = render(filters[index]).toJson();
+        }
+
+        // Then
+        Assert.assertArrayEquals(new String[] {
+                "{ \"size\" : { \"$numberLong\" : \"1024\" } }",
+                "{ \"size\" : { \"$gt\" : { \"$numberLong\" : \"1024\" } } }",
+                "{ \"size\" : { \"$gte\" : { \"$numberLong\" : \"1024\" } } }",
+                "{ \"size\" : { \"$lt\" : { \"$numberLong\" : \"1024\" } } }",
+                "{ \"size\" : { \"$lte\" : { \"$numberLong\" : \"1024\" } } }" }, rendered);
+    }
+
+    /**
+     * Ensures that bounds beyond <code>long</code> are rendered as <code>Decimal128</code>.
+     */
+    @Test
+    public void shouldFilterBeyondLong() {
+        // Given
+        final Bson filter = StorageUnitFilters.gte("size", StorageUnits.yobibyte(1));
+
+        // When
+        final BsonDocument document = render(filter);
+
+        // Then
+        Assert.assertEquals(
+                BsonDocument.parse("{ size : { $gte : { $numberDecimal : '1208925819614629174706176' } } }"),
+                document);
+    }
+
+    /**
+     * Ensures that bounds which cannot be compared on the server are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectBoundBeyondDecimal128() {
+        // Given
+        final BigInteger bytes = BigInteger.TEN.pow(40).add(BigInteger.ONE);
+
+        // When
+        StorageUnitFilters.lt("size", StorageUnits.bytes(bytes));
+
+        // Then
+        // expect exception
+    }
+
+    /**
+     * Ensures that index hints use an ascending index.
+     */
+    @Test
+    public void shouldHintAscendingIndex() {
+        // Given
+        final String fieldName = "size";
+
+        // When
+        final Bson index = StorageUnitFilters.index(fieldName);
+
+        // Then
+        Assert.assertEquals(BsonDocument.parse("{ size : 1 }"), render(index));
+    }
+
+    private static BsonDocument render(final Bson bson) {
+        return bson.toBsonDocument(BsonDocument.class, MongoClient.getDefaultCodecRegistry());
+    }
+
+}
@@ -6,12 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
 import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -25,6 +20,19 @@ public class Byte extends StorageUnit<Byte> {
 
     private static final long serialVersionUID = 6952239416014811456L;
 
+    @NonNull
+    private static final UnitCache<Byte> CACHE = new UnitCache<>(Byte::new, Byte::new);
+
+    /**
+     * One byte.
+     */
+    @NonNull
+    public static final Byte ONE = valueOf(1);
+
+    Byte(final long numberOfBytes) {
+        super(numberOfBytes);
+    }
+
     Byte(@NonNull final BigInteger numberOfBytes) {
         super(numberOfBytes);
     }
@@ -32,27 +40,29 @@ public class Byte extends StorageUnit<Byte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Byte contains.
-     * @return A new Byte unit with the given value.
+     * @return A new or cached Byte unit with the given value.
      */
     @NonNull
     public static Byte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new Byte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Byte contains.
-     * @return A new Byte unit with the given value.
+     * @return A new or cached Byte unit with the given value.
      */
     @NonNull
     public static Byte valueOf(final long numberOfBytes) {
-        return valueOf(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Byte contains.
-     * @return A new Byte unit with the given value.
+     * @return A new or cached Byte unit with the given value.
      */
     @NonNull
     public static Byte valueOf(@NonNull final Long numberOfBytes) {
@@ -60,33 +70,13 @@ public class Byte extends StorageUnit<Byte> {
     }
 
     @Override
-    public Byte add(final long bytesToAdd) {
-        return new Byte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public Byte add(final StorageUnit<?> storageAmount) {
-        return new Byte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public Byte divide(final long divisor) {
-        return new Byte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public Byte multiply(final long factor) {
-        return new Byte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public Byte subtract(final long bytesToSubtract) {
-        return new Byte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected Byte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public Byte subtract(final StorageUnit<?> storageAmount) {
-        return new Byte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected Byte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
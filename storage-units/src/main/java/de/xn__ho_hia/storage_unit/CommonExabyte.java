@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -24,6 +20,19 @@ public final class CommonExabyte extends StorageUnit<CommonExabyte> {
 
     private static final long serialVersionUID = 5993490571003918471L;
 
+    @NonNull
+    private static final UnitCache<CommonExabyte> CACHE = new UnitCache<>(CommonExabyte::new, CommonExabyte::new);
+
+    /**
+     * One common exabyte.
+     */
+    @NonNull
+    public static final CommonExabyte ONE = valueOf(StorageUnit.BYTES_IN_A_EXBIBYTE);
+
+    CommonExabyte(final long bytes) {
+        super(bytes);
+    }
+
     CommonExabyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -31,27 +40,29 @@ public final class CommonExabyte extends StorageUnit<CommonExabyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Exabyte contains.
-     * @return A new Exabyte unit with the given value.
+     * @return A new or cached Exabyte unit with the given value.
      */
     @NonNull
     public static CommonExabyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new CommonExabyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Exabyte contains.
-     * @return A new Exabyte unit with the given value.
+     * @return A new or cached Exabyte unit with the given value.
      */
     @NonNull
     public static CommonExabyte valueOf(final long numberOfBytes) {
-        return new CommonExabyte(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Exabyte contains.
-     * @return A new Exabyte unit with the given value.
+     * @return A new or cached Exabyte unit with the given value.
      */
     @NonNull
     public static CommonExabyte valueOf(@NonNull final Long numberOfBytes) {
@@ -59,33 +70,13 @@ public final class CommonExabyte extends StorageUnit<CommonExabyte> {
     }
 
     @Override
-    public CommonExabyte add(final long bytesToAdd) {
-        return new CommonExabyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public CommonExabyte add(final StorageUnit<?> storageAmount) {
-        return new CommonExabyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public CommonExabyte divide(final long divisor) {
-        return new CommonExabyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public CommonExabyte multiply(final long factor) {
-        return new CommonExabyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public CommonExabyte subtract(final long bytesToSubtract) {
-        return new CommonExabyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected CommonExabyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public CommonExabyte subtract(final StorageUnit<?> storageAmount) {
-        return new CommonExabyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected CommonExabyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -24,6 +20,19 @@ public final class CommonGigabyte extends StorageUnit<CommonGigabyte> {
 
     private static final long serialVersionUID = -1104749948510944566L;
 
+    @NonNull
+    private static final UnitCache<CommonGigabyte> CACHE = new UnitCache<>(CommonGigabyte::new, CommonGigabyte::new);
+
+    /**
+     * One common gigabyte.
+     */
+    @NonNull
+    public static final CommonGigabyte ONE = valueOf(StorageUnit.BYTES_IN_A_GIBIBYTE);
+
+    CommonGigabyte(final long bytes) {
+        super(bytes);
+    }
+
     CommonGigabyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -31,27 +40,29 @@ public final class CommonGigabyte extends StorageUnit<CommonGigabyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Gigabyte contains.
-     * @return A new Gigabyte unit with the given value.
+     * @return A new or cached Gigabyte unit with the given value.
      */
     @NonNull
     public static CommonGigabyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new CommonGigabyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Gigabyte contains.
-     * @return A new Gigabyte unit with the given value.
+     * @return A new or cached Gigabyte unit with the given value.
      */
     @NonNull
     public static CommonGigabyte valueOf(final long numberOfBytes) {
-        return new CommonGigabyte(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Gigabyte contains.
-     * @return A new Gigabyte unit with the given value.
+     * @return A new or cached Gigabyte unit with the given value.
      */
     @NonNull
     public static CommonGigabyte valueOf(@NonNull final Long numberOfBytes) {
@@ -59,33 +70,13 @@ public final class CommonGigabyte extends StorageUnit<CommonGigabyte> {
     }
 
     @Override
-    public CommonGigabyte add(final long bytesToAdd) {
-        return new CommonGigabyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public CommonGigabyte add(final StorageUnit<?> storageAmount) {
-        return new CommonGigabyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public CommonGigabyte divide(final long divisor) {
-        return new CommonGigabyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public CommonGigabyte multiply(final long factor) {
-        return new CommonGigabyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public CommonGigabyte subtract(final long bytesToSubtract) {
-        return new CommonGigabyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected CommonGigabyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public CommonGigabyte subtract(final StorageUnit<?> storageAmount) {
-        return new CommonGigabyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected CommonGigabyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -24,6 +20,19 @@ public final class CommonKilobyte extends StorageUnit<CommonKilobyte> {
 
     private static final long serialVersionUID = 3798828851496657978L;
 
+    @NonNull
+    private static final UnitCache<CommonKilobyte> CACHE = new UnitCache<>(CommonKilobyte::new, CommonKilobyte::new);
+
+    /**
+     * One common kilobyte.
+     */
+    @NonNull
+    public static final CommonKilobyte ONE = valueOf(StorageUnit.BYTES_IN_A_KIBIBYTE);
+
+    CommonKilobyte(final long bytes) {
+        super(bytes);
+    }
+
     CommonKilobyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -31,27 +40,29 @@ public final class CommonKilobyte extends StorageUnit<CommonKilobyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Kilobyte contains.
-     * @return A new Kilobyte unit with the given value.
+     * @return A new or cached Kilobyte unit with the given value.
      */
     @NonNull
     public static CommonKilobyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new CommonKilobyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Kilobyte contains.
-     * @return A new Kilobyte unit with the given value.
+     * @return A new or cached Kilobyte unit with the given value.
      */
     @NonNull
     public static CommonKilobyte valueOf(final long numberOfBytes) {
-        return valueOf(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Kilobyte contains.
-     * @return A new Kilobyte unit with the given value.
+     * @return A new or cached Kilobyte unit with the given value.
      */
     @NonNull
     public static CommonKilobyte valueOf(@NonNull final Long numberOfBytes) {
@@ -59,33 +70,13 @@ public final class CommonKilobyte extends StorageUnit<CommonKilobyte> {
     }
 
     @Override
-    public CommonKilobyte add(final long bytesToAdd) {
-        return new CommonKilobyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public CommonKilobyte add(final StorageUnit<?> storageAmount) {
-        return new CommonKilobyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public CommonKilobyte divide(final long divisor) {
-        return new CommonKilobyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public CommonKilobyte multiply(final long factor) {
-        return new CommonKilobyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public CommonKilobyte subtract(final long bytesToSubtract) {
-        return new CommonKilobyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected CommonKilobyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public CommonKilobyte subtract(final StorageUnit<?> storageAmount) {
-        return new CommonKilobyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected CommonKilobyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
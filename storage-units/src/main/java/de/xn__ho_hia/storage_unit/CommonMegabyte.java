@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -25,6 +21,19 @@ public final class CommonMegabyte extends StorageUnit<CommonMegabyte> {
     /** Generated */
     private static final long serialVersionUID = 7697583678146919524L;
 
+    @NonNull
+    private static final UnitCache<CommonMegabyte> CACHE = new UnitCache<>(CommonMegabyte::new, CommonMegabyte::new);
+
+    /**
+     * One common megabyte.
+     */
+    @NonNull
+    public static final CommonMegabyte ONE = valueOf(StorageUnit.BYTES_IN_A_MEBIBYTE);
+
+    CommonMegabyte(final long bytes) {
+        super(bytes);
+    }
+
     CommonMegabyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -32,27 +41,29 @@ public final class CommonMegabyte extends StorageUnit<CommonMegabyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Megabyte contains.
-     * @return A new Megabyte unit with the given value.
+     * @return A new or cached Megabyte unit with the given value.
      */
     @NonNull
     public static CommonMegabyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new CommonMegabyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Megabyte contains.
-     * @return A new Megabyte unit with the given value.
+     * @return A new or cached Megabyte unit with the given value.
      */
     @NonNull
     public static CommonMegabyte valueOf(final long numberOfBytes) {
-        return new CommonMegabyte(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Megabyte contains.
-     * @return A new Megabyte unit with the given value.
+     * @return A new or cached Megabyte unit with the given value.
      */
     @NonNull
     public static CommonMegabyte valueOf(@NonNull final Long numberOfBytes) {
@@ -60,33 +71,13 @@ public final class CommonMegabyte extends StorageUnit<CommonMegabyte> {
     }
 
     @Override
-    public CommonMegabyte add(final long bytesToAdd) {
-        return new CommonMegabyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public CommonMegabyte add(final StorageUnit<?> storageAmount) {
-        return new CommonMegabyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public CommonMegabyte divide(final long divisor) {
-        return new CommonMegabyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public CommonMegabyte multiply(final long factor) {
-        return new CommonMegabyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public CommonMegabyte subtract(final long bytesToSubtract) {
-        return new CommonMegabyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected CommonMegabyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public CommonMegabyte subtract(final StorageUnit<?> storageAmount) {
-        return new CommonMegabyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected CommonMegabyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
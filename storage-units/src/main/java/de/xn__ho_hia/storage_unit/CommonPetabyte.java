@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -24,6 +20,19 @@ public final class CommonPetabyte extends StorageUnit<CommonPetabyte> {
 
     private static final long serialVersionUID = -6112472064345339882L;
 
+    @NonNull
+    private static final UnitCache<CommonPetabyte> CACHE = new UnitCache<>(CommonPetabyte::new, CommonPetabyte::new);
+
+    /**
+     * One common petabyte.
+     */
+    @NonNull
+    public static final CommonPetabyte ONE = valueOf(StorageUnit.BYTES_IN_A_PEBIBYTE);
+
+    CommonPetabyte(final long bytes) {
+        super(bytes);
+    }
+
     CommonPetabyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -31,27 +40,29 @@ public final class CommonPetabyte extends StorageUnit<CommonPetabyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Petabyte contains.
-     * @return A new Petabyte unit with the given value.
+     * @return A new or cached Petabyte unit with the given value.
      */
     @NonNull
     public static CommonPetabyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new CommonPetabyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Petabyte contains.
-     * @return A new Petabyte unit with the given value.
+     * @return A new or cached Petabyte unit with the given value.
      */
     @NonNull
     public static CommonPetabyte valueOf(final long numberOfBytes) {
-        return new CommonPetabyte(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Petabyte contains.
-     * @return A new Petabyte unit with the given value.
+     * @return A new or cached Petabyte unit with the given value.
      */
     @NonNull
     public static CommonPetabyte valueOf(@NonNull final Long numberOfBytes) {
@@ -59,33 +70,13 @@ public final class CommonPetabyte extends StorageUnit<CommonPetabyte> {
     }
 
     @Override
-    public CommonPetabyte add(final long bytesToAdd) {
-        return new CommonPetabyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public CommonPetabyte add(final StorageUnit<?> storageAmount) {
-        return new CommonPetabyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public CommonPetabyte divide(final long divisor) {
-        return new CommonPetabyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public CommonPetabyte multiply(final long factor) {
-        return new CommonPetabyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public CommonPetabyte subtract(final long bytesToSubtract) {
-        return new CommonPetabyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected CommonPetabyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public CommonPetabyte subtract(final StorageUnit<?> storageAmount) {
-        return new CommonPetabyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected CommonPetabyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -25,6 +21,19 @@ public final class CommonTerabyte extends StorageUnit<CommonTerabyte> {
     /** Generated */
     private static final long serialVersionUID = 3614537130129620881L;
 
+    @NonNull
+    private static final UnitCache<CommonTerabyte> CACHE = new UnitCache<>(CommonTerabyte::new, CommonTerabyte::new);
+
+    /**
+     * One common terabyte.
+     */
+    @NonNull
+    public static final CommonTerabyte ONE = valueOf(StorageUnit.BYTES_IN_A_TEBIBYTE);
+
+    CommonTerabyte(final long bytes) {
+        super(bytes);
+    }
+
     CommonTerabyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -32,27 +41,29 @@ public final class CommonTerabyte extends StorageUnit<CommonTerabyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Terabyte contains.
-     * @return A new Terabyte unit with the given value.
+     * @return A new or cached Terabyte unit with the given value.
      */
     @NonNull
     public static CommonTerabyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new CommonTerabyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Terabyte contains.
-     * @return A new Terabyte unit with the given value.
+     * @return A new or cached Terabyte unit with the given value.
      */
     @NonNull
     public static CommonTerabyte valueOf(final long numberOfBytes) {
-        return new CommonTerabyte(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Terabyte contains.
-     * @return A new Terabyte unit with the given value.
+     * @return A new or cached Terabyte unit with the given value.
      */
     @NonNull
     public static CommonTerabyte valueOf(@NonNull final Long numberOfBytes) {
@@ -60,33 +71,13 @@ public final class CommonTerabyte extends StorageUnit<CommonTerabyte> {
     }
 
     @Override
-    public CommonTerabyte add(final long bytesToAdd) {
-        return new CommonTerabyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public CommonTerabyte add(final StorageUnit<?> storageAmount) {
-        return new CommonTerabyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public CommonTerabyte divide(final long divisor) {
-        return new CommonTerabyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public CommonTerabyte multiply(final long factor) {
-        return new CommonTerabyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public CommonTerabyte subtract(final long bytesToSubtract) {
-        return new CommonTerabyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected CommonTerabyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public CommonTerabyte subtract(final StorageUnit<?> storageAmount) {
-        return new CommonTerabyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected CommonTerabyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
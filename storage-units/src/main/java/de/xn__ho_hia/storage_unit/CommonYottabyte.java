@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -25,6 +21,19 @@ public final class CommonYottabyte extends StorageUnit<CommonYottabyte> {
     /** Generated */
     private static final long serialVersionUID = -5606322878020884194L;
 
+    @NonNull
+    private static final UnitCache<CommonYottabyte> CACHE = new UnitCache<>(CommonYottabyte::new, CommonYottabyte::new);
+
+    /**
+     * One common yottabyte.
+     */
+    @NonNull
+    public static final CommonYottabyte ONE = valueOf(StorageUnit.BYTES_IN_A_YOBIBYTE);
+
+    CommonYottabyte(final long bytes) {
+        super(bytes);
+    }
+
     CommonYottabyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -32,27 +41,29 @@ public final class CommonYottabyte extends StorageUnit<CommonYottabyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Yottabyte contains.
-     * @return A new Yottabyte unit with the given value.
+     * @return A new or cached Yottabyte unit with the given value.
      */
     @NonNull
     public static CommonYottabyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new CommonYottabyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Yottabyte contains.
-     * @return A new Yottabyte unit with the given value.
+     * @return A new or cached Yottabyte unit with the given value.
      */
     @NonNull
     public static CommonYottabyte valueOf(final long numberOfBytes) {
-        return new CommonYottabyte(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Yottabyte contains.
-     * @return A new Yottabyte unit with the given value.
+     * @return A new or cached Yottabyte unit with the given value.
      */
     @NonNull
     public static CommonYottabyte valueOf(@NonNull final Long numberOfBytes) {
@@ -60,33 +71,13 @@ public final class CommonYottabyte extends StorageUnit<CommonYottabyte> {
     }
 
     @Override
-    public CommonYottabyte add(final long bytesToAdd) {
-        return new CommonYottabyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public CommonYottabyte add(final StorageUnit<?> storageAmount) {
-        return new CommonYottabyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public CommonYottabyte divide(final long divisor) {
-        return new CommonYottabyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public CommonYottabyte multiply(final long factor) {
-        return new CommonYottabyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public CommonYottabyte subtract(final long bytesToSubtract) {
-        return new CommonYottabyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected CommonYottabyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public CommonYottabyte subtract(final StorageUnit<?> storageAmount) {
-        return new CommonYottabyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected CommonYottabyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
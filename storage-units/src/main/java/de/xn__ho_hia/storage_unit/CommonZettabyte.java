@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -24,6 +20,19 @@ public final class CommonZettabyte extends StorageUnit<CommonZettabyte> {
 
     private static final long serialVersionUID = 2192254824473341887L;
 
+    @NonNull
+    private static final UnitCache<CommonZettabyte> CACHE = new UnitCache<>(CommonZettabyte::new, CommonZettabyte::new);
+
+    /**
+     * One common zettabyte.
+     */
+    @NonNull
+    public static final CommonZettabyte ONE = valueOf(StorageUnit.BYTES_IN_A_ZEBIBYTE);
+
+    CommonZettabyte(final long bytes) {
+        super(bytes);
+    }
+
     CommonZettabyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -31,27 +40,29 @@ public final class CommonZettabyte extends StorageUnit<CommonZettabyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Zettabyte contains.
-     * @return A new Zettabyte unit with the given value.
+     * @return A new or cached Zettabyte unit with the given value.
      */
     @NonNull
     public static CommonZettabyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new CommonZettabyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Zettabyte contains.
-     * @return A new Zettabyte unit with the given value.
+     * @return A new or cached Zettabyte unit with the given value.
      */
     @NonNull
     public static CommonZettabyte valueOf(final long numberOfBytes) {
-        return new CommonZettabyte(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Zettabyte contains.
-     * @return A new Zettabyte unit with the given value.
+     * @return A new or cached Zettabyte unit with the given value.
      */
     @NonNull
     public static CommonZettabyte valueOf(@NonNull final Long numberOfBytes) {
@@ -59,33 +70,13 @@ public final class CommonZettabyte extends StorageUnit<CommonZettabyte> {
     }
 
     @Override
-    public CommonZettabyte add(final long bytesToAdd) {
-        return new CommonZettabyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public CommonZettabyte add(final StorageUnit<?> storageAmount) {
-        return new CommonZettabyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public CommonZettabyte divide(final long divisor) {
-        return new CommonZettabyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public CommonZettabyte multiply(final long factor) {
-        return new CommonZettabyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public CommonZettabyte subtract(final long bytesToSubtract) {
-        return new CommonZettabyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected CommonZettabyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public CommonZettabyte subtract(final StorageUnit<?> storageAmount) {
-        return new CommonZettabyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected CommonZettabyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -24,6 +20,19 @@ public class Exabyte extends StorageUnit<Exabyte> {
 
     private static final long serialVersionUID = 6846441733771841250L;
 
+    @NonNull
+    private static final UnitCache<Exabyte> CACHE = new UnitCache<>(Exabyte::new, Exabyte::new);
+
+    /**
+     * One exabyte.
+     */
+    @NonNull
+    public static final Exabyte ONE = valueOf(StorageUnit.BYTES_IN_A_EXABYTE);
+
+    Exabyte(final long bytes) {
+        super(bytes);
+    }
+
     Exabyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -31,27 +40,29 @@ public class Exabyte extends StorageUnit<Exabyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Exabyte contains.
-     * @return A new Exabyte unit with the given value.
+     * @return A new or cached Exabyte unit with the given value.
      */
     @NonNull
     public static Exabyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new Exabyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Exabyte contains.
-     * @return A new Exabyte unit with the given value.
+     * @return A new or cached Exabyte unit with the given value.
      */
     @NonNull
     public static Exabyte valueOf(final long numberOfBytes) {
-        return new Exabyte(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Exabyte contains.
-     * @return A new Exabyte unit with the given value.
+     * @return A new or cached Exabyte unit with the given value.
      */
     @NonNull
     public static Exabyte valueOf(@NonNull final Long numberOfBytes) {
@@ -59,33 +70,13 @@ public class Exabyte extends StorageUnit<Exabyte> {
     }
 
     @Override
-    public Exabyte add(final long bytesToAdd) {
-        return new Exabyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public Exabyte add(final StorageUnit<?> storageAmount) {
-        return new Exabyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public Exabyte divide(final long divisor) {
-        return new Exabyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public Exabyte multiply(final long factor) {
-        return new Exabyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public Exabyte subtract(final long bytesToSubtract) {
-        return new Exabyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected Exabyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public Exabyte subtract(final StorageUnit<?> storageAmount) {
-        return new Exabyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected Exabyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -24,6 +20,19 @@ public final class Exbibyte extends StorageUnit<Exbibyte> {
 
     private static final long serialVersionUID = 5993490571003918471L;
 
+    @NonNull
+    private static final UnitCache<Exbibyte> CACHE = new UnitCache<>(Exbibyte::new, Exbibyte::new);
+
+    /**
+     * One exbibyte.
+     */
+    @NonNull
+    public static final Exbibyte ONE = valueOf(StorageUnit.BYTES_IN_A_EXBIBYTE);
+
+    Exbibyte(final long bytes) {
+        super(bytes);
+    }
+
     Exbibyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -31,27 +40,29 @@ public final class Exbibyte extends StorageUnit<Exbibyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Exbibyte contains.
-     * @return A new Exbibyte unit with the given value.
+     * @return A new or cached Exbibyte unit with the given value.
      */
     @NonNull
     public static Exbibyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new Exbibyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Exbibyte contains.
-     * @return A new Exbibyte unit with the given value.
+     * @return A new or cached Exbibyte unit with the given value.
      */
     @NonNull
     public static Exbibyte valueOf(final long numberOfBytes) {
-        return new Exbibyte(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Exbibyte contains.
-     * @return A new Exbibyte unit with the given value.
+     * @return A new or cached Exbibyte unit with the given value.
      */
     @NonNull
     public static Exbibyte valueOf(@NonNull final Long numberOfBytes) {
@@ -59,33 +70,13 @@ public final class Exbibyte extends StorageUnit<Exbibyte> {
     }
 
     @Override
-    public Exbibyte add(final long bytesToAdd) {
-        return new Exbibyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public Exbibyte add(final StorageUnit<?> storageAmount) {
-        return new Exbibyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public Exbibyte divide(final long divisor) {
-        return new Exbibyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public Exbibyte multiply(final long factor) {
-        return new Exbibyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public Exbibyte subtract(final long bytesToSubtract) {
-        return new Exbibyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected Exbibyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public Exbibyte subtract(final StorageUnit<?> storageAmount) {
-        return new Exbibyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected Exbibyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
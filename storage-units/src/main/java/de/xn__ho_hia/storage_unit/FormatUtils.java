@@ -6,15 +6,41 @@
  */
 package de.xn__ho_hia.storage_unit;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 import java.text.Format;
 import java.text.NumberFormat;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNull;
 
+import de.xn__ho_hia.quality.null_analysis.Nullsafe;
+
 final class FormatUtils {
 
+    // Upper bound for the number of formats cached per locale, protects against patterns built at runtime
+    static final int MAXIMUM_CACHED_FORMATS = 256;
+
+    private static final ConcurrentMap<Locale, ConcurrentMap<String, ThreadLocal<DecimalFormat>>> FORMATS =
+            new ConcurrentHashMap<>();
+
+    private static final ConcurrentMap<Locale, char[]> SYMBOLS = new ConcurrentHashMap<>();
+
+    private static final int ZERO_DIGIT = 0;
+    private static final int DECIMAL_SEPARATOR = 1;
+    private static final int MINUS_SIGN = 2;
+
+    // Largest binary unit shift whose remainder times ten still fits into 64 unsigned bits
+    static final int MAXIMUM_PRIMITIVE_SHIFT = 60;
+
+    // Largest decimal unit whose number of bytes fits into a long
+    static final long MAXIMUM_PRIMITIVE_DIVISOR = 1_000_000_000_000_000_000L;
+
     private FormatUtils() {
         // Hidden constructor.
     }
@@ -27,4 +53,170 @@ final class FormatUtils {
         return outputFormat;
     }
 
+    /**
+     * Returns a {@link Format} of the calling thread for the given pattern and locale. The pattern is only compiled
+     * once, every thread formats with its own copy of it since {@link DecimalFormat} is not thread-safe.
+     */
+    @NonNull
+    static final Format cachedFormat(final String pattern, final Locale locale) {
+        return Nullsafe.nonNull(compiledFormat(pattern, locale).get());
+    }
+
+    /**
+     * Returns the compiled pattern for the given locale. Patterns are compiled only once as long as no more than
+     * {@link #MAXIMUM_CACHED_FORMATS} are in use per locale.
+     */
+    @NonNull
+    static final ThreadLocal<DecimalFormat> compiledFormat(final String pattern, final Locale locale) {
+        ConcurrentMap<String, ThreadLocal<DecimalFormat>> formats = FORMATS.get(locale);
+        if (formats == null) {
+            formats = cached(FORMATS, locale, key -> new ConcurrentHashMap<>());
+        }
+        final ThreadLocal<DecimalFormat> compiled = formats.get(pattern);
+        if (compiled != null) {
+            return compiled;
+        }
+        return cached(formats, pattern, key -> {
+            final DecimalFormat prototype = (DecimalFormat) asFormat(pattern, locale);
+            return ThreadLocal.withInitial(() -> (DecimalFormat) prototype.clone());
+        });
+    }
+
+    /**
+     * Looks up a cached value without locking and creates it on a miss. A cache which holds more than
+     * {@link #MAXIMUM_CACHED_FORMATS} values is cleared before inserting, which only happens for keys built at runtime.
+     */
+    @NonNull
+    static final <K, V> V cached(final ConcurrentMap<K, V> cache, final K key, final Function<K, V> factory) {
+        final V value = cache.get(key);
+        if (value != null) {
+            return value;
+        }
+        if (cache.size() >= MAXIMUM_CACHED_FORMATS) {
+            cache.clear();
+        }
+        final V created = factory.apply(key);
+        final V concurrent = cache.putIfAbsent(key, created);
+        return Nullsafe.nonNull(concurrent != null ? concurrent : created);
+    }
+
+    /*
+     * The following methods produce the same output as a DecimalFormat with the default pattern '0.00' applied to the
+     * quotient of a long amount of bytes and the bytes per unit, without creating any intermediate objects. The
+     * quotient is rounded half-even to two fraction digits, exactly like DecimalFormat does.
+     */
+
+    static final void appendBinaryAmount(final Appendable appendable, final long bytes, final int shift,
+            final Locale locale) throws IOException {
+        // the magnitude of Long.MIN_VALUE is treated as unsigned value from here on
+        final long magnitude = bytes < 0 ? -bytes : bytes;
+        final long mask = (1L << shift) - 1;
+        long integer = magnitude >>> shift;
+        long fraction = 0;
+        if (shift > 0) {
+            final long tenths = (magnitude & mask) * 10;
+            final long hundredths = (tenths & mask) * 10;
+            fraction = (tenths >>> shift) * 10 + (hundredths >>> shift);
+            final long remainder = hundredths & mask;
+            final long half = 1L << (shift - 1);
+            if (remainder > half || remainder == half && (fraction & 1) == 1) {
+                fraction++;
+            }
+        }
+        if (fraction == 100) {
+            integer++;
+            fraction = 0;
+        }
+        appendAmount(appendable, bytes < 0, integer, fraction, symbols(locale));
+    }
+
+    static final void appendDecimalAmount(final Appendable appendable, final long bytes, final long divisor,
+            final Locale locale) throws IOException {
+        // calculate with the negative amount since its range includes the magnitude of Long.MIN_VALUE
+        final long negative = bytes < 0 ? bytes : -bytes;
+        final long integer = -(negative / divisor);
+        final long remainder = -(negative % divisor);
+        final long hundredth = divisor / 100;
+        long fraction = remainder / hundredth;
+        final long rest = remainder % hundredth;
+        final long half = hundredth / 2;
+        if (rest > half || rest == half && (fraction & 1) == 1) {
+            fraction++;
+        }
+        if (fraction == 100) {
+            appendAmount(appendable, bytes < 0, integer + 1, 0, symbols(locale));
+        } else {
+            appendAmount(appendable, bytes < 0, integer, fraction, symbols(locale));
+        }
+    }
+
+    @NonNull
+    static final StringBuilder appendBinaryUnit(final StringBuilder builder, final long bytes, final int shift,
+            final String symbol) {
+        try {
+            appendBinaryAmount(builder, bytes, shift, Locale.getDefault(Locale.Category.FORMAT));
+        } catch (final IOException exception) {
+            // never thrown by StringBuilder
+            throw new UncheckedIOException(exception);
+        }
+        return Nullsafe.nonNull(builder.append(' ').append(symbol));
+    }
+
+    @NonNull
+    static final StringBuilder appendDecimalUnit(final StringBuilder builder, final long bytes, final long divisor,
+            final String symbol) {
+        try {
+            appendDecimalAmount(builder, bytes, divisor, Locale.getDefault(Locale.Category.FORMAT));
+        } catch (final IOException exception) {
+            // never thrown by StringBuilder
+            throw new UncheckedIOException(exception);
+        }
+        return Nullsafe.nonNull(builder.append(' ').append(symbol));
+    }
+
+    private static void appendAmount(final Appendable appendable, final boolean negative, final long integer,
+            final long fraction, final char[] symbols) throws IOException {
+        final char zero = symbols[ZERO_DIGIT];
+        if (negative) {
+            appendable.append(symbols[MINUS_SIGN]);
+        }
+        appendDigits(appendable, integer, zero);
+        appendable.append(symbols[DECIMAL_SEPARATOR]);
+        appendable.append((char) (zero + fraction / 10));
+        appendable.append((char) (zero + fraction % 10));
+    }
+
+    private static void appendDigits(final Appendable appendable, final long unsignedValue, final char zero)
+            throws IOException {
+        if (unsignedValue < 0) {
+            // only reached for the magnitude of Long.MIN_VALUE
+            final long quotient = (unsignedValue >>> 1) / 5;
+            appendDigits(appendable, quotient, zero);
+            appendable.append((char) (zero + (unsignedValue - quotient * 10)));
+            return;
+        }
+        long power = 1;
+        while (power <= unsignedValue / 10) {
+            power *= 10;
+        }
+        for (long value = unsignedValue; power > 0; power /= 10) {
+            appendable.append((char) (zero + value / power));
+            value %= power;
+        }
+    }
+
+    private static char[] symbols(final Locale locale) {
+        final char[] cached = SYMBOLS.get(locale);
+        if (cached != null) {
+            return cached;
+        }
+        final DecimalFormatSymbols formatSymbols = DecimalFormatSymbols.getInstance(locale);
+        final char[] symbols = new char[3];
+        symbols[ZERO_DIGIT] = formatSymbols.getZeroDigit();
+        symbols[DECIMAL_SEPARATOR] = formatSymbols.getDecimalSeparator();
+        symbols[MINUS_SIGN] = formatSymbols.getMinusSign();
+        SYMBOLS.putIfAbsent(locale, symbols);
+        return symbols;
+    }
+
 }
@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -24,6 +20,19 @@ public final class Gibibyte extends StorageUnit<Gibibyte> {
 
     private static final long serialVersionUID = -1104749948510944566L;
 
+    @NonNull
+    private static final UnitCache<Gibibyte> CACHE = new UnitCache<>(Gibibyte::new, Gibibyte::new);
+
+    /**
+     * One gibibyte.
+     */
+    @NonNull
+    public static final Gibibyte ONE = valueOf(StorageUnit.BYTES_IN_A_GIBIBYTE);
+
+    Gibibyte(final long bytes) {
+        super(bytes);
+    }
+
     Gibibyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -31,27 +40,29 @@ public final class Gibibyte extends StorageUnit<Gibibyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Gibibyte contains.
-     * @return A new Gibibyte unit with the given value.
+     * @return A new or cached Gibibyte unit with the given value.
      */
     @NonNull
     public static Gibibyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new Gibibyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Gibibyte contains.
-     * @return A new Gibibyte unit with the given value.
+     * @return A new or cached Gibibyte unit with the given value.
      */
     @NonNull
     public static Gibibyte valueOf(final long numberOfBytes) {
-        return new Gibibyte(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Gibibyte contains.
-     * @return A new Gibibyte unit with the given value.
+     * @return A new or cached Gibibyte unit with the given value.
      */
     @NonNull
     public static Gibibyte valueOf(@NonNull final Long numberOfBytes) {
@@ -59,33 +70,13 @@ public final class Gibibyte extends StorageUnit<Gibibyte> {
     }
 
     @Override
-    public Gibibyte add(final long bytesToAdd) {
-        return new Gibibyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public Gibibyte add(final StorageUnit<?> storageAmount) {
-        return new Gibibyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public Gibibyte divide(final long divisor) {
-        return new Gibibyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public Gibibyte multiply(final long factor) {
-        return new Gibibyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public Gibibyte subtract(final long bytesToSubtract) {
-        return new Gibibyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected Gibibyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public Gibibyte subtract(final StorageUnit<?> storageAmount) {
-        return new Gibibyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected Gibibyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -24,6 +20,19 @@ public class Gigabyte extends StorageUnit<Gigabyte> {
 
     private static final long serialVersionUID = 7581075190529125530L;
 
+    @NonNull
+    private static final UnitCache<Gigabyte> CACHE = new UnitCache<>(Gigabyte::new, Gigabyte::new);
+
+    /**
+     * One gigabyte.
+     */
+    @NonNull
+    public static final Gigabyte ONE = valueOf(StorageUnit.BYTES_IN_A_GIGABYTE);
+
+    Gigabyte(final long bytes) {
+        super(bytes);
+    }
+
     Gigabyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -31,27 +40,29 @@ public class Gigabyte extends StorageUnit<Gigabyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Gigabyte contains.
-     * @return A new Gigabyte unit with the given value.
+     * @return A new or cached Gigabyte unit with the given value.
      */
     @NonNull
     public static Gigabyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new Gigabyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Gigabyte contains.
-     * @return A new Gigabyte unit with the given value.
+     * @return A new or cached Gigabyte unit with the given value.
      */
     @NonNull
     public static Gigabyte valueOf(final long numberOfBytes) {
-        return new Gigabyte(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Gigabyte contains.
-     * @return A new Gigabyte unit with the given value.
+     * @return A new or cached Gigabyte unit with the given value.
      */
     @NonNull
     public static Gigabyte valueOf(@NonNull final Long numberOfBytes) {
@@ -59,33 +70,13 @@ public class Gigabyte extends StorageUnit<Gigabyte> {
     }
 
     @Override
-    public Gigabyte add(final long bytesToAdd) {
-        return new Gigabyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public Gigabyte add(final StorageUnit<?> storageAmount) {
-        return new Gigabyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public Gigabyte divide(final long divisor) {
-        return new Gigabyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public Gigabyte multiply(final long factor) {
-        return new Gigabyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public Gigabyte subtract(final long bytesToSubtract) {
-        return new Gigabyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected Gigabyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public Gigabyte subtract(final StorageUnit<?> storageAmount) {
-        return new Gigabyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected Gigabyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
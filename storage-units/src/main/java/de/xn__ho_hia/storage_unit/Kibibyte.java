@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -24,6 +20,19 @@ public final class Kibibyte extends StorageUnit<Kibibyte> {
 
     private static final long serialVersionUID = 3798828851496657978L;
 
+    @NonNull
+    private static final UnitCache<Kibibyte> CACHE = new UnitCache<>(Kibibyte::new, Kibibyte::new);
+
+    /**
+     * One kibibyte.
+     */
+    @NonNull
+    public static final Kibibyte ONE = valueOf(StorageUnit.BYTES_IN_A_KIBIBYTE);
+
+    Kibibyte(final long bytes) {
+        super(bytes);
+    }
+
     Kibibyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -31,27 +40,29 @@ public final class Kibibyte extends StorageUnit<Kibibyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Kibibyte contains.
-     * @return A new Kibibyte unit with the given value.
+     * @return A new or cached Kibibyte unit with the given value.
      */
     @NonNull
     public static Kibibyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new Kibibyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Kibibyte contains.
-     * @return A new Kibibyte unit with the given value.
+     * @return A new or cached Kibibyte unit with the given value.
      */
     @NonNull
     public static Kibibyte valueOf(final long numberOfBytes) {
-        return valueOf(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Kibibyte contains.
-     * @return A new Kibibyte unit with the given value.
+     * @return A new or cached Kibibyte unit with the given value.
      */
     @NonNull
     public static Kibibyte valueOf(@NonNull final Long numberOfBytes) {
@@ -59,33 +70,13 @@ public final class Kibibyte extends StorageUnit<Kibibyte> {
     }
 
     @Override
-    public Kibibyte add(final long bytesToAdd) {
-        return new Kibibyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public Kibibyte add(final StorageUnit<?> storageAmount) {
-        return new Kibibyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public Kibibyte divide(final long divisor) {
-        return new Kibibyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public Kibibyte multiply(final long factor) {
-        return new Kibibyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public Kibibyte subtract(final long bytesToSubtract) {
-        return new Kibibyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected Kibibyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public Kibibyte subtract(final StorageUnit<?> storageAmount) {
-        return new Kibibyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected Kibibyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -24,6 +20,19 @@ public class Kilobyte extends StorageUnit<Kilobyte> {
 
     private static final long serialVersionUID = 6952239416014811456L;
 
+    @NonNull
+    private static final UnitCache<Kilobyte> CACHE = new UnitCache<>(Kilobyte::new, Kilobyte::new);
+
+    /**
+     * One kilobyte.
+     */
+    @NonNull
+    public static final Kilobyte ONE = valueOf(StorageUnit.BYTES_IN_A_KILOBYTE);
+
+    Kilobyte(final long numberOfBytes) {
+        super(numberOfBytes);
+    }
+
     Kilobyte(@NonNull final BigInteger numberOfBytes) {
         super(numberOfBytes);
     }
@@ -31,27 +40,29 @@ public class Kilobyte extends StorageUnit<Kilobyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Kilobyte contains.
-     * @return A new Kilobyte unit with the given value.
+     * @return A new or cached Kilobyte unit with the given value.
      */
     @NonNull
     public static Kilobyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new Kilobyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Kilobyte contains.
-     * @return A new Kilobyte unit with the given value.
+     * @return A new or cached Kilobyte unit with the given value.
      */
     @NonNull
     public static Kilobyte valueOf(final long numberOfBytes) {
-        return valueOf(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Kilobyte contains.
-     * @return A new Kilobyte unit with the given value.
+     * @return A new or cached Kilobyte unit with the given value.
      */
     @NonNull
     public static Kilobyte valueOf(@NonNull final Long numberOfBytes) {
@@ -59,33 +70,13 @@ public class Kilobyte extends StorageUnit<Kilobyte> {
     }
 
     @Override
-    public Kilobyte add(final long bytesToAdd) {
-        return new Kilobyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public Kilobyte add(final StorageUnit<?> storageAmount) {
-        return new Kilobyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public Kilobyte divide(final long divisor) {
-        return new Kilobyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public Kilobyte multiply(final long factor) {
-        return new Kilobyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public Kilobyte subtract(final long bytesToSubtract) {
-        return new Kilobyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected Kilobyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public Kilobyte subtract(final StorageUnit<?> storageAmount) {
-        return new Kilobyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected Kilobyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -25,6 +21,19 @@ public final class Mebibyte extends StorageUnit<Mebibyte> {
     /** Generated */
     private static final long serialVersionUID = 7697583678146919524L;
 
+    @NonNull
+    private static final UnitCache<Mebibyte> CACHE = new UnitCache<>(Mebibyte::new, Mebibyte::new);
+
+    /**
+     * One mebibyte.
+     */
+    @NonNull
+    public static final Mebibyte ONE = valueOf(StorageUnit.BYTES_IN_A_MEBIBYTE);
+
+    Mebibyte(final long bytes) {
+        super(bytes);
+    }
+
     Mebibyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -32,27 +41,29 @@ public final class Mebibyte extends StorageUnit<Mebibyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Mebibyte contains.
-     * @return A new Mebibyte unit with the given value.
+     * @return A new or cached Mebibyte unit with the given value.
      */
     @NonNull
     public static Mebibyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new Mebibyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Mebibyte contains.
-     * @return A new Mebibyte unit with the given value.
+     * @return A new or cached Mebibyte unit with the given value.
      */
     @NonNull
     public static Mebibyte valueOf(final long numberOfBytes) {
-        return new Mebibyte(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Mebibyte contains.
-     * @return A new Mebibyte unit with the given value.
+     * @return A new or cached Mebibyte unit with the given value.
      */
     @NonNull
     public static Mebibyte valueOf(@NonNull final Long numberOfBytes) {
@@ -60,33 +71,13 @@ public final class Mebibyte extends StorageUnit<Mebibyte> {
     }
 
     @Override
-    public Mebibyte add(final long bytesToAdd) {
-        return new Mebibyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public Mebibyte add(final StorageUnit<?> storageAmount) {
-        return new Mebibyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public Mebibyte divide(final long divisor) {
-        return new Mebibyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public Mebibyte multiply(final long factor) {
-        return new Mebibyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public Mebibyte subtract(final long bytesToSubtract) {
-        return new Mebibyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected Mebibyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public Mebibyte subtract(final StorageUnit<?> storageAmount) {
-        return new Mebibyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected Mebibyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -24,6 +20,19 @@ public class Megabyte extends StorageUnit<Megabyte> {
 
     private static final long serialVersionUID = 5901923092058760111L;
 
+    @NonNull
+    private static final UnitCache<Megabyte> CACHE = new UnitCache<>(Megabyte::new, Megabyte::new);
+
+    /**
+     * One megabyte.
+     */
+    @NonNull
+    public static final Megabyte ONE = valueOf(StorageUnit.BYTES_IN_A_MEGABYTE);
+
+    Megabyte(final long bytes) {
+        super(bytes);
+    }
+
     Megabyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -31,27 +40,29 @@ public class Megabyte extends StorageUnit<Megabyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Megabyte contains.
-     * @return A new Megabyte unit with the given value.
+     * @return A new or cached Megabyte unit with the given value.
      */
     @NonNull
     public static Megabyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new Megabyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Megabyte contains.
-     * @return A new Megabyte unit with the given value.
+     * @return A new or cached Megabyte unit with the given value.
      */
     @NonNull
     public static Megabyte valueOf(final long numberOfBytes) {
-        return new Megabyte(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Megabyte contains.
-     * @return A new Megabyte unit with the given value.
+     * @return A new or cached Megabyte unit with the given value.
      */
     @NonNull
     public static Megabyte valueOf(@NonNull final Long numberOfBytes) {
@@ -59,33 +70,13 @@ public class Megabyte extends StorageUnit<Megabyte> {
     }
 
     @Override
-    public Megabyte add(final long bytesToAdd) {
-        return new Megabyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public Megabyte add(final StorageUnit<?> storageAmount) {
-        return new Megabyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public Megabyte divide(final long divisor) {
-        return new Megabyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public Megabyte multiply(final long factor) {
-        return new Megabyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public Megabyte subtract(final long bytesToSubtract) {
-        return new Megabyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected Megabyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public Megabyte subtract(final StorageUnit<?> storageAmount) {
-        return new Megabyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected Megabyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
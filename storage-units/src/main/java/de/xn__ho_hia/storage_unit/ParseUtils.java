@@ -0,0 +1,315 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import static de.xn__ho_hia.storage_unit.StorageUnitType.BINARY_TYPES;
+import static de.xn__ho_hia.storage_unit.StorageUnitType.DECIMAL_TYPES;
+import static de.xn__ho_hia.storage_unit.StorageUnitType.POWERS_OF_TEN;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+import de.xn__ho_hia.quality.null_analysis.Nullsafe;
+
+/**
+ * Single pass parser for formatted storage units. The unit symbol is read backwards from the end of the input, the
+ * amount is accumulated into a <code>long</code> afterwards. Only amounts with more than 18 significant digits or
+ * results outside of the <code>long</code> range fall back to {@link BigDecimal} arithmetic.
+ */
+final class ParseUtils {
+
+    private static final long[] POWERS_OF_FIVE = new long[POWERS_OF_TEN.length];
+
+    static {
+        POWERS_OF_FIVE[0] = 1;
+        for (int exponent = 1; exponent < POWERS_OF_FIVE.length; exponent++) {
+            POWERS_OF_FIVE[exponent] = POWERS_OF_FIVE[exponent - 1] * 5;
+        }
+    }
+
+    // Number of significant digits that always fit into a long
+    private static final int MAXIMUM_PRIMITIVE_DIGITS = 18;
+
+    // Marks amounts which have to be calculated with BigDecimal, never a result of the primitive calculation
+    private static final long SLOW_PATH = Long.MIN_VALUE;
+
+    private ParseUtils() {
+        // Hidden constructor.
+    }
+
+    @NonNull
+    static StorageUnit<?> parse(@NonNull final CharSequence text, @NonNull final StorageUnitParseMode mode) {
+        final boolean lenient = mode == StorageUnitParseMode.LENIENT;
+        final int start = lenient ? skipLeadingWhitespace(text) : 0;
+        final int end = lenient ? skipTrailingWhitespace(text, start) : text.length();
+        final int symbolStart = symbolStart(text, start, end);
+        final StorageUnitType type = type(text, symbolStart, end, lenient);
+        final int amountEnd = amountEnd(text, start, symbolStart, lenient);
+        final long bytes = bytes(text, start, amountEnd, type, lenient);
+        if (bytes != SLOW_PATH) {
+            return type.ofBytes(bytes);
+        }
+        return type.ofBytes(exactBytes(text, start, amountEnd, type));
+    }
+
+    static long parseBytes(@NonNull final CharSequence text, @NonNull final StorageUnitParseMode mode) {
+        final boolean lenient = mode == StorageUnitParseMode.LENIENT;
+        final int start = lenient ? skipLeadingWhitespace(text) : 0;
+        final int end = lenient ? skipTrailingWhitespace(text, start) : text.length();
+        final int symbolStart = symbolStart(text, start, end);
+        final StorageUnitType type = type(text, symbolStart, end, lenient);
+        final int amountEnd = amountEnd(text, start, symbolStart, lenient);
+        final long bytes = bytes(text, start, amountEnd, type, lenient);
+        if (bytes != SLOW_PATH) {
+            return bytes;
+        }
+        final BigInteger exactBytes = exactBytes(text, start, amountEnd, type);
+        if (exactBytes.bitLength() >= Long.SIZE) {
+            throw new NumberFormatException("Value out of range of long: \"" + text + "\""); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        return exactBytes.longValue();
+    }
+
+    private static int skipLeadingWhitespace(final CharSequence text) {
+        int index = 0;
+        while (index < text.length() && Character.isWhitespace(text.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int skipTrailingWhitespace(final CharSequence text, final int start) {
+        int index = text.length();
+        while (index > start && Character.isWhitespace(text.charAt(index - 1))) {
+            index--;
+        }
+        return index;
+    }
+
+    private static int symbolStart(final CharSequence text, final int start, final int end) {
+        int index = end;
+        while (index > start && isLetter(text.charAt(index - 1))) {
+            index--;
+        }
+        return index;
+    }
+
+    private static int amountEnd(final CharSequence text, final int start, final int symbolStart,
+            final boolean lenient) {
+        int index = symbolStart;
+        if (lenient) {
+            while (index > start && Character.isWhitespace(text.charAt(index - 1))) {
+                index--;
+            }
+        } else if (index > start && text.charAt(index - 1) == ' ') {
+            index--;
+        }
+        return index;
+    }
+
+    private static StorageUnitType type(final CharSequence text, final int start, final int end,
+            final boolean lenient) {
+        final int length = end - start;
+        if (length == 0) {
+            if (lenient) {
+                return StorageUnitType.BYTE;
+            }
+            throw invalid(text);
+        }
+        final char first = text.charAt(start);
+        if (length == 1 && (first == 'B' || lenient && first == 'b')) {
+            return StorageUnitType.BYTE;
+        }
+        final int index = prefixIndex(lenient ? Character.toUpperCase(first) : first);
+        if (index == 0) {
+            if (lenient && isByteWord(text, start, end)) {
+                return StorageUnitType.BYTE;
+            }
+            throw invalid(text);
+        }
+        if (lenient) {
+            return lenientType(text, start + 1, end, index);
+        }
+        if (length == 2 && text.charAt(start + 1) == 'B' && first != 'K') {
+            return DECIMAL_TYPES[index];
+        }
+        if (length == 3 && text.charAt(start + 1) == 'i' && text.charAt(start + 2) == 'B' && first != 'k') {
+            return BINARY_TYPES[index];
+        }
+        throw invalid(text);
+    }
+
+    private static StorageUnitType lenientType(final CharSequence text, final int start, final int end,
+            final int index) {
+        int position = start;
+        boolean binary = false;
+        if (position < end && Character.toLowerCase(text.charAt(position)) == 'i') {
+            binary = true;
+            position++;
+        }
+        if (position < end && Character.toLowerCase(text.charAt(position)) == 'b') {
+            position++;
+        }
+        if (position != end) {
+            throw invalid(text);
+        }
+        return binary ? BINARY_TYPES[index] : DECIMAL_TYPES[index];
+    }
+
+    private static int prefixIndex(final char prefix) {
+        switch (prefix) {
+            case 'k':
+            case 'K':
+                return 1;
+            case 'M':
+                return 2;
+            case 'G':
+                return 3;
+            case 'T':
+                return 4;
+            case 'P':
+                return 5;
+            case 'E':
+                return 6;
+            case 'Z':
+                return 7;
+            case 'Y':
+                return 8;
+            default:
+                return 0;
+        }
+    }
+
+    private static boolean isByteWord(final CharSequence text, final int start, final int end) {
+        final int length = end - start;
+        if (length != 4 && length != 5) {
+            return false;
+        }
+        final String word = "bytes"; //$NON-NLS-1$
+        for (int index = 0; index < length; index++) {
+            if (Character.toLowerCase(text.charAt(start + index)) != word.charAt(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetter(final char character) {
+        return character >= 'a' && character <= 'z' || character >= 'A' && character <= 'Z';
+    }
+
+    /**
+     * Calculates the amount of bytes within the given range with primitive arithmetic.
+     *
+     * @return The amount of bytes or {@link #SLOW_PATH} in case the amount does not fit into a <code>long</code>.
+     */
+    private static long bytes(final CharSequence text, final int start, final int end, final StorageUnitType type,
+            final boolean lenient) {
+        int index = start;
+        boolean negative = false;
+        if (index < end) {
+            final char sign = text.charAt(index);
+            if (sign == '-') {
+                negative = true;
+                index++;
+            } else if (sign == '+' && lenient) {
+                index++;
+            }
+        }
+        long mantissa = 0;
+        int significantDigits = 0;
+        int integerDigits = 0;
+        int fractionDigits = 0;
+        boolean fraction = false;
+        for (; index < end; index++) {
+            final char character = text.charAt(index);
+            if (character >= '0' && character <= '9') {
+                if (mantissa != 0 || character != '0') {
+                    significantDigits++;
+                }
+                if (significantDigits <= MAXIMUM_PRIMITIVE_DIGITS) {
+                    mantissa = mantissa * 10 + (character - '0');
+                }
+                if (fraction) {
+                    fractionDigits++;
+                } else {
+                    integerDigits++;
+                }
+            } else if (character == '.' && !fraction) {
+                fraction = true;
+            } else {
+                throw invalid(text);
+            }
+        }
+        if (integerDigits + fractionDigits == 0
+                || !lenient && (integerDigits == 0 || fraction && fractionDigits == 0)) {
+            throw invalid(text);
+        }
+        if (significantDigits > MAXIMUM_PRIMITIVE_DIGITS || fractionDigits > MAXIMUM_PRIMITIVE_DIGITS) {
+            return SLOW_PATH;
+        }
+        final long magnitude = type.radix() == 10 ? scaleDecimal(mantissa, fractionDigits, type.exponent())
+                : scaleBinary(mantissa, fractionDigits, type.exponent());
+        if (magnitude == SLOW_PATH) {
+            return SLOW_PATH;
+        }
+        return negative ? -magnitude : magnitude;
+    }
+
+    private static long scaleDecimal(final long mantissa, final int fractionDigits, final int exponent) {
+        if (exponent < fractionDigits) {
+            return divideRounded(mantissa, POWERS_OF_TEN[fractionDigits - exponent]);
+        }
+        final int difference = exponent - fractionDigits;
+        if (difference >= POWERS_OF_TEN.length) {
+            return mantissa == 0 ? 0 : SLOW_PATH;
+        }
+        final long factor = POWERS_OF_TEN[difference];
+        if (mantissa > Long.MAX_VALUE / factor) {
+            return SLOW_PATH;
+        }
+        return mantissa * factor;
+    }
+
+    private static long scaleBinary(final long mantissa, final int fractionDigits, final int exponent) {
+        // mantissa * 2^exponent / 10^fractionDigits = mantissa * 2^(exponent - fractionDigits) / 5^fractionDigits
+        if (exponent < fractionDigits) {
+            return divideRounded(mantissa, POWERS_OF_FIVE[fractionDigits] << fractionDigits - exponent);
+        }
+        final int shift = exponent - fractionDigits;
+        if (mantissa == 0) {
+            return 0;
+        }
+        if (shift >= Long.SIZE - 1 || mantissa > Long.MAX_VALUE >> shift) {
+            return SLOW_PATH;
+        }
+        return divideRounded(mantissa << shift, POWERS_OF_FIVE[fractionDigits]);
+    }
+
+    private static long divideRounded(final long dividend, final long divisor) {
+        final long quotient = dividend / divisor;
+        final long remainder = dividend - quotient * divisor;
+        return remainder >= divisor - remainder ? quotient + 1 : quotient;
+    }
+
+    @NonNull
+    private static BigInteger exactBytes(final CharSequence text, final int start, final int end,
+            final StorageUnitType type) {
+        final BigDecimal amount = new BigDecimal(text.subSequence(start, end).toString());
+        return Nullsafe.nonNull(amount.multiply(new BigDecimal(type.getNumberOfBytes()))
+                .setScale(0, RoundingMode.HALF_UP)
+                .toBigInteger());
+    }
+
+    private static NumberFormatException invalid(final CharSequence text) {
+        return new NumberFormatException("Cannot parse storage unit: \"" + text + "\""); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+}
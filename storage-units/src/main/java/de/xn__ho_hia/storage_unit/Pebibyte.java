@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -24,6 +20,19 @@ public final class Pebibyte extends StorageUnit<Pebibyte> {
 
     private static final long serialVersionUID = -6112472064345339882L;
 
+    @NonNull
+    private static final UnitCache<Pebibyte> CACHE = new UnitCache<>(Pebibyte::new, Pebibyte::new);
+
+    /**
+     * One pebibyte.
+     */
+    @NonNull
+    public static final Pebibyte ONE = valueOf(StorageUnit.BYTES_IN_A_PEBIBYTE);
+
+    Pebibyte(final long bytes) {
+        super(bytes);
+    }
+
     Pebibyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -31,27 +40,29 @@ public final class Pebibyte extends StorageUnit<Pebibyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Pebibyte contains.
-     * @return A new Pebibyte unit with the given value.
+     * @return A new or cached Pebibyte unit with the given value.
      */
     @NonNull
     public static Pebibyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new Pebibyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Pebibyte contains.
-     * @return A new Pebibyte unit with the given value.
+     * @return A new or cached Pebibyte unit with the given value.
      */
     @NonNull
     public static Pebibyte valueOf(final long numberOfBytes) {
-        return new Pebibyte(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Pebibyte contains.
-     * @return A new Pebibyte unit with the given value.
+     * @return A new or cached Pebibyte unit with the given value.
      */
     @NonNull
     public static Pebibyte valueOf(@NonNull final Long numberOfBytes) {
@@ -59,33 +70,13 @@ public final class Pebibyte extends StorageUnit<Pebibyte> {
     }
 
     @Override
-    public Pebibyte add(final long bytesToAdd) {
-        return new Pebibyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public Pebibyte add(final StorageUnit<?> storageAmount) {
-        return new Pebibyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public Pebibyte divide(final long divisor) {
-        return new Pebibyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public Pebibyte multiply(final long factor) {
-        return new Pebibyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public Pebibyte subtract(final long bytesToSubtract) {
-        return new Pebibyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected Pebibyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public Pebibyte subtract(final StorageUnit<?> storageAmount) {
-        return new Pebibyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected Pebibyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -24,6 +20,19 @@ public class Petabyte extends StorageUnit<Petabyte> {
 
     private static final long serialVersionUID = 5889808368085688387L;
 
+    @NonNull
+    private static final UnitCache<Petabyte> CACHE = new UnitCache<>(Petabyte::new, Petabyte::new);
+
+    /**
+     * One petabyte.
+     */
+    @NonNull
+    public static final Petabyte ONE = valueOf(StorageUnit.BYTES_IN_A_PETABYTE);
+
+    Petabyte(final long bytes) {
+        super(bytes);
+    }
+
     Petabyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -31,27 +40,29 @@ public class Petabyte extends StorageUnit<Petabyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Petabyte contains.
-     * @return A new Petabyte unit with the given value.
+     * @return A new or cached Petabyte unit with the given value.
      */
     @NonNull
     public static Petabyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new Petabyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Petabyte contains.
-     * @return A new Petabyte unit with the given value.
+     * @return A new or cached Petabyte unit with the given value.
      */
     @NonNull
     public static Petabyte valueOf(final long numberOfBytes) {
-        return new Petabyte(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Petabyte contains.
-     * @return A new Petabyte unit with the given value.
+     * @return A new or cached Petabyte unit with the given value.
      */
     @NonNull
     public static Petabyte valueOf(@NonNull final Long numberOfBytes) {
@@ -59,33 +70,13 @@ public class Petabyte extends StorageUnit<Petabyte> {
     }
 
     @Override
-    public Petabyte add(final long bytesToAdd) {
-        return new Petabyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public Petabyte add(final StorageUnit<?> storageAmount) {
-        return new Petabyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public Petabyte divide(final long divisor) {
-        return new Petabyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public Petabyte multiply(final long factor) {
-        return new Petabyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public Petabyte subtract(final long bytesToSubtract) {
-        return new Petabyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected Petabyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public Petabyte subtract(final StorageUnit<?> storageAmount) {
-        return new Petabyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected Petabyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
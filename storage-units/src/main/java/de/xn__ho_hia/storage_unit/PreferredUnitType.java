@@ -0,0 +1,64 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
+
+import java.math.BigInteger;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * The preferred family of storage units to create from amounts of bytes read from external sources, e.g. a database
+ * column or a JSON document.
+ */
+public enum PreferredUnitType {
+
+    /** Creates binary units, e.g. {@link Kibibyte}. */
+    BINARY(StorageUnits::binaryValueOf, StorageUnits::binaryValueOf),
+
+    /** Creates common units, e.g. {@link CommonKilobyte}. */
+    COMMON(StorageUnits::commonValueOf, StorageUnits::commonValueOf),
+
+    /** Creates decimal units, e.g. {@link Kilobyte}. */
+    DECIMAL(StorageUnits::decimalValueOf, StorageUnits::decimalValueOf);
+
+    private final LongFunction<StorageUnit<?>> longFactory;
+    private final Function<@NonNull BigInteger, StorageUnit<?>> bigFactory;
+
+    private PreferredUnitType(final LongFunction<StorageUnit<?>> longFactory,
+            final Function<@NonNull BigInteger, StorageUnit<?>> bigFactory) {
+        this.longFactory = longFactory;
+        this.bigFactory = bigFactory;
+    }
+
+    /**
+     * @param bytes
+     *            The amount of bytes.
+     * @return The best-matching unit of this family for the given amount of bytes.
+     */
+    @NonNull
+    public StorageUnit<?> valueOf(final long bytes) {
+        return nonNull(this.longFactory.apply(bytes));
+    }
+
+    /**
+     * @param bytes
+     *            The amount of bytes.
+     * @return The best-matching unit of this family for the given amount of bytes.
+     */
+    @NonNull
+    public StorageUnit<?> valueOf(@NonNull final BigInteger bytes) {
+        if (bytes.bitLength() < Long.SIZE) {
+            return valueOf(bytes.longValue());
+        }
+        return nonNull(this.bigFactory.apply(bytes));
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Serialization proxy of all storage units. Writes units in the compact form of the
+ * {@link StorageUnitBinaryCodec#TAGGED tagged} binary codec instead of their fields and resolves back into the exact
+ * unit on deserialization.
+ */
+final class SerializedStorageUnit implements Externalizable {
+
+    private static final long serialVersionUID = 4259178301485377342L;
+
+    @Nullable
+    private StorageUnit<?> unit;
+
+    /**
+     * Required by {@link Externalizable}.
+     */
+    public SerializedStorageUnit() {
+        this.unit = null;
+    }
+
+    SerializedStorageUnit(final StorageUnit<?> unit) {
+        this.unit = unit;
+    }
+
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        final StorageUnit<?> value = this.unit;
+        if (value == null) {
+            throw new IllegalStateException("Proxy without unit"); //$NON-NLS-1$
+        }
+        StorageUnitBinaryCodec.TAGGED.encode(value, out);
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException {
+        try {
+            this.unit = StorageUnitBinaryCodec.TAGGED.decode(in);
+        } catch (final IllegalArgumentException exception) {
+            final InvalidObjectException invalid = new InvalidObjectException(exception.getMessage());
+            invalid.initCause(exception);
+            throw invalid;
+        }
+    }
+
+    private Object readResolve() throws InvalidObjectException {
+        final StorageUnit<?> value = this.unit;
+        if (value == null) {
+            throw new InvalidObjectException("Proxy without unit"); //$NON-NLS-1$
+        }
+        return value;
+    }
+
+}
@@ -6,18 +6,26 @@
  */
 package de.xn__ho_hia.storage_unit;
 
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
 import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
 import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.storage_unit.FormatUtils.asFormat;
-
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.storage_unit.FormatUtils.cachedFormat;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamField;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
-import java.text.DecimalFormat;
 import java.text.Format;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
@@ -27,6 +35,9 @@ import de.xn__ho_hia.quality.null_analysis.Nullsafe;
 /**
  * Abstract base class for all storage units. Provides common functionality for unit conversion, hashCode(), equals(),
  * compareTo(), toString(), doubleValue(), floatValue(), intValue() and longValue().
+ * <p>
+ * Amounts that fit into a <code>long</code> are stored as such and all arithmetic and comparisons on them are done
+ * with primitives. Only amounts outside of the <code>long</code> range are backed by a {@link BigInteger}.
  *
  * @param <T>
  *            The type of this storage unit.
@@ -35,8 +46,29 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
 
     private static final long serialVersionUID = -7344790980741118949L;
 
+    /**
+     * The serialized form of previous versions, which stored the amount of bytes in a single {@link BigInteger}.
+     */
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("bytes", BigInteger.class) //$NON-NLS-1$
+    };
+
     private static final int DEFAULT_SCALE = 24;
 
+    private static final int DEFAULT_BUILDER_CAPACITY = 16;
+
+    @NonNull
+    private static final BigInteger FIVE_TO_THE_DEFAULT_SCALE = Nullsafe
+            .nonNull(BigInteger.valueOf(5).pow(DEFAULT_SCALE));
+
+    private static final BigInteger[] POWERS_OF_TEN = new BigInteger[DEFAULT_SCALE + 1];
+
+    static {
+        for (int exponent = 0; exponent <= DEFAULT_SCALE; exponent++) {
+            POWERS_OF_TEN[exponent] = BigInteger.TEN.pow(exponent);
+        }
+    }
+
     /**
      * Default number format used within the library.
      */
@@ -119,11 +151,75 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
     static final BigInteger BYTES_IN_A_YOTTABYTE = multiplyNullsafe(StorageUnit.BYTES_IN_A_ZETTABYTE,
             StorageUnit.DECIMAL_UNIT_BASE);
 
-    @NonNull
-    protected final BigInteger bytes;
+    /**
+     * The amount of bytes in case {@link #bigBytes} is <code>null</code>, otherwise its low-order 64 bits.
+     */
+    final long bytes;
 
-    protected StorageUnit(@NonNull final BigInteger bytes) {
+    /**
+     * The amount of bytes in case it does not fit into a <code>long</code>, otherwise <code>null</code>.
+     */
+    @Nullable
+    final BigInteger bigBytes;
+
+    /**
+     * The amount of bytes read from a stream of a previous version, only set until {@link #readResolve()}.
+     */
+    @Nullable
+    private transient BigInteger legacyBytes;
+
+    protected StorageUnit(final long bytes) {
         this.bytes = bytes;
+        this.bigBytes = null;
+    }
+
+    protected StorageUnit(@NonNull final BigInteger bytes) {
+        this.bytes = bytes.longValue();
+        this.bigBytes = bytes.bitLength() < Long.SIZE ? null : bytes;
+    }
+
+    /**
+     * Serializes units in the compact form of the {@link StorageUnitBinaryCodec} instead of their fields. Streams
+     * written by previous versions are read by {@link #readObject(ObjectInputStream)}.
+     *
+     * @return The serialization proxy of this unit.
+     */
+    final Object writeReplace() {
+        return new SerializedStorageUnit(this);
+    }
+
+    /**
+     * Reads units written by previous versions, which serialized the amount of bytes as a {@link BigInteger} field
+     * named <code>bytes</code>.
+     *
+     * @param in
+     *            The stream to read from.
+     * @throws IOException
+     *             In case the stream cannot be read or does not contain an amount of bytes.
+     * @throws ClassNotFoundException
+     *             In case a class of the stream cannot be found.
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        final Object amount = in.readFields().get("bytes", null); //$NON-NLS-1$
+        if (!(amount instanceof BigInteger)) {
+            throw new InvalidObjectException("Missing amount of bytes"); //$NON-NLS-1$
+        }
+        this.legacyBytes = (BigInteger) amount;
+    }
+
+    /**
+     * Replaces units read by {@link #readObject(ObjectInputStream)} with units created by the regular factories.
+     *
+     * @return The unit holding the amount of bytes of a previous version.
+     * @throws InvalidObjectException
+     *             In case the unit was not read from a stream of a previous version.
+     */
+    final Object readResolve() throws InvalidObjectException {
+        final BigInteger amount = this.legacyBytes;
+        if (amount == null) {
+            throw new InvalidObjectException("Missing amount of bytes"); //$NON-NLS-1$
+        }
+        return create(amount);
     }
 
     /**
@@ -131,7 +227,8 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final StorageUnit<?> asBestMatchingBinaryUnit() {
-        return StorageUnits.binaryValueOf(this.bytes);
+        final BigInteger big = this.bigBytes;
+        return big != null ? StorageUnits.binaryValueOf(big) : StorageUnits.binaryValueOf(this.bytes);
     }
 
     /**
@@ -139,7 +236,8 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final StorageUnit<?> asBestMatchingDecimalUnit() {
-        return StorageUnits.decimalValueOf(this.bytes);
+        final BigInteger big = this.bigBytes;
+        return big != null ? StorageUnits.decimalValueOf(big) : StorageUnits.decimalValueOf(this.bytes);
     }
 
     /**
@@ -147,7 +245,8 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final StorageUnit<?> asBestMatchingCommonUnit() {
-        return StorageUnits.commonValueOf(this.bytes);
+        final BigInteger big = this.bigBytes;
+        return big != null ? StorageUnits.commonValueOf(big) : StorageUnits.commonValueOf(this.bytes);
     }
 
     /**
@@ -155,7 +254,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final StorageUnit<?> asBestMatchingUnit() {
-        return converter().apply(this.bytes);
+        return converter().apply(inByte());
     }
 
     protected abstract Function<@NonNull BigInteger, @NonNull StorageUnit<?>> converter();
@@ -165,7 +264,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final Byte asByte() {
-        return new Byte(this.bytes);
+        return as(Byte::valueOf, Byte::valueOf);
     }
 
     /**
@@ -173,7 +272,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final Kibibyte asKibibyte() {
-        return new Kibibyte(this.bytes);
+        return as(Kibibyte::valueOf, Kibibyte::valueOf);
     }
 
     /**
@@ -181,7 +280,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final Mebibyte asMebibyte() {
-        return new Mebibyte(this.bytes);
+        return as(Mebibyte::valueOf, Mebibyte::valueOf);
     }
 
     /**
@@ -189,7 +288,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final Gibibyte asGibibyte() {
-        return new Gibibyte(this.bytes);
+        return as(Gibibyte::valueOf, Gibibyte::valueOf);
     }
 
     /**
@@ -197,7 +296,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final Tebibyte asTebibyte() {
-        return new Tebibyte(this.bytes);
+        return as(Tebibyte::valueOf, Tebibyte::valueOf);
     }
 
     /**
@@ -205,7 +304,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final Pebibyte asPebibyte() {
-        return new Pebibyte(this.bytes);
+        return as(Pebibyte::valueOf, Pebibyte::valueOf);
     }
 
     /**
@@ -213,7 +312,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final Exbibyte asExbibyte() {
-        return new Exbibyte(this.bytes);
+        return as(Exbibyte::valueOf, Exbibyte::valueOf);
     }
 
     /**
@@ -221,7 +320,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final Zebibyte asZebibyte() {
-        return new Zebibyte(this.bytes);
+        return as(Zebibyte::valueOf, Zebibyte::valueOf);
     }
 
     /**
@@ -229,7 +328,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final Yobibyte asYobibyte() {
-        return new Yobibyte(this.bytes);
+        return as(Yobibyte::valueOf, Yobibyte::valueOf);
     }
 
     /**
@@ -237,7 +336,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final Kilobyte asKilobyte() {
-        return new Kilobyte(this.bytes);
+        return as(Kilobyte::valueOf, Kilobyte::valueOf);
     }
 
     /**
@@ -245,7 +344,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final Megabyte asMegabyte() {
-        return new Megabyte(this.bytes);
+        return as(Megabyte::valueOf, Megabyte::valueOf);
     }
 
     /**
@@ -253,7 +352,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final Gigabyte asGigabyte() {
-        return new Gigabyte(this.bytes);
+        return as(Gigabyte::valueOf, Gigabyte::valueOf);
     }
 
     /**
@@ -261,7 +360,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final Terabyte asTerabyte() {
-        return new Terabyte(this.bytes);
+        return as(Terabyte::valueOf, Terabyte::valueOf);
     }
 
     /**
@@ -269,7 +368,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final Petabyte asPetabyte() {
-        return new Petabyte(this.bytes);
+        return as(Petabyte::valueOf, Petabyte::valueOf);
     }
 
     /**
@@ -277,7 +376,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final Exabyte asExabyte() {
-        return new Exabyte(this.bytes);
+        return as(Exabyte::valueOf, Exabyte::valueOf);
     }
 
     /**
@@ -285,7 +384,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final Zettabyte asZettabyte() {
-        return new Zettabyte(this.bytes);
+        return as(Zettabyte::valueOf, Zettabyte::valueOf);
     }
 
     /**
@@ -293,7 +392,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final Yottabyte asYottabyte() {
-        return new Yottabyte(this.bytes);
+        return as(Yottabyte::valueOf, Yottabyte::valueOf);
     }
 
     /**
@@ -301,7 +400,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final CommonKilobyte asCommonKilobyte() {
-        return new CommonKilobyte(this.bytes);
+        return as(CommonKilobyte::valueOf, CommonKilobyte::valueOf);
     }
 
     /**
@@ -309,7 +408,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final CommonMegabyte asCommonMegabyte() {
-        return new CommonMegabyte(this.bytes);
+        return as(CommonMegabyte::valueOf, CommonMegabyte::valueOf);
     }
 
     /**
@@ -317,7 +416,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final CommonGigabyte asCommonGigabyte() {
-        return new CommonGigabyte(this.bytes);
+        return as(CommonGigabyte::valueOf, CommonGigabyte::valueOf);
     }
 
     /**
@@ -325,7 +424,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final CommonTerabyte asCommonTerabyte() {
-        return new CommonTerabyte(this.bytes);
+        return as(CommonTerabyte::valueOf, CommonTerabyte::valueOf);
     }
 
     /**
@@ -333,7 +432,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final CommonPetabyte asCommonPetabyte() {
-        return new CommonPetabyte(this.bytes);
+        return as(CommonPetabyte::valueOf, CommonPetabyte::valueOf);
     }
 
     /**
@@ -341,7 +440,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final CommonExabyte asCommonExabyte() {
-        return new CommonExabyte(this.bytes);
+        return as(CommonExabyte::valueOf, CommonExabyte::valueOf);
     }
 
     /**
@@ -349,7 +448,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final CommonZettabyte asCommonZettabyte() {
-        return new CommonZettabyte(this.bytes);
+        return as(CommonZettabyte::valueOf, CommonZettabyte::valueOf);
     }
 
     /**
@@ -357,7 +456,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final CommonYottabyte asCommonYottabyte() {
-        return new CommonYottabyte(this.bytes);
+        return as(CommonYottabyte::valueOf, CommonYottabyte::valueOf);
     }
 
     /**
@@ -365,7 +464,8 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final BigInteger inByte() {
-        return this.bytes;
+        final BigInteger big = this.bigBytes;
+        return big != null ? big : asBigInteger(this.bytes);
     }
 
     /**
@@ -563,7 +663,58 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
     @NonNull
     @Override
     public final String toString() {
-        return this.toString(DEFAULT_FORMAT_PATTERN);
+        return Nullsafe.nonNull(this.formatTo(new StringBuilder(DEFAULT_BUILDER_CAPACITY)).toString());
+    }
+
+    /**
+     * Formats this storage unit with the default pattern into the given {@link StringBuilder}. The output is the same
+     * as the one of {@link #toString()}, however no intermediate objects are created for amounts that fit into a
+     * <code>long</code>. Use this method to render many units into a reusable buffer.
+     *
+     * @param builder
+     *            The builder to append to.
+     * @return The given builder.
+     */
+    @NonNull
+    public final StringBuilder formatTo(@NonNull final StringBuilder builder) {
+        try {
+            this.formatTo(builder, Locale.getDefault(Locale.Category.FORMAT));
+        } catch (final IOException exception) {
+            // never thrown by StringBuilder
+            throw new UncheckedIOException(exception);
+        }
+        return builder;
+    }
+
+    /**
+     * Formats this storage unit with the default pattern into the given {@link Appendable}. The output is the same as
+     * the one of {@link #toString()}, however no intermediate objects are created for amounts that fit into a
+     * <code>long</code>.
+     *
+     * @param appendable
+     *            The appendable to write to, e.g. a {@link java.io.Writer}.
+     * @return The given appendable.
+     * @throws IOException
+     *             In case the appendable fails to write.
+     */
+    @NonNull
+    public final Appendable formatTo(@NonNull final Appendable appendable) throws IOException {
+        this.formatTo(appendable, Locale.getDefault(Locale.Category.FORMAT));
+        return appendable;
+    }
+
+    final void formatTo(final Appendable appendable, final Locale locale) throws IOException {
+        final BigInteger bytesPerUnit = this.getNumberOfBytesPerUnit();
+        if (this.bigBytes == null && bytesPerUnit.bitCount() == 1
+                && bytesPerUnit.getLowestSetBit() <= FormatUtils.MAXIMUM_PRIMITIVE_SHIFT) {
+            FormatUtils.appendBinaryAmount(appendable, this.bytes, bytesPerUnit.getLowestSetBit(), locale);
+        } else if (this.bigBytes == null && bytesPerUnit.bitLength() < Long.SIZE
+                && bytesPerUnit.longValue() <= FormatUtils.MAXIMUM_PRIMITIVE_DIVISOR) {
+            FormatUtils.appendDecimalAmount(appendable, this.bytes, bytesPerUnit.longValue(), locale);
+        } else {
+            appendable.append(cachedFormat(DEFAULT_FORMAT_PATTERN, locale).format(this.amount()));
+        }
+        appendable.append(' ').append(this.getSymbol());
     }
 
     /**
@@ -575,7 +726,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final String toString(final String pattern) {
-        return this.toString(new DecimalFormat(pattern));
+        return this.toString(cachedFormat(pattern, Locale.getDefault(Locale.Category.FORMAT)));
     }
 
     /**
@@ -589,7 +740,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final String toString(final String pattern, final Locale locale) {
-        return this.toString(asFormat(pattern, locale));
+        return this.toString(cachedFormat(pattern, locale));
     }
 
     /**
@@ -603,8 +754,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      */
     @NonNull
     public final String toString(final Format format) {
-        final BigDecimal amount = this.calculate(this.getNumberOfBytesPerUnit());
-        final String formattedAmount = format.format(amount);
+        final String formattedAmount = format.format(this.amount());
         return Nullsafe.nonNull(new StringBuilder(calculateBuilderCapacity(formattedAmount))
                 .append(formattedAmount)
                 .append(" ") //$NON-NLS-1$
@@ -612,10 +762,47 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
                 .toString());
     }
 
+    @NonNull
+    final BigDecimal amount() {
+        return this.calculate(this.getNumberOfBytesPerUnit());
+    }
+
+    /*
+     * Calculates the amount of bytes divided by the given base, rounded towards positive infinity at the default
+     * scale. Binary and decimal bases are handled by exact scaling instead of long division.
+     */
     @NonNull
     private final BigDecimal calculate(final BigInteger base) {
-        return Nullsafe.nonNull(new BigDecimal(this.bytes.toString())
-                .divide(new BigDecimal(base.toString()), StorageUnit.DEFAULT_SCALE, RoundingMode.CEILING));
+        final int exponent = base.getLowestSetBit();
+        if (base.bitCount() == 1) {
+            return this.scaleByPowerOfTwo(exponent);
+        }
+        // the lowest set bit of 10^n is n
+        if (exponent <= DEFAULT_SCALE && base.equals(POWERS_OF_TEN[exponent])) {
+            return this.scaleByPowerOfTen(exponent);
+        }
+        return Nullsafe.nonNull(new BigDecimal(this.inByte())
+                .divide(new BigDecimal(base), DEFAULT_SCALE, RoundingMode.CEILING));
+    }
+
+    @NonNull
+    private final BigDecimal scaleByPowerOfTwo(final int exponent) {
+        // x / 2^n = x * 5^s * 2^(s - n) / 10^s with s being the default scale
+        final BigInteger unscaled = this.inByte().multiply(FIVE_TO_THE_DEFAULT_SCALE);
+        if (exponent <= DEFAULT_SCALE) {
+            return new BigDecimal(unscaled.shiftLeft(DEFAULT_SCALE - exponent), DEFAULT_SCALE);
+        }
+        // shiftRight rounds towards negative infinity, thus shift the negated value to round towards positive infinity
+        return new BigDecimal(unscaled.negate().shiftRight(exponent - DEFAULT_SCALE).negate(), DEFAULT_SCALE);
+    }
+
+    @NonNull
+    private final BigDecimal scaleByPowerOfTen(final int exponent) {
+        final BigInteger big = this.bigBytes;
+        final BigDecimal amount = big != null ? new BigDecimal(big, exponent)
+                : BigDecimal.valueOf(this.bytes, exponent);
+        // exact since the exponent never exceeds the default scale
+        return Nullsafe.nonNull(amount.setScale(DEFAULT_SCALE));
     }
 
     // Only exposed to be accessible by tests.
@@ -625,7 +812,16 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
 
     @Override
     public final int hashCode() {
-        return Objects.hashCode(this.bytes);
+        final BigInteger big = this.bigBytes;
+        if (big != null) {
+            return big.hashCode();
+        }
+        // same value as BigInteger.valueOf(bytes).hashCode() without creating the BigInteger
+        final long magnitude = Math.abs(this.bytes);
+        final int high = (int) (magnitude >>> 32);
+        final int low = (int) magnitude;
+        final int hash = high == 0 ? low : 31 * high + low;
+        return Long.signum(this.bytes) * hash;
     }
 
     @Override
@@ -633,7 +829,7 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
         if (other instanceof StorageUnit<?>) {
             final StorageUnit<?> that = (StorageUnit<?>) other;
 
-            return Objects.equals(this.bytes, that.bytes);
+            return this.bytes == that.bytes && Objects.equals(this.bigBytes, that.bigBytes);
         }
 
         return false;
@@ -641,27 +837,46 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
 
     @Override
     public final int compareTo(final StorageUnit<?> that) {
-        return this.bytes.compareTo(that.bytes);
+        final BigInteger thisBig = this.bigBytes;
+        final BigInteger thatBig = that.bigBytes;
+        if (thisBig == null && thatBig == null) {
+            return Long.compare(this.bytes, that.bytes);
+        } else if (thisBig == null) {
+            return -thatBig.signum();
+        } else if (thatBig == null) {
+            return thisBig.signum();
+        }
+        return thisBig.compareTo(thatBig);
     }
 
     @Override
     public final double doubleValue() {
-        return this.bytes.doubleValue();
+        final BigInteger big = this.bigBytes;
+        return big != null ? big.doubleValue() : this.bytes;
     }
 
     @Override
     public final float floatValue() {
-        return this.bytes.floatValue();
+        final BigInteger big = this.bigBytes;
+        return big != null ? big.floatValue() : this.bytes;
     }
 
     @Override
     public final int intValue() {
-        return this.bytes.intValue();
+        return (int) this.bytes;
     }
 
     @Override
     public final long longValue() {
-        return this.bytes.longValue();
+        return this.bytes;
+    }
+
+    /**
+     * @return <code>true</code> in case the amount of bytes fits into a <code>long</code>, thus {@link #longValue()}
+     *         returns the exact amount of bytes.
+     */
+    public final boolean fitsIntoLong() {
+        return this.bigBytes == null;
     }
 
     /**
@@ -670,7 +885,13 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      * @return The new amount of storage in the appropriate type.
      */
     @NonNull
-    public abstract T add(long bytesToAdd);
+    public final T add(final long bytesToAdd) {
+        final long result = this.bytes + bytesToAdd;
+        if (this.bigBytes == null && !additionOverflowed(this.bytes, bytesToAdd, result)) {
+            return create(result);
+        }
+        return create(addNullsafe(inByte(), asBigInteger(bytesToAdd)));
+    }
 
     /**
      * @param storageAmount
@@ -678,7 +899,14 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      * @return The new amount of storage in the appropriate type.
      */
     @NonNull
-    public abstract T add(@NonNull StorageUnit<?> storageAmount);
+    public final T add(@NonNull final StorageUnit<?> storageAmount) {
+        final long result = this.bytes + storageAmount.bytes;
+        if (this.bigBytes == null && storageAmount.bigBytes == null
+                && !additionOverflowed(this.bytes, storageAmount.bytes, result)) {
+            return create(result);
+        }
+        return create(addNullsafe(inByte(), storageAmount.inByte()));
+    }
 
     /**
      * @param divisor
@@ -686,7 +914,12 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      * @return The new amount of storage in the appropriate type.
      */
     @NonNull
-    public abstract T divide(long divisor);
+    public final T divide(final long divisor) {
+        if (this.bigBytes == null && !(this.bytes == Long.MIN_VALUE && divisor == -1)) {
+            return create(this.bytes / divisor);
+        }
+        return create(divideNullsafe(inByte(), asBigInteger(divisor)));
+    }
 
     /**
      * @param factor
@@ -694,7 +927,13 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      * @return The new amount of storage in the appropriate type.
      */
     @NonNull
-    public abstract T multiply(long factor);
+    public final T multiply(final long factor) {
+        final long result = this.bytes * factor;
+        if (this.bigBytes == null && !multiplicationOverflowed(this.bytes, factor, result)) {
+            return create(result);
+        }
+        return create(multiplyNullsafe(inByte(), asBigInteger(factor)));
+    }
 
     /**
      * @param bytesToSubtract
@@ -702,7 +941,13 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      * @return The new amount of storage in the appropriate type.
      */
     @NonNull
-    public abstract T subtract(long bytesToSubtract);
+    public final T subtract(final long bytesToSubtract) {
+        final long result = this.bytes - bytesToSubtract;
+        if (this.bigBytes == null && !subtractionOverflowed(this.bytes, bytesToSubtract, result)) {
+            return create(result);
+        }
+        return create(subtractNullsafe(inByte(), asBigInteger(bytesToSubtract)));
+    }
 
     /**
      * @param storageAmount
@@ -710,7 +955,55 @@ public abstract class StorageUnit<T extends StorageUnit<T>> extends Number imple
      * @return The new amount of storage in the appropriate type.
      */
     @NonNull
-    public abstract T subtract(@NonNull StorageUnit<?> storageAmount);
+    public final T subtract(@NonNull final StorageUnit<?> storageAmount) {
+        final long result = this.bytes - storageAmount.bytes;
+        if (this.bigBytes == null && storageAmount.bigBytes == null
+                && !subtractionOverflowed(this.bytes, storageAmount.bytes, result)) {
+            return create(result);
+        }
+        return create(subtractNullsafe(inByte(), storageAmount.inByte()));
+    }
+
+    // Same checks as in Math.addExact, Math.subtractExact and Math.multiplyExact, minus the costly exception.
+
+    private static boolean additionOverflowed(final long first, final long second, final long result) {
+        return ((first ^ result) & (second ^ result)) < 0;
+    }
+
+    private static boolean subtractionOverflowed(final long first, final long second, final long result) {
+        return ((first ^ second) & (first ^ result)) < 0;
+    }
+
+    private static boolean multiplicationOverflowed(final long first, final long second, final long result) {
+        if ((Math.abs(first) | Math.abs(second)) >>> 31 == 0) {
+            return false;
+        }
+        return second != 0 && result / second != first || first == Long.MIN_VALUE && second == -1;
+    }
+
+    @NonNull
+    private final <U extends StorageUnit<U>> U as(
+            final LongFunction<@NonNull U> longConstructor,
+            final Function<@NonNull BigInteger, @NonNull U> bigIntegerConstructor) {
+        final BigInteger big = this.bigBytes;
+        return big != null ? bigIntegerConstructor.apply(big) : longConstructor.apply(this.bytes);
+    }
+
+    /**
+     * @param numberOfBytes
+     *            The amount of bytes the new unit contains.
+     * @return A new unit of this type with the given value.
+     */
+    @NonNull
+    protected abstract T create(long numberOfBytes);
+
+    /**
+     * @param numberOfBytes
+     *            The amount of bytes the new unit contains.
+     * @return A new unit of this type with the given value.
+     */
+    @NonNull
+    protected abstract T create(@NonNull BigInteger numberOfBytes);
 
     @NonNull
     protected abstract BigInteger getNumberOfBytesPerUnit();
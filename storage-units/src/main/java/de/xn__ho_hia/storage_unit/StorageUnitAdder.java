@@ -0,0 +1,186 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+import de.xn__ho_hia.quality.null_analysis.Nullsafe;
+
+/**
+ * Thread-safe accumulator of amounts of bytes, similar to {@link java.util.concurrent.atomic.LongAdder}.
+ * <p>
+ * Uncontended additions update a single counter. Once threads collide, additions are spread over striped counters
+ * on separate cache lines, thus throughput scales with the number of cores instead of collapsing like a compare-and-set
+ * loop over an {@link AtomicReference} of an immutable unit. Counters which would overflow move their amount into a
+ * {@link BigInteger}, thus sums are never truncated, e.g.:
+ *
+ * <pre>
+ * StorageUnitAdder transferred = new StorageUnitAdder();
+ * transferred.add(4_096);             // from any thread
+ * transferred.add(megabyte(2));
+ * transferred.sum();                  // e.g. "1.91 MiB"
+ * </pre>
+ *
+ * Like <code>LongAdder</code>, {@link #sum()} is not an atomic snapshot while other threads keep adding.
+ */
+public final class StorageUnitAdder {
+
+    // Each stripe gets 128 bytes to keep adjacent cache lines apart, too
+    private static final int PADDING = 16;
+
+    private static final int STRIPES = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1);
+
+    // Per-thread hash selecting the stripe, rehashed on contention so that colliding threads move apart for good
+    private static final ThreadLocal<int[]> PROBE = ThreadLocal.withInitial(() -> new int[] { initialProbe() });
+
+    private final AtomicLong base = new AtomicLong();
+    private final AtomicReference<AtomicLongArray> stripes = new AtomicReference<>();
+    private final AtomicReference<@NonNull BigInteger> overflow = new AtomicReference<>(BigInteger.ZERO);
+
+    /**
+     * @param bytes
+     *            The amount of bytes to add.
+     */
+    public void add(final long bytes) {
+        final AtomicLongArray cells = this.stripes.get();
+        if (cells == null) {
+            final long current = this.base.get();
+            final long next = current + bytes;
+            if (!overflows(current, bytes, next) && this.base.compareAndSet(current, next)) {
+                return;
+            }
+            addToStripes(inflate(), bytes);
+        } else {
+            addToStripes(cells, bytes);
+        }
+    }
+
+    /**
+     * @param unit
+     *            The storage unit to add.
+     */
+    public void add(@NonNull final StorageUnit<?> unit) {
+        final BigInteger bigBytes = unit.bigBytes;
+        if (bigBytes == null) {
+            add(unit.bytes);
+        } else {
+            addToOverflow(bigBytes);
+        }
+    }
+
+    /**
+     * @return The current sum as best-matching binary unit.
+     */
+    @NonNull
+    public StorageUnit<?> sum() {
+        final long baseValue = this.base.get();
+        long high = baseValue >> Integer.SIZE;
+        long low = baseValue & 0xFFFF_FFFFL;
+        final AtomicLongArray cells = this.stripes.get();
+        if (cells != null) {
+            for (int index = 0; index < cells.length(); index += PADDING) {
+                final long value = cells.get(index);
+                high += value >> Integer.SIZE;
+                low += value & 0xFFFF_FFFFL;
+            }
+        }
+        final BigInteger sum = this.overflow.get()
+                .add(BigInteger.valueOf(high).shiftLeft(Integer.SIZE))
+                .add(BigInteger.valueOf(low));
+        return StorageUnits.binaryValueOf(Nullsafe.nonNull(sum));
+    }
+
+    /**
+     * Returns the current sum and resets all counters to zero. Additions which happen concurrently are either part of
+     * the returned sum or of the next one, but never lost.
+     *
+     * @return The sum before the reset as best-matching binary unit.
+     */
+    @NonNull
+    public StorageUnit<?> sumThenReset() {
+        BigInteger sum = Nullsafe.nonNull(this.overflow.getAndSet(BigInteger.ZERO));
+        sum = sum.add(BigInteger.valueOf(this.base.getAndSet(0)));
+        final AtomicLongArray cells = this.stripes.get();
+        if (cells != null) {
+            for (int index = 0; index < cells.length(); index += PADDING) {
+                sum = sum.add(BigInteger.valueOf(cells.getAndSet(index, 0)));
+            }
+        }
+        return StorageUnits.binaryValueOf(Nullsafe.nonNull(sum));
+    }
+
+    /**
+     * Resets all counters to zero.
+     */
+    public void reset() {
+        sumThenReset();
+    }
+
+    @Override
+    public String toString() {
+        return sum().toString();
+    }
+
+    private AtomicLongArray inflate() {
+        final AtomicLongArray cells = new AtomicLongArray(STRIPES * PADDING);
+        if (this.stripes.compareAndSet(null, cells)) {
+            return cells;
+        }
+        return this.stripes.get();
+    }
+
+    private void addToStripes(final AtomicLongArray cells, final long bytes) {
+        final int[] probe = PROBE.get();
+        while (true) {
+            final int index = (probe[0] & STRIPES - 1) * PADDING;
+            final long current = cells.get(index);
+            final long next = current + bytes;
+            if (overflows(current, bytes, next)) {
+                // move the amount of the stripe into the overflow and start over with the given bytes
+                if (cells.compareAndSet(index, current, bytes)) {
+                    addToOverflow(BigInteger.valueOf(current));
+                    return;
+                }
+            } else if (cells.compareAndSet(index, current, next)) {
+                return;
+            }
+            // contended, move this thread to another stripe for this and all later additions
+            probe[0] = advanceProbe(probe[0]);
+        }
+    }
+
+    private void addToOverflow(final BigInteger bytes) {
+        BigInteger current;
+        do {
+            current = this.overflow.get();
+        } while (!this.overflow.compareAndSet(current, current.add(bytes)));
+    }
+
+    private static int initialProbe() {
+        // spreads sequential thread IDs over all stripes, zero would never change when advanced
+        long hash = Thread.currentThread().getId() * 0x9E37_79B9_7F4A_7C15L;
+        hash ^= hash >>> 32;
+        return (int) hash == 0 ? 1 : (int) hash;
+    }
+
+    static int advanceProbe(final int probe) {
+        // xorshift like ThreadLocalRandom.advanceProbe, never returns zero for non-zero probes
+        int next = probe ^ probe << 13;
+        next ^= next >>> 17;
+        return next ^ next << 5;
+    }
+
+    private static boolean overflows(final long current, final long bytes, final long next) {
+        return ((current ^ next) & (bytes ^ next)) < 0;
+    }
+
+}
@@ -0,0 +1,474 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+import de.xn__ho_hia.quality.null_analysis.Nullsafe;
+
+/**
+ * Growable array of storage units backed by a primitive <code>long[]</code>.
+ * <p>
+ * Stores about 8 bytes per entry instead of one object per storage unit and calculates its aggregates with simple
+ * loops over the primitive array. Units are only created when read through {@link #get(int)} or one of the
+ * aggregates, all of them materialize into the unit type given at construction, e.g.:
+ *
+ * <pre>
+ * StorageUnitArray sizes = new StorageUnitArray(StorageUnitType.MEBIBYTE);
+ * sizes.add(1_048_576L);
+ * sizes.add(kibibyte(512));
+ * sizes.sum();   // "1.50 MiB"
+ * sizes.get(1);  // "0.50 MiB"
+ * </pre>
+ *
+ * Amounts that do not fit into a <code>long</code> are kept in a side table and stored as {@link Long#MIN_VALUE} or
+ * {@link Long#MAX_VALUE} placeholders in the primitive array, thus those two values are looked up in the side table
+ * as well. Instances are not thread-safe.
+ */
+public final class StorageUnitArray {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // Some VMs reserve header words in arrays, see java.util.ArrayList
+    private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private static final long[] NO_VALUES = {};
+    private static final int[] NO_INDICES = {};
+    private static final BigInteger[] NO_BIG_VALUES = {};
+
+    private static final int LOW_BITS = 32;
+    private static final long LOW_MASK = 0xFFFF_FFFFL;
+
+    @NonNull
+    private final StorageUnitType type;
+    private long[] values;
+    private int size;
+
+    // side table for placeholders, sorted by index
+    private int[] overflowIndices = NO_INDICES;
+    private BigInteger[] overflowValues = NO_BIG_VALUES;
+    private int overflowCount;
+
+    /**
+     * Creates an empty array which materializes its entries as {@link Byte}.
+     */
+    public StorageUnitArray() {
+        this(StorageUnitType.BYTE);
+    }
+
+    /**
+     * @param type
+     *            The type of unit to materialize entries into.
+     */
+    public StorageUnitArray(@NonNull final StorageUnitType type) {
+        this(type, 0);
+    }
+
+    /**
+     * @param type
+     *            The type of unit to materialize entries into.
+     * @param initialCapacity
+     *            The number of entries that can be added before the array has to grow.
+     */
+    public StorageUnitArray(@NonNull final StorageUnitType type, final int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity); //$NON-NLS-1$
+        }
+        this.type = type;
+        this.values = initialCapacity == 0 ? NO_VALUES : new long[initialCapacity];
+    }
+
+    /**
+     * @return The type of unit entries are materialized into.
+     */
+    @NonNull
+    public StorageUnitType getType() {
+        return this.type;
+    }
+
+    /**
+     * @return The number of entries in this array.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @return <code>true</code> in case this array contains no entries.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * @param bytes
+     *            The amount of bytes to append.
+     * @return This array.
+     */
+    @NonNull
+    public StorageUnitArray add(final long bytes) {
+        if (bytes == Long.MIN_VALUE || bytes == Long.MAX_VALUE) {
+            return add(Nullsafe.asBigInteger(bytes));
+        }
+        ensureCapacity(this.size + 1);
+        this.values[this.size++] = bytes;
+        return this;
+    }
+
+    /**
+     * @param bytes
+     *            The amount of bytes to append.
+     * @return This array.
+     */
+    @NonNull
+    public StorageUnitArray add(@NonNull final BigInteger bytes) {
+        if (bytes.bitLength() < Long.SIZE) {
+            final long value = bytes.longValue();
+            if (value != Long.MIN_VALUE && value != Long.MAX_VALUE) {
+                return add(value);
+            }
+        }
+        ensureCapacity(this.size + 1);
+        ensureOverflowCapacity(this.overflowCount + 1);
+        this.overflowIndices[this.overflowCount] = this.size;
+        this.overflowValues[this.overflowCount] = bytes;
+        this.overflowCount++;
+        this.values[this.size++] = bytes.signum() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        return this;
+    }
+
+    /**
+     * @param unit
+     *            The storage unit to append.
+     * @return This array.
+     */
+    @NonNull
+    public StorageUnitArray add(@NonNull final StorageUnit<?> unit) {
+        final BigInteger bigBytes = unit.bigBytes;
+        return bigBytes == null ? add(unit.bytes) : add(bigBytes);
+    }
+
+    /**
+     * Materializes a single entry into a storage unit.
+     *
+     * @param index
+     *            The index of the entry to get.
+     * @return The entry as storage unit of the type of this array.
+     */
+    @NonNull
+    public StorageUnit<?> get(final int index) {
+        checkIndex(index);
+        final long value = this.values[index];
+        if (isPlaceholder(value)) {
+            return this.type.ofBytes(overflowValue(index));
+        }
+        return this.type.ofBytes(value);
+    }
+
+    /**
+     * @param index
+     *            The index of the entry to get.
+     * @return The amount of bytes of the entry.
+     * @throws ArithmeticException
+     *             In case the amount of bytes does not fit into a <code>long</code>.
+     * @see #fitsIntoLong(int)
+     */
+    public long getAsLong(final int index) {
+        checkIndex(index);
+        final long value = this.values[index];
+        if (isPlaceholder(value)) {
+            final BigInteger bigValue = overflowValue(index);
+            if (bigValue.bitLength() >= Long.SIZE) {
+                throw new ArithmeticException("Entry out of long range: " + index); //$NON-NLS-1$
+            }
+            return bigValue.longValue();
+        }
+        return value;
+    }
+
+    /**
+     * @param index
+     *            The index of the entry to get.
+     * @return The amount of bytes of the entry.
+     */
+    @NonNull
+    public BigInteger getAsBigInteger(final int index) {
+        checkIndex(index);
+        final long value = this.values[index];
+        if (isPlaceholder(value)) {
+            return overflowValue(index);
+        }
+        return Nullsafe.asBigInteger(value);
+    }
+
+    /**
+     * @param index
+     *            The index of the entry to check.
+     * @return <code>true</code> in case the amount of bytes of the entry fits into a <code>long</code>, thus
+     *         {@link #getAsLong(int)} does not throw.
+     */
+    public boolean fitsIntoLong(final int index) {
+        checkIndex(index);
+        return !isPlaceholder(this.values[index]) || overflowValue(index).bitLength() < Long.SIZE;
+    }
+
+    /**
+     * @return <code>true</code> in case the amount of bytes of every entry fits into a <code>long</code>.
+     */
+    public boolean fitsIntoLong() {
+        for (int index = 0; index < this.overflowCount; index++) {
+            if (this.overflowValues[index].bitLength() >= Long.SIZE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies all entries into a new primitive array, e.g. to write them in bulk.
+     *
+     * @return The amounts of bytes of all entries.
+     * @throws ArithmeticException
+     *             In case the amount of bytes of an entry does not fit into a <code>long</code>.
+     * @see #fitsIntoLong()
+     */
+    @NonNull
+    public long[] toLongArray() {
+        if (!fitsIntoLong()) {
+            throw new ArithmeticException("Entries out of long range"); //$NON-NLS-1$
+        }
+        final long[] copy = Arrays.copyOf(this.values, this.size);
+        for (int index = 0; index < this.overflowCount; index++) {
+            // placeholders of Long.MIN_VALUE and Long.MAX_VALUE hold exactly these values
+            copy[this.overflowIndices[index]] = this.overflowValues[index].longValue();
+        }
+        return Nullsafe.nonNull(copy);
+    }
+
+    /**
+     * @return The sum of all entries, zero in case this array is empty.
+     */
+    @NonNull
+    public StorageUnit<?> sum() {
+        // summing the upper and lower halves separately cannot overflow and keeps the loop free of branches
+        final long[] array = this.values;
+        long high = 0;
+        long low = 0;
+        for (int index = 0; index < this.size; index++) {
+            final long value = array[index];
+            high += value >> LOW_BITS;
+            low += value & LOW_MASK;
+        }
+        if (this.overflowCount == 0 && high == high << LOW_BITS >> LOW_BITS) {
+            final long shifted = high << LOW_BITS;
+            final long result = shifted + low;
+            if (((shifted ^ result) & (low ^ result)) >= 0) {
+                return this.type.ofBytes(result);
+            }
+        }
+        BigInteger result = BigInteger.valueOf(high).shiftLeft(LOW_BITS).add(BigInteger.valueOf(low));
+        for (int index = 0; index < this.overflowCount; index++) {
+            final long placeholder = this.values[this.overflowIndices[index]];
+            result = result.add(this.overflowValues[index]).subtract(BigInteger.valueOf(placeholder));
+        }
+        return this.type.ofBytes(Nullsafe.nonNull(result));
+    }
+
+    /**
+     * @return The smallest entry.
+     * @throws NoSuchElementException
+     *             In case this array is empty.
+     */
+    @NonNull
+    public StorageUnit<?> min() {
+        checkNotEmpty();
+        final long[] array = this.values;
+        long min = Long.MAX_VALUE;
+        for (int index = 0; index < this.size; index++) {
+            min = Math.min(min, array[index]);
+        }
+        if (isPlaceholder(min)) {
+            return this.type.ofBytes(extremeOverflowValue(min, -1));
+        }
+        return this.type.ofBytes(min);
+    }
+
+    /**
+     * @return The largest entry.
+     * @throws NoSuchElementException
+     *             In case this array is empty.
+     */
+    @NonNull
+    public StorageUnit<?> max() {
+        checkNotEmpty();
+        final long[] array = this.values;
+        long max = Long.MIN_VALUE;
+        for (int index = 0; index < this.size; index++) {
+            max = Math.max(max, array[index]);
+        }
+        if (isPlaceholder(max)) {
+            return this.type.ofBytes(extremeOverflowValue(max, 1));
+        }
+        return this.type.ofBytes(max);
+    }
+
+    /**
+     * @return The arithmetic mean of all entries, rounded half up to whole bytes.
+     * @throws NoSuchElementException
+     *             In case this array is empty.
+     */
+    @NonNull
+    public StorageUnit<?> mean() {
+        checkNotEmpty();
+        final BigDecimal sum = new BigDecimal(sum().inByte());
+        return this.type.ofBytes(Nullsafe.nonNull(sum
+                .divide(BigDecimal.valueOf(this.size), 0, RoundingMode.HALF_UP)
+                .toBigInteger()));
+    }
+
+    /**
+     * Sorts all entries into ascending order.
+     */
+    public void sort() {
+        Arrays.sort(this.values, 0, this.size);
+        if (this.overflowCount > 0) {
+            // placeholders are now at both ends of the primitive array in the same order as their actual values
+            Arrays.sort(this.overflowValues, 0, this.overflowCount);
+            int negatives = 0;
+            while (negatives < this.overflowCount && this.overflowValues[negatives].signum() < 0) {
+                this.overflowIndices[negatives] = negatives;
+                negatives++;
+            }
+            for (int index = negatives; index < this.overflowCount; index++) {
+                this.overflowIndices[index] = this.size - this.overflowCount + index;
+            }
+        }
+    }
+
+    /**
+     * Searches a sorted array for the given amount of bytes, see {@link Arrays#binarySearch(long[], long)}.
+     *
+     * @param bytes
+     *            The amount of bytes to search for.
+     * @return The index of the amount in case it is contained in this array, otherwise
+     *         <code>(-(insertion point) - 1)</code>.
+     */
+    public int binarySearch(final long bytes) {
+        if (isPlaceholder(bytes)) {
+            return binarySearch(Nullsafe.asBigInteger(bytes));
+        }
+        return Arrays.binarySearch(this.values, 0, this.size, bytes);
+    }
+
+    /**
+     * Searches a sorted array for the given amount of bytes, see {@link Arrays#binarySearch(long[], long)}.
+     *
+     * @param bytes
+     *            The amount of bytes to search for.
+     * @return The index of the amount in case it is contained in this array, otherwise
+     *         <code>(-(insertion point) - 1)</code>.
+     */
+    public int binarySearch(@NonNull final BigInteger bytes) {
+        if (bytes.bitLength() < Long.SIZE && !isPlaceholder(bytes.longValue())) {
+            return binarySearch(bytes.longValue());
+        }
+        int low = 0;
+        int high = this.size - 1;
+        while (low <= high) {
+            final int middle = low + high >>> 1;
+            final int comparison = getAsBigInteger(middle).compareTo(bytes);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Searches a sorted array for the given storage unit, see {@link Arrays#binarySearch(long[], long)}.
+     *
+     * @param unit
+     *            The storage unit to search for.
+     * @return The index of the unit in case it is contained in this array, otherwise
+     *         <code>(-(insertion point) - 1)</code>.
+     */
+    public int binarySearch(@NonNull final StorageUnit<?> unit) {
+        final BigInteger bigBytes = unit.bigBytes;
+        return bigBytes == null ? binarySearch(unit.bytes) : binarySearch(bigBytes);
+    }
+
+    private static boolean isPlaceholder(final long value) {
+        return value == Long.MIN_VALUE || value == Long.MAX_VALUE;
+    }
+
+    @NonNull
+    private BigInteger overflowValue(final int index) {
+        final int position = Arrays.binarySearch(this.overflowIndices, 0, this.overflowCount, index);
+        return Nullsafe.nonNull(this.overflowValues[position]);
+    }
+
+    @NonNull
+    private BigInteger extremeOverflowValue(final long placeholder, final int direction) {
+        BigInteger extreme = null;
+        for (int index = 0; index < this.overflowCount; index++) {
+            final BigInteger value = this.overflowValues[index];
+            if (this.values[this.overflowIndices[index]] == placeholder
+                    && (extreme == null || value.compareTo(extreme) * direction > 0)) {
+                extreme = value;
+            }
+        }
+        return Nullsafe.nonNull(extreme);
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+
+    private void checkNotEmpty() {
+        if (this.size == 0) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    private void ensureCapacity(final int minimumCapacity) {
+        if (minimumCapacity > this.values.length) {
+            this.values = Arrays.copyOf(this.values, newCapacity(this.values.length, minimumCapacity));
+        }
+    }
+
+    private void ensureOverflowCapacity(final int minimumCapacity) {
+        if (minimumCapacity > this.overflowIndices.length) {
+            final int capacity = newCapacity(this.overflowIndices.length, minimumCapacity);
+            this.overflowIndices = Arrays.copyOf(this.overflowIndices, capacity);
+            this.overflowValues = Arrays.copyOf(this.overflowValues, capacity);
+        }
+    }
+
+    private static int newCapacity(final int oldCapacity, final int minimumCapacity) {
+        if (minimumCapacity < 0 || minimumCapacity > MAXIMUM_CAPACITY) {
+            throw new OutOfMemoryError("Required array size too large"); //$NON-NLS-1$
+        }
+        final int grown = oldCapacity + (oldCapacity >> 1);
+        if (grown < 0 || grown > MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Math.max(Math.max(grown, minimumCapacity), DEFAULT_CAPACITY);
+    }
+
+}
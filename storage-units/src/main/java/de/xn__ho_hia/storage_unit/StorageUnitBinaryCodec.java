@@ -0,0 +1,378 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.xn__ho_hia.quality.null_analysis.Nullsafe;
+
+/**
+ * Compact binary encoding of storage units for RPC and cache payloads. Amounts of bytes that fit into a
+ * <code>long</code> are written as zigzag-encoded varint, thus small amounts take a single byte and no amount takes
+ * more than 10 bytes. Larger amounts are escaped with the overlong varint <code>0x80 0x00</code>, followed by the
+ * length as varint and the two's-complement bytes of the amount:
+ *
+ * <pre>
+ * unit  := [tag] value
+ * tag   := one byte identifying the unit class, e.g. 0 for Byte, 3 for Gibibyte and 24 for CommonYottabyte
+ * value := varint(zigzag(bytes))           if the amount fits into a long
+ *        | 0x80 0x00 varint(n) byte[n]    otherwise
+ * </pre>
+ *
+ * The {@link #TAGGED tagged} codec writes the unit class tag and restores the exact unit on decoding, e.g.
+ * <code>Gibibyte</code>. Untagged codecs omit the tag and create units of the type given to
+ * {@link #untagged(StorageUnitType)}. Instances are immutable and thread-safe:
+ *
+ * <pre>
+ * byte[] payload = StorageUnitBinaryCodec.TAGGED.encode(StorageUnits.gibibyte(10)); // 6 bytes
+ * StorageUnitBinaryCodec.TAGGED.decode(payload);                                   // "10.00 GiB"
+ * </pre>
+ *
+ * Malformed input, including escaped amounts longer than {@link #MAX_BIG_INTEGER_LENGTH} bytes, is rejected with an
+ * {@link IllegalArgumentException}, truncated input with a {@link java.nio.BufferUnderflowException} or
+ * {@link java.io.EOFException}.
+ */
+public final class StorageUnitBinaryCodec {
+
+    /**
+     * The maximum number of bytes of a value that fits into a <code>long</code>, including the tag.
+     */
+    public static final int MAX_LONG_ENCODED_LENGTH = 11;
+
+    /**
+     * The maximum number of two's-complement bytes of an amount that does not fit into a <code>long</code>. Amounts
+     * of up to 511 bits are far beyond any storage that exists, thus larger lengths only show up in malformed input.
+     */
+    public static final int MAX_BIG_INTEGER_LENGTH = 64;
+
+    // The position of a type in this array is its tag on the wire, thus new types have to be appended.
+    private static final StorageUnitType[] TAGS = {
+            StorageUnitType.BYTE,
+            StorageUnitType.KIBIBYTE,
+            StorageUnitType.MEBIBYTE,
+            StorageUnitType.GIBIBYTE,
+            StorageUnitType.TEBIBYTE,
+            StorageUnitType.PEBIBYTE,
+            StorageUnitType.EXBIBYTE,
+            StorageUnitType.ZEBIBYTE,
+            StorageUnitType.YOBIBYTE,
+            StorageUnitType.KILOBYTE,
+            StorageUnitType.MEGABYTE,
+            StorageUnitType.GIGABYTE,
+            StorageUnitType.TERABYTE,
+            StorageUnitType.PETABYTE,
+            StorageUnitType.EXABYTE,
+            StorageUnitType.ZETTABYTE,
+            StorageUnitType.YOTTABYTE,
+            StorageUnitType.COMMON_KILOBYTE,
+            StorageUnitType.COMMON_MEGABYTE,
+            StorageUnitType.COMMON_GIGABYTE,
+            StorageUnitType.COMMON_TERABYTE,
+            StorageUnitType.COMMON_PETABYTE,
+            StorageUnitType.COMMON_EXABYTE,
+            StorageUnitType.COMMON_ZETTABYTE,
+            StorageUnitType.COMMON_YOTTABYTE };
+
+    private static final Map<Class<?>, Integer> TAGS_BY_CLASS = new IdentityHashMap<>();
+
+    static {
+        for (int tag = 0; tag < TAGS.length; tag++) {
+            TAGS_BY_CLASS.put(TAGS[tag].ofBytes(0).getClass(), Integer.valueOf(tag));
+        }
+    }
+
+    private static final int BITS_PER_BYTE = 8;
+    private static final int PAYLOAD_BITS = 7;
+    private static final int PAYLOAD_MASK = 0x7F;
+    private static final int CONTINUATION_BIT = 0x80;
+    private static final int MAX_VARINT_LENGTH = 10;
+
+    /**
+     * Codec which writes a one-byte unit class tag in front of each value and restores the exact unit.
+     */
+    @NonNull
+    public static final StorageUnitBinaryCodec TAGGED = new StorageUnitBinaryCodec(null);
+
+    @Nullable
+    private final StorageUnitType untaggedType;
+
+    private StorageUnitBinaryCodec(@Nullable final StorageUnitType untaggedType) {
+        this.untaggedType = untaggedType;
+    }
+
+    /**
+     * @param type
+     *            The type of units to create on decoding.
+     * @return A codec which writes values only, e.g. for fields whose unit type is known to both sides.
+     */
+    @NonNull
+    public static StorageUnitBinaryCodec untagged(@NonNull final StorageUnitType type) {
+        return new StorageUnitBinaryCodec(type);
+    }
+
+    /**
+     * @param unit
+     *            The unit to encode.
+     * @return The number of bytes written by the <code>encode</code> methods of this codec.
+     * @throws IllegalArgumentException
+     *             In case the amount of the unit takes more than {@link #MAX_BIG_INTEGER_LENGTH} bytes.
+     */
+    public int encodedLength(@NonNull final StorageUnit<?> unit) {
+        final int tagLength = this.untaggedType == null ? 1 : 0;
+        final BigInteger big = unit.bigBytes;
+        if (big == null) {
+            return tagLength + varintLength(zigzag(unit.bytes));
+        }
+        final int length = length(big.bitLength() / BITS_PER_BYTE + 1);
+        return tagLength + 2 + varintLength(length) + length;
+    }
+
+    /**
+     * @param unit
+     *            The unit to encode.
+     * @return The encoded unit.
+     * @throws IllegalArgumentException
+     *             In case a tagged codec is given a unit of an unknown class or the amount of the unit takes more than
+     *             {@link #MAX_BIG_INTEGER_LENGTH} bytes.
+     */
+    @NonNull
+    public byte[] encode(@NonNull final StorageUnit<?> unit) {
+        final byte[] target = new byte[encodedLength(unit)];
+        encode(unit, Nullsafe.nonNull(ByteBuffer.wrap(target)));
+        return target;
+    }
+
+    /**
+     * @param unit
+     *            The unit to encode.
+     * @param target
+     *            The buffer to write to, starting at its current position.
+     * @throws java.nio.BufferOverflowException
+     *             In case the buffer has less than {@link #encodedLength(StorageUnit)} bytes remaining.
+     * @throws IllegalArgumentException
+     *             In case a tagged codec is given a unit of an unknown class or the amount of the unit takes more than
+     *             {@link #MAX_BIG_INTEGER_LENGTH} bytes.
+     */
+    public void encode(@NonNull final StorageUnit<?> unit, @NonNull final ByteBuffer target) {
+        if (this.untaggedType == null) {
+            target.put((byte) tag(unit));
+        }
+        final BigInteger big = unit.bigBytes;
+        if (big == null) {
+            long value = zigzag(unit.bytes);
+            while ((value & ~PAYLOAD_MASK) != 0) {
+                target.put((byte) (value & PAYLOAD_MASK | CONTINUATION_BIT));
+                value >>>= PAYLOAD_BITS;
+            }
+            target.put((byte) value);
+        } else {
+            final byte[] bytes = big.toByteArray();
+            length(bytes.length);
+            target.put((byte) CONTINUATION_BIT).put((byte) 0);
+            int length = bytes.length;
+            while ((length & ~PAYLOAD_MASK) != 0) {
+                target.put((byte) (length & PAYLOAD_MASK | CONTINUATION_BIT));
+                length >>>= PAYLOAD_BITS;
+            }
+            target.put((byte) length).put(bytes);
+        }
+    }
+
+    /**
+     * @param unit
+     *            The unit to encode.
+     * @param target
+     *            The output to write to.
+     * @throws IOException
+     *             In case the output cannot be written.
+     * @throws IllegalArgumentException
+     *             In case a tagged codec is given a unit of an unknown class or the amount of the unit takes more than
+     *             {@link #MAX_BIG_INTEGER_LENGTH} bytes.
+     */
+    public void encode(@NonNull final StorageUnit<?> unit, @NonNull final DataOutput target) throws IOException {
+        if (this.untaggedType == null) {
+            target.writeByte(tag(unit));
+        }
+        final BigInteger big = unit.bigBytes;
+        if (big == null) {
+            long value = zigzag(unit.bytes);
+            while ((value & ~PAYLOAD_MASK) != 0) {
+                target.writeByte((int) (value & PAYLOAD_MASK | CONTINUATION_BIT));
+                value >>>= PAYLOAD_BITS;
+            }
+            target.writeByte((int) value);
+        } else {
+            final byte[] bytes = big.toByteArray();
+            length(bytes.length);
+            target.writeByte(CONTINUATION_BIT);
+            target.writeByte(0);
+            int length = bytes.length;
+            while ((length & ~PAYLOAD_MASK) != 0) {
+                target.writeByte(length & PAYLOAD_MASK | CONTINUATION_BIT);
+                length >>>= PAYLOAD_BITS;
+            }
+            target.writeByte(length);
+            target.write(bytes);
+        }
+    }
+
+    /**
+     * @param source
+     *            The encoded unit, without any trailing bytes.
+     * @return The decoded unit.
+     * @throws IllegalArgumentException
+     *             In case the input is malformed or has trailing bytes.
+     */
+    @NonNull
+    public StorageUnit<?> decode(@NonNull final byte[] source) {
+        final ByteBuffer buffer = Nullsafe.nonNull(ByteBuffer.wrap(source));
+        final StorageUnit<?> unit = decode(buffer);
+        if (buffer.hasRemaining()) {
+            throw new IllegalArgumentException("Trailing bytes after encoded unit: " + buffer.remaining()); //$NON-NLS-1$
+        }
+        return unit;
+    }
+
+    /**
+     * @param source
+     *            The buffer to read from, starting at its current position.
+     * @return The decoded unit.
+     * @throws java.nio.BufferUnderflowException
+     *             In case the buffer ends before the encoded unit.
+     * @throws IllegalArgumentException
+     *             In case the input is malformed or announces an amount longer than the remaining bytes.
+     */
+    @NonNull
+    public StorageUnit<?> decode(@NonNull final ByteBuffer source) {
+        final StorageUnitType type = this.untaggedType == null ? type(source.get()) : this.untaggedType;
+        final int first = source.get();
+        if (first == (byte) CONTINUATION_BIT) {
+            final int second = source.get();
+            if (second == 0) {
+                final int length = length(readVarint(source));
+                if (length > source.remaining()) {
+                    throw new IllegalArgumentException("Encoded amount of " + length + " bytes exceeds remaining " //$NON-NLS-1$ //$NON-NLS-2$
+                            + source.remaining() + " bytes"); //$NON-NLS-1$
+                }
+                final byte[] bytes = new byte[length];
+                source.get(bytes);
+                return type.ofBytes(new BigInteger(bytes));
+            }
+            return type.ofBytes(unzigzag(readVarint(first, second, source)));
+        }
+        return type.ofBytes(unzigzag(first >= 0 ? first : readVarint(first, source.get(), source)));
+    }
+
+    /**
+     * @param source
+     *            The input to read from.
+     * @return The decoded unit.
+     * @throws IOException
+     *             In case the input cannot be read or ends before the encoded unit.
+     * @throws IllegalArgumentException
+     *             In case the input is malformed.
+     */
+    @NonNull
+    public StorageUnit<?> decode(@NonNull final DataInput source) throws IOException {
+        final StorageUnitType type = this.untaggedType == null ? type(source.readByte()) : this.untaggedType;
+        final int first = source.readByte();
+        if (first == (byte) CONTINUATION_BIT) {
+            final int second = source.readByte();
+            if (second == 0) {
+                final byte[] bytes = new byte[length(readVarint(source))];
+                source.readFully(bytes);
+                return type.ofBytes(new BigInteger(bytes));
+            }
+            return type.ofBytes(unzigzag(readVarint(first, second, source)));
+        }
+        return type.ofBytes(unzigzag(first >= 0 ? first : readVarint(first, source.readByte(), source)));
+    }
+
+    private static int tag(final StorageUnit<?> unit) {
+        final Integer tag = TAGS_BY_CLASS.get(unit.getClass());
+        if (tag == null) {
+            throw new IllegalArgumentException("Unknown unit class: " + unit.getClass().getName()); //$NON-NLS-1$
+        }
+        return tag.intValue();
+    }
+
+    @NonNull
+    private static StorageUnitType type(final int tag) {
+        if (tag < 0 || tag >= TAGS.length) {
+            throw new IllegalArgumentException("Unknown unit tag: " + tag); //$NON-NLS-1$
+        }
+        return Nullsafe.nonNull(TAGS[tag]);
+    }
+
+    private static long zigzag(final long value) {
+        return value << 1 ^ value >> Long.SIZE - 1;
+    }
+
+    private static long unzigzag(final long value) {
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    private static int varintLength(final long value) {
+        // one byte per started group of seven bits, at least one byte for zero
+        return Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(value) + PAYLOAD_BITS - 1) / PAYLOAD_BITS);
+    }
+
+    private static int length(final long value) {
+        if (value < 1 || value > MAX_BIG_INTEGER_LENGTH) {
+            throw new IllegalArgumentException("Illegal length of encoded amount: " + value); //$NON-NLS-1$
+        }
+        return (int) value;
+    }
+
+    private static long readVarint(final ByteBuffer source) {
+        final int first = source.get();
+        return first >= 0 ? first : readVarint(first, source.get(), source);
+    }
+
+    private static long readVarint(final int first, final int second, final ByteBuffer source) {
+        long value = first & PAYLOAD_MASK | (long) (second & PAYLOAD_MASK) << PAYLOAD_BITS;
+        int current = second;
+        for (int index = 2; current < 0; index++) {
+            checkVarintLength(index);
+            current = source.get();
+            value |= (long) (current & PAYLOAD_MASK) << PAYLOAD_BITS * index;
+        }
+        return value;
+    }
+
+    private static long readVarint(final DataInput source) throws IOException {
+        final int first = source.readByte();
+        return first >= 0 ? first : readVarint(first, source.readByte(), source);
+    }
+
+    private static long readVarint(final int first, final int second, final DataInput source) throws IOException {
+        long value = first & PAYLOAD_MASK | (long) (second & PAYLOAD_MASK) << PAYLOAD_BITS;
+        int current = second;
+        for (int index = 2; current < 0; index++) {
+            checkVarintLength(index);
+            current = source.readByte();
+            value |= (long) (current & PAYLOAD_MASK) << PAYLOAD_BITS * index;
+        }
+        return value;
+    }
+
+    private static void checkVarintLength(final int index) {
+        if (index >= MAX_VARINT_LENGTH) {
+            throw new IllegalArgumentException("Varint exceeds " + MAX_VARINT_LENGTH + " bytes"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+import de.xn__ho_hia.quality.null_analysis.Nullsafe;
+
+/**
+ * {@link Collector Collectors} for streams of storage units.
+ * <p>
+ * All collectors accumulate into primitive <code>long</code> values, which are only promoted to
+ * {@link java.math.BigInteger} when they would overflow. Thus no units are created per element and the partial results
+ * of parallel streams are combined cheaply. Results are returned as best-matching binary units.
+ */
+public final class StorageUnitCollectors {
+
+    private StorageUnitCollectors() {
+        // Hidden constructor.
+    }
+
+    /**
+     * @return A collector which sums all units, zero for empty streams.
+     */
+    @NonNull
+    public static Collector<StorageUnit<?>, ?, StorageUnit<?>> summing() {
+        return Nullsafe.nonNull(Collector.of(UnitSum::new, UnitSum::add,
+                (left, right) -> {
+                    left.add(right);
+                    return left;
+                },
+                UnitSum::toUnit,
+                Collector.Characteristics.UNORDERED));
+    }
+
+    /**
+     * @return A collector which calculates count, sum, minimum, maximum and average of all units.
+     */
+    @NonNull
+    public static Collector<StorageUnit<?>, ?, StorageUnitSummaryStatistics> summarizing() {
+        return Nullsafe.nonNull(Collector.of(StorageUnitSummaryStatistics::new, StorageUnitSummaryStatistics::accept,
+                (left, right) -> {
+                    left.combine(right);
+                    return left;
+                },
+                Collector.Characteristics.IDENTITY_FINISH, Collector.Characteristics.UNORDERED));
+    }
+
+    /**
+     * @param <K>
+     *            The type of the groups.
+     * @param classifier
+     *            The function which maps units to their group.
+     * @return A collector which sums the units of each group.
+     */
+    @NonNull
+    public static <K> Collector<StorageUnit<?>, ?, Map<K, StorageUnit<?>>> groupingBySum(
+            @NonNull final Function<? super StorageUnit<?>, ? extends K> classifier) {
+        return groupingBySum(classifier, Function.identity());
+    }
+
+    /**
+     * Sums the units of arbitrary elements by group, e.g. the sizes of files by owner:
+     *
+     * <pre>
+     * files.parallelStream().collect(groupingBySum(File::owner, File::size));
+     * </pre>
+     *
+     * @param <T>
+     *            The type of the elements.
+     * @param <K>
+     *            The type of the groups.
+     * @param classifier
+     *            The function which maps elements to their group.
+     * @param unit
+     *            The function which maps elements to the unit to sum.
+     * @return A collector which sums the units of each group.
+     */
+    @NonNull
+    public static <T, K> Collector<T, ?, Map<K, StorageUnit<?>>> groupingBySum(
+            @NonNull final Function<? super T, ? extends K> classifier,
+            @NonNull final Function<? super T, ? extends StorageUnit<?>> unit) {
+        return Nullsafe.nonNull(Collectors.groupingBy(classifier, Collectors.mapping(unit, summing())));
+    }
+
+}
@@ -0,0 +1,347 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import static de.xn__ho_hia.storage_unit.StorageUnitType.BINARY_TYPES;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+import de.xn__ho_hia.quality.null_analysis.Nullsafe;
+
+/**
+ * Fixed-size column of amounts of bytes stored off-heap as little-endian <code>long</code> values.
+ * <p>
+ * Columns are either memory-mapped from a file or wrap an existing {@link ByteBuffer}. Files are mapped in chunks of
+ * 1 GiB, thus columns can hold more than 2 GiB of data and are read directly from the page cache without copying them
+ * onto the heap first, e.g.:
+ *
+ * <pre>
+ * StorageUnitColumn sizes = StorageUnitColumn.open(Paths.get("sizes.bin"));
+ * sizes.sum();                 // e.g. "1.50 PiB"
+ * sizes.countByBinaryUnit();   // e.g. {BYTE=12, KIBIBYTE=3400, MEBIBYTE=980, GIBIBYTE=7}
+ * sizes.get(42);               // e.g. "3.00 MiB"
+ * </pre>
+ *
+ * Aggregates stream over all entries without creating any objects per entry. Units are created on demand only,
+ * using the same best-matching binary unit as {@link StorageUnits#binaryValueOf(long)}.
+ */
+public final class StorageUnitColumn {
+
+    // 2^27 entries of 8 bytes each, i.e. 1 GiB per chunk
+    static final int DEFAULT_CHUNK_SHIFT = 27;
+
+    private static final int BYTES_PER_ENTRY = Long.BYTES;
+
+    private static final int LOW_BITS = 32;
+    private static final long LOW_MASK = 0xFFFF_FFFFL;
+
+    private final LongBuffer[] chunks;
+    private final ByteBuffer[] buffers;
+    private final long size;
+    private final int chunkShift;
+    private final long chunkMask;
+
+    private StorageUnitColumn(final ByteBuffer[] buffers, final long size, final int chunkShift) {
+        this.buffers = buffers;
+        this.chunks = new LongBuffer[buffers.length];
+        for (int index = 0; index < buffers.length; index++) {
+            this.chunks[index] = buffers[index].duplicate().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        }
+        this.size = size;
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1L << chunkShift) - 1;
+    }
+
+    /**
+     * Maps an existing file read-only. The file is not copied, entries are read from the page cache on access.
+     *
+     * @param file
+     *            The file to map, containing little-endian <code>long</code> values only.
+     * @return A column over the given file.
+     * @throws IOException
+     *             In case the file cannot be mapped or its size is not a multiple of 8 bytes.
+     */
+    @NonNull
+    public static StorageUnitColumn open(@NonNull final Path file) throws IOException {
+        return open(file, DEFAULT_CHUNK_SHIFT);
+    }
+
+    @NonNull
+    static StorageUnitColumn open(final Path file, final int chunkShift) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long length = channel.size();
+            if (length % BYTES_PER_ENTRY != 0) {
+                throw new IOException("File size is not a multiple of " + BYTES_PER_ENTRY + " bytes: " + file); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            return map(channel, MapMode.READ_ONLY, length / BYTES_PER_ENTRY, chunkShift);
+        }
+    }
+
+    /**
+     * Creates (or truncates) a file for the given number of entries and maps it read-write. All entries are
+     * initially zero.
+     *
+     * @param file
+     *            The file to create.
+     * @param size
+     *            The number of entries in the column.
+     * @return A writable column over the given file.
+     * @throws IOException
+     *             In case the file cannot be created or mapped.
+     */
+    @NonNull
+    public static StorageUnitColumn create(@NonNull final Path file, final long size) throws IOException {
+        return create(file, size, DEFAULT_CHUNK_SHIFT);
+    }
+
+    @NonNull
+    static StorageUnitColumn create(final Path file, final long size, final int chunkShift) throws IOException {
+        if (size < 0) {
+            throw new IllegalArgumentException("Illegal size: " + size); //$NON-NLS-1$
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return map(channel, MapMode.READ_WRITE, size, chunkShift);
+        }
+    }
+
+    /**
+     * Wraps the remaining bytes of the given buffer without copying them, e.g. a direct buffer filled by a network
+     * channel.
+     *
+     * @param buffer
+     *            The buffer containing little-endian <code>long</code> values.
+     * @return A column over the given buffer.
+     */
+    @NonNull
+    public static StorageUnitColumn wrap(@NonNull final ByteBuffer buffer) {
+        if (buffer.remaining() % BYTES_PER_ENTRY != 0) {
+            throw new IllegalArgumentException(
+                    "Buffer size is not a multiple of " + BYTES_PER_ENTRY + " bytes: " + buffer.remaining()); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        return wrap(buffer, DEFAULT_CHUNK_SHIFT);
+    }
+
+    @NonNull
+    static StorageUnitColumn wrap(final ByteBuffer buffer, final int chunkShift) {
+        final long size = buffer.remaining() / BYTES_PER_ENTRY;
+        final long entriesPerChunk = 1L << chunkShift;
+        final int numberOfChunks = (int) ((size + entriesPerChunk - 1) >>> chunkShift);
+        final ByteBuffer[] buffers = new ByteBuffer[numberOfChunks];
+        for (int index = 0; index < numberOfChunks; index++) {
+            final long firstEntry = (long) index << chunkShift;
+            final long entries = Math.min(entriesPerChunk, size - firstEntry);
+            final ByteBuffer chunk = buffer.duplicate();
+            chunk.position(buffer.position() + (int) (firstEntry * BYTES_PER_ENTRY));
+            chunk.limit(chunk.position() + (int) (entries * BYTES_PER_ENTRY));
+            buffers[index] = chunk.slice();
+        }
+        return new StorageUnitColumn(buffers, size, chunkShift);
+    }
+
+    private static StorageUnitColumn map(final FileChannel channel, final MapMode mode, final long size,
+            final int chunkShift) throws IOException {
+        final long entriesPerChunk = 1L << chunkShift;
+        final int numberOfChunks = (int) ((size + entriesPerChunk - 1) >>> chunkShift);
+        final ByteBuffer[] buffers = new ByteBuffer[numberOfChunks];
+        for (int index = 0; index < numberOfChunks; index++) {
+            final long firstEntry = (long) index << chunkShift;
+            final long entries = Math.min(entriesPerChunk, size - firstEntry);
+            buffers[index] = channel.map(mode, firstEntry * BYTES_PER_ENTRY, entries * BYTES_PER_ENTRY);
+        }
+        // mappings stay valid after the channel is closed
+        return new StorageUnitColumn(buffers, size, chunkShift);
+    }
+
+    /**
+     * @return The number of entries in this column.
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * @param index
+     *            The index of the entry to get.
+     * @return The amount of bytes of the entry.
+     */
+    public long getAsLong(final long index) {
+        checkIndex(index);
+        return this.chunks[(int) (index >>> this.chunkShift)].get((int) (index & this.chunkMask));
+    }
+
+    /**
+     * @param index
+     *            The index of the entry to get.
+     * @return The entry as best-matching binary unit.
+     */
+    @NonNull
+    public StorageUnit<?> get(final long index) {
+        return StorageUnits.binaryValueOf(getAsLong(index));
+    }
+
+    /**
+     * @param index
+     *            The index of the entry to get.
+     * @param type
+     *            The type of unit to return.
+     * @return The entry as unit of the given type.
+     */
+    @NonNull
+    public StorageUnit<?> get(final long index, @NonNull final StorageUnitType type) {
+        return type.ofBytes(getAsLong(index));
+    }
+
+    /**
+     * @param index
+     *            The index of the entry to set.
+     * @param bytes
+     *            The amount of bytes to store.
+     * @throws java.nio.ReadOnlyBufferException
+     *             In case this column is read-only.
+     */
+    public void set(final long index, final long bytes) {
+        checkIndex(index);
+        this.chunks[(int) (index >>> this.chunkShift)].put((int) (index & this.chunkMask), bytes);
+    }
+
+    /**
+     * @param index
+     *            The index of the entry to set.
+     * @param unit
+     *            The storage unit to store.
+     * @throws ArithmeticException
+     *             In case the amount of bytes of the given unit does not fit into a <code>long</code>.
+     * @throws java.nio.ReadOnlyBufferException
+     *             In case this column is read-only.
+     */
+    public void set(final long index, @NonNull final StorageUnit<?> unit) {
+        if (unit.bigBytes != null) {
+            throw new ArithmeticException("Storage unit out of long range: " + unit); //$NON-NLS-1$
+        }
+        set(index, unit.bytes);
+    }
+
+    /**
+     * Writes all changes of a memory-mapped column to its file. Does nothing for wrapped buffers.
+     */
+    public void force() {
+        for (final ByteBuffer buffer : this.buffers) {
+            if (buffer instanceof MappedByteBuffer) {
+                ((MappedByteBuffer) buffer).force();
+            }
+        }
+    }
+
+    /**
+     * @return The sum of all entries as best-matching binary unit, zero in case this column is empty.
+     */
+    @NonNull
+    public StorageUnit<?> sum() {
+        // summing the upper and lower halves separately cannot overflow within 2^31 entries per chunk
+        BigInteger sum = BigInteger.ZERO;
+        for (final LongBuffer chunk : this.chunks) {
+            long high = 0;
+            long low = 0;
+            final int limit = chunk.limit();
+            for (int index = 0; index < limit; index++) {
+                final long value = chunk.get(index);
+                high += value >> LOW_BITS;
+                low += value & LOW_MASK;
+            }
+            sum = sum.add(BigInteger.valueOf(high).shiftLeft(LOW_BITS)).add(BigInteger.valueOf(low));
+        }
+        return StorageUnits.binaryValueOf(Nullsafe.nonNull(sum));
+    }
+
+    /**
+     * @return The smallest entry as best-matching binary unit.
+     * @throws NoSuchElementException
+     *             In case this column is empty.
+     */
+    @NonNull
+    public StorageUnit<?> min() {
+        checkNotEmpty();
+        long min = Long.MAX_VALUE;
+        for (final LongBuffer chunk : this.chunks) {
+            final int limit = chunk.limit();
+            for (int index = 0; index < limit; index++) {
+                min = Math.min(min, chunk.get(index));
+            }
+        }
+        return StorageUnits.binaryValueOf(min);
+    }
+
+    /**
+     * @return The largest entry as best-matching binary unit.
+     * @throws NoSuchElementException
+     *             In case this column is empty.
+     */
+    @NonNull
+    public StorageUnit<?> max() {
+        checkNotEmpty();
+        long max = Long.MIN_VALUE;
+        for (final LongBuffer chunk : this.chunks) {
+            final int limit = chunk.limit();
+            for (int index = 0; index < limit; index++) {
+                max = Math.max(max, chunk.get(index));
+            }
+        }
+        return StorageUnits.binaryValueOf(max);
+    }
+
+    /**
+     * Counts the entries by the unit {@link StorageUnits#binaryValueOf(long)} would pick for them.
+     *
+     * @return The number of entries per binary unit type, ordered by unit size. Types without any entries are
+     *         omitted.
+     */
+    @NonNull
+    public Map<StorageUnitType, Long> countByBinaryUnit() {
+        final long[] counts = new long[BINARY_TYPES.length];
+        for (final LongBuffer chunk : this.chunks) {
+            final int limit = chunk.limit();
+            for (int index = 0; index < limit; index++) {
+                counts[StorageUnits.binaryUnitIndex(chunk.get(index))]++;
+            }
+        }
+        final Map<StorageUnitType, Long> countsByType = new EnumMap<>(StorageUnitType.class);
+        for (int index = 0; index < counts.length; index++) {
+            if (counts[index] > 0) {
+                countsByType.put(BINARY_TYPES[index], Long.valueOf(counts[index]));
+            }
+        }
+        return countsByType;
+    }
+
+    private void checkIndex(final long index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+
+    private void checkNotEmpty() {
+        if (this.size == 0) {
+            throw new NoSuchElementException();
+        }
+    }
+
+}
@@ -0,0 +1,292 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import static de.xn__ho_hia.storage_unit.StorageUnit.DEFAULT_FORMAT_PATTERN;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.text.DecimalFormat;
+import java.text.Format;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.xn__ho_hia.quality.null_analysis.Nullsafe;
+
+/**
+ * Immutable and thread-safe formatter for storage units.
+ * <p>
+ * Similar to {@link java.time.format.DateTimeFormatter}, a formatter compiles its pattern, locale, unit selection and
+ * symbol placement once and can afterwards be shared freely between threads. Use one of the <code>of</code> methods to
+ * select the unit(s) to format into and customize the output with the <code>with</code> methods, e.g.:
+ *
+ * <pre>
+ * StorageUnitFormatter formatter = StorageUnitFormatter.ofBinaryUnits()
+ *         .withPattern("#,##0.0")
+ *         .withLocale(Locale.GERMAN);
+ * formatter.format(1_572_864L); // 1,5 MiB
+ * </pre>
+ */
+public final class StorageUnitFormatter {
+
+    /**
+     * Placement of the unit symbol relative to the formatted amount.
+     */
+    public enum SymbolPlacement {
+
+        /**
+         * Places the symbol after the amount, separated by a single whitespace character, e.g. <code>1.00 KiB</code>.
+         */
+        SUFFIX,
+
+        /**
+         * Places the symbol before the amount, separated by a single whitespace character, e.g. <code>KiB 1.00</code>.
+         */
+        PREFIX,
+
+        /**
+         * Omits the symbol, e.g. <code>1.00</code>.
+         */
+        NONE
+
+    }
+
+    @NonNull
+    private static final StorageUnitFormatter BINARY_UNITS = ofUnit(StorageUnit::asBestMatchingBinaryUnit);
+
+    @NonNull
+    private static final StorageUnitFormatter DECIMAL_UNITS = ofUnit(StorageUnit::asBestMatchingDecimalUnit);
+
+    @NonNull
+    private static final StorageUnitFormatter COMMON_UNITS = ofUnit(StorageUnit::asBestMatchingCommonUnit);
+
+    private final Function<StorageUnit<?>, ? extends StorageUnit<?>> converter;
+    private final String pattern;
+    @Nullable
+    private final Locale locale;
+    private final SymbolPlacement symbolPlacement;
+    @Nullable
+    private final ThreadLocal<DecimalFormat> formats;
+    private final boolean defaultPattern;
+    // formatters derived by the static format methods of StorageUnits, without and with a locale
+    private final ConcurrentMap<String, StorageUnitFormatter> derivedByPattern = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Locale, ConcurrentMap<String, StorageUnitFormatter>> derivedByLocale =
+            new ConcurrentHashMap<>();
+
+    private StorageUnitFormatter(final Function<StorageUnit<?>, ? extends StorageUnit<?>> converter,
+            final String pattern, @Nullable final Locale locale, final SymbolPlacement symbolPlacement) {
+        this.converter = converter;
+        this.pattern = pattern;
+        this.locale = locale;
+        this.symbolPlacement = symbolPlacement;
+        // without a locale the default format locale is resolved on each call, just like new DecimalFormat(pattern)
+        this.formats = locale == null ? null : FormatUtils.compiledFormat(pattern, locale);
+        this.defaultPattern = DEFAULT_FORMAT_PATTERN.equals(pattern);
+    }
+
+    /**
+     * @return A formatter which formats amounts into their best-matching binary unit.
+     */
+    @NonNull
+    public static StorageUnitFormatter ofBinaryUnits() {
+        return BINARY_UNITS;
+    }
+
+    /**
+     * @return A formatter which formats amounts into their best-matching decimal unit.
+     */
+    @NonNull
+    public static StorageUnitFormatter ofDecimalUnits() {
+        return DECIMAL_UNITS;
+    }
+
+    /**
+     * @return A formatter which formats amounts into their best-matching common unit.
+     */
+    @NonNull
+    public static StorageUnitFormatter ofCommonUnits() {
+        return COMMON_UNITS;
+    }
+
+    /**
+     * Creates a formatter which converts amounts with the given function before formatting them, e.g.
+     * <code>StorageUnitFormatter.ofUnit(StorageUnit::asGibibyte)</code>.
+     *
+     * @param converter
+     *            The conversion to apply to each storage unit before formatting it.
+     * @return A formatter which formats amounts into the unit produced by the given converter.
+     */
+    @NonNull
+    public static StorageUnitFormatter ofUnit(
+            @NonNull final Function<StorageUnit<?>, ? extends StorageUnit<?>> converter) {
+        return new StorageUnitFormatter(converter, DEFAULT_FORMAT_PATTERN, null, SymbolPlacement.SUFFIX);
+    }
+
+    /**
+     * @param newPattern
+     *            The {@link DecimalFormat} pattern to apply.
+     * @return A copy of this formatter that uses the given pattern.
+     */
+    @NonNull
+    public StorageUnitFormatter withPattern(@NonNull final String newPattern) {
+        if (this.pattern.equals(newPattern)) {
+            return this;
+        }
+        return new StorageUnitFormatter(this.converter, newPattern, this.locale, this.symbolPlacement);
+    }
+
+    /**
+     * @param newLocale
+     *            The locale to use.
+     * @return A copy of this formatter that uses the given locale.
+     */
+    @NonNull
+    public StorageUnitFormatter withLocale(@NonNull final Locale newLocale) {
+        if (newLocale.equals(this.locale)) {
+            return this;
+        }
+        return new StorageUnitFormatter(this.converter, this.pattern, newLocale, this.symbolPlacement);
+    }
+
+    /**
+     * Cached variant of <code>withPattern(newPattern).withLocale(newLocale)</code> for the static format methods of
+     * {@link StorageUnits}, which would otherwise create a new formatter on each call. A <code>null</code> locale keeps
+     * the locale of this formatter.
+     */
+    @NonNull
+    StorageUnitFormatter withCachedSettings(final String newPattern, @Nullable final Locale newLocale) {
+        final Locale targetLocale = newLocale == null ? this.locale : newLocale;
+        if (this.pattern.equals(newPattern) && Objects.equals(this.locale, targetLocale)) {
+            return this;
+        }
+        ConcurrentMap<String, StorageUnitFormatter> cache = this.derivedByPattern;
+        if (targetLocale != null) {
+            cache = this.derivedByLocale.get(targetLocale);
+            if (cache == null) {
+                cache = FormatUtils.cached(this.derivedByLocale, targetLocale, key -> new ConcurrentHashMap<>());
+            }
+        }
+        final StorageUnitFormatter cached = cache.get(newPattern);
+        if (cached != null) {
+            return cached;
+        }
+        return FormatUtils.cached(cache, newPattern,
+                key -> new StorageUnitFormatter(this.converter, newPattern, targetLocale, this.symbolPlacement));
+    }
+
+    /**
+     * @param newSymbolPlacement
+     *            The placement of the unit symbol.
+     * @return A copy of this formatter that places the unit symbol as specified.
+     */
+    @NonNull
+    public StorageUnitFormatter withSymbolPlacement(@NonNull final SymbolPlacement newSymbolPlacement) {
+        if (this.symbolPlacement == newSymbolPlacement) {
+            return this;
+        }
+        return new StorageUnitFormatter(this.converter, this.pattern, this.locale, newSymbolPlacement);
+    }
+
+    /**
+     * @return The {@link DecimalFormat} pattern of this formatter.
+     */
+    @NonNull
+    public String getPattern() {
+        return Nullsafe.nonNull(this.pattern);
+    }
+
+    /**
+     * @return The locale of this formatter or <code>null</code> in case the default format locale is used.
+     */
+    @Nullable
+    public Locale getLocale() {
+        return this.locale;
+    }
+
+    /**
+     * @return The placement of the unit symbol.
+     */
+    @NonNull
+    public SymbolPlacement getSymbolPlacement() {
+        return Nullsafe.nonNull(this.symbolPlacement);
+    }
+
+    /**
+     * @param numberOfBytes
+     *            The amount of bytes to format.
+     * @return The formatted bytes.
+     */
+    @NonNull
+    public String format(final long numberOfBytes) {
+        return this.format(new Byte(numberOfBytes));
+    }
+
+    /**
+     * @param numberOfBytes
+     *            The amount of bytes to format.
+     * @return The formatted bytes.
+     */
+    @NonNull
+    public String format(@NonNull final BigInteger numberOfBytes) {
+        return this.format(new Byte(numberOfBytes));
+    }
+
+    /**
+     * @param unit
+     *            The storage unit to format.
+     * @return The formatted storage unit.
+     */
+    @NonNull
+    public String format(@NonNull final StorageUnit<?> unit) {
+        final StorageUnit<?> converted = Nullsafe.nonNull(this.converter.apply(unit));
+        if (this.defaultPattern && this.symbolPlacement == SymbolPlacement.SUFFIX) {
+            return formatWithDefaultPattern(converted);
+        }
+        final Format format = this.format();
+        switch (this.symbolPlacement) {
+            case PREFIX:
+                return Nullsafe.nonNull(new StringBuilder()
+                        .append(converted.getSymbol())
+                        .append(" ") //$NON-NLS-1$
+                        .append(format.format(converted.amount()))
+                        .toString());
+            case NONE:
+                return Nullsafe.nonNull(format.format(converted.amount()));
+            default:
+                return converted.toString(format);
+        }
+    }
+
+    private String formatWithDefaultPattern(final StorageUnit<?> unit) {
+        final Locale formatLocale = this.locale;
+        final StringBuilder builder = new StringBuilder();
+        try {
+            unit.formatTo(builder,
+                    formatLocale != null ? formatLocale : Locale.getDefault(Locale.Category.FORMAT));
+        } catch (final IOException exception) {
+            // never thrown by StringBuilder
+            throw new UncheckedIOException(exception);
+        }
+        return Nullsafe.nonNull(builder.toString());
+    }
+
+    private Format format() {
+        final ThreadLocal<DecimalFormat> compiled = this.formats;
+        if (compiled != null) {
+            return Nullsafe.nonNull(compiled.get());
+        }
+        return FormatUtils.cachedFormat(this.pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+}
@@ -0,0 +1,391 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import static de.xn__ho_hia.storage_unit.StorageUnitType.POWERS_OF_TEN;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * Histogram of amounts of bytes with logarithmic buckets, similar to an HDR histogram.
+ * <p>
+ * Each power of the base is split into linear sub-buckets. Binary histograms use powers of two, thus every binary unit
+ * boundary (1 KiB, 1 MiB, ...) starts a new bucket. Decimal histograms use powers of ten, thus every decimal unit
+ * boundary (1 kB, 1 MB, ...) starts a new bucket. Amounts below the number of sub-buckets are recorded exactly, larger
+ * amounts with a relative error of at most one sub-bucket, e.g. 1/256 for 8 significant bits or 1/100 for 3
+ * significant digits.
+ * <p>
+ * Recording is allocation-free and takes constant time. Histograms are not thread-safe. Histograms with the same
+ * layout, e.g. one per thread or node, can be combined without any loss with {@link #merge(StorageUnitHistogram)}
+ * and transferred with {@link #toByteArray()} and {@link #fromByteArray(byte[])}, e.g.:
+ *
+ * <pre>
+ * StorageUnitHistogram objectSizes = StorageUnitHistogram.binary(8);
+ * objectSizes.record(4_096);
+ * objectSizes.quantile(0.99);   // e.g. "4.00 KiB"
+ * </pre>
+ */
+public final class StorageUnitHistogram {
+
+    private static final int MAXIMUM_SIGNIFICANT_BITS = 12;
+    private static final int MAXIMUM_SIGNIFICANT_DIGITS = 4;
+    private static final int MAXIMUM_DIGITS = 19;
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 3;
+    private static final int MAXIMUM_VARINT_BYTES = 10;
+
+    private final int radix;
+    private final int precision;
+
+    // Binary histograms: 2^precision, decimal histograms: 10^precision
+    private final long subBuckets;
+
+    // Decimal histograms only: 10^(precision - 1) and the number of buckets per power of ten
+    private final long smallestTop;
+    private final long bucketsPerPower;
+
+    private final long[] counts;
+    private long totalCount;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    private StorageUnitHistogram(final int radix, final int precision) {
+        this.radix = radix;
+        this.precision = precision;
+        if (radix == 2) {
+            this.subBuckets = 1L << precision;
+            this.smallestTop = 0;
+            this.bucketsPerPower = 0;
+            this.counts = new long[(int) ((Long.SIZE - precision) * this.subBuckets)];
+        } else {
+            this.subBuckets = POWERS_OF_TEN[precision];
+            this.smallestTop = POWERS_OF_TEN[precision - 1];
+            this.bucketsPerPower = this.subBuckets - this.smallestTop;
+            this.counts = new long[(int) (this.subBuckets + (MAXIMUM_DIGITS - precision) * this.bucketsPerPower)];
+        }
+    }
+
+    /**
+     * Creates a histogram whose buckets are aligned to powers of two and thus to all binary units.
+     *
+     * @param significantBits
+     *            The number of significant bits kept per recorded amount, between 1 and 12.
+     * @return A new empty histogram.
+     */
+    @NonNull
+    public static StorageUnitHistogram binary(final int significantBits) {
+        if (significantBits < 1 || significantBits > MAXIMUM_SIGNIFICANT_BITS) {
+            throw new IllegalArgumentException("Illegal number of significant bits: " + significantBits); //$NON-NLS-1$
+        }
+        return new StorageUnitHistogram(2, significantBits);
+    }
+
+    /**
+     * Creates a histogram whose buckets are aligned to powers of ten and thus to all decimal units.
+     *
+     * @param significantDigits
+     *            The number of significant decimal digits kept per recorded amount, between 1 and 4.
+     * @return A new empty histogram.
+     */
+    @NonNull
+    public static StorageUnitHistogram decimal(final int significantDigits) {
+        if (significantDigits < 1 || significantDigits > MAXIMUM_SIGNIFICANT_DIGITS) {
+            throw new IllegalArgumentException("Illegal number of significant digits: " + significantDigits); //$NON-NLS-1$
+        }
+        return new StorageUnitHistogram(10, significantDigits);
+    }
+
+    /**
+     * @param bytes
+     *            The amount of bytes to record, must not be negative.
+     */
+    public void record(final long bytes) {
+        record(bytes, 1);
+    }
+
+    /**
+     * @param bytes
+     *            The amount of bytes to record, must not be negative.
+     * @param count
+     *            The number of times to record the given amount of bytes.
+     */
+    public void record(final long bytes, final long count) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("Negative amount of bytes: " + bytes); //$NON-NLS-1$
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count); //$NON-NLS-1$
+        }
+        if (count == 0) {
+            return;
+        }
+        this.counts[index(bytes)] += count;
+        this.totalCount += count;
+        if (bytes < this.min) {
+            this.min = bytes;
+        }
+        if (bytes > this.max) {
+            this.max = bytes;
+        }
+    }
+
+    /**
+     * @param unit
+     *            The storage unit to record, must not be negative.
+     * @throws ArithmeticException
+     *             In case the amount of bytes of the given unit does not fit into a <code>long</code>.
+     */
+    public void record(@NonNull final StorageUnit<?> unit) {
+        if (unit.bigBytes != null) {
+            throw new ArithmeticException("Storage unit out of long range: " + unit); //$NON-NLS-1$
+        }
+        record(unit.bytes);
+    }
+
+    /**
+     * @return The number of recorded amounts.
+     */
+    public long getTotalCount() {
+        return this.totalCount;
+    }
+
+    /**
+     * @return <code>true</code> in case nothing was recorded yet.
+     */
+    public boolean isEmpty() {
+        return this.totalCount == 0;
+    }
+
+    /**
+     * @return The exact smallest recorded amount as best-matching unit.
+     * @throws NoSuchElementException
+     *             In case this histogram is empty.
+     */
+    @NonNull
+    public StorageUnit<?> min() {
+        checkNotEmpty();
+        return unit(this.min);
+    }
+
+    /**
+     * @return The exact largest recorded amount as best-matching unit.
+     * @throws NoSuchElementException
+     *             In case this histogram is empty.
+     */
+    @NonNull
+    public StorageUnit<?> max() {
+        checkNotEmpty();
+        return unit(this.max);
+    }
+
+    /**
+     * Returns the lower bound of the bucket containing the given quantile, thus exact unit boundaries like 4 KiB are
+     * returned as is. The quantiles 0 and 1 return the exact smallest and largest recorded amounts.
+     *
+     * @param quantile
+     *            The quantile to get, between 0 and 1, e.g. 0.5 for the median or 0.99 for the 99th percentile.
+     * @return The amount of bytes at the given quantile as best-matching unit.
+     * @throws NoSuchElementException
+     *             In case this histogram is empty.
+     */
+    @NonNull
+    public StorageUnit<?> quantile(final double quantile) {
+        if (!(quantile >= 0 && quantile <= 1)) {
+            throw new IllegalArgumentException("Illegal quantile: " + quantile); //$NON-NLS-1$
+        }
+        checkNotEmpty();
+        if (quantile == 0) {
+            return unit(this.min);
+        }
+        if (quantile == 1) {
+            return unit(this.max);
+        }
+        final long rank = Math.max(1, (long) Math.ceil(quantile * this.totalCount));
+        long seen = 0;
+        for (int index = 0; index < this.counts.length; index++) {
+            seen += this.counts[index];
+            if (seen >= rank) {
+                return unit(Math.max(this.min, lowerBound(index)));
+            }
+        }
+        return unit(this.max);
+    }
+
+    /**
+     * Adds all recorded amounts of another histogram with the same layout to this histogram.
+     *
+     * @param other
+     *            The histogram to merge into this histogram.
+     * @throws IllegalArgumentException
+     *             In case the other histogram uses a different base or precision.
+     */
+    public void merge(@NonNull final StorageUnitHistogram other) {
+        if (this.radix != other.radix || this.precision != other.precision) {
+            throw new IllegalArgumentException("Cannot merge histograms with different layouts"); //$NON-NLS-1$
+        }
+        for (int index = 0; index < this.counts.length; index++) {
+            this.counts[index] += other.counts[index];
+        }
+        this.totalCount += other.totalCount;
+        this.min = Math.min(this.min, other.min);
+        this.max = Math.max(this.max, other.max);
+    }
+
+    /**
+     * Removes all recorded amounts.
+     */
+    public void reset() {
+        Arrays.fill(this.counts, 0);
+        this.totalCount = 0;
+        this.min = Long.MAX_VALUE;
+        this.max = Long.MIN_VALUE;
+    }
+
+    /**
+     * Encodes this histogram without any loss. Only non-empty buckets are written, thus the size of the result
+     * depends on the spread of the recorded amounts rather than the number of buckets.
+     *
+     * @return The encoded histogram.
+     * @see #fromByteArray(byte[])
+     */
+    @NonNull
+    public byte[] toByteArray() {
+        int nonEmptyBuckets = 0;
+        for (final long count : this.counts) {
+            if (count != 0) {
+                nonEmptyBuckets++;
+            }
+        }
+        final ByteBuffer buffer = ByteBuffer
+                .allocate(HEADER_BYTES + (2 + 2 * nonEmptyBuckets) * MAXIMUM_VARINT_BYTES);
+        buffer.put(FORMAT_VERSION).put((byte) this.radix).put((byte) this.precision);
+        writeVarLong(buffer, this.min);
+        writeVarLong(buffer, this.max);
+        int previous = -1;
+        for (int index = 0; index < this.counts.length; index++) {
+            if (this.counts[index] != 0) {
+                writeVarLong(buffer, index - previous);
+                writeVarLong(buffer, this.counts[index]);
+                previous = index;
+            }
+        }
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    /**
+     * @param bytes
+     *            A histogram encoded with {@link #toByteArray()}.
+     * @return The decoded histogram.
+     * @throws IllegalArgumentException
+     *             In case the given bytes are not a valid encoded histogram.
+     */
+    @NonNull
+    public static StorageUnitHistogram fromByteArray(@NonNull final byte[] bytes) {
+        try {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            if (buffer.get() != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported histogram format"); //$NON-NLS-1$
+            }
+            final int radix = buffer.get();
+            final int precision = buffer.get();
+            if (radix != 2 && radix != 10) {
+                throw new IllegalArgumentException("Unsupported histogram base: " + radix); //$NON-NLS-1$
+            }
+            final StorageUnitHistogram histogram = radix == 2 ? binary(precision) : decimal(precision);
+            histogram.min = readVarLong(buffer);
+            histogram.max = readVarLong(buffer);
+            int index = -1;
+            while (buffer.hasRemaining()) {
+                final long offset = readVarLong(buffer);
+                if (offset < 1 || offset >= histogram.counts.length - index) {
+                    throw new IllegalArgumentException("Invalid bucket offset: " + offset); //$NON-NLS-1$
+                }
+                index += (int) offset;
+                final long count = readVarLong(buffer);
+                if (count < 1) {
+                    throw new IllegalArgumentException("Invalid bucket count: " + count); //$NON-NLS-1$
+                }
+                histogram.counts[index] = count;
+                histogram.totalCount += count;
+            }
+            return histogram;
+        } catch (final BufferUnderflowException exception) {
+            throw new IllegalArgumentException("Truncated or corrupt histogram", exception); //$NON-NLS-1$
+        }
+    }
+
+    int index(final long bytes) {
+        if (bytes < this.subBuckets) {
+            return (int) bytes;
+        }
+        if (this.radix == 2) {
+            final int shift = Long.SIZE - Long.numberOfLeadingZeros(bytes) - this.precision - 1;
+            return (int) (((long) shift << this.precision) + (bytes >>> shift));
+        }
+        final int shift = numberOfDigits(bytes) - this.precision;
+        final long top = bytes / POWERS_OF_TEN[shift];
+        return (int) (this.subBuckets + (shift - 1) * this.bucketsPerPower + top - this.smallestTop);
+    }
+
+    long lowerBound(final int index) {
+        if (index < this.subBuckets) {
+            return index;
+        }
+        if (this.radix == 2) {
+            final int shift = (index >>> this.precision) - 1;
+            return index - ((long) shift << this.precision) << shift;
+        }
+        final long offset = index - this.subBuckets;
+        final int shift = (int) (offset / this.bucketsPerPower) + 1;
+        return (offset % this.bucketsPerPower + this.smallestTop) * POWERS_OF_TEN[shift];
+    }
+
+    private static int numberOfDigits(final long value) {
+        // bit length * log10(2), off by at most one
+        final int guess = (Long.SIZE - Long.numberOfLeadingZeros(value)) * 1233 >>> 12;
+        return value >= POWERS_OF_TEN[guess] ? guess + 1 : guess;
+    }
+
+    @NonNull
+    private StorageUnit<?> unit(final long bytes) {
+        return this.radix == 2 ? StorageUnits.binaryValueOf(bytes) : StorageUnits.decimalValueOf(bytes);
+    }
+
+    private void checkNotEmpty() {
+        if (this.totalCount == 0) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    private static void writeVarLong(final ByteBuffer buffer, final long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            buffer.put((byte) (remaining & 0x7F | 0x80));
+            remaining >>>= 7;
+        }
+        buffer.put((byte) remaining);
+    }
+
+    private static long readVarLong(final ByteBuffer buffer) {
+        long result = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            final byte next = buffer.get();
+            result |= (long) (next & 0x7F) << shift;
+            if (next >= 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable length number"); //$NON-NLS-1$
+    }
+
+}
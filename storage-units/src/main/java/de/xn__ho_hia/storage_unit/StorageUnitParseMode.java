@@ -0,0 +1,35 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+/**
+ * Controls which inputs are accepted by {@link StorageUnits#parse(CharSequence, StorageUnitParseMode)} and
+ * {@link StorageUnits#parseBytes(CharSequence, StorageUnitParseMode)}.
+ * <p>
+ * Both modes expect an optional sign, a decimal amount with <code>.</code> as decimal separator and a unit symbol.
+ * Decimal symbols like <code>kB</code> or <code>GB</code> are always read as decimal units, binary symbols like
+ * <code>KiB</code> or <code>GiB</code> as binary units. Fractions of a byte are rounded half up.
+ */
+public enum StorageUnitParseMode {
+
+    /**
+     * Accepts the symbols returned by {@link StorageUnit#getSymbol()} in their exact spelling, optionally separated
+     * from the amount by a single space, e.g. <code>1.50 GiB</code>, <code>-512MB</code> or <code>10 kB</code>.
+     * Surrounding whitespace is rejected.
+     */
+    STRICT,
+
+    /**
+     * Additionally accepts surrounding whitespace, any amount of whitespace between amount and symbol, a leading
+     * <code>+</code>, amounts without integer or fraction digits (<code>.5</code>, <code>5.</code>) and symbols in
+     * any case with an optional trailing <code>B</code>, e.g. <code>1.5 gib</code>, <code>512m</code>,
+     * <code>10 KB</code> or <code>+2 Ki</code>. Amounts without a symbol as well as the symbols <code>byte</code> and
+     * <code>bytes</code> are read as bytes.
+     */
+    LENIENT
+
+}
@@ -0,0 +1,202 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.xn__ho_hia.quality.null_analysis.Nullsafe;
+
+/**
+ * Count, sum, minimum, maximum and average of storage units, similar to {@link java.util.LongSummaryStatistics}.
+ * Amounts are kept as primitive <code>long</code> values and only promoted to {@link BigInteger} when they leave the
+ * range of <code>long</code>. Instances are not thread-safe, parallel streams use one instance per thread and
+ * {@link #combine(StorageUnitSummaryStatistics) combine} them afterwards, e.g.:
+ *
+ * <pre>
+ * StorageUnitSummaryStatistics statistics = files.parallelStream()
+ *         .map(File::size)
+ *         .collect(StorageUnitCollectors.summarizing());
+ * statistics.getAverage();   // e.g. "1.50 MiB"
+ * </pre>
+ *
+ * All results are returned as best-matching binary units.
+ */
+public final class StorageUnitSummaryStatistics implements Consumer<StorageUnit<?>>, LongConsumer {
+
+    private final UnitSum sum = new UnitSum();
+    private long count;
+    private long longCount;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    // Extremes of the units below Long.MIN_VALUE and above Long.MAX_VALUE
+    @Nullable
+    private BigInteger smallestBelow;
+    @Nullable
+    private BigInteger largestBelow;
+    @Nullable
+    private BigInteger smallestAbove;
+    @Nullable
+    private BigInteger largestAbove;
+
+    @Override
+    public void accept(final long bytes) {
+        this.count++;
+        this.longCount++;
+        this.sum.add(bytes);
+        if (bytes < this.min) {
+            this.min = bytes;
+        }
+        if (bytes > this.max) {
+            this.max = bytes;
+        }
+    }
+
+    @Override
+    public void accept(final StorageUnit<?> unit) {
+        final BigInteger bigBytes = Nullsafe.nonNull(unit).bigBytes;
+        if (bigBytes == null) {
+            accept(unit.bytes);
+        } else {
+            this.count++;
+            this.sum.add(unit);
+            acceptBig(bigBytes, bigBytes);
+        }
+    }
+
+    /**
+     * Adds the values of another instance to this instance.
+     *
+     * @param other
+     *            The statistics to combine with this instance.
+     */
+    public void combine(@NonNull final StorageUnitSummaryStatistics other) {
+        this.count += other.count;
+        this.longCount += other.longCount;
+        this.sum.add(other.sum);
+        this.min = Math.min(this.min, other.min);
+        this.max = Math.max(this.max, other.max);
+        final BigInteger otherSmallestBelow = other.smallestBelow;
+        final BigInteger otherLargestBelow = other.largestBelow;
+        if (otherSmallestBelow != null && otherLargestBelow != null) {
+            acceptBig(otherSmallestBelow, otherLargestBelow);
+        }
+        final BigInteger otherSmallestAbove = other.smallestAbove;
+        final BigInteger otherLargestAbove = other.largestAbove;
+        if (otherSmallestAbove != null && otherLargestAbove != null) {
+            acceptBig(otherSmallestAbove, otherLargestAbove);
+        }
+    }
+
+    /**
+     * @return The number of accepted units.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * @return The sum of all accepted units, zero in case none were accepted.
+     */
+    @NonNull
+    public StorageUnit<?> getSum() {
+        return this.sum.toUnit();
+    }
+
+    /**
+     * @return The smallest accepted unit.
+     * @throws NoSuchElementException
+     *             In case no units were accepted.
+     */
+    @NonNull
+    public StorageUnit<?> getMin() {
+        checkNotEmpty();
+        final BigInteger below = this.smallestBelow;
+        if (below != null) {
+            return StorageUnits.binaryValueOf(below);
+        }
+        if (this.longCount > 0) {
+            return StorageUnits.binaryValueOf(this.min);
+        }
+        return StorageUnits.binaryValueOf(Nullsafe.nonNull(this.smallestAbove));
+    }
+
+    /**
+     * @return The largest accepted unit.
+     * @throws NoSuchElementException
+     *             In case no units were accepted.
+     */
+    @NonNull
+    public StorageUnit<?> getMax() {
+        checkNotEmpty();
+        final BigInteger above = this.largestAbove;
+        if (above != null) {
+            return StorageUnits.binaryValueOf(above);
+        }
+        if (this.longCount > 0) {
+            return StorageUnits.binaryValueOf(this.max);
+        }
+        return StorageUnits.binaryValueOf(Nullsafe.nonNull(this.largestBelow));
+    }
+
+    /**
+     * @return The arithmetic mean of all accepted units rounded half up to whole bytes, zero in case none were
+     *         accepted.
+     */
+    @NonNull
+    public StorageUnit<?> getAverage() {
+        if (this.count == 0) {
+            return StorageUnits.bytes(0);
+        }
+        final BigDecimal total = new BigDecimal(this.sum.toBigInteger());
+        return StorageUnits.binaryValueOf(Nullsafe.nonNull(total
+                .divide(BigDecimal.valueOf(this.count), 0, RoundingMode.HALF_UP)
+                .toBigInteger()));
+    }
+
+    @Override
+    public String toString() {
+        if (this.count == 0) {
+            return "StorageUnitSummaryStatistics{count=0}"; //$NON-NLS-1$
+        }
+        return "StorageUnitSummaryStatistics{count=" + this.count + ", sum=" + getSum() + ", min=" + getMin() //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                + ", average=" + getAverage() + ", max=" + getMax() + "}"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    private void acceptBig(final BigInteger smallest, final BigInteger largest) {
+        if (smallest.signum() < 0) {
+            this.smallestBelow = min(this.smallestBelow, smallest);
+            this.largestBelow = max(this.largestBelow, largest);
+        } else {
+            this.smallestAbove = min(this.smallestAbove, smallest);
+            this.largestAbove = max(this.largestAbove, largest);
+        }
+    }
+
+    private static BigInteger min(@Nullable final BigInteger current, final BigInteger candidate) {
+        return current == null || candidate.compareTo(current) < 0 ? candidate : current;
+    }
+
+    private static BigInteger max(@Nullable final BigInteger current, final BigInteger candidate) {
+        return current == null || candidate.compareTo(current) > 0 ? candidate : current;
+    }
+
+    private void checkNotEmpty() {
+        if (this.count == 0) {
+            throw new NoSuchElementException();
+        }
+    }
+
+}
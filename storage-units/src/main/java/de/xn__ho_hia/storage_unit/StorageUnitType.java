@@ -0,0 +1,538 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
+
+import java.math.BigInteger;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The types of all available storage units, modelled after {@link java.util.concurrent.TimeUnit}.
+ * <p>
+ * Converts amounts between units on primitive <code>long</code> values without creating any objects. Conversions to
+ * smaller units saturate at {@link Long#MAX_VALUE} or {@link Long#MIN_VALUE} in case they would overflow, while
+ * conversions to larger units truncate towards zero, e.g.
+ *
+ * <pre>
+ * StorageUnitType.MEBIBYTE.toBytes(3);                             // 3 145 728
+ * StorageUnitType.KIBIBYTE.convert(3, StorageUnitType.MEBIBYTE);   // 3 072
+ * StorageUnitType.GIBIBYTE.convert(1023, StorageUnitType.MEBIBYTE); // 0
+ * StorageUnitType.YOBIBYTE.toBytes(1);                             // Long.MAX_VALUE
+ * </pre>
+ *
+ * Use the <code>double</code> variants to retain fractions.
+ */
+public enum StorageUnitType {
+
+    /**
+     * Type of the {@link Byte} unit.
+     */
+    BYTE(2, 0, nonNull(BigInteger.ONE), "B", //$NON-NLS-1$
+            StorageUnits::bytes, StorageUnits::bytes),
+
+    /**
+     * Type of the {@link Kibibyte} unit.
+     */
+    KIBIBYTE(2, 10, StorageUnit.BYTES_IN_A_KIBIBYTE, "KiB", //$NON-NLS-1$
+            StorageUnits::kibibyte, StorageUnits::kibibyte),
+
+    /**
+     * Type of the {@link Mebibyte} unit.
+     */
+    MEBIBYTE(2, 20, StorageUnit.BYTES_IN_A_MEBIBYTE, "MiB", //$NON-NLS-1$
+            StorageUnits::mebibyte, StorageUnits::mebibyte),
+
+    /**
+     * Type of the {@link Gibibyte} unit.
+     */
+    GIBIBYTE(2, 30, StorageUnit.BYTES_IN_A_GIBIBYTE, "GiB", //$NON-NLS-1$
+            StorageUnits::gibibyte, StorageUnits::gibibyte),
+
+    /**
+     * Type of the {@link Tebibyte} unit.
+     */
+    TEBIBYTE(2, 40, StorageUnit.BYTES_IN_A_TEBIBYTE, "TiB", //$NON-NLS-1$
+            StorageUnits::tebibyte, StorageUnits::tebibyte),
+
+    /**
+     * Type of the {@link Pebibyte} unit.
+     */
+    PEBIBYTE(2, 50, StorageUnit.BYTES_IN_A_PEBIBYTE, "PiB", //$NON-NLS-1$
+            StorageUnits::pebibyte, StorageUnits::pebibyte),
+
+    /**
+     * Type of the {@link Exbibyte} unit.
+     */
+    EXBIBYTE(2, 60, StorageUnit.BYTES_IN_A_EXBIBYTE, "EiB", //$NON-NLS-1$
+            StorageUnits::exbibyte, StorageUnits::exbibyte),
+
+    /**
+     * Type of the {@link Zebibyte} unit.
+     */
+    ZEBIBYTE(2, 70, StorageUnit.BYTES_IN_A_ZEBIBYTE, "ZiB", //$NON-NLS-1$
+            StorageUnits::zebibyte, StorageUnits::zebibyte),
+
+    /**
+     * Type of the {@link Yobibyte} unit.
+     */
+    YOBIBYTE(2, 80, StorageUnit.BYTES_IN_A_YOBIBYTE, "YiB", //$NON-NLS-1$
+            StorageUnits::yobibyte, StorageUnits::yobibyte),
+
+    /**
+     * Type of the {@link Kilobyte} unit.
+     */
+    KILOBYTE(10, 3, StorageUnit.BYTES_IN_A_KILOBYTE, "kB", //$NON-NLS-1$
+            StorageUnits::kilobyte, StorageUnits::kilobyte),
+
+    /**
+     * Type of the {@link Megabyte} unit.
+     */
+    MEGABYTE(10, 6, StorageUnit.BYTES_IN_A_MEGABYTE, "MB", //$NON-NLS-1$
+            StorageUnits::megabyte, StorageUnits::megabyte),
+
+    /**
+     * Type of the {@link Gigabyte} unit.
+     */
+    GIGABYTE(10, 9, StorageUnit.BYTES_IN_A_GIGABYTE, "GB", //$NON-NLS-1$
+            StorageUnits::gigabyte, StorageUnits::gigabyte),
+
+    /**
+     * Type of the {@link Terabyte} unit.
+     */
+    TERABYTE(10, 12, StorageUnit.BYTES_IN_A_TERABYTE, "TB", //$NON-NLS-1$
+            StorageUnits::terabyte, StorageUnits::terabyte),
+
+    /**
+     * Type of the {@link Petabyte} unit.
+     */
+    PETABYTE(10, 15, StorageUnit.BYTES_IN_A_PETABYTE, "PB", //$NON-NLS-1$
+            StorageUnits::petabyte, StorageUnits::petabyte),
+
+    /**
+     * Type of the {@link Exabyte} unit.
+     */
+    EXABYTE(10, 18, StorageUnit.BYTES_IN_A_EXABYTE, "EB", //$NON-NLS-1$
+            StorageUnits::exabyte, StorageUnits::exabyte),
+
+    /**
+     * Type of the {@link Zettabyte} unit.
+     */
+    ZETTABYTE(10, 21, StorageUnit.BYTES_IN_A_ZETTABYTE, "ZB", //$NON-NLS-1$
+            StorageUnits::zettabyte, StorageUnits::zettabyte),
+
+    /**
+     * Type of the {@link Yottabyte} unit.
+     */
+    YOTTABYTE(10, 24, StorageUnit.BYTES_IN_A_YOTTABYTE, "YB", //$NON-NLS-1$
+            StorageUnits::yottabyte, StorageUnits::yottabyte),
+
+    /**
+     * Type of the {@link CommonKilobyte} unit.
+     */
+    COMMON_KILOBYTE(2, 10, StorageUnit.BYTES_IN_A_KIBIBYTE, "kB", //$NON-NLS-1$
+            StorageUnits::commonKilobyte, StorageUnits::commonKilobyte),
+
+    /**
+     * Type of the {@link CommonMegabyte} unit.
+     */
+    COMMON_MEGABYTE(2, 20, StorageUnit.BYTES_IN_A_MEBIBYTE, "MB", //$NON-NLS-1$
+            StorageUnits::commonMegabyte, StorageUnits::commonMegabyte),
+
+    /**
+     * Type of the {@link CommonGigabyte} unit.
+     */
+    COMMON_GIGABYTE(2, 30, StorageUnit.BYTES_IN_A_GIBIBYTE, "GB", //$NON-NLS-1$
+            StorageUnits::commonGigabyte, StorageUnits::commonGigabyte),
+
+    /**
+     * Type of the {@link CommonTerabyte} unit.
+     */
+    COMMON_TERABYTE(2, 40, StorageUnit.BYTES_IN_A_TEBIBYTE, "TB", //$NON-NLS-1$
+            StorageUnits::commonTerabyte, StorageUnits::commonTerabyte),
+
+    /**
+     * Type of the {@link CommonPetabyte} unit.
+     */
+    COMMON_PETABYTE(2, 50, StorageUnit.BYTES_IN_A_PEBIBYTE, "PB", //$NON-NLS-1$
+            StorageUnits::commonPetabyte, StorageUnits::commonPetabyte),
+
+    /**
+     * Type of the {@link CommonExabyte} unit.
+     */
+    COMMON_EXABYTE(2, 60, StorageUnit.BYTES_IN_A_EXBIBYTE, "EB", //$NON-NLS-1$
+            StorageUnits::commonExabyte, StorageUnits::commonExabyte),
+
+    /**
+     * Type of the {@link CommonZettabyte} unit.
+     */
+    COMMON_ZETTABYTE(2, 70, StorageUnit.BYTES_IN_A_ZEBIBYTE, "ZB", //$NON-NLS-1$
+            StorageUnits::commonZettabyte, StorageUnits::commonZettabyte),
+
+    /**
+     * Type of the {@link CommonYottabyte} unit.
+     */
+    COMMON_YOTTABYTE(2, 80, StorageUnit.BYTES_IN_A_YOBIBYTE, "YB", //$NON-NLS-1$
+            StorageUnits::commonYottabyte, StorageUnits::commonYottabyte);
+
+    private static final int BINARY = 2;
+
+    // Types indexed like the best-matching units, e.g. 0 for bytes, 1 for kibi/kilo, 2 for mebi/mega and so on
+    static final StorageUnitType[] BINARY_TYPES = {
+            BYTE,
+            KIBIBYTE,
+            MEBIBYTE,
+            GIBIBYTE,
+            TEBIBYTE,
+            PEBIBYTE,
+            EXBIBYTE,
+            ZEBIBYTE,
+            YOBIBYTE };
+
+    static final StorageUnitType[] DECIMAL_TYPES = {
+            BYTE,
+            KILOBYTE,
+            MEGABYTE,
+            GIGABYTE,
+            TERABYTE,
+            PETABYTE,
+            EXABYTE,
+            ZETTABYTE,
+            YOTTABYTE };
+
+    static final long[] POWERS_OF_TEN = {
+            1L,
+            10L,
+            100L,
+            1_000L,
+            10_000L,
+            100_000L,
+            1_000_000L,
+            10_000_000L,
+            100_000_000L,
+            1_000_000_000L,
+            10_000_000_000L,
+            100_000_000_000L,
+            1_000_000_000_000L,
+            10_000_000_000_000L,
+            100_000_000_000_000L,
+            1_000_000_000_000_000L,
+            10_000_000_000_000_000L,
+            100_000_000_000_000_000L,
+            1_000_000_000_000_000_000L };
+
+    // powers of five up to the largest decimal unit, 5^24 < 2^56
+    private static final long[] POWERS_OF_FIVE = powersOfFive(24);
+
+    // marks factors which do not fit into a long
+    private static final long OVERFLOW = -1;
+
+    private static final Map<Class<?>, StorageUnitType> TYPES_BY_CLASS = new IdentityHashMap<>();
+
+    static {
+        for (final StorageUnitType type : values()) {
+            TYPES_BY_CLASS.put(type.getUnitClass(), type);
+        }
+    }
+
+    private final int radix;
+    private final int exponent;
+    @NonNull
+    private final BigInteger numberOfBytes;
+    private final double numberOfBytesAsDouble;
+    @NonNull
+    private final String symbol;
+    private final LongFunction<StorageUnit<?>> longFactory;
+    private final Function<@NonNull BigInteger, StorageUnit<?>> bigIntegerFactory;
+    @NonNull
+    private final StorageUnit<?> zero;
+
+    private StorageUnitType(final int radix, final int exponent, @NonNull final BigInteger numberOfBytes,
+            @NonNull final String symbol, final LongFunction<StorageUnit<?>> longFactory,
+            final Function<@NonNull BigInteger, StorageUnit<?>> bigIntegerFactory) {
+        this.radix = radix;
+        this.exponent = exponent;
+        this.numberOfBytes = numberOfBytes;
+        this.numberOfBytesAsDouble = numberOfBytes.doubleValue();
+        this.symbol = symbol;
+        this.longFactory = longFactory;
+        this.bigIntegerFactory = bigIntegerFactory;
+        this.zero = nonNull(longFactory.apply(0));
+    }
+
+    /**
+     * @return The number of bytes in one unit of this type, e.g. 1024 for {@link #KIBIBYTE}.
+     */
+    @NonNull
+    public BigInteger getNumberOfBytes() {
+        return this.numberOfBytes;
+    }
+
+    /**
+     * @return The symbol of this type, e.g. <code>KiB</code> for {@link #KIBIBYTE}.
+     */
+    @NonNull
+    public String getSymbol() {
+        return this.symbol;
+    }
+
+    /**
+     * @return The class of the storage unit of this type, e.g. {@link Kibibyte} for {@link #KIBIBYTE}.
+     */
+    @NonNull
+    public Class<?> getUnitClass() {
+        return nonNull(this.zero.getClass());
+    }
+
+    /**
+     * @param unitClass
+     *            The class of a concrete storage unit, e.g. {@link Kibibyte}.
+     * @return The type of the given unit class or <code>null</code> in case the given class is not a concrete storage
+     *         unit.
+     */
+    @Nullable
+    public static StorageUnitType forClass(final Class<?> unitClass) {
+        return TYPES_BY_CLASS.get(unitClass);
+    }
+
+    /**
+     * @param amount
+     *            The amount of units of this type.
+     * @return The number of bytes in the given amount, saturated at {@link Long#MAX_VALUE} or {@link Long#MIN_VALUE}
+     *         in case of overflow.
+     */
+    public long toBytes(final long amount) {
+        return BYTE.convert(amount, this);
+    }
+
+    /**
+     * @param amount
+     *            The amount of units of this type.
+     * @return The number of bytes in the given amount.
+     */
+    public double toBytes(final double amount) {
+        return amount * this.numberOfBytesAsDouble;
+    }
+
+    /**
+     * Converts the given amount in the given unit type to this unit type. Conversions to larger units truncate towards
+     * zero, e.g. converting 1023 mebibyte to gibibyte results in 0. Conversions to smaller units saturate at
+     * {@link Long#MAX_VALUE} or {@link Long#MIN_VALUE} in case they would overflow.
+     * <p>
+     * Conversions are calculated without creating any objects, except for conversions of {@link Long#MIN_VALUE}
+     * between binary and decimal units.
+     *
+     * @param sourceAmount
+     *            The amount to convert.
+     * @param sourceType
+     *            The unit type of the given amount.
+     * @return The converted amount in this unit type.
+     */
+    public long convert(final long sourceAmount, @NonNull final StorageUnitType sourceType) {
+        if (sourceType == this) {
+            return sourceAmount;
+        }
+        if (this.exponent == 0 || sourceType.exponent == 0 || this.radix == sourceType.radix) {
+            final int commonRadix = this.exponent == 0 ? sourceType.radix : this.radix;
+            final int difference = sourceType.exponent - this.exponent;
+            return difference >= 0 ? scaleUp(sourceAmount, factor(commonRadix, difference))
+                    : scaleDown(sourceAmount, factor(commonRadix, -difference));
+        }
+        if (sourceAmount == Long.MIN_VALUE) {
+            // the only amount whose magnitude does not fit into a long
+            return saturate(BigInteger.valueOf(sourceAmount).multiply(sourceType.numberOfBytes)
+                    .divide(this.numberOfBytes));
+        }
+        final long magnitude = convertAcrossBases(Math.abs(sourceAmount), sourceType);
+        if (magnitude == OVERFLOW) {
+            return sourceAmount < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+        return sourceAmount < 0 ? -magnitude : magnitude;
+    }
+
+    // 10^n = 2^n * 5^n, thus each conversion between binary and decimal units is a shift and a factor below 2^56.
+    // Returns OVERFLOW in case the converted magnitude does not fit into a long.
+    private long convertAcrossBases(final long magnitude, final StorageUnitType sourceType) {
+        final boolean binarySource = sourceType.radix == BINARY;
+        final int twos = binarySource ? sourceType.exponent : this.exponent;
+        final int tens = binarySource ? this.exponent : sourceType.exponent;
+        final long fives = POWERS_OF_FIVE[tens];
+        if (binarySource) {
+            // magnitude * 2^twos / (2^tens * 5^tens)
+            if (twos >= tens) {
+                return shiftDivide(magnitude, twos - tens, fives);
+            }
+            final int shift = tens - twos;
+            return fives > Long.MAX_VALUE >> shift ? 0 : magnitude / (fives << shift);
+        }
+        // magnitude * 2^tens * 5^tens / 2^twos
+        if (tens >= twos) {
+            final int shift = tens - twos;
+            if (fives > Long.MAX_VALUE >> shift) {
+                return magnitude == 0 ? 0 : OVERFLOW;
+            }
+            final long factor = fives << shift;
+            return magnitude > Long.MAX_VALUE / factor ? OVERFLOW : magnitude * factor;
+        }
+        return multiplyShift(magnitude, fives, twos - tens);
+    }
+
+    /**
+     * Converts the given amount in the given unit type to this unit type.
+     *
+     * @param sourceAmount
+     *            The amount to convert.
+     * @param sourceType
+     *            The unit type of the given amount.
+     * @return The converted amount in this unit type.
+     */
+    public double convert(final double sourceAmount, @NonNull final StorageUnitType sourceType) {
+        if (sourceType == this) {
+            return sourceAmount;
+        }
+        return sourceAmount * sourceType.numberOfBytesAsDouble / this.numberOfBytesAsDouble;
+    }
+
+    /**
+     * @param amount
+     *            The amount of units of this type.
+     * @return A storage unit of this type representing the given amount.
+     */
+    @NonNull
+    public StorageUnit<?> of(final long amount) {
+        return nonNull(this.longFactory.apply(amount));
+    }
+
+    /**
+     * @param amount
+     *            The amount of units of this type.
+     * @return A storage unit of this type representing the given amount.
+     */
+    @NonNull
+    public StorageUnit<?> of(@NonNull final BigInteger amount) {
+        return nonNull(this.bigIntegerFactory.apply(amount));
+    }
+
+    int radix() {
+        return this.radix;
+    }
+
+    int exponent() {
+        return this.exponent;
+    }
+
+    /**
+     * @param bytes
+     *            The amount of bytes.
+     * @return A storage unit of this type representing the given amount of bytes.
+     */
+    @NonNull
+    public StorageUnit<?> ofBytes(final long bytes) {
+        return nonNull(this.zero.create(bytes));
+    }
+
+    /**
+     * @param bytes
+     *            The amount of bytes.
+     * @return A storage unit of this type representing the given amount of bytes.
+     */
+    @NonNull
+    public StorageUnit<?> ofBytes(@NonNull final BigInteger bytes) {
+        return nonNull(this.zero.create(bytes));
+    }
+
+    private static long factor(final int radix, final int exponent) {
+        if (radix == BINARY) {
+            return exponent < Long.SIZE - 1 ? 1L << exponent : OVERFLOW;
+        }
+        return exponent < POWERS_OF_TEN.length ? POWERS_OF_TEN[exponent] : OVERFLOW;
+    }
+
+    private static long scaleUp(final long amount, final long factor) {
+        if (factor == OVERFLOW) {
+            return amount == 0 ? 0 : amount > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+        }
+        final long maximum = Long.MAX_VALUE / factor;
+        if (amount > maximum) {
+            return Long.MAX_VALUE;
+        }
+        if (amount < -maximum) {
+            return Long.MIN_VALUE;
+        }
+        return amount * factor;
+    }
+
+    private static long scaleDown(final long amount, final long factor) {
+        // the magnitude of any long is smaller than factors which do not fit into a long
+        return factor == OVERFLOW ? 0 : amount / factor;
+    }
+
+    private static long[] powersOfFive(final int maximumExponent) {
+        final long[] powers = new long[maximumExponent + 1];
+        powers[0] = 1;
+        for (int exponent = 1; exponent <= maximumExponent; exponent++) {
+            powers[exponent] = powers[exponent - 1] * 5;
+        }
+        return powers;
+    }
+
+    // floor(magnitude * 2^shift / divisor) or OVERFLOW, for divisors below 2^56
+    private static long shiftDivide(final long magnitude, final int shift, final long divisor) {
+        long quotient = magnitude / divisor;
+        long remainder = magnitude % divisor;
+        for (int remaining = shift; remaining > 0;) {
+            // the remainder is smaller than the divisor, thus at least seven bits are shifted per step
+            final int step = Math.min(remaining, Long.numberOfLeadingZeros(remainder) - 1);
+            if (quotient > Long.MAX_VALUE >> step) {
+                return OVERFLOW;
+            }
+            remainder <<= step;
+            quotient = (quotient << step) + remainder / divisor;
+            remainder %= divisor;
+            remaining -= step;
+        }
+        return quotient;
+    }
+
+    // floor(magnitude * factor / 2^shift) or OVERFLOW, for positive shifts
+    private static long multiplyShift(final long magnitude, final long factor, final int shift) {
+        final long high = multiplyHigh(magnitude, factor);
+        if (shift >= Long.SIZE) {
+            return high >>> shift - Long.SIZE;
+        }
+        if (high >>> shift - 1 != 0) {
+            return OVERFLOW;
+        }
+        return high << Long.SIZE - shift | magnitude * factor >>> shift;
+    }
+
+    // upper 64 bits of the 128-bit product of two non-negative longs, see Math.multiplyHigh of Java 9
+    private static long multiplyHigh(final long first, final long second) {
+        final long firstHigh = first >>> 32;
+        final long firstLow = first & 0xFFFFFFFFL;
+        final long secondHigh = second >>> 32;
+        final long secondLow = second & 0xFFFFFFFFL;
+        final long lowProduct = firstLow * secondLow;
+        final long middle = firstHigh * secondLow + (lowProduct >>> 32);
+        final long carry = (middle & 0xFFFFFFFFL) + firstLow * secondHigh;
+        return firstHigh * secondHigh + (middle >>> 32) + (carry >>> 32);
+    }
+
+    private static long saturate(final BigInteger value) {
+        if (value.bitLength() < Long.SIZE) {
+            return value.longValue();
+        }
+        return value.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+    }
+
+}
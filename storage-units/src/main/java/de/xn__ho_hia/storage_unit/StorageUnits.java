@@ -9,7 +9,6 @@ package de.xn__ho_hia.storage_unit;
 import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
 import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
 import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
-import static de.xn__ho_hia.storage_unit.FormatUtils.asFormat;
 import static de.xn__ho_hia.storage_unit.StorageUnit.BYTES_IN_A_EXABYTE;
 import static de.xn__ho_hia.storage_unit.StorageUnit.BYTES_IN_A_EXBIBYTE;
 import static de.xn__ho_hia.storage_unit.StorageUnit.BYTES_IN_A_GIBIBYTE;
@@ -26,10 +25,8 @@ import static de.xn__ho_hia.storage_unit.StorageUnit.BYTES_IN_A_YOBIBYTE;
 import static de.xn__ho_hia.storage_unit.StorageUnit.BYTES_IN_A_YOTTABYTE;
 import static de.xn__ho_hia.storage_unit.StorageUnit.BYTES_IN_A_ZEBIBYTE;
 import static de.xn__ho_hia.storage_unit.StorageUnit.BYTES_IN_A_ZETTABYTE;
-import static de.xn__ho_hia.storage_unit.StorageUnit.DEFAULT_FORMAT_PATTERN;
 
 import java.math.BigInteger;
-import java.text.DecimalFormat;
 import java.text.Format;
 import java.util.Locale;
 
@@ -40,6 +37,122 @@ import org.eclipse.jdt.annotation.NonNull;
  */
 public final class StorageUnits {
 
+    @NonNull
+    private static final StorageUnitFormatter BINARY_UNIT_FORMATTER = StorageUnitFormatter.ofBinaryUnits();
+
+    @NonNull
+    private static final StorageUnitFormatter DECIMAL_UNIT_FORMATTER = StorageUnitFormatter.ofDecimalUnits();
+
+    @NonNull
+    private static final StorageUnitFormatter COMMON_UNIT_FORMATTER = StorageUnitFormatter.ofCommonUnits();
+
+    @NonNull
+    private static final StorageUnitFormatter KIBIBYTE_FORMATTER = StorageUnitFormatter.ofUnit(StorageUnit::asKibibyte);
+
+    @NonNull
+    private static final StorageUnitFormatter MEBIBYTE_FORMATTER = StorageUnitFormatter.ofUnit(StorageUnit::asMebibyte);
+
+    @NonNull
+    private static final StorageUnitFormatter GIBIBYTE_FORMATTER = StorageUnitFormatter.ofUnit(StorageUnit::asGibibyte);
+
+    @NonNull
+    private static final StorageUnitFormatter TEBIBYTE_FORMATTER = StorageUnitFormatter.ofUnit(StorageUnit::asTebibyte);
+
+    @NonNull
+    private static final StorageUnitFormatter PEBIBYTE_FORMATTER = StorageUnitFormatter.ofUnit(StorageUnit::asPebibyte);
+
+    @NonNull
+    private static final StorageUnitFormatter EXBIBYTE_FORMATTER = StorageUnitFormatter.ofUnit(StorageUnit::asExbibyte);
+
+    @NonNull
+    private static final StorageUnitFormatter ZEBIBYTE_FORMATTER = StorageUnitFormatter.ofUnit(StorageUnit::asZebibyte);
+
+    @NonNull
+    private static final StorageUnitFormatter YOBIBYTE_FORMATTER = StorageUnitFormatter.ofUnit(StorageUnit::asYobibyte);
+
+    @NonNull
+    private static final StorageUnitFormatter KILOBYTE_FORMATTER = StorageUnitFormatter.ofUnit(StorageUnit::asKilobyte);
+
+    @NonNull
+    private static final StorageUnitFormatter MEGABYTE_FORMATTER = StorageUnitFormatter.ofUnit(StorageUnit::asMegabyte);
+
+    @NonNull
+    private static final StorageUnitFormatter GIGABYTE_FORMATTER = StorageUnitFormatter.ofUnit(StorageUnit::asGigabyte);
+
+    @NonNull
+    private static final StorageUnitFormatter TERABYTE_FORMATTER = StorageUnitFormatter.ofUnit(StorageUnit::asTerabyte);
+
+    @NonNull
+    private static final StorageUnitFormatter PETABYTE_FORMATTER = StorageUnitFormatter.ofUnit(StorageUnit::asPetabyte);
+
+    @NonNull
+    private static final StorageUnitFormatter EXABYTE_FORMATTER = StorageUnitFormatter.ofUnit(StorageUnit::asExabyte);
+
+    @NonNull
+    private static final StorageUnitFormatter ZETTABYTE_FORMATTER = StorageUnitFormatter
+            .ofUnit(StorageUnit::asZettabyte);
+
+    @NonNull
+    private static final StorageUnitFormatter YOTTABYTE_FORMATTER = StorageUnitFormatter
+            .ofUnit(StorageUnit::asYottabyte);
+
+    @NonNull
+    private static final StorageUnitFormatter COMMON_KILOBYTE_FORMATTER = StorageUnitFormatter
+            .ofUnit(StorageUnit::asCommonKilobyte);
+
+    @NonNull
+    private static final StorageUnitFormatter COMMON_MEGABYTE_FORMATTER = StorageUnitFormatter
+            .ofUnit(StorageUnit::asCommonMegabyte);
+
+    @NonNull
+    private static final StorageUnitFormatter COMMON_GIGABYTE_FORMATTER = StorageUnitFormatter
+            .ofUnit(StorageUnit::asCommonGigabyte);
+
+    @NonNull
+    private static final StorageUnitFormatter COMMON_TERABYTE_FORMATTER = StorageUnitFormatter
+            .ofUnit(StorageUnit::asCommonTerabyte);
+
+    @NonNull
+    private static final StorageUnitFormatter COMMON_PETABYTE_FORMATTER = StorageUnitFormatter
+            .ofUnit(StorageUnit::asCommonPetabyte);
+
+    @NonNull
+    private static final StorageUnitFormatter COMMON_EXABYTE_FORMATTER = StorageUnitFormatter
+            .ofUnit(StorageUnit::asCommonExabyte);
+
+    @NonNull
+    private static final StorageUnitFormatter COMMON_ZETTABYTE_FORMATTER = StorageUnitFormatter
+            .ofUnit(StorageUnit::asCommonZettabyte);
+
+    @NonNull
+    private static final StorageUnitFormatter COMMON_YOTTABYTE_FORMATTER = StorageUnitFormatter
+            .ofUnit(StorageUnit::asCommonYottabyte);
+
+    // Units whose number of bytes fit into a long, used to create units without BigInteger arithmetic
+    private static final long LONG_BYTES_IN_A_KIBIBYTE = BYTES_IN_A_KIBIBYTE.longValue();
+
+    private static final long LONG_BYTES_IN_A_MEBIBYTE = BYTES_IN_A_MEBIBYTE.longValue();
+
+    private static final long LONG_BYTES_IN_A_GIBIBYTE = BYTES_IN_A_GIBIBYTE.longValue();
+
+    private static final long LONG_BYTES_IN_A_TEBIBYTE = BYTES_IN_A_TEBIBYTE.longValue();
+
+    private static final long LONG_BYTES_IN_A_PEBIBYTE = BYTES_IN_A_PEBIBYTE.longValue();
+
+    private static final long LONG_BYTES_IN_A_EXBIBYTE = BYTES_IN_A_EXBIBYTE.longValue();
+
+    private static final long LONG_BYTES_IN_A_KILOBYTE = BYTES_IN_A_KILOBYTE.longValue();
+
+    private static final long LONG_BYTES_IN_A_MEGABYTE = BYTES_IN_A_MEGABYTE.longValue();
+
+    private static final long LONG_BYTES_IN_A_GIGABYTE = BYTES_IN_A_GIGABYTE.longValue();
+
+    private static final long LONG_BYTES_IN_A_TERABYTE = BYTES_IN_A_TERABYTE.longValue();
+
+    private static final long LONG_BYTES_IN_A_PETABYTE = BYTES_IN_A_PETABYTE.longValue();
+
+    private static final long LONG_BYTES_IN_A_EXABYTE = BYTES_IN_A_EXABYTE.longValue();
+
     private StorageUnits() {
         // Hidden constructor.
     }
@@ -51,7 +164,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static StorageUnit<?> binaryValueOf(final long bytes) {
-        return binaryValueOf(asBigInteger(bytes));
+        return binaryUnit(binaryUnitIndex(bytes), bytes);
     }
 
     /**
@@ -61,29 +174,10 @@ public final class StorageUnits {
      */
     @NonNull
     public static StorageUnit<?> binaryValueOf(@NonNull final BigInteger bytes) {
-        StorageUnit<?> unit = Byte.valueOf(bytes);
-        @NonNull
-        final BigInteger positiveNumberOfBytes = bytes.signum() == -1 ? nonNull(bytes.negate()) : bytes;
-
-        if (inbetween(BYTES_IN_A_KIBIBYTE, positiveNumberOfBytes, BYTES_IN_A_MEBIBYTE)) {
-            unit = unit.asKibibyte();
-        } else if (inbetween(BYTES_IN_A_MEBIBYTE, positiveNumberOfBytes, BYTES_IN_A_GIBIBYTE)) {
-            unit = unit.asMebibyte();
-        } else if (inbetween(BYTES_IN_A_GIBIBYTE, positiveNumberOfBytes, BYTES_IN_A_TEBIBYTE)) {
-            unit = unit.asGibibyte();
-        } else if (inbetween(BYTES_IN_A_TEBIBYTE, positiveNumberOfBytes, BYTES_IN_A_PEBIBYTE)) {
-            unit = unit.asTebibyte();
-        } else if (inbetween(BYTES_IN_A_PEBIBYTE, positiveNumberOfBytes, BYTES_IN_A_EXBIBYTE)) {
-            unit = unit.asPebibyte();
-        } else if (inbetween(BYTES_IN_A_EXBIBYTE, positiveNumberOfBytes, BYTES_IN_A_ZEBIBYTE)) {
-            unit = unit.asExbibyte();
-        } else if (inbetween(BYTES_IN_A_ZEBIBYTE, positiveNumberOfBytes, BYTES_IN_A_YOBIBYTE)) {
-            unit = unit.asZebibyte();
-        } else if (greaterThanEquals(positiveNumberOfBytes, BYTES_IN_A_YOBIBYTE)) {
-            unit = unit.asYobibyte();
+        if (bytes.bitLength() < Long.SIZE) {
+            return binaryValueOf(bytes.longValue());
         }
-
-        return unit;
+        return binaryUnit(binaryUnitIndex(bytes), bytes);
     }
 
     /**
@@ -93,7 +187,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static StorageUnit<?> decimalValueOf(final long bytes) {
-        return decimalValueOf(asBigInteger(bytes));
+        return decimalUnit(decimalUnitIndex(bytes), bytes);
     }
 
     /**
@@ -103,29 +197,10 @@ public final class StorageUnits {
      */
     @NonNull
     public static StorageUnit<?> decimalValueOf(@NonNull final BigInteger bytes) {
-        StorageUnit<?> unit = Byte.valueOf(bytes);
-        @NonNull
-        final BigInteger positiveNumberOfBytes = bytes.signum() == -1 ? nonNull(bytes.negate()) : bytes;
-
-        if (inbetween(BYTES_IN_A_KILOBYTE, positiveNumberOfBytes, BYTES_IN_A_MEGABYTE)) {
-            unit = unit.asKilobyte();
-        } else if (inbetween(BYTES_IN_A_MEGABYTE, positiveNumberOfBytes, BYTES_IN_A_GIGABYTE)) {
-            unit = unit.asMegabyte();
-        } else if (inbetween(BYTES_IN_A_GIGABYTE, positiveNumberOfBytes, BYTES_IN_A_TERABYTE)) {
-            unit = unit.asGigabyte();
-        } else if (inbetween(BYTES_IN_A_TERABYTE, positiveNumberOfBytes, BYTES_IN_A_PETABYTE)) {
-            unit = unit.asTerabyte();
-        } else if (inbetween(BYTES_IN_A_PETABYTE, positiveNumberOfBytes, BYTES_IN_A_EXABYTE)) {
-            unit = unit.asPetabyte();
-        } else if (inbetween(BYTES_IN_A_EXABYTE, positiveNumberOfBytes, BYTES_IN_A_ZETTABYTE)) {
-            unit = unit.asExabyte();
-        } else if (inbetween(BYTES_IN_A_ZETTABYTE, positiveNumberOfBytes, BYTES_IN_A_YOTTABYTE)) {
-            unit = unit.asZettabyte();
-        } else if (greaterThanEquals(positiveNumberOfBytes, BYTES_IN_A_YOTTABYTE)) {
-            unit = unit.asYottabyte();
+        if (bytes.bitLength() < Long.SIZE) {
+            return decimalValueOf(bytes.longValue());
         }
-
-        return unit;
+        return decimalUnit(decimalUnitIndex(bytes), bytes);
     }
 
     /**
@@ -135,7 +210,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static StorageUnit<?> commonValueOf(final long bytes) {
-        return commonValueOf(asBigInteger(bytes));
+        return commonUnit(binaryUnitIndex(bytes), bytes);
     }
 
     /**
@@ -145,37 +220,295 @@ public final class StorageUnits {
      */
     @NonNull
     public static StorageUnit<?> commonValueOf(@NonNull final BigInteger bytes) {
-        StorageUnit<?> unit = Byte.valueOf(bytes);
-        @NonNull
-        final BigInteger positiveNumberOfBytes = bytes.signum() == -1 ? nonNull(bytes.negate()) : bytes;
-
-        if (inbetween(BYTES_IN_A_KIBIBYTE, positiveNumberOfBytes, BYTES_IN_A_MEBIBYTE)) {
-            unit = unit.asCommonKilobyte();
-        } else if (inbetween(BYTES_IN_A_MEBIBYTE, positiveNumberOfBytes, BYTES_IN_A_GIBIBYTE)) {
-            unit = unit.asCommonMegabyte();
-        } else if (inbetween(BYTES_IN_A_GIBIBYTE, positiveNumberOfBytes, BYTES_IN_A_TEBIBYTE)) {
-            unit = unit.asCommonGigabyte();
-        } else if (inbetween(BYTES_IN_A_TEBIBYTE, positiveNumberOfBytes, BYTES_IN_A_PEBIBYTE)) {
-            unit = unit.asCommonTerabyte();
-        } else if (inbetween(BYTES_IN_A_PEBIBYTE, positiveNumberOfBytes, BYTES_IN_A_EXBIBYTE)) {
-            unit = unit.asCommonPetabyte();
-        } else if (inbetween(BYTES_IN_A_EXBIBYTE, positiveNumberOfBytes, BYTES_IN_A_ZEBIBYTE)) {
-            unit = unit.asCommonExabyte();
-        } else if (inbetween(BYTES_IN_A_ZEBIBYTE, positiveNumberOfBytes, BYTES_IN_A_YOBIBYTE)) {
-            unit = unit.asCommonZettabyte();
-        } else if (greaterThanEquals(positiveNumberOfBytes, BYTES_IN_A_YOBIBYTE)) {
-            unit = unit.asCommonYottabyte();
+        if (bytes.bitLength() < Long.SIZE) {
+            return commonValueOf(bytes.longValue());
         }
+        return commonUnit(binaryUnitIndex(bytes), bytes);
+    }
 
-        return unit;
+    /**
+     * Parses formatted storage units in {@link StorageUnitParseMode#STRICT strict} mode, e.g. <code>1.50 GiB</code>,
+     * <code>512MB</code> or <code>10 kB</code>.
+     *
+     * @param text
+     *            The text to parse.
+     * @return The parsed storage unit in the unit of the given symbol.
+     * @throws NumberFormatException
+     *             In case the text cannot be parsed.
+     */
+    @NonNull
+    public static StorageUnit<?> parse(@NonNull final CharSequence text) {
+        return parse(text, StorageUnitParseMode.STRICT);
     }
 
-    private static boolean inbetween(final BigInteger start, final BigInteger value, final BigInteger endExclusive) {
-        return greaterThanEquals(value, start) && value.compareTo(endExclusive) < 0;
+    /**
+     * Parses formatted storage units, e.g. <code>1.50 GiB</code>, <code>512MB</code> or <code>10 kB</code>.
+     *
+     * @param text
+     *            The text to parse.
+     * @param mode
+     *            The parse mode to use.
+     * @return The parsed storage unit in the unit of the given symbol.
+     * @throws NumberFormatException
+     *             In case the text cannot be parsed.
+     */
+    @NonNull
+    public static StorageUnit<?> parse(@NonNull final CharSequence text, @NonNull final StorageUnitParseMode mode) {
+        return ParseUtils.parse(text, mode);
     }
 
-    private static boolean greaterThanEquals(final BigInteger value, final BigInteger comparison) {
-        return value.compareTo(comparison) >= 0;
+    /**
+     * Parses formatted storage units in {@link StorageUnitParseMode#STRICT strict} mode into their amount of bytes
+     * without creating any objects.
+     *
+     * @param text
+     *            The text to parse.
+     * @return The amount of bytes of the parsed storage unit.
+     * @throws NumberFormatException
+     *             In case the text cannot be parsed or its amount of bytes does not fit into a <code>long</code>.
+     */
+    public static long parseBytes(@NonNull final CharSequence text) {
+        return parseBytes(text, StorageUnitParseMode.STRICT);
+    }
+
+    /**
+     * Parses formatted storage units into their amount of bytes without creating any objects.
+     *
+     * @param text
+     *            The text to parse.
+     * @param mode
+     *            The parse mode to use.
+     * @return The amount of bytes of the parsed storage unit.
+     * @throws NumberFormatException
+     *             In case the text cannot be parsed or its amount of bytes does not fit into a <code>long</code>.
+     */
+    public static long parseBytes(@NonNull final CharSequence text, @NonNull final StorageUnitParseMode mode) {
+        return ParseUtils.parseBytes(text, mode);
+    }
+
+    /*
+     * Units are selected by their index, e.g. 0 for bytes, 1 for kibi/kilo, 2 for mebi/mega and so on. Binary and
+     * common units are separated by 10 bits, thus their index is derived from the bit length of the magnitude alone.
+     * Decimal units are looked up by bit length as well, followed by a single comparison against the next power of
+     * 1000 since at most one of those can be found within the values of the same bit length.
+     */
+
+    private static final int UNIT_BIT_STEP = 10;
+
+    private static final int MAX_UNIT_INDEX = 8;
+
+    private static final int MAX_LONG_DECIMAL_UNIT_INDEX = 6;
+
+    private static final long[] DECIMAL_UNIT_THRESHOLDS = {
+            1L,
+            1_000L,
+            1_000_000L,
+            1_000_000_000L,
+            1_000_000_000_000L,
+            1_000_000_000_000_000L,
+            1_000_000_000_000_000_000L };
+
+    private static final int[] DECIMAL_UNIT_INDEX_BY_BIT_LENGTH = new int[Long.SIZE + 1];
+
+    static {
+        for (int bitLength = 1; bitLength < Long.SIZE; bitLength++) {
+            final long smallestValue = 1L << (bitLength - 1);
+            int index = 0;
+            while (index < MAX_LONG_DECIMAL_UNIT_INDEX && smallestValue >= DECIMAL_UNIT_THRESHOLDS[index + 1]) {
+                index++;
+            }
+            DECIMAL_UNIT_INDEX_BY_BIT_LENGTH[bitLength] = index;
+        }
+        DECIMAL_UNIT_INDEX_BY_BIT_LENGTH[Long.SIZE] = MAX_LONG_DECIMAL_UNIT_INDEX;
+    }
+
+    @NonNull
+    private static final BigInteger NEGATIVE_BYTES_IN_A_ZETTABYTE = nonNull(BYTES_IN_A_ZETTABYTE.negate());
+
+    @NonNull
+    private static final BigInteger NEGATIVE_BYTES_IN_A_YOTTABYTE = nonNull(BYTES_IN_A_YOTTABYTE.negate());
+
+    static int binaryUnitIndex(final long bytes) {
+        // the magnitude of Long.MIN_VALUE is treated as unsigned value by numberOfLeadingZeros
+        final long magnitude = bytes < 0 ? -bytes : bytes;
+        return (Long.SIZE - 1 - Long.numberOfLeadingZeros(magnitude)) / UNIT_BIT_STEP;
+    }
+
+    private static int binaryUnitIndex(final BigInteger bytes) {
+        return Math.min((magnitudeBitLength(bytes) - 1) / UNIT_BIT_STEP, MAX_UNIT_INDEX);
+    }
+
+    private static int magnitudeBitLength(final BigInteger bytes) {
+        final int bitLength = bytes.bitLength();
+        // negative powers of two need one bit less than their magnitude
+        return bytes.signum() < 0 && bytes.getLowestSetBit() == bitLength ? bitLength + 1 : bitLength;
+    }
+
+    private static int decimalUnitIndex(final long bytes) {
+        final long magnitude = bytes < 0 ? -bytes : bytes;
+        final int index = DECIMAL_UNIT_INDEX_BY_BIT_LENGTH[Long.SIZE - Long.numberOfLeadingZeros(magnitude)];
+        return index < MAX_LONG_DECIMAL_UNIT_INDEX && magnitude >= DECIMAL_UNIT_THRESHOLDS[index + 1] ? index + 1
+                : index;
+    }
+
+    private static int decimalUnitIndex(final BigInteger bytes) {
+        // only called for values outside of the long range which are at least exabytes
+        if (bytes.signum() > 0) {
+            return bytes.compareTo(BYTES_IN_A_YOTTABYTE) >= 0 ? 8 : bytes.compareTo(BYTES_IN_A_ZETTABYTE) >= 0 ? 7 : 6;
+        }
+        return bytes.compareTo(NEGATIVE_BYTES_IN_A_YOTTABYTE) <= 0 ? 8
+                : bytes.compareTo(NEGATIVE_BYTES_IN_A_ZETTABYTE) <= 0 ? 7 : 6;
+    }
+
+    @NonNull
+    private static StorageUnit<?> binaryUnit(final int index, final long bytes) {
+        switch (index) {
+            case 1:
+                return Kibibyte.valueOf(bytes);
+            case 2:
+                return Mebibyte.valueOf(bytes);
+            case 3:
+                return Gibibyte.valueOf(bytes);
+            case 4:
+                return Tebibyte.valueOf(bytes);
+            case 5:
+                return Pebibyte.valueOf(bytes);
+            case 6:
+                return Exbibyte.valueOf(bytes);
+            default:
+                return Byte.valueOf(bytes);
+        }
+    }
+
+    @NonNull
+    private static StorageUnit<?> binaryUnit(final int index, @NonNull final BigInteger bytes) {
+        switch (index) {
+            case 7:
+                return Zebibyte.valueOf(bytes);
+            case 8:
+                return Yobibyte.valueOf(bytes);
+            default:
+                return Exbibyte.valueOf(bytes);
+        }
+    }
+
+    @NonNull
+    private static StorageUnit<?> decimalUnit(final int index, final long bytes) {
+        switch (index) {
+            case 1:
+                return Kilobyte.valueOf(bytes);
+            case 2:
+                return Megabyte.valueOf(bytes);
+            case 3:
+                return Gigabyte.valueOf(bytes);
+            case 4:
+                return Terabyte.valueOf(bytes);
+            case 5:
+                return Petabyte.valueOf(bytes);
+            case 6:
+                return Exabyte.valueOf(bytes);
+            default:
+                return Byte.valueOf(bytes);
+        }
+    }
+
+    @NonNull
+    private static StorageUnit<?> decimalUnit(final int index, @NonNull final BigInteger bytes) {
+        switch (index) {
+            case 7:
+                return Zettabyte.valueOf(bytes);
+            case 8:
+                return Yottabyte.valueOf(bytes);
+            default:
+                return Exabyte.valueOf(bytes);
+        }
+    }
+
+    @NonNull
+    private static StorageUnit<?> commonUnit(final int index, final long bytes) {
+        switch (index) {
+            case 1:
+                return CommonKilobyte.valueOf(bytes);
+            case 2:
+                return CommonMegabyte.valueOf(bytes);
+            case 3:
+                return CommonGigabyte.valueOf(bytes);
+            case 4:
+                return CommonTerabyte.valueOf(bytes);
+            case 5:
+                return CommonPetabyte.valueOf(bytes);
+            case 6:
+                return CommonExabyte.valueOf(bytes);
+            default:
+                return Byte.valueOf(bytes);
+        }
+    }
+
+    @NonNull
+    private static StorageUnit<?> commonUnit(final int index, @NonNull final BigInteger bytes) {
+        switch (index) {
+            case 7:
+                return CommonZettabyte.valueOf(bytes);
+            case 8:
+                return CommonYottabyte.valueOf(bytes);
+            default:
+                return CommonExabyte.valueOf(bytes);
+        }
+    }
+
+    /**
+     * Formats the given amount of bytes as best matching binary unit with the default pattern into the given
+     * {@link StringBuilder} without creating any intermediate objects.
+     *
+     * @param numberOfBytes
+     *            The amount of bytes to format.
+     * @param builder
+     *            The builder to append to.
+     * @return The given builder.
+     */
+    @NonNull
+    public static StringBuilder formatAsBinaryUnitTo(final long numberOfBytes, @NonNull final StringBuilder builder) {
+        final int index = binaryUnitIndex(numberOfBytes);
+        return FormatUtils.appendBinaryUnit(builder, numberOfBytes, index * UNIT_BIT_STEP,
+                StorageUnitType.BINARY_TYPES[index].getSymbol());
+    }
+
+    /**
+     * Formats the given amount of bytes as best matching decimal unit with the default pattern into the given
+     * {@link StringBuilder} without creating any intermediate objects.
+     *
+     * @param numberOfBytes
+     *            The amount of bytes to format.
+     * @param builder
+     *            The builder to append to.
+     * @return The given builder.
+     */
+    @NonNull
+    public static StringBuilder formatAsDecimalUnitTo(final long numberOfBytes, @NonNull final StringBuilder builder) {
+        final int index = decimalUnitIndex(numberOfBytes);
+        if (index == 0) {
+            return FormatUtils.appendBinaryUnit(builder, numberOfBytes, 0, StorageUnitType.BYTE.getSymbol());
+        }
+        return FormatUtils.appendDecimalUnit(builder, numberOfBytes, DECIMAL_UNIT_THRESHOLDS[index],
+                StorageUnitType.DECIMAL_TYPES[index].getSymbol());
+    }
+
+    /**
+     * Formats the given amount of bytes as best matching common unit with the default pattern into the given
+     * {@link StringBuilder} without creating any intermediate objects.
+     *
+     * @param numberOfBytes
+     *            The amount of bytes to format.
+     * @param builder
+     *            The builder to append to.
+     * @return The given builder.
+     */
+    @NonNull
+    public static StringBuilder formatAsCommonUnitTo(final long numberOfBytes, @NonNull final StringBuilder builder) {
+        final int index = binaryUnitIndex(numberOfBytes);
+        // common units use the symbols of decimal units
+        return FormatUtils.appendBinaryUnit(builder, numberOfBytes, index * UNIT_BIT_STEP,
+                StorageUnitType.DECIMAL_TYPES[index].getSymbol());
     }
 
     /**
@@ -225,7 +558,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsBinaryUnit(final long numberOfBytes) {
-        return formatAsBinaryUnit(asBigInteger(numberOfBytes));
+        return BINARY_UNIT_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -235,7 +568,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsBinaryUnit(@NonNull final BigInteger numberOfBytes) {
-        return formatAsBinaryUnit(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return BINARY_UNIT_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -259,7 +592,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsBinaryUnit(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsBinaryUnit(asBigInteger(numberOfBytes), pattern);
+        return BINARY_UNIT_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -271,7 +604,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsBinaryUnit(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern) {
-        return formatAsBinaryUnit(numberOfBytes, new DecimalFormat(pattern));
+        return BINARY_UNIT_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -301,7 +634,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsBinaryUnit(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsBinaryUnit(asBigInteger(numberOfBytes), pattern, locale);
+        return BINARY_UNIT_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -316,7 +649,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsBinaryUnit(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsBinaryUnit(numberOfBytes, asFormat(pattern, locale));
+        return BINARY_UNIT_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -372,7 +705,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsKibibyte(final long numberOfBytes) {
-        return formatAsKibibyte(asBigInteger(numberOfBytes));
+        return KIBIBYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -382,7 +715,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsKibibyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsKibibyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return KIBIBYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -406,7 +739,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsKibibyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsKibibyte(asBigInteger(numberOfBytes), pattern);
+        return KIBIBYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -418,7 +751,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsKibibyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern) {
-        return formatAsKibibyte(numberOfBytes, new DecimalFormat(pattern));
+        return KIBIBYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -448,7 +781,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsKibibyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsKibibyte(asBigInteger(numberOfBytes), pattern, locale);
+        return KIBIBYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -463,7 +796,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsKibibyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsKibibyte(numberOfBytes, asFormat(pattern, locale));
+        return KIBIBYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -519,7 +852,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsMebibyte(final long numberOfBytes) {
-        return formatAsMebibyte(asBigInteger(numberOfBytes));
+        return MEBIBYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -529,7 +862,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsMebibyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsMebibyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return MEBIBYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -553,7 +886,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsMebibyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsMebibyte(asBigInteger(numberOfBytes), pattern);
+        return MEBIBYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -565,7 +898,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsMebibyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern) {
-        return formatAsMebibyte(numberOfBytes, new DecimalFormat(pattern));
+        return MEBIBYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -595,7 +928,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsMebibyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsMebibyte(asBigInteger(numberOfBytes), pattern, locale);
+        return MEBIBYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -610,7 +943,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsMebibyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsMebibyte(numberOfBytes, asFormat(pattern, locale));
+        return MEBIBYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -666,7 +999,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsGibibyte(final long numberOfBytes) {
-        return formatAsGibibyte(asBigInteger(numberOfBytes));
+        return GIBIBYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -676,7 +1009,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsGibibyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsGibibyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return GIBIBYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -700,7 +1033,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsGibibyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsGibibyte(asBigInteger(numberOfBytes), pattern);
+        return GIBIBYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -712,7 +1045,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsGibibyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern) {
-        return formatAsGibibyte(numberOfBytes, new DecimalFormat(pattern));
+        return GIBIBYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -742,7 +1075,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsGibibyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsGibibyte(asBigInteger(numberOfBytes), pattern, locale);
+        return GIBIBYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -757,7 +1090,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsGibibyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsGibibyte(numberOfBytes, asFormat(pattern, locale));
+        return GIBIBYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -813,7 +1146,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsTebibyte(final long numberOfBytes) {
-        return formatAsTebibyte(asBigInteger(numberOfBytes));
+        return TEBIBYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -823,7 +1156,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsTebibyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsTebibyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return TEBIBYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -847,7 +1180,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsTebibyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsTebibyte(asBigInteger(numberOfBytes), pattern);
+        return TEBIBYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -859,7 +1192,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsTebibyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern) {
-        return formatAsTebibyte(numberOfBytes, new DecimalFormat(pattern));
+        return TEBIBYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -889,7 +1222,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsTebibyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsTebibyte(asBigInteger(numberOfBytes), pattern, locale);
+        return TEBIBYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -904,7 +1237,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsTebibyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsTebibyte(numberOfBytes, asFormat(pattern, locale));
+        return TEBIBYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -960,7 +1293,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsPebibyte(final long numberOfBytes) {
-        return formatAsPebibyte(asBigInteger(numberOfBytes));
+        return PEBIBYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -970,7 +1303,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsPebibyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsPebibyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return PEBIBYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -994,7 +1327,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsPebibyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsPebibyte(asBigInteger(numberOfBytes), pattern);
+        return PEBIBYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -1006,7 +1339,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsPebibyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern) {
-        return formatAsPebibyte(numberOfBytes, new DecimalFormat(pattern));
+        return PEBIBYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -1036,7 +1369,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsPebibyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsPebibyte(asBigInteger(numberOfBytes), pattern, locale);
+        return PEBIBYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -1051,7 +1384,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsPebibyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsPebibyte(numberOfBytes, asFormat(pattern, locale));
+        return PEBIBYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -1107,7 +1440,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsExbibyte(final long numberOfBytes) {
-        return formatAsExbibyte(asBigInteger(numberOfBytes));
+        return EXBIBYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -1117,7 +1450,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsExbibyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsExbibyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return EXBIBYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -1141,7 +1474,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsExbibyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsExbibyte(asBigInteger(numberOfBytes), pattern);
+        return EXBIBYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -1153,7 +1486,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsExbibyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern) {
-        return formatAsExbibyte(numberOfBytes, new DecimalFormat(pattern));
+        return EXBIBYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -1183,7 +1516,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsExbibyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsExbibyte(asBigInteger(numberOfBytes), pattern, locale);
+        return EXBIBYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -1198,7 +1531,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsExbibyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsExbibyte(numberOfBytes, asFormat(pattern, locale));
+        return EXBIBYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -1254,7 +1587,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsZebibyte(final long numberOfBytes) {
-        return formatAsZebibyte(asBigInteger(numberOfBytes));
+        return ZEBIBYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -1264,7 +1597,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsZebibyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsZebibyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return ZEBIBYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -1288,7 +1621,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsZebibyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsZebibyte(asBigInteger(numberOfBytes), pattern);
+        return ZEBIBYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -1300,7 +1633,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsZebibyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern) {
-        return formatAsZebibyte(numberOfBytes, new DecimalFormat(pattern));
+        return ZEBIBYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -1330,7 +1663,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsZebibyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsZebibyte(asBigInteger(numberOfBytes), pattern, locale);
+        return ZEBIBYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -1345,7 +1678,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsZebibyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsZebibyte(numberOfBytes, asFormat(pattern, locale));
+        return ZEBIBYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -1401,7 +1734,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsYobibyte(final long numberOfBytes) {
-        return formatAsYobibyte(asBigInteger(numberOfBytes));
+        return YOBIBYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -1411,7 +1744,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsYobibyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsYobibyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return YOBIBYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -1435,7 +1768,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsYobibyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsYobibyte(asBigInteger(numberOfBytes), pattern);
+        return YOBIBYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -1447,7 +1780,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsYobibyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern) {
-        return formatAsYobibyte(numberOfBytes, new DecimalFormat(pattern));
+        return YOBIBYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -1477,7 +1810,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsYobibyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsYobibyte(asBigInteger(numberOfBytes), pattern, locale);
+        return YOBIBYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -1492,7 +1825,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsYobibyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsYobibyte(numberOfBytes, asFormat(pattern, locale));
+        return YOBIBYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -1548,7 +1881,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsDecimalUnit(final long numberOfBytes) {
-        return formatAsDecimalUnit(asBigInteger(numberOfBytes));
+        return DECIMAL_UNIT_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -1558,7 +1891,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsDecimalUnit(@NonNull final BigInteger numberOfBytes) {
-        return formatAsDecimalUnit(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return DECIMAL_UNIT_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -1582,7 +1915,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsDecimalUnit(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsDecimalUnit(asBigInteger(numberOfBytes), pattern);
+        return DECIMAL_UNIT_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -1594,7 +1927,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsDecimalUnit(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern) {
-        return formatAsDecimalUnit(numberOfBytes, new DecimalFormat(pattern));
+        return DECIMAL_UNIT_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -1624,7 +1957,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsDecimalUnit(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsDecimalUnit(asBigInteger(numberOfBytes), pattern, locale);
+        return DECIMAL_UNIT_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -1639,7 +1972,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsDecimalUnit(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsDecimalUnit(numberOfBytes, asFormat(pattern, locale));
+        return DECIMAL_UNIT_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -1695,7 +2028,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsKilobyte(final long numberOfBytes) {
-        return formatAsKilobyte(asBigInteger(numberOfBytes));
+        return KILOBYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -1705,7 +2038,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsKilobyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsKilobyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return KILOBYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -1729,7 +2062,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsKilobyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsKilobyte(asBigInteger(numberOfBytes), pattern);
+        return KILOBYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -1741,7 +2074,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsKilobyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern) {
-        return formatAsKilobyte(numberOfBytes, new DecimalFormat(pattern));
+        return KILOBYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -1771,7 +2104,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsKilobyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsKilobyte(asBigInteger(numberOfBytes), pattern, locale);
+        return KILOBYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -1786,7 +2119,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsKilobyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsKilobyte(numberOfBytes, asFormat(pattern, locale));
+        return KILOBYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -1842,7 +2175,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsMegabyte(final long numberOfBytes) {
-        return formatAsMegabyte(asBigInteger(numberOfBytes));
+        return MEGABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -1852,7 +2185,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsMegabyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsMegabyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return MEGABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -1876,7 +2209,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsMegabyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsMegabyte(asBigInteger(numberOfBytes), pattern);
+        return MEGABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -1888,7 +2221,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsMegabyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern) {
-        return formatAsMegabyte(numberOfBytes, new DecimalFormat(pattern));
+        return MEGABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -1918,7 +2251,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsMegabyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsMegabyte(asBigInteger(numberOfBytes), pattern, locale);
+        return MEGABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -1933,7 +2266,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsMegabyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsMegabyte(numberOfBytes, asFormat(pattern, locale));
+        return MEGABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -1989,7 +2322,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsGigabyte(final long numberOfBytes) {
-        return formatAsGigabyte(asBigInteger(numberOfBytes));
+        return GIGABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -1999,7 +2332,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsGigabyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsGigabyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return GIGABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -2023,7 +2356,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsGigabyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsGigabyte(asBigInteger(numberOfBytes), pattern);
+        return GIGABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -2035,7 +2368,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsGigabyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern) {
-        return formatAsGigabyte(numberOfBytes, new DecimalFormat(pattern));
+        return GIGABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -2065,7 +2398,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsGigabyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsGigabyte(asBigInteger(numberOfBytes), pattern, locale);
+        return GIGABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -2080,7 +2413,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsGigabyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsGigabyte(numberOfBytes, asFormat(pattern, locale));
+        return GIGABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -2136,7 +2469,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsTerabyte(final long numberOfBytes) {
-        return formatAsTerabyte(asBigInteger(numberOfBytes));
+        return TERABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -2146,7 +2479,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsTerabyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsTerabyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return TERABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -2170,7 +2503,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsTerabyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsTerabyte(asBigInteger(numberOfBytes), pattern);
+        return TERABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -2182,7 +2515,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsTerabyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern) {
-        return formatAsTerabyte(numberOfBytes, new DecimalFormat(pattern));
+        return TERABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -2212,7 +2545,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsTerabyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsTerabyte(asBigInteger(numberOfBytes), pattern, locale);
+        return TERABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -2227,7 +2560,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsTerabyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsTerabyte(numberOfBytes, asFormat(pattern, locale));
+        return TERABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -2283,7 +2616,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsPetabyte(final long numberOfBytes) {
-        return formatAsPetabyte(asBigInteger(numberOfBytes));
+        return PETABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -2293,7 +2626,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsPetabyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsPetabyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return PETABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -2317,7 +2650,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsPetabyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsPetabyte(asBigInteger(numberOfBytes), pattern);
+        return PETABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -2329,7 +2662,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsPetabyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern) {
-        return formatAsPetabyte(numberOfBytes, new DecimalFormat(pattern));
+        return PETABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -2359,7 +2692,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsPetabyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsPetabyte(asBigInteger(numberOfBytes), pattern, locale);
+        return PETABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -2374,7 +2707,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsPetabyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsPetabyte(numberOfBytes, asFormat(pattern, locale));
+        return PETABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -2430,7 +2763,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsExabyte(final long numberOfBytes) {
-        return formatAsExabyte(asBigInteger(numberOfBytes));
+        return EXABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -2440,7 +2773,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsExabyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsExabyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return EXABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -2464,7 +2797,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsExabyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsExabyte(asBigInteger(numberOfBytes), pattern);
+        return EXABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -2476,7 +2809,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsExabyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern) {
-        return formatAsExabyte(numberOfBytes, new DecimalFormat(pattern));
+        return EXABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -2506,7 +2839,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsExabyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsExabyte(asBigInteger(numberOfBytes), pattern, locale);
+        return EXABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -2521,7 +2854,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsExabyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsExabyte(numberOfBytes, asFormat(pattern, locale));
+        return EXABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -2577,7 +2910,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsZettabyte(final long numberOfBytes) {
-        return formatAsZettabyte(asBigInteger(numberOfBytes));
+        return ZETTABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -2587,7 +2920,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsZettabyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsZettabyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return ZETTABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -2611,7 +2944,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsZettabyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsZettabyte(asBigInteger(numberOfBytes), pattern);
+        return ZETTABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -2623,7 +2956,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsZettabyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern) {
-        return formatAsZettabyte(numberOfBytes, new DecimalFormat(pattern));
+        return ZETTABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -2653,7 +2986,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsZettabyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsZettabyte(asBigInteger(numberOfBytes), pattern, locale);
+        return ZETTABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -2668,7 +3001,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsZettabyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsZettabyte(numberOfBytes, asFormat(pattern, locale));
+        return ZETTABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -2724,7 +3057,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsYottabyte(final long numberOfBytes) {
-        return formatAsYottabyte(asBigInteger(numberOfBytes));
+        return YOTTABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -2734,7 +3067,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsYottabyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsYottabyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return YOTTABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -2758,7 +3091,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsYottabyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsYottabyte(asBigInteger(numberOfBytes), pattern);
+        return YOTTABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -2773,7 +3106,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsYottabyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsYottabyte(numberOfBytes, asFormat(pattern, locale));
+        return YOTTABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -2803,7 +3136,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsYottabyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsYottabyte(asBigInteger(numberOfBytes), pattern, locale);
+        return YOTTABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -2815,7 +3148,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsYottabyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern) {
-        return formatAsYottabyte(numberOfBytes, new DecimalFormat(pattern));
+        return YOTTABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -2871,7 +3204,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonUnit(final long numberOfBytes) {
-        return formatAsCommonUnit(asBigInteger(numberOfBytes));
+        return COMMON_UNIT_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -2881,7 +3214,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonUnit(@NonNull final BigInteger numberOfBytes) {
-        return formatAsCommonUnit(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return COMMON_UNIT_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -2905,7 +3238,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonUnit(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsCommonUnit(asBigInteger(numberOfBytes), pattern);
+        return COMMON_UNIT_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -2917,7 +3250,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonUnit(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern) {
-        return formatAsCommonUnit(numberOfBytes, new DecimalFormat(pattern));
+        return COMMON_UNIT_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -2947,7 +3280,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonUnit(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsCommonUnit(asBigInteger(numberOfBytes), pattern, locale);
+        return COMMON_UNIT_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -2962,7 +3295,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonUnit(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsCommonUnit(numberOfBytes, asFormat(pattern, locale));
+        return COMMON_UNIT_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -3018,7 +3351,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonKilobyte(final long numberOfBytes) {
-        return formatAsCommonKilobyte(asBigInteger(numberOfBytes));
+        return COMMON_KILOBYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -3028,7 +3361,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonKilobyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsCommonKilobyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return COMMON_KILOBYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -3052,7 +3385,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonKilobyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsCommonKilobyte(asBigInteger(numberOfBytes), pattern);
+        return COMMON_KILOBYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -3065,7 +3398,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonKilobyte(@NonNull final BigInteger numberOfBytes,
             @NonNull final String pattern) {
-        return formatAsCommonKilobyte(numberOfBytes, new DecimalFormat(pattern));
+        return COMMON_KILOBYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -3095,7 +3428,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonKilobyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsCommonKilobyte(asBigInteger(numberOfBytes), pattern, locale);
+        return COMMON_KILOBYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -3110,7 +3443,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonKilobyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsCommonKilobyte(numberOfBytes, asFormat(pattern, locale));
+        return COMMON_KILOBYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -3166,7 +3499,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonMegabyte(final long numberOfBytes) {
-        return formatAsCommonMegabyte(asBigInteger(numberOfBytes));
+        return COMMON_MEGABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -3176,7 +3509,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonMegabyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsCommonMegabyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return COMMON_MEGABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -3200,7 +3533,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonMegabyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsCommonMegabyte(asBigInteger(numberOfBytes), pattern);
+        return COMMON_MEGABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -3213,7 +3546,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonMegabyte(@NonNull final BigInteger numberOfBytes,
             @NonNull final String pattern) {
-        return formatAsCommonMegabyte(numberOfBytes, new DecimalFormat(pattern));
+        return COMMON_MEGABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -3243,7 +3576,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonMegabyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsCommonMegabyte(asBigInteger(numberOfBytes), pattern, locale);
+        return COMMON_MEGABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -3258,7 +3591,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonMegabyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsCommonMegabyte(numberOfBytes, asFormat(pattern, locale));
+        return COMMON_MEGABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -3314,7 +3647,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonGigabyte(final long numberOfBytes) {
-        return formatAsCommonGigabyte(asBigInteger(numberOfBytes));
+        return COMMON_GIGABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -3324,7 +3657,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonGigabyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsCommonGigabyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return COMMON_GIGABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -3348,7 +3681,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonGigabyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsCommonGigabyte(asBigInteger(numberOfBytes), pattern);
+        return COMMON_GIGABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -3361,7 +3694,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonGigabyte(@NonNull final BigInteger numberOfBytes,
             @NonNull final String pattern) {
-        return formatAsCommonGigabyte(numberOfBytes, new DecimalFormat(pattern));
+        return COMMON_GIGABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -3391,7 +3724,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonGigabyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsCommonGigabyte(asBigInteger(numberOfBytes), pattern, locale);
+        return COMMON_GIGABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -3406,7 +3739,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonGigabyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsCommonGigabyte(numberOfBytes, asFormat(pattern, locale));
+        return COMMON_GIGABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -3462,7 +3795,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonTerabyte(final long numberOfBytes) {
-        return formatAsCommonTerabyte(asBigInteger(numberOfBytes));
+        return COMMON_TERABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -3472,7 +3805,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonTerabyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsCommonTerabyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return COMMON_TERABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -3496,7 +3829,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonTerabyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsCommonTerabyte(asBigInteger(numberOfBytes), pattern);
+        return COMMON_TERABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -3509,7 +3842,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonTerabyte(@NonNull final BigInteger numberOfBytes,
             @NonNull final String pattern) {
-        return formatAsCommonTerabyte(numberOfBytes, new DecimalFormat(pattern));
+        return COMMON_TERABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -3539,7 +3872,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonTerabyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsCommonTerabyte(asBigInteger(numberOfBytes), pattern, locale);
+        return COMMON_TERABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -3554,7 +3887,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonTerabyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsCommonTerabyte(numberOfBytes, asFormat(pattern, locale));
+        return COMMON_TERABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -3610,7 +3943,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonPetabyte(final long numberOfBytes) {
-        return formatAsCommonPetabyte(asBigInteger(numberOfBytes));
+        return COMMON_PETABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -3620,7 +3953,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonPetabyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsCommonPetabyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return COMMON_PETABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -3644,7 +3977,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonPetabyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsCommonPetabyte(asBigInteger(numberOfBytes), pattern);
+        return COMMON_PETABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -3657,7 +3990,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonPetabyte(@NonNull final BigInteger numberOfBytes,
             @NonNull final String pattern) {
-        return formatAsCommonPetabyte(numberOfBytes, new DecimalFormat(pattern));
+        return COMMON_PETABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -3687,7 +4020,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonPetabyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsCommonPetabyte(asBigInteger(numberOfBytes), pattern, locale);
+        return COMMON_PETABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -3702,7 +4035,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonPetabyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsCommonPetabyte(numberOfBytes, asFormat(pattern, locale));
+        return COMMON_PETABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -3758,7 +4091,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonExabyte(final long numberOfBytes) {
-        return formatAsCommonExabyte(asBigInteger(numberOfBytes));
+        return COMMON_EXABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -3768,7 +4101,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonExabyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsCommonExabyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return COMMON_EXABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -3792,7 +4125,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonExabyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsCommonExabyte(asBigInteger(numberOfBytes), pattern);
+        return COMMON_EXABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -3804,7 +4137,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonExabyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern) {
-        return formatAsCommonExabyte(numberOfBytes, new DecimalFormat(pattern));
+        return COMMON_EXABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -3834,7 +4167,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonExabyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsCommonExabyte(asBigInteger(numberOfBytes), pattern, locale);
+        return COMMON_EXABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -3849,7 +4182,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonExabyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsCommonExabyte(numberOfBytes, asFormat(pattern, locale));
+        return COMMON_EXABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -3905,7 +4238,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonZettabyte(final long numberOfBytes) {
-        return formatAsCommonZettabyte(asBigInteger(numberOfBytes));
+        return COMMON_ZETTABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -3915,7 +4248,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonZettabyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsCommonZettabyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return COMMON_ZETTABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -3939,7 +4272,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonZettabyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsCommonZettabyte(asBigInteger(numberOfBytes), pattern);
+        return COMMON_ZETTABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -3952,7 +4285,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonZettabyte(@NonNull final BigInteger numberOfBytes,
             @NonNull final String pattern) {
-        return formatAsCommonZettabyte(numberOfBytes, new DecimalFormat(pattern));
+        return COMMON_ZETTABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -3982,7 +4315,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonZettabyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsCommonZettabyte(asBigInteger(numberOfBytes), pattern, locale);
+        return COMMON_ZETTABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -3997,7 +4330,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonZettabyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsCommonZettabyte(numberOfBytes, asFormat(pattern, locale));
+        return COMMON_ZETTABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -4054,7 +4387,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonYottabyte(final long numberOfBytes) {
-        return formatAsCommonYottabyte(asBigInteger(numberOfBytes));
+        return COMMON_YOTTABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -4064,7 +4397,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonYottabyte(@NonNull final BigInteger numberOfBytes) {
-        return formatAsCommonYottabyte(numberOfBytes, DEFAULT_FORMAT_PATTERN);
+        return COMMON_YOTTABYTE_FORMATTER.format(numberOfBytes);
     }
 
     /**
@@ -4088,7 +4421,7 @@ public final class StorageUnits {
      */
     @NonNull
     public static String formatAsCommonYottabyte(final long numberOfBytes, @NonNull final String pattern) {
-        return formatAsCommonYottabyte(asBigInteger(numberOfBytes), pattern);
+        return COMMON_YOTTABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -4103,7 +4436,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonYottabyte(@NonNull final BigInteger numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsCommonYottabyte(numberOfBytes, asFormat(pattern, locale));
+        return COMMON_YOTTABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -4133,7 +4466,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonYottabyte(final long numberOfBytes, @NonNull final String pattern,
             @NonNull final Locale locale) {
-        return formatAsCommonYottabyte(asBigInteger(numberOfBytes), pattern, locale);
+        return COMMON_YOTTABYTE_FORMATTER.withCachedSettings(pattern, locale).format(numberOfBytes);
     }
 
     /**
@@ -4146,7 +4479,7 @@ public final class StorageUnits {
     @NonNull
     public static String formatAsCommonYottabyte(@NonNull final BigInteger numberOfBytes,
             @NonNull final String pattern) {
-        return formatAsCommonYottabyte(numberOfBytes, new DecimalFormat(pattern));
+        return COMMON_YOTTABYTE_FORMATTER.withCachedSettings(pattern, null).format(numberOfBytes);
     }
 
     /**
@@ -4189,7 +4522,7 @@ public final class StorageUnits {
     /**
      * @param numberOfBytes
      *            The amount of bytes to create.
-     * @return A new unit representing the given amount of bytes.
+     * @return A unit representing the given amount of bytes.
      */
     @NonNull
     public static Byte bytes(@NonNull final Long numberOfBytes) {
@@ -4199,27 +4532,27 @@ public final class StorageUnits {
     /**
      * @param numberOfBytes
      *            The amount of bytes to create.
-     * @return A new unit representing the given amount of bytes.
+     * @return A unit representing the given amount of bytes.
      */
     @NonNull
     public static Byte bytes(final long numberOfBytes) {
-        return bytes(asBigInteger(numberOfBytes));
+        return Byte.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes to create.
-     * @return A new unit representing the given amount of bytes.
+     * @return A unit representing the given amount of bytes.
      */
     @NonNull
     public static Byte bytes(@NonNull final BigInteger numberOfBytes) {
-        return new Byte(numberOfBytes);
+        return Byte.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfKibibytes
      *            The amount of kibibytes to create.
-     * @return A new unit representing the given amount of kibibytes.
+     * @return A unit representing the given amount of kibibytes.
      */
     @NonNull
     public static Kibibyte kibibyte(@NonNull final Long numberOfKibibytes) {
@@ -4229,27 +4562,30 @@ public final class StorageUnits {
     /**
      * @param numberOfKibibytes
      *            The amount of kibibytes to create.
-     * @return A new unit representing the given amount of kibibytes.
+     * @return A unit representing the given amount of kibibytes.
      */
     @NonNull
     public static Kibibyte kibibyte(final long numberOfKibibytes) {
+        if (fitsIntoLong(numberOfKibibytes, LONG_BYTES_IN_A_KIBIBYTE)) {
+            return Kibibyte.valueOf(numberOfKibibytes * LONG_BYTES_IN_A_KIBIBYTE);
+        }
         return kibibyte(asBigInteger(numberOfKibibytes));
     }
 
     /**
      * @param numberOfKibibytes
      *            The amount of kibibytes to create.
-     * @return A new unit representing the given amount of kibibytes.
+     * @return A unit representing the given amount of kibibytes.
      */
     @NonNull
     public static Kibibyte kibibyte(@NonNull final BigInteger numberOfKibibytes) {
-        return new Kibibyte(multiplyNullsafe(BYTES_IN_A_KIBIBYTE, numberOfKibibytes));
+        return Kibibyte.valueOf(multiplyNullsafe(BYTES_IN_A_KIBIBYTE, numberOfKibibytes));
     }
 
     /**
      * @param numberOfMebibytes
      *            The amount of mebibytes to create.
-     * @return A new unit representing the given amount of mebibytes.
+     * @return A unit representing the given amount of mebibytes.
      */
     @NonNull
     public static Mebibyte mebibyte(@NonNull final Long numberOfMebibytes) {
@@ -4259,27 +4595,30 @@ public final class StorageUnits {
     /**
      * @param numberOfMebibytes
      *            The amount of mebibytes to create.
-     * @return A new unit representing the given amount of mebibytes.
+     * @return A unit representing the given amount of mebibytes.
      */
     @NonNull
     public static Mebibyte mebibyte(final long numberOfMebibytes) {
+        if (fitsIntoLong(numberOfMebibytes, LONG_BYTES_IN_A_MEBIBYTE)) {
+            return Mebibyte.valueOf(numberOfMebibytes * LONG_BYTES_IN_A_MEBIBYTE);
+        }
         return mebibyte(asBigInteger(numberOfMebibytes));
     }
 
     /**
      * @param numberOfMebibytes
      *            The amount of mebibytes to create.
-     * @return A new unit representing the given amount of mebibytes.
+     * @return A unit representing the given amount of mebibytes.
      */
     @NonNull
     public static Mebibyte mebibyte(@NonNull final BigInteger numberOfMebibytes) {
-        return new Mebibyte(multiplyNullsafe(BYTES_IN_A_MEBIBYTE, numberOfMebibytes));
+        return Mebibyte.valueOf(multiplyNullsafe(BYTES_IN_A_MEBIBYTE, numberOfMebibytes));
     }
 
     /**
      * @param numberOfGibibytes
      *            The amount of gibibytes to create.
-     * @return A new unit representing the given amount of gibibytes.
+     * @return A unit representing the given amount of gibibytes.
      */
     @NonNull
     public static Gibibyte gibibyte(@NonNull final Long numberOfGibibytes) {
@@ -4289,27 +4628,30 @@ public final class StorageUnits {
     /**
      * @param numberOfGibibytes
      *            The amount of gibibytes to create.
-     * @return A new unit representing the given amount of gibibytes.
+     * @return A unit representing the given amount of gibibytes.
      */
     @NonNull
     public static Gibibyte gibibyte(final long numberOfGibibytes) {
+        if (fitsIntoLong(numberOfGibibytes, LONG_BYTES_IN_A_GIBIBYTE)) {
+            return Gibibyte.valueOf(numberOfGibibytes * LONG_BYTES_IN_A_GIBIBYTE);
+        }
         return gibibyte(asBigInteger(numberOfGibibytes));
     }
 
     /**
      * @param numberOfGibibytes
      *            The amount of gibibytes to create.
-     * @return A new unit representing the given amount of gibibytes.
+     * @return A unit representing the given amount of gibibytes.
      */
     @NonNull
     public static Gibibyte gibibyte(@NonNull final BigInteger numberOfGibibytes) {
-        return new Gibibyte(multiplyNullsafe(BYTES_IN_A_GIBIBYTE, numberOfGibibytes));
+        return Gibibyte.valueOf(multiplyNullsafe(BYTES_IN_A_GIBIBYTE, numberOfGibibytes));
     }
 
     /**
      * @param numberOfTebibytes
      *            The amount of tebibytes to create.
-     * @return A new unit representing the given amount of tebibytes.
+     * @return A unit representing the given amount of tebibytes.
      */
     @NonNull
     public static Tebibyte tebibyte(@NonNull final Long numberOfTebibytes) {
@@ -4319,27 +4661,30 @@ public final class StorageUnits {
     /**
      * @param numberOfTebibytes
      *            The amount of tebibytes to create.
-     * @return A new unit representing the given amount of tebibytes.
+     * @return A unit representing the given amount of tebibytes.
      */
     @NonNull
     public static Tebibyte tebibyte(final long numberOfTebibytes) {
+        if (fitsIntoLong(numberOfTebibytes, LONG_BYTES_IN_A_TEBIBYTE)) {
+            return Tebibyte.valueOf(numberOfTebibytes * LONG_BYTES_IN_A_TEBIBYTE);
+        }
         return tebibyte(asBigInteger(numberOfTebibytes));
     }
 
     /**
      * @param numberOfTebibytes
      *            The amount of tebibytes to create.
-     * @return A new unit representing the given amount of tebibytes.
+     * @return A unit representing the given amount of tebibytes.
      */
     @NonNull
     public static Tebibyte tebibyte(@NonNull final BigInteger numberOfTebibytes) {
-        return new Tebibyte(multiplyNullsafe(BYTES_IN_A_TEBIBYTE, numberOfTebibytes));
+        return Tebibyte.valueOf(multiplyNullsafe(BYTES_IN_A_TEBIBYTE, numberOfTebibytes));
     }
 
     /**
      * @param numberOfPebibytes
      *            The amount of pebibytes to create.
-     * @return A new unit representing the given amount of pebibytes.
+     * @return A unit representing the given amount of pebibytes.
      */
     @NonNull
     public static Pebibyte pebibyte(@NonNull final Long numberOfPebibytes) {
@@ -4349,27 +4694,30 @@ public final class StorageUnits {
     /**
      * @param numberOfPebibytes
      *            The amount of pebibytes to create.
-     * @return A new unit representing the given amount of pebibytes.
+     * @return A unit representing the given amount of pebibytes.
      */
     @NonNull
     public static Pebibyte pebibyte(final long numberOfPebibytes) {
+        if (fitsIntoLong(numberOfPebibytes, LONG_BYTES_IN_A_PEBIBYTE)) {
+            return Pebibyte.valueOf(numberOfPebibytes * LONG_BYTES_IN_A_PEBIBYTE);
+        }
         return pebibyte(asBigInteger(numberOfPebibytes));
     }
 
     /**
      * @param numberOfPebibytes
      *            The amount of pebibytes to create.
-     * @return A new unit representing the given amount of pebibytes.
+     * @return A unit representing the given amount of pebibytes.
      */
     @NonNull
     public static Pebibyte pebibyte(@NonNull final BigInteger numberOfPebibytes) {
-        return new Pebibyte(multiplyNullsafe(BYTES_IN_A_PEBIBYTE, numberOfPebibytes));
+        return Pebibyte.valueOf(multiplyNullsafe(BYTES_IN_A_PEBIBYTE, numberOfPebibytes));
     }
 
     /**
      * @param numberOfExbibytes
      *            The amount of exbibytes to create.
-     * @return A new unit representing the given amount of exbibytes.
+     * @return A unit representing the given amount of exbibytes.
      */
     @NonNull
     public static Exbibyte exbibyte(@NonNull final Long numberOfExbibytes) {
@@ -4379,27 +4727,30 @@ public final class StorageUnits {
     /**
      * @param numberOfExbibytes
      *            The amount of exbibytes to create.
-     * @return A new unit representing the given amount of exbibytes.
+     * @return A unit representing the given amount of exbibytes.
      */
     @NonNull
     public static Exbibyte exbibyte(final long numberOfExbibytes) {
+        if (fitsIntoLong(numberOfExbibytes, LONG_BYTES_IN_A_EXBIBYTE)) {
+            return Exbibyte.valueOf(numberOfExbibytes * LONG_BYTES_IN_A_EXBIBYTE);
+        }
         return exbibyte(asBigInteger(numberOfExbibytes));
     }
 
     /**
      * @param numberOfExbibytes
      *            The amount of exbibytes to create.
-     * @return A new unit representing the given amount of exbibytes.
+     * @return A unit representing the given amount of exbibytes.
      */
     @NonNull
     public static Exbibyte exbibyte(@NonNull final BigInteger numberOfExbibytes) {
-        return new Exbibyte(multiplyNullsafe(BYTES_IN_A_EXBIBYTE, numberOfExbibytes));
+        return Exbibyte.valueOf(multiplyNullsafe(BYTES_IN_A_EXBIBYTE, numberOfExbibytes));
     }
 
     /**
      * @param numberOfZebibytes
      *            The amount of zebibytes to create.
-     * @return A new unit representing the given amount of zebibytes.
+     * @return A unit representing the given amount of zebibytes.
      */
     @NonNull
     public static Zebibyte zebibyte(@NonNull final Long numberOfZebibytes) {
@@ -4409,7 +4760,7 @@ public final class StorageUnits {
     /**
      * @param numberOfZebibytes
      *            The amount of zebibytes to create.
-     * @return A new unit representing the given amount of zebibytes.
+     * @return A unit representing the given amount of zebibytes.
      */
     @NonNull
     public static Zebibyte zebibyte(final long numberOfZebibytes) {
@@ -4419,17 +4770,17 @@ public final class StorageUnits {
     /**
      * @param numberOfZebibytes
      *            The amount of zebibytes to create.
-     * @return A new unit representing the given amount of zebibytes.
+     * @return A unit representing the given amount of zebibytes.
      */
     @NonNull
     public static Zebibyte zebibyte(@NonNull final BigInteger numberOfZebibytes) {
-        return new Zebibyte(multiplyNullsafe(BYTES_IN_A_ZEBIBYTE, numberOfZebibytes));
+        return Zebibyte.valueOf(multiplyNullsafe(BYTES_IN_A_ZEBIBYTE, numberOfZebibytes));
     }
 
     /**
      * @param numberOfYobibytes
      *            The amount of yobibytes to create.
-     * @return A new unit representing the given amount of yobibytes.
+     * @return A unit representing the given amount of yobibytes.
      */
     @NonNull
     public static Yobibyte yobibyte(@NonNull final Long numberOfYobibytes) {
@@ -4439,7 +4790,7 @@ public final class StorageUnits {
     /**
      * @param numberOfYobibytes
      *            The amount of yobibytes to create.
-     * @return A new unit representing the given amount of yobibytes.
+     * @return A unit representing the given amount of yobibytes.
      */
     @NonNull
     public static Yobibyte yobibyte(final long numberOfYobibytes) {
@@ -4449,17 +4800,17 @@ public final class StorageUnits {
     /**
      * @param numberOfYobibytes
      *            The amount of yobibytes to create.
-     * @return A new unit representing the given amount of yobibytes.
+     * @return A unit representing the given amount of yobibytes.
      */
     @NonNull
     public static Yobibyte yobibyte(@NonNull final BigInteger numberOfYobibytes) {
-        return new Yobibyte(multiplyNullsafe(BYTES_IN_A_YOBIBYTE, numberOfYobibytes));
+        return Yobibyte.valueOf(multiplyNullsafe(BYTES_IN_A_YOBIBYTE, numberOfYobibytes));
     }
 
     /**
      * @param numberOfKilobytes
      *            The number of kilobytes to create.
-     * @return A new unit representing the given amount of kilobytes.
+     * @return A unit representing the given amount of kilobytes.
      */
     @NonNull
     public static Kilobyte kilobyte(@NonNull final Long numberOfKilobytes) {
@@ -4469,27 +4820,30 @@ public final class StorageUnits {
     /**
      * @param numberOfKilobytes
      *            The number of kilobytes to create.
-     * @return A new unit representing the given amount of kilobytes.
+     * @return A unit representing the given amount of kilobytes.
      */
     @NonNull
     public static Kilobyte kilobyte(final long numberOfKilobytes) {
+        if (fitsIntoLong(numberOfKilobytes, LONG_BYTES_IN_A_KILOBYTE)) {
+            return Kilobyte.valueOf(numberOfKilobytes * LONG_BYTES_IN_A_KILOBYTE);
+        }
         return kilobyte(asBigInteger(numberOfKilobytes));
     }
 
     /**
      * @param numberOfKilobytes
      *            The number of kilobytes to create.
-     * @return A new unit representing the given amount of kilobytes.
+     * @return A unit representing the given amount of kilobytes.
      */
     @NonNull
     public static Kilobyte kilobyte(@NonNull final BigInteger numberOfKilobytes) {
-        return new Kilobyte(multiplyNullsafe(BYTES_IN_A_KILOBYTE, numberOfKilobytes));
+        return Kilobyte.valueOf(multiplyNullsafe(BYTES_IN_A_KILOBYTE, numberOfKilobytes));
     }
 
     /**
      * @param numberOfMegabytes
      *            The number of megabytes to create.
-     * @return A new unit representing the given amount of megabytes.
+     * @return A unit representing the given amount of megabytes.
      */
     @NonNull
     public static Megabyte megabyte(@NonNull final Long numberOfMegabytes) {
@@ -4499,27 +4853,30 @@ public final class StorageUnits {
     /**
      * @param numberOfMegabytes
      *            The number of megabytes to create.
-     * @return A new unit representing the given amount of megabytes.
+     * @return A unit representing the given amount of megabytes.
      */
     @NonNull
     public static Megabyte megabyte(final long numberOfMegabytes) {
+        if (fitsIntoLong(numberOfMegabytes, LONG_BYTES_IN_A_MEGABYTE)) {
+            return Megabyte.valueOf(numberOfMegabytes * LONG_BYTES_IN_A_MEGABYTE);
+        }
         return megabyte(asBigInteger(numberOfMegabytes));
     }
 
     /**
      * @param numberOfMegabytes
      *            The number of megabytes to create.
-     * @return A new unit representing the given amount of megabytes.
+     * @return A unit representing the given amount of megabytes.
      */
     @NonNull
     public static Megabyte megabyte(@NonNull final BigInteger numberOfMegabytes) {
-        return new Megabyte(multiplyNullsafe(BYTES_IN_A_MEGABYTE, numberOfMegabytes));
+        return Megabyte.valueOf(multiplyNullsafe(BYTES_IN_A_MEGABYTE, numberOfMegabytes));
     }
 
     /**
      * @param numberOfGigabytes
      *            The number of gigabytes to create.
-     * @return A new unit representing the given amount of gigabytes.
+     * @return A unit representing the given amount of gigabytes.
      */
     @NonNull
     public static Gigabyte gigabyte(@NonNull final Long numberOfGigabytes) {
@@ -4529,27 +4886,30 @@ public final class StorageUnits {
     /**
      * @param numberOfGigabytes
      *            The number of gigabytes to create.
-     * @return A new unit representing the given amount of gigabytes.
+     * @return A unit representing the given amount of gigabytes.
      */
     @NonNull
     public static Gigabyte gigabyte(final long numberOfGigabytes) {
+        if (fitsIntoLong(numberOfGigabytes, LONG_BYTES_IN_A_GIGABYTE)) {
+            return Gigabyte.valueOf(numberOfGigabytes * LONG_BYTES_IN_A_GIGABYTE);
+        }
         return gigabyte(asBigInteger(numberOfGigabytes));
     }
 
     /**
      * @param numberOfGigabytes
      *            The number of gigabytes to create.
-     * @return A new unit representing the given amount of gigabytes.
+     * @return A unit representing the given amount of gigabytes.
      */
     @NonNull
     public static Gigabyte gigabyte(@NonNull final BigInteger numberOfGigabytes) {
-        return new Gigabyte(multiplyNullsafe(BYTES_IN_A_GIGABYTE, numberOfGigabytes));
+        return Gigabyte.valueOf(multiplyNullsafe(BYTES_IN_A_GIGABYTE, numberOfGigabytes));
     }
 
     /**
      * @param numberOfTerabytes
      *            The number of terabytes to create.
-     * @return A new unit representing the given amount of terabytes.
+     * @return A unit representing the given amount of terabytes.
      */
     @NonNull
     public static Terabyte terabyte(@NonNull final Long numberOfTerabytes) {
@@ -4559,27 +4919,30 @@ public final class StorageUnits {
     /**
      * @param numberOfTerabytes
      *            The number of terabytes to create.
-     * @return A new unit representing the given amount of terabytes.
+     * @return A unit representing the given amount of terabytes.
      */
     @NonNull
     public static Terabyte terabyte(final long numberOfTerabytes) {
+        if (fitsIntoLong(numberOfTerabytes, LONG_BYTES_IN_A_TERABYTE)) {
+            return Terabyte.valueOf(numberOfTerabytes * LONG_BYTES_IN_A_TERABYTE);
+        }
         return terabyte(asBigInteger(numberOfTerabytes));
     }
 
     /**
      * @param numberOfTerabytes
      *            The number of terabytes to create.
-     * @return A new unit representing the given amount of terabytes.
+     * @return A unit representing the given amount of terabytes.
      */
     @NonNull
     public static Terabyte terabyte(@NonNull final BigInteger numberOfTerabytes) {
-        return new Terabyte(multiplyNullsafe(BYTES_IN_A_TERABYTE, numberOfTerabytes));
+        return Terabyte.valueOf(multiplyNullsafe(BYTES_IN_A_TERABYTE, numberOfTerabytes));
     }
 
     /**
      * @param numberOfPetabytes
      *            The number of petabytes to create.
-     * @return A new unit representing the given amount of petabytes.
+     * @return A unit representing the given amount of petabytes.
      */
     @NonNull
     public static Petabyte petabyte(@NonNull final Long numberOfPetabytes) {
@@ -4589,27 +4952,30 @@ public final class StorageUnits {
     /**
      * @param numberOfPetabytes
      *            The number of petabytes to create.
-     * @return A new unit representing the given amount of petabytes.
+     * @return A unit representing the given amount of petabytes.
      */
     @NonNull
     public static Petabyte petabyte(final long numberOfPetabytes) {
+        if (fitsIntoLong(numberOfPetabytes, LONG_BYTES_IN_A_PETABYTE)) {
+            return Petabyte.valueOf(numberOfPetabytes * LONG_BYTES_IN_A_PETABYTE);
+        }
         return petabyte(asBigInteger(numberOfPetabytes));
     }
 
     /**
      * @param numberOfPetabytes
      *            The number of petabytes to create.
-     * @return A new unit representing the given amount of petabytes.
+     * @return A unit representing the given amount of petabytes.
      */
     @NonNull
     public static Petabyte petabyte(@NonNull final BigInteger numberOfPetabytes) {
-        return new Petabyte(multiplyNullsafe(BYTES_IN_A_PETABYTE, numberOfPetabytes));
+        return Petabyte.valueOf(multiplyNullsafe(BYTES_IN_A_PETABYTE, numberOfPetabytes));
     }
 
     /**
      * @param numberOfExabytes
      *            The number of exabytes to create.
-     * @return A new unit representing the given amount of exabytes.
+     * @return A unit representing the given amount of exabytes.
      */
     @NonNull
     public static Exabyte exabyte(@NonNull final Long numberOfExabytes) {
@@ -4619,27 +4985,30 @@ public final class StorageUnits {
     /**
      * @param numberOfExabytes
      *            The number of exabytes to create.
-     * @return A new unit representing the given amount of exabytes.
+     * @return A unit representing the given amount of exabytes.
      */
     @NonNull
     public static Exabyte exabyte(final long numberOfExabytes) {
+        if (fitsIntoLong(numberOfExabytes, LONG_BYTES_IN_A_EXABYTE)) {
+            return Exabyte.valueOf(numberOfExabytes * LONG_BYTES_IN_A_EXABYTE);
+        }
         return exabyte(asBigInteger(numberOfExabytes));
     }
 
     /**
      * @param numberOfExabytes
      *            The number of exabytes to create.
-     * @return A new unit representing the given amount of exabytes.
+     * @return A unit representing the given amount of exabytes.
      */
     @NonNull
     public static Exabyte exabyte(@NonNull final BigInteger numberOfExabytes) {
-        return new Exabyte(multiplyNullsafe(BYTES_IN_A_EXABYTE, numberOfExabytes));
+        return Exabyte.valueOf(multiplyNullsafe(BYTES_IN_A_EXABYTE, numberOfExabytes));
     }
 
     /**
      * @param numberOfZettabytes
      *            The number of zettabytes to create.
-     * @return A new unit representing the given amount of zettabytes.
+     * @return A unit representing the given amount of zettabytes.
      */
     @NonNull
     public static Zettabyte zettabyte(@NonNull final Long numberOfZettabytes) {
@@ -4649,7 +5018,7 @@ public final class StorageUnits {
     /**
      * @param numberOfZettabytes
      *            The number of zettabytes to create.
-     * @return A new unit representing the given amount of zettabytes.
+     * @return A unit representing the given amount of zettabytes.
      */
     @NonNull
     public static Zettabyte zettabyte(final long numberOfZettabytes) {
@@ -4659,17 +5028,17 @@ public final class StorageUnits {
     /**
      * @param numberOfZettabytes
      *            The number of zettabytes to create.
-     * @return A new unit representing the given amount of zettabytes.
+     * @return A unit representing the given amount of zettabytes.
      */
     @NonNull
     public static Zettabyte zettabyte(@NonNull final BigInteger numberOfZettabytes) {
-        return new Zettabyte(multiplyNullsafe(BYTES_IN_A_ZETTABYTE, numberOfZettabytes));
+        return Zettabyte.valueOf(multiplyNullsafe(BYTES_IN_A_ZETTABYTE, numberOfZettabytes));
     }
 
     /**
      * @param numberOfYottabytes
      *            The number of yottabytes to create.
-     * @return A new unit representing the given amount of yottabytes.
+     * @return A unit representing the given amount of yottabytes.
      */
     @NonNull
     public static Yottabyte yottabyte(@NonNull final Long numberOfYottabytes) {
@@ -4679,7 +5048,7 @@ public final class StorageUnits {
     /**
      * @param numberOfYottabytes
      *            The number of yottabytes to create.
-     * @return A new unit representing the given amount of yottabytes.
+     * @return A unit representing the given amount of yottabytes.
      */
     @NonNull
     public static Yottabyte yottabyte(final long numberOfYottabytes) {
@@ -4689,17 +5058,17 @@ public final class StorageUnits {
     /**
      * @param numberOfYottabytes
      *            The number of yottabytes to create.
-     * @return A new unit representing the given amount of yottabytes.
+     * @return A unit representing the given amount of yottabytes.
      */
     @NonNull
     public static Yottabyte yottabyte(@NonNull final BigInteger numberOfYottabytes) {
-        return new Yottabyte(multiplyNullsafe(BYTES_IN_A_YOTTABYTE, numberOfYottabytes));
+        return Yottabyte.valueOf(multiplyNullsafe(BYTES_IN_A_YOTTABYTE, numberOfYottabytes));
     }
 
     /**
      * @param numberOfKilobytes
      *            The number of kilobytes to create.
-     * @return A new unit representing the given amount of kilobytes.
+     * @return A unit representing the given amount of kilobytes.
      */
     @NonNull
     public static CommonKilobyte commonKilobyte(@NonNull final Long numberOfKilobytes) {
@@ -4709,27 +5078,30 @@ public final class StorageUnits {
     /**
      * @param numberOfKilobytes
      *            The number of kilobytes to create.
-     * @return A new unit representing the given amount of kilobytes.
+     * @return A unit representing the given amount of kilobytes.
      */
     @NonNull
     public static CommonKilobyte commonKilobyte(final long numberOfKilobytes) {
+        if (fitsIntoLong(numberOfKilobytes, LONG_BYTES_IN_A_KIBIBYTE)) {
+            return CommonKilobyte.valueOf(numberOfKilobytes * LONG_BYTES_IN_A_KIBIBYTE);
+        }
         return commonKilobyte(asBigInteger(numberOfKilobytes));
     }
 
     /**
      * @param numberOfKilobytes
      *            The number of kilobytes to create.
-     * @return A new unit representing the given amount of kilobytes.
+     * @return A unit representing the given amount of kilobytes.
      */
     @NonNull
     public static CommonKilobyte commonKilobyte(@NonNull final BigInteger numberOfKilobytes) {
-        return new CommonKilobyte(multiplyNullsafe(BYTES_IN_A_KIBIBYTE, numberOfKilobytes));
+        return CommonKilobyte.valueOf(multiplyNullsafe(BYTES_IN_A_KIBIBYTE, numberOfKilobytes));
     }
 
     /**
      * @param numberOfMegabytes
      *            The number of megabytes to create.
-     * @return A new unit representing the given amount of megabytes.
+     * @return A unit representing the given amount of megabytes.
      */
     @NonNull
     public static CommonMegabyte commonMegabyte(@NonNull final Long numberOfMegabytes) {
@@ -4739,27 +5111,30 @@ public final class StorageUnits {
     /**
      * @param numberOfMegabytes
      *            The number of megabytes to create.
-     * @return A new unit representing the given amount of megabytes.
+     * @return A unit representing the given amount of megabytes.
      */
     @NonNull
     public static CommonMegabyte commonMegabyte(final long numberOfMegabytes) {
+        if (fitsIntoLong(numberOfMegabytes, LONG_BYTES_IN_A_MEBIBYTE)) {
+            return CommonMegabyte.valueOf(numberOfMegabytes * LONG_BYTES_IN_A_MEBIBYTE);
+        }
         return commonMegabyte(asBigInteger(numberOfMegabytes));
     }
 
     /**
      * @param numberOfMegabytes
      *            The number of megabytes to create.
-     * @return A new unit representing the given amount of megabytes.
+     * @return A unit representing the given amount of megabytes.
      */
     @NonNull
     public static CommonMegabyte commonMegabyte(@NonNull final BigInteger numberOfMegabytes) {
-        return new CommonMegabyte(multiplyNullsafe(BYTES_IN_A_MEBIBYTE, numberOfMegabytes));
+        return CommonMegabyte.valueOf(multiplyNullsafe(BYTES_IN_A_MEBIBYTE, numberOfMegabytes));
     }
 
     /**
      * @param numberOfGigabytes
      *            The number of gigabytes to create.
-     * @return A new unit representing the given amount of gigabytes.
+     * @return A unit representing the given amount of gigabytes.
      */
     @NonNull
     public static CommonGigabyte commonGigabyte(@NonNull final Long numberOfGigabytes) {
@@ -4769,27 +5144,30 @@ public final class StorageUnits {
     /**
      * @param numberOfGigabytes
      *            The number of gigabytes to create.
-     * @return A new unit representing the given amount of gigabytes.
+     * @return A unit representing the given amount of gigabytes.
      */
     @NonNull
     public static CommonGigabyte commonGigabyte(final long numberOfGigabytes) {
+        if (fitsIntoLong(numberOfGigabytes, LONG_BYTES_IN_A_GIBIBYTE)) {
+            return CommonGigabyte.valueOf(numberOfGigabytes * LONG_BYTES_IN_A_GIBIBYTE);
+        }
         return commonGigabyte(asBigInteger(numberOfGigabytes));
     }
 
     /**
      * @param numberOfGigabytes
      *            The number of gigabytes to create.
-     * @return A new unit representing the given amount of gigabytes.
+     * @return A unit representing the given amount of gigabytes.
      */
     @NonNull
     public static CommonGigabyte commonGigabyte(@NonNull final BigInteger numberOfGigabytes) {
-        return new CommonGigabyte(multiplyNullsafe(BYTES_IN_A_GIBIBYTE, numberOfGigabytes));
+        return CommonGigabyte.valueOf(multiplyNullsafe(BYTES_IN_A_GIBIBYTE, numberOfGigabytes));
     }
 
     /**
      * @param numberOfTerabytes
      *            The number of terabytes to create.
-     * @return A new unit representing the given amount of terabytes.
+     * @return A unit representing the given amount of terabytes.
      */
     @NonNull
     public static CommonTerabyte commonTerabyte(@NonNull final Long numberOfTerabytes) {
@@ -4799,27 +5177,30 @@ public final class StorageUnits {
     /**
      * @param numberOfTerabytes
      *            The number of terabytes to create.
-     * @return A new unit representing the given amount of terabytes.
+     * @return A unit representing the given amount of terabytes.
      */
     @NonNull
     public static CommonTerabyte commonTerabyte(final long numberOfTerabytes) {
+        if (fitsIntoLong(numberOfTerabytes, LONG_BYTES_IN_A_TEBIBYTE)) {
+            return CommonTerabyte.valueOf(numberOfTerabytes * LONG_BYTES_IN_A_TEBIBYTE);
+        }
         return commonTerabyte(asBigInteger(numberOfTerabytes));
     }
 
     /**
      * @param numberOfTerabytes
      *            The number of terabytes to create.
-     * @return A new unit representing the given amount of terabytes.
+     * @return A unit representing the given amount of terabytes.
      */
     @NonNull
     public static CommonTerabyte commonTerabyte(@NonNull final BigInteger numberOfTerabytes) {
-        return new CommonTerabyte(multiplyNullsafe(BYTES_IN_A_TEBIBYTE, numberOfTerabytes));
+        return CommonTerabyte.valueOf(multiplyNullsafe(BYTES_IN_A_TEBIBYTE, numberOfTerabytes));
     }
 
     /**
      * @param numberOfPetabytes
      *            The number of petabytes to create.
-     * @return A new unit representing the given amount of petabytes.
+     * @return A unit representing the given amount of petabytes.
      */
     @NonNull
     public static CommonPetabyte commonPetabyte(@NonNull final Long numberOfPetabytes) {
@@ -4829,27 +5210,30 @@ public final class StorageUnits {
     /**
      * @param numberOfPetabytes
      *            The number of petabytes to create.
-     * @return A new unit representing the given amount of petabytes.
+     * @return A unit representing the given amount of petabytes.
      */
     @NonNull
     public static CommonPetabyte commonPetabyte(final long numberOfPetabytes) {
+        if (fitsIntoLong(numberOfPetabytes, LONG_BYTES_IN_A_PEBIBYTE)) {
+            return CommonPetabyte.valueOf(numberOfPetabytes * LONG_BYTES_IN_A_PEBIBYTE);
+        }
         return commonPetabyte(asBigInteger(numberOfPetabytes));
     }
 
     /**
      * @param numberOfPetabytes
      *            The number of petabytes to create.
-     * @return A new unit representing the given amount of petabytes.
+     * @return A unit representing the given amount of petabytes.
      */
     @NonNull
     public static CommonPetabyte commonPetabyte(@NonNull final BigInteger numberOfPetabytes) {
-        return new CommonPetabyte(multiplyNullsafe(BYTES_IN_A_PEBIBYTE, numberOfPetabytes));
+        return CommonPetabyte.valueOf(multiplyNullsafe(BYTES_IN_A_PEBIBYTE, numberOfPetabytes));
     }
 
     /**
      * @param numberOfExabytes
      *            The number of exabytes to create.
-     * @return A new unit representing the given amount of exabytes.
+     * @return A unit representing the given amount of exabytes.
      */
     @NonNull
     public static CommonExabyte commonExabyte(@NonNull final Long numberOfExabytes) {
@@ -4859,27 +5243,30 @@ public final class StorageUnits {
     /**
      * @param numberOfExabytes
      *            The number of exabytes to create.
-     * @return A new unit representing the given amount of exabytes.
+     * @return A unit representing the given amount of exabytes.
      */
     @NonNull
     public static CommonExabyte commonExabyte(final long numberOfExabytes) {
+        if (fitsIntoLong(numberOfExabytes, LONG_BYTES_IN_A_EXBIBYTE)) {
+            return CommonExabyte.valueOf(numberOfExabytes * LONG_BYTES_IN_A_EXBIBYTE);
+        }
         return commonExabyte(asBigInteger(numberOfExabytes));
     }
 
     /**
      * @param numberOfExabytes
      *            The number of exabytes to create.
-     * @return A new unit representing the given amount of exabytes.
+     * @return A unit representing the given amount of exabytes.
      */
     @NonNull
     public static CommonExabyte commonExabyte(@NonNull final BigInteger numberOfExabytes) {
-        return new CommonExabyte(multiplyNullsafe(BYTES_IN_A_EXBIBYTE, numberOfExabytes));
+        return CommonExabyte.valueOf(multiplyNullsafe(BYTES_IN_A_EXBIBYTE, numberOfExabytes));
     }
 
     /**
      * @param numberOfZettabytes
      *            The number of zettabytes to create.
-     * @return A new unit representing the given amount of zettabytes.
+     * @return A unit representing the given amount of zettabytes.
      */
     @NonNull
     public static CommonZettabyte commonZettabyte(@NonNull final Long numberOfZettabytes) {
@@ -4889,7 +5276,7 @@ public final class StorageUnits {
     /**
      * @param numberOfZettabytes
      *            The number of zettabytes to create.
-     * @return A new unit representing the given amount of zettabytes.
+     * @return A unit representing the given amount of zettabytes.
      */
     @NonNull
     public static CommonZettabyte commonZettabyte(final long numberOfZettabytes) {
@@ -4899,17 +5286,17 @@ public final class StorageUnits {
     /**
      * @param numberOfZettabytes
      *            The number of zettabytes to create.
-     * @return A new unit representing the given amount of zettabytes.
+     * @return A unit representing the given amount of zettabytes.
      */
     @NonNull
     public static CommonZettabyte commonZettabyte(@NonNull final BigInteger numberOfZettabytes) {
-        return new CommonZettabyte(multiplyNullsafe(BYTES_IN_A_ZEBIBYTE, numberOfZettabytes));
+        return CommonZettabyte.valueOf(multiplyNullsafe(BYTES_IN_A_ZEBIBYTE, numberOfZettabytes));
     }
 
     /**
      * @param numberOfYottabytes
      *            The number of yottabytes to create.
-     * @return A new unit representing the given amount of yottabytes.
+     * @return A unit representing the given amount of yottabytes.
      */
     @NonNull
     public static CommonYottabyte commonYottabyte(@NonNull final Long numberOfYottabytes) {
@@ -4919,7 +5306,7 @@ public final class StorageUnits {
     /**
      * @param numberOfYottabytes
      *            The number of yottabytes to create.
-     * @return A new unit representing the given amount of yottabytes.
+     * @return A unit representing the given amount of yottabytes.
      */
     @NonNull
     public static CommonYottabyte commonYottabyte(final long numberOfYottabytes) {
@@ -4929,11 +5316,15 @@ public final class StorageUnits {
     /**
      * @param numberOfYottabytes
      *            The number of yottabytes to create.
-     * @return A new unit representing the given amount of yottabytes.
+     * @return A unit representing the given amount of yottabytes.
      */
     @NonNull
     public static CommonYottabyte commonYottabyte(@NonNull final BigInteger numberOfYottabytes) {
-        return new CommonYottabyte(multiplyNullsafe(BYTES_IN_A_YOBIBYTE, numberOfYottabytes));
+        return CommonYottabyte.valueOf(multiplyNullsafe(BYTES_IN_A_YOBIBYTE, numberOfYottabytes));
+    }
+
+    private static boolean fitsIntoLong(final long amount, final long bytesPerUnit) {
+        return amount <= Long.MAX_VALUE / bytesPerUnit && amount >= Long.MIN_VALUE / bytesPerUnit;
     }
 
 }
@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -25,6 +21,19 @@ public final class Tebibyte extends StorageUnit<Tebibyte> {
     /** Generated */
     private static final long serialVersionUID = 3614537130129620881L;
 
+    @NonNull
+    private static final UnitCache<Tebibyte> CACHE = new UnitCache<>(Tebibyte::new, Tebibyte::new);
+
+    /**
+     * One tebibyte.
+     */
+    @NonNull
+    public static final Tebibyte ONE = valueOf(StorageUnit.BYTES_IN_A_TEBIBYTE);
+
+    Tebibyte(final long bytes) {
+        super(bytes);
+    }
+
     Tebibyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -32,27 +41,29 @@ public final class Tebibyte extends StorageUnit<Tebibyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Tebibyte contains.
-     * @return A new Tebibyte unit with the given value.
+     * @return A new or cached Tebibyte unit with the given value.
      */
     @NonNull
     public static Tebibyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new Tebibyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Tebibyte contains.
-     * @return A new Tebibyte unit with the given value.
+     * @return A new or cached Tebibyte unit with the given value.
      */
     @NonNull
     public static Tebibyte valueOf(final long numberOfBytes) {
-        return new Tebibyte(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Tebibyte contains.
-     * @return A new Tebibyte unit with the given value.
+     * @return A new or cached Tebibyte unit with the given value.
      */
     @NonNull
     public static Tebibyte valueOf(@NonNull final Long numberOfBytes) {
@@ -60,33 +71,13 @@ public final class Tebibyte extends StorageUnit<Tebibyte> {
     }
 
     @Override
-    public Tebibyte add(final long bytesToAdd) {
-        return new Tebibyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public Tebibyte add(final StorageUnit<?> storageAmount) {
-        return new Tebibyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public Tebibyte divide(final long divisor) {
-        return new Tebibyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public Tebibyte multiply(final long factor) {
-        return new Tebibyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public Tebibyte subtract(final long bytesToSubtract) {
-        return new Tebibyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected Tebibyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public Tebibyte subtract(final StorageUnit<?> storageAmount) {
-        return new Tebibyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected Tebibyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -24,6 +20,19 @@ public class Terabyte extends StorageUnit<Terabyte> {
 
     private static final long serialVersionUID = 2160488069631638952L;
 
+    @NonNull
+    private static final UnitCache<Terabyte> CACHE = new UnitCache<>(Terabyte::new, Terabyte::new);
+
+    /**
+     * One terabyte.
+     */
+    @NonNull
+    public static final Terabyte ONE = valueOf(StorageUnit.BYTES_IN_A_TERABYTE);
+
+    Terabyte(final long bytes) {
+        super(bytes);
+    }
+
     Terabyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -31,27 +40,29 @@ public class Terabyte extends StorageUnit<Terabyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Terabyte contains.
-     * @return A new Kilobyte unit with the given value.
+     * @return A new or cached Kilobyte unit with the given value.
      */
     @NonNull
     public static Terabyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new Terabyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Terabyte contains.
-     * @return A new Terabyte unit with the given value.
+     * @return A new or cached Terabyte unit with the given value.
      */
     @NonNull
     public static Terabyte valueOf(final long numberOfBytes) {
-        return new Terabyte(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Terabyte contains.
-     * @return A new Terabyte unit with the given value.
+     * @return A new or cached Terabyte unit with the given value.
      */
     @NonNull
     public static Terabyte valueOf(@NonNull final Long numberOfBytes) {
@@ -59,33 +70,13 @@ public class Terabyte extends StorageUnit<Terabyte> {
     }
 
     @Override
-    public Terabyte add(final long bytesToAdd) {
-        return new Terabyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public Terabyte add(final StorageUnit<?> storageAmount) {
-        return new Terabyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public Terabyte divide(final long divisor) {
-        return new Terabyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public Terabyte multiply(final long factor) {
-        return new Terabyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public Terabyte subtract(final long bytesToSubtract) {
-        return new Terabyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected Terabyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public Terabyte subtract(final StorageUnit<?> storageAmount) {
-        return new Terabyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected Terabyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
@@ -0,0 +1,112 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+import de.xn__ho_hia.quality.null_analysis.Nullsafe;
+
+/**
+ * Canonical instances of a single storage unit, similar to the cache behind {@link Integer#valueOf(int)}. Caches small
+ * amounts of bytes as well as exact powers of two and ten, e.g. 4 KiB pages or 1 MB chunks. Instances are created
+ * lazily on first use and never evicted. Concurrent first uses agree on a single instance.
+ *
+ * @param <T>
+ *            The type of the cached storage unit.
+ */
+final class UnitCache<T extends StorageUnit<T>> {
+
+    // Amounts of bytes below this limit are cached
+    private static final int SMALL_VALUES = 256;
+
+    // Powers of two below this exponent are covered by the small values
+    private static final int SMALLEST_POWER_OF_TWO = 8;
+
+    private static final int LARGEST_POWER_OF_TWO = Long.SIZE - 2;
+
+    // Powers of ten below this exponent are covered by the small values
+    private static final int SMALLEST_POWER_OF_TEN = 3;
+
+    private static final int LARGEST_POWER_OF_TEN = 18;
+
+    private static final int POWERS_OF_TWO_OFFSET = SMALL_VALUES - SMALLEST_POWER_OF_TWO;
+
+    private static final int POWERS_OF_TEN_OFFSET = POWERS_OF_TWO_OFFSET + LARGEST_POWER_OF_TWO + 1
+            - SMALLEST_POWER_OF_TEN;
+
+    private static final int SIZE = POWERS_OF_TEN_OFFSET + LARGEST_POWER_OF_TEN + 1;
+
+    // Indexed by the number of trailing zero bits, which equals the exponent for each power of ten
+    private static final long[] POWERS_OF_TEN = new long[LARGEST_POWER_OF_TEN + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int exponent = 1; exponent <= LARGEST_POWER_OF_TEN; exponent++) {
+            POWERS_OF_TEN[exponent] = POWERS_OF_TEN[exponent - 1] * 10;
+        }
+    }
+
+    private final LongFunction<T> longFactory;
+    private final Function<@NonNull BigInteger, T> bigIntegerFactory;
+    private final AtomicReferenceArray<T> instances = new AtomicReferenceArray<>(SIZE);
+
+    UnitCache(final LongFunction<T> longFactory, final Function<@NonNull BigInteger, T> bigIntegerFactory) {
+        this.longFactory = longFactory;
+        this.bigIntegerFactory = bigIntegerFactory;
+    }
+
+    @NonNull
+    T valueOf(final long bytes) {
+        final int index = index(bytes);
+        if (index < 0) {
+            return Nullsafe.nonNull(this.longFactory.apply(bytes));
+        }
+        final T cached = this.instances.get(index);
+        if (cached != null) {
+            return cached;
+        }
+        final T created = Nullsafe.nonNull(this.longFactory.apply(bytes));
+        if (this.instances.compareAndSet(index, null, created)) {
+            return created;
+        }
+        return Nullsafe.nonNull(this.instances.get(index));
+    }
+
+    @NonNull
+    T valueOf(@NonNull final BigInteger bytes) {
+        if (bytes.bitLength() < Long.SIZE) {
+            return valueOf(bytes.longValue());
+        }
+        return Nullsafe.nonNull(this.bigIntegerFactory.apply(bytes));
+    }
+
+    /**
+     * @return The index of the given amount of bytes in the cache or <code>-1</code> in case it is not cached.
+     */
+    static int index(final long bytes) {
+        if (bytes >= 0 && bytes < SMALL_VALUES) {
+            return (int) bytes;
+        }
+        if (bytes < 0) {
+            return -1;
+        }
+        final int trailingZeros = Long.numberOfTrailingZeros(bytes);
+        if ((bytes & bytes - 1) == 0) {
+            return POWERS_OF_TWO_OFFSET + trailingZeros;
+        }
+        if (trailingZeros <= LARGEST_POWER_OF_TEN && POWERS_OF_TEN[trailingZeros] == bytes) {
+            return POWERS_OF_TEN_OFFSET + trailingZeros;
+        }
+        return -1;
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import java.math.BigInteger;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.xn__ho_hia.quality.null_analysis.Nullsafe;
+
+/**
+ * Mutable sum of amounts of bytes for single-threaded accumulation, e.g. within a {@link java.util.stream.Collector}.
+ * Amounts are added to a primitive <code>long</code>, which is only moved into a {@link BigInteger} when it would
+ * overflow.
+ */
+final class UnitSum {
+
+    private long bytes;
+
+    @Nullable
+    private BigInteger overflow;
+
+    void add(final long amount) {
+        final long next = this.bytes + amount;
+        if (((this.bytes ^ next) & (amount ^ next)) < 0) {
+            addToOverflow(BigInteger.valueOf(this.bytes));
+            this.bytes = amount;
+        } else {
+            this.bytes = next;
+        }
+    }
+
+    void add(@NonNull final StorageUnit<?> unit) {
+        final BigInteger bigBytes = unit.bigBytes;
+        if (bigBytes == null) {
+            add(unit.bytes);
+        } else {
+            addToOverflow(bigBytes);
+        }
+    }
+
+    void add(@NonNull final UnitSum other) {
+        add(other.bytes);
+        final BigInteger otherOverflow = other.overflow;
+        if (otherOverflow != null) {
+            addToOverflow(otherOverflow);
+        }
+    }
+
+    @NonNull
+    BigInteger toBigInteger() {
+        final BigInteger currentOverflow = this.overflow;
+        if (currentOverflow == null) {
+            return Nullsafe.asBigInteger(this.bytes);
+        }
+        return Nullsafe.nonNull(currentOverflow.add(BigInteger.valueOf(this.bytes)));
+    }
+
+    @NonNull
+    StorageUnit<?> toUnit() {
+        if (this.overflow == null) {
+            return StorageUnits.binaryValueOf(this.bytes);
+        }
+        return StorageUnits.binaryValueOf(toBigInteger());
+    }
+
+    private void addToOverflow(final BigInteger amount) {
+        final BigInteger currentOverflow = this.overflow;
+        this.overflow = currentOverflow == null ? amount : currentOverflow.add(amount);
+    }
+
+}
@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -25,6 +21,19 @@ public final class Yobibyte extends StorageUnit<Yobibyte> {
     /** Generated */
     private static final long serialVersionUID = -5606322878020884194L;
 
+    @NonNull
+    private static final UnitCache<Yobibyte> CACHE = new UnitCache<>(Yobibyte::new, Yobibyte::new);
+
+    /**
+     * One yobibyte.
+     */
+    @NonNull
+    public static final Yobibyte ONE = valueOf(StorageUnit.BYTES_IN_A_YOBIBYTE);
+
+    Yobibyte(final long bytes) {
+        super(bytes);
+    }
+
     Yobibyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -32,27 +41,29 @@ public final class Yobibyte extends StorageUnit<Yobibyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Yobibyte contains.
-     * @return A new Yobibyte unit with the given value.
+     * @return A new or cached Yobibyte unit with the given value.
      */
     @NonNull
     public static Yobibyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new Yobibyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Yobibyte contains.
-     * @return A new Yobibyte unit with the given value.
+     * @return A new or cached Yobibyte unit with the given value.
      */
     @NonNull
     public static Yobibyte valueOf(final long numberOfBytes) {
-        return new Yobibyte(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Yobibyte contains.
-     * @return A new Yobibyte unit with the given value.
+     * @return A new or cached Yobibyte unit with the given value.
      */
     @NonNull
     public static Yobibyte valueOf(@NonNull final Long numberOfBytes) {
@@ -60,33 +71,13 @@ public final class Yobibyte extends StorageUnit<Yobibyte> {
     }
 
     @Override
-    public Yobibyte add(final long bytesToAdd) {
-        return new Yobibyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public Yobibyte add(final StorageUnit<?> storageAmount) {
-        return new Yobibyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public Yobibyte divide(final long divisor) {
-        return new Yobibyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public Yobibyte multiply(final long factor) {
-        return new Yobibyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public Yobibyte subtract(final long bytesToSubtract) {
-        return new Yobibyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected Yobibyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public Yobibyte subtract(final StorageUnit<?> storageAmount) {
-        return new Yobibyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected Yobibyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
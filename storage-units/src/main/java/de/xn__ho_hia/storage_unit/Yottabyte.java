@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -24,6 +20,19 @@ public class Yottabyte extends StorageUnit<Yottabyte> {
 
     private static final long serialVersionUID = 2482152459842042316L;
 
+    @NonNull
+    private static final UnitCache<Yottabyte> CACHE = new UnitCache<>(Yottabyte::new, Yottabyte::new);
+
+    /**
+     * One yottabyte.
+     */
+    @NonNull
+    public static final Yottabyte ONE = valueOf(StorageUnit.BYTES_IN_A_YOTTABYTE);
+
+    Yottabyte(final long bytes) {
+        super(bytes);
+    }
+
     Yottabyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -31,27 +40,29 @@ public class Yottabyte extends StorageUnit<Yottabyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Yottabyte contains.
-     * @return A new Yottabyte unit with the given value.
+     * @return A new or cached Yottabyte unit with the given value.
      */
     @NonNull
     public static Yottabyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new Yottabyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Yottabyte contains.
-     * @return A new Yottabyte unit with the given value.
+     * @return A new or cached Yottabyte unit with the given value.
      */
     @NonNull
     public static Yottabyte valueOf(final long numberOfBytes) {
-        return new Yottabyte(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Yottabyte contains.
-     * @return A new Yottabyte unit with the given value.
+     * @return A new or cached Yottabyte unit with the given value.
      */
     @NonNull
     public static Yottabyte valueOf(@NonNull final Long numberOfBytes) {
@@ -59,33 +70,13 @@ public class Yottabyte extends StorageUnit<Yottabyte> {
     }
 
     @Override
-    public Yottabyte add(final long bytesToAdd) {
-        return new Yottabyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public Yottabyte add(final StorageUnit<?> storageAmount) {
-        return new Yottabyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public Yottabyte divide(final long divisor) {
-        return new Yottabyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public Yottabyte multiply(final long factor) {
-        return new Yottabyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public Yottabyte subtract(final long bytesToSubtract) {
-        return new Yottabyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected Yottabyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public Yottabyte subtract(final StorageUnit<?> storageAmount) {
-        return new Yottabyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected Yottabyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -24,6 +20,19 @@ public final class Zebibyte extends StorageUnit<Zebibyte> {
 
     private static final long serialVersionUID = 2192254824473341887L;
 
+    @NonNull
+    private static final UnitCache<Zebibyte> CACHE = new UnitCache<>(Zebibyte::new, Zebibyte::new);
+
+    /**
+     * One zebibyte.
+     */
+    @NonNull
+    public static final Zebibyte ONE = valueOf(StorageUnit.BYTES_IN_A_ZEBIBYTE);
+
+    Zebibyte(final long bytes) {
+        super(bytes);
+    }
+
     Zebibyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -31,27 +40,29 @@ public final class Zebibyte extends StorageUnit<Zebibyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Zebibyte contains.
-     * @return A new Zebibyte unit with the given value.
+     * @return A new or cached Zebibyte unit with the given value.
      */
     @NonNull
     public static Zebibyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new Zebibyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Zebibyte contains.
-     * @return A new Zebibyte unit with the given value.
+     * @return A new or cached Zebibyte unit with the given value.
      */
     @NonNull
     public static Zebibyte valueOf(final long numberOfBytes) {
-        return new Zebibyte(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Zebibyte contains.
-     * @return A new Zebibyte unit with the given value.
+     * @return A new or cached Zebibyte unit with the given value.
      */
     @NonNull
     public static Zebibyte valueOf(@NonNull final Long numberOfBytes) {
@@ -59,33 +70,13 @@ public final class Zebibyte extends StorageUnit<Zebibyte> {
     }
 
     @Override
-    public Zebibyte add(final long bytesToAdd) {
-        return new Zebibyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public Zebibyte add(final StorageUnit<?> storageAmount) {
-        return new Zebibyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public Zebibyte divide(final long divisor) {
-        return new Zebibyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public Zebibyte multiply(final long factor) {
-        return new Zebibyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public Zebibyte subtract(final long bytesToSubtract) {
-        return new Zebibyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected Zebibyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public Zebibyte subtract(final StorageUnit<?> storageAmount) {
-        return new Zebibyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected Zebibyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
@@ -6,11 +6,7 @@
  */
 package de.xn__ho_hia.storage_unit;
 
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.addNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asBigInteger;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.divideNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.multiplyNullsafe;
-import static de.xn__ho_hia.quality.null_analysis.Nullsafe.subtractNullsafe;
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
 
 import java.math.BigInteger;
 import java.util.function.Function;
@@ -24,6 +20,19 @@ public class Zettabyte extends StorageUnit<Zettabyte> {
 
     private static final long serialVersionUID = 8849006574018911826L;
 
+    @NonNull
+    private static final UnitCache<Zettabyte> CACHE = new UnitCache<>(Zettabyte::new, Zettabyte::new);
+
+    /**
+     * One zettabyte.
+     */
+    @NonNull
+    public static final Zettabyte ONE = valueOf(StorageUnit.BYTES_IN_A_ZETTABYTE);
+
+    Zettabyte(final long bytes) {
+        super(bytes);
+    }
+
     Zettabyte(@NonNull final BigInteger bytes) {
         super(bytes);
     }
@@ -31,27 +40,29 @@ public class Zettabyte extends StorageUnit<Zettabyte> {
     /**
      * @param numberOfBytes
      *            The amount of bytes the Zettabyte contains.
-     * @return A new Zettabyte unit with the given value.
+     * @return A new or cached Zettabyte unit with the given value.
      */
     @NonNull
     public static Zettabyte valueOf(@NonNull final BigInteger numberOfBytes) {
-        return new Zettabyte(numberOfBytes);
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
+     * Returns cached instances for small amounts of bytes and exact powers of two and ten.
+     *
      * @param numberOfBytes
      *            The amount of bytes the Zettabyte contains.
-     * @return A new Zettabyte unit with the given value.
+     * @return A new or cached Zettabyte unit with the given value.
      */
     @NonNull
     public static Zettabyte valueOf(final long numberOfBytes) {
-        return new Zettabyte(asBigInteger(numberOfBytes));
+        return CACHE.valueOf(numberOfBytes);
     }
 
     /**
      * @param numberOfBytes
      *            The amount of bytes the Zettabyte contains.
-     * @return A new Zettabyte unit with the given value.
+     * @return A new or cached Zettabyte unit with the given value.
      */
     @NonNull
     public static Zettabyte valueOf(@NonNull final Long numberOfBytes) {
@@ -59,33 +70,13 @@ public class Zettabyte extends StorageUnit<Zettabyte> {
     }
 
     @Override
-    public Zettabyte add(final long bytesToAdd) {
-        return new Zettabyte(addNullsafe(bytes, asBigInteger(bytesToAdd)));
-    }
-
-    @Override
-    public Zettabyte add(final StorageUnit<?> storageAmount) {
-        return new Zettabyte(addNullsafe(bytes, storageAmount.bytes));
-    }
-
-    @Override
-    public Zettabyte divide(final long divisor) {
-        return new Zettabyte(divideNullsafe(bytes, asBigInteger(divisor)));
-    }
-
-    @Override
-    public Zettabyte multiply(final long factor) {
-        return new Zettabyte(multiplyNullsafe(bytes, asBigInteger(factor)));
-    }
-
-    @Override
-    public Zettabyte subtract(final long bytesToSubtract) {
-        return new Zettabyte(subtractNullsafe(bytes, asBigInteger(bytesToSubtract)));
+    protected Zettabyte create(final long numberOfBytes) {
+        return valueOf(numberOfBytes);
     }
 
     @Override
-    public Zettabyte subtract(final StorageUnit<?> storageAmount) {
-        return new Zettabyte(subtractNullsafe(bytes, storageAmount.bytes));
+    protected Zettabyte create(final BigInteger numberOfBytes) {
+        return valueOf(nonNull(numberOfBytes));
     }
 
     @Override
@@ -11,6 +11,8 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.text.Format;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -71,4 +73,84 @@ public class FormatUtilsTest {
         Assert.assertNotNull(format);
     }
 
+    /**
+     * Ensures that the same thread receives the same {@link Format} for the same pattern and {@link Locale}.
+     */
+    @Test
+    public void shouldCacheFormatPerThread() {
+        // given
+        final String pattern = "#.##";
+        final Locale locale = Locale.GERMAN;
+
+        // when
+        final Format first = FormatUtils.cachedFormat(pattern, locale);
+        final Format second = FormatUtils.cachedFormat(pattern, locale);
+
+        // then
+        Assert.assertSame(first, second);
+    }
+
+    /**
+     * Ensures that different threads receive their own {@link Format} instances.
+     *
+     * @throws InterruptedException
+     *             Should not fail in case the other thread finishes.
+     */
+    @Test
+    public void shouldNotShareFormatBetweenThreads() throws InterruptedException {
+        // given
+        final String pattern = "#.###";
+        final Locale locale = Locale.GERMAN;
+        final Format[] otherFormat = new Format[1];
+        final Thread other = new Thread(() -> otherFormat[0] = FormatUtils.cachedFormat(pattern, locale));
+
+        // when
+        final Format format = FormatUtils.cachedFormat(pattern, locale);
+        other.start();
+        other.join();
+
+        // then
+        Assert.assertNotNull(otherFormat[0]);
+        Assert.assertNotSame(format, otherFormat[0]);
+        Assert.assertEquals(format, otherFormat[0]);
+    }
+
+    /**
+     * Ensures that compiled formats are shared between calls for the same pattern and locale.
+     */
+    @Test
+    public void shouldShareCompiledFormat() {
+        // given
+        final String pattern = "0.#";
+        final Locale locale = Locale.ITALIAN;
+
+        // when
+        final ThreadLocal<?> first = FormatUtils.compiledFormat(pattern, locale);
+        final ThreadLocal<?> second = FormatUtils.compiledFormat(pattern, locale);
+
+        // then
+        Assert.assertSame(first, second);
+    }
+
+    /**
+     * Ensures that full caches are cleared before inserting instead of growing without bounds.
+     */
+    @Test
+    public void shouldBoundCacheSize() {
+        // given
+        final ConcurrentMap<Integer, String> cache = new ConcurrentHashMap<>();
+        for (int index = 0; index < FormatUtils.MAXIMUM_CACHED_FORMATS; index++) {
+            cache.put(Integer.valueOf(index), "value");
+        }
+
+        // when
+        final String cached = FormatUtils.cached(cache, Integer.valueOf(0), key -> "other");
+        final String created = FormatUtils.cached(cache, Integer.valueOf(-1), key -> "created");
+
+        // then
+        Assert.assertEquals("value", cached);
+        Assert.assertEquals("created", created);
+        Assert.assertEquals(1, cache.size());
+    }
+
 }
@@ -0,0 +1,63 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import java.math.BigInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+
+/**
+ * Test cases for the {@link PreferredUnitType} enum.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class PreferredUnitTypeTest {
+
+    /**
+     * Ensures that each type creates the best-matching unit of its family.
+     */
+    @Test
+    public void shouldCreateBestMatchingUnits() {
+        // Given
+        final long bytes = 3_000_000;
+
+        // When
+        final StorageUnit<?> binary = PreferredUnitType.BINARY.valueOf(bytes);
+        final StorageUnit<?> common = PreferredUnitType.COMMON.valueOf(bytes);
+        final StorageUnit<?> decimal = PreferredUnitType.DECIMAL.valueOf(bytes);
+
+        // Then
+        Assert.assertEquals(StorageUnits.binaryValueOf(bytes), binary);
+        Assert.assertEquals(StorageUnits.commonValueOf(bytes), common);
+        Assert.assertEquals(StorageUnits.decimalValueOf(bytes), decimal);
+    }
+
+    /**
+     * Ensures that large amounts of bytes create the same units regardless of their representation.
+     */
+    @Test
+    public void shouldCreateSameUnitsForBigIntegers() {
+        for (final PreferredUnitType type : PreferredUnitType.values()) {
+            // Given
+            final BigInteger small = BigInteger.valueOf(Long.MAX_VALUE);
+            final BigInteger large = small.shiftLeft(10);
+
+            // When
+            final StorageUnit<?> fromLong = type.valueOf(Long.MAX_VALUE);
+            final StorageUnit<?> fromSmall = type.valueOf(small);
+            final StorageUnit<?> fromLarge = type.valueOf(large);
+
+            // Then
+            Assert.assertEquals("Wrong unit for " + type, fromLong, fromSmall);
+            Assert.assertEquals("Wrong unit for " + type, fromLong.getClass(), fromSmall.getClass());
+            Assert.assertEquals("Wrong amount for " + type, large, fromLarge.inByte());
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import static de.xn__ho_hia.storage_unit.StorageUnits.kibibyte;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+
+/**
+ * Array test cases for the examples in the README.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class ReadmeArraysTest {
+
+    /**
+     * Tests the README example: Aggregating units in an array.
+     */
+    @Test
+    public void shouldAggregateArray() {
+        final StorageUnitArray sizes = new StorageUnitArray(StorageUnitType.MEBIBYTE);
+        sizes.add(1_048_576L)
+                .add(kibibyte(512));
+        Assert.assertEquals("1.50 MiB", sizes.sum().toString());
+        Assert.assertEquals("1.00 MiB", sizes.max().toString());
+        Assert.assertEquals("0.75 MiB", sizes.mean().toString());
+        Assert.assertEquals("0.50 MiB", sizes.get(1).toString());
+
+        sizes.sort();
+        Assert.assertEquals(0, sizes.binarySearch(kibibyte(512)));
+    }
+
+}
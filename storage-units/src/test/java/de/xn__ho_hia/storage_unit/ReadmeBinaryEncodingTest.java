@@ -0,0 +1,48 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import static de.xn__ho_hia.storage_unit.StorageUnits.gibibyte;
+import static de.xn__ho_hia.storage_unit.StorageUnits.kibibyte;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+
+/**
+ * Binary encoding test cases for the examples in the README.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class ReadmeBinaryEncodingTest {
+
+    /**
+     * Tests the README example: Encoding units with a tag.
+     */
+    @Test
+    public void shouldEncodeTaggedUnit() {
+        final byte[] payload = StorageUnitBinaryCodec.TAGGED.encode(gibibyte(10));
+        Assert.assertEquals(6, payload.length);
+        Assert.assertEquals("10.00 GiB", StorageUnitBinaryCodec.TAGGED.decode(payload).toString());
+    }
+
+    /**
+     * Tests the README example: Encoding units without a tag.
+     */
+    @Test
+    public void shouldEncodeUntaggedUnit() {
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+        final StorageUnitBinaryCodec codec = StorageUnitBinaryCodec.untagged(StorageUnitType.MEBIBYTE);
+        codec.encode(kibibyte(512), buffer);
+        Assert.assertEquals(3, buffer.position());
+        buffer.flip();
+        Assert.assertEquals("0.50 MiB", codec.decode(buffer).toString());
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import static de.xn__ho_hia.storage_unit.StorageUnits.kibibyte;
+import static de.xn__ho_hia.storage_unit.StorageUnits.mebibyte;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+
+/**
+ * Column test cases for the examples in the README.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class ReadmeColumnsTest {
+
+    /**
+     * Temporary folder for mapped files.
+     */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Tests the README example: Aggregating a memory-mapped column.
+     *
+     * @throws IOException
+     *             In case the file cannot be mapped.
+     */
+    @Test
+    public void shouldAggregateColumn() throws IOException {
+        final Path file = this.folder.getRoot().toPath().resolve("sizes.bin");
+        final StorageUnitColumn sizes = StorageUnitColumn.create(file, 3);
+        sizes.set(0, 512L);
+        sizes.set(1, kibibyte(3));
+        sizes.set(2, mebibyte(2));
+        sizes.force();
+
+        final StorageUnitColumn mapped = StorageUnitColumn.open(file);
+        Assert.assertEquals("2.00 MiB", mapped.sum().toString());
+        Assert.assertEquals("512.00 B", mapped.min().toString());
+        Assert.assertEquals("{BYTE=1, KIBIBYTE=1, MEBIBYTE=1}", mapped.countByBinaryUnit().toString());
+        Assert.assertEquals("3.00 KiB", mapped.get(1).toString());
+    }
+
+}
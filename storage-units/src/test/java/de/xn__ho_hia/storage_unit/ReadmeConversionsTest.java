@@ -30,4 +30,16 @@ public class ReadmeConversionsTest {
         Assert.assertEquals("1.05 MB", kilobyte(900).add(kilobyte(200)).asBestMatchingCommonUnit().toString());
     }
 
+    /**
+     * Tests the README example: Converting primitive amounts with {@link StorageUnitType}.
+     */
+    @Test
+    public void shouldConvertPrimitiveAmounts() {
+        Assert.assertEquals(3_145_728L, StorageUnitType.MEBIBYTE.toBytes(3));
+        Assert.assertEquals(3_072L, StorageUnitType.KIBIBYTE.convert(3, StorageUnitType.MEBIBYTE));
+        Assert.assertEquals(0L, StorageUnitType.GIBIBYTE.convert(1023, StorageUnitType.MEBIBYTE));
+        Assert.assertEquals(1500.0, StorageUnitType.GIGABYTE.convert(1.5, StorageUnitType.TERABYTE), 0.0);
+        Assert.assertEquals("5.00 GiB", StorageUnitType.GIBIBYTE.of(5).toString());
+    }
+
 }
@@ -0,0 +1,35 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import static de.xn__ho_hia.storage_unit.StorageUnits.megabyte;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+
+/**
+ * Counter test cases for the examples in the README.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class ReadmeCountersTest {
+
+    /**
+     * Tests the README example: Counting bytes concurrently.
+     */
+    @Test
+    public void shouldCountBytes() {
+        final StorageUnitAdder transferred = new StorageUnitAdder();
+        transferred.add(4_096L);
+        transferred.add(megabyte(2));
+        Assert.assertEquals("1.91 MiB", transferred.sum().toString());
+        Assert.assertEquals("1.91 MiB", transferred.sumThenReset().toString());
+        Assert.assertEquals("0.00 B", transferred.sum().toString());
+    }
+
+}
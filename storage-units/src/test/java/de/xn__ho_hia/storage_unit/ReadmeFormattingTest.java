@@ -7,12 +7,14 @@
 package de.xn__ho_hia.storage_unit;
 
 import static de.xn__ho_hia.quality.null_analysis.Nullsafe.nonNull;
+import static de.xn__ho_hia.storage_unit.StorageUnits.formatAsBinaryUnitTo;
 import static de.xn__ho_hia.storage_unit.StorageUnits.formatAsExbibyte;
 import static de.xn__ho_hia.storage_unit.StorageUnits.formatAsPebibyte;
 import static de.xn__ho_hia.storage_unit.StorageUnits.formatAsPetabyte;
 import static de.xn__ho_hia.storage_unit.StorageUnits.formatAsTerabyte;
 import static de.xn__ho_hia.storage_unit.StorageUnits.gibibyte;
 import static de.xn__ho_hia.storage_unit.StorageUnits.gigabyte;
+import static de.xn__ho_hia.storage_unit.StorageUnits.kibibyte;
 import static de.xn__ho_hia.storage_unit.StorageUnits.kilobyte;
 import static de.xn__ho_hia.storage_unit.StorageUnits.megabyte;
 import static de.xn__ho_hia.storage_unit.StorageUnits.petabyte;
@@ -26,6 +28,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+import de.xn__ho_hia.storage_unit.StorageUnitFormatter.SymbolPlacement;
 
 /**
  * Formatting test cases for the examples in the README.
@@ -117,4 +120,31 @@ public class ReadmeFormattingTest {
         Assert.assertEquals("-8.00000 EiB", formatAsExbibyte(Long.MAX_VALUE + 1, customFormat));
     }
 
+    /**
+     * Tests the README example: Formatting with a reusable formatter.
+     */
+    @Test
+    public void shouldFormatWithFormatter() {
+        final StorageUnitFormatter formatter = StorageUnitFormatter.ofBinaryUnits()
+                .withPattern("#,##0.0")
+                .withLocale(nonNull(Locale.GERMAN));
+        Assert.assertEquals("1,5 MiB", formatter.format(1_572_864L));
+        Assert.assertEquals("2,0 KiB", formatter.format(kilobyte(2)));
+        final long numberOfBytes = 1_000_000_000_000_000L;
+        Assert.assertEquals("GB 1000000.00", StorageUnitFormatter.ofUnit(StorageUnit::asGigabyte)
+                .withSymbolPlacement(SymbolPlacement.PREFIX)
+                .withLocale(nonNull(Locale.ENGLISH))
+                .format(numberOfBytes));
+    }
+
+    /**
+     * Tests the README example: Formatting into a reusable builder.
+     */
+    @Test
+    public void shouldFormatIntoBuilder() {
+        final StringBuilder builder = new StringBuilder();
+        Assert.assertEquals("3.00 KiB", kibibyte(3).formatTo(builder).toString());
+        Assert.assertEquals("3.00 KiB1.50 MiB", formatAsBinaryUnitTo(1_572_864L, builder).toString());
+    }
+
 }
@@ -0,0 +1,42 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import static de.xn__ho_hia.storage_unit.StorageUnits.kibibyte;
+import static de.xn__ho_hia.storage_unit.StorageUnits.mebibyte;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+
+/**
+ * Histogram test cases for the examples in the README.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class ReadmeHistogramsTest {
+
+    /**
+     * Tests the README example: Recording and merging histograms.
+     */
+    @Test
+    public void shouldRecordHistogram() {
+        final StorageUnitHistogram objectSizes = StorageUnitHistogram.binary(8);
+        objectSizes.record(512L);
+        objectSizes.record(kibibyte(4));
+        objectSizes.record(mebibyte(3));
+        Assert.assertEquals("4.00 KiB", objectSizes.quantile(0.5).toString());
+        Assert.assertEquals("3.00 MiB", objectSizes.quantile(0.99).toString());
+
+        final StorageUnitHistogram otherNode = StorageUnitHistogram.binary(8);
+        otherNode.record(mebibyte(1));
+        final byte[] bytesFromOtherNode = otherNode.toByteArray();
+        objectSizes.merge(StorageUnitHistogram.fromByteArray(bytesFromOtherNode));
+        Assert.assertEquals(4, objectSizes.getTotalCount());
+    }
+
+}
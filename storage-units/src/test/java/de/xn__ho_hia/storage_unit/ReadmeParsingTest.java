@@ -0,0 +1,40 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+
+/**
+ * Parsing test cases for the examples in the README.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class ReadmeParsingTest {
+
+    /**
+     * Tests the README example: Parsing formatted units.
+     */
+    @Test
+    public void shouldParseFormattedUnits() {
+        Assert.assertEquals(Gibibyte.valueOf(1_610_612_736L), StorageUnits.parse("1.50 GiB"));
+        Assert.assertEquals(Megabyte.valueOf(512_000_000L), StorageUnits.parse("512MB"));
+        Assert.assertEquals(10_000L, StorageUnits.parseBytes("10 kB"));
+        Assert.assertEquals(1_610_612_736L, StorageUnits.parseBytes(" 1.5 gib ", StorageUnitParseMode.LENIENT));
+        Assert.assertEquals(512_000_000L, StorageUnits.parseBytes("512m", StorageUnitParseMode.LENIENT));
+    }
+
+    /**
+     * Tests the README example: Rejecting lenient input in strict mode.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void shouldRejectLenientInputByDefault() {
+        StorageUnits.parse("1.5 gib");
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import static de.xn__ho_hia.storage_unit.StorageUnitCollectors.groupingBySum;
+import static de.xn__ho_hia.storage_unit.StorageUnitCollectors.summarizing;
+import static de.xn__ho_hia.storage_unit.StorageUnitCollectors.summing;
+import static de.xn__ho_hia.storage_unit.StorageUnits.kibibyte;
+import static de.xn__ho_hia.storage_unit.StorageUnits.megabyte;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+
+/**
+ * Stream test cases for the examples in the README.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class ReadmeStreamsTest {
+
+    /**
+     * Tests the README example: Collecting streams of units.
+     */
+    @Test
+    public void shouldCollectStreams() {
+        final List<StorageUnit<?>> sizes = Arrays.asList(kibibyte(1), kibibyte(3), megabyte(1));
+        Assert.assertEquals("980.56 KiB", sizes.parallelStream().collect(summing()).toString());
+
+        final StorageUnitSummaryStatistics statistics = sizes.stream().collect(summarizing());
+        Assert.assertEquals(3, statistics.getCount());
+        Assert.assertEquals("976.56 KiB", statistics.getMax().toString());
+        Assert.assertEquals("326.85 KiB", statistics.getAverage().toString());
+
+        Assert.assertEquals("{KiB=4.00 KiB, MB=976.56 KiB}",
+                new TreeMap<>(sizes.stream().collect(groupingBySum(StorageUnit::getSymbol))).toString());
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+
+/**
+ * Test cases for the {@link StorageUnitAdder} class.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class StorageUnitAdderTest {
+
+    /**
+     * Ensures that new adders start at zero bytes.
+     */
+    @Test
+    public void shouldStartAtZero() {
+        // Given
+        final StorageUnitAdder adder = new StorageUnitAdder();
+
+        // When
+        final StorageUnit<?> sum = adder.sum();
+
+        // Then
+        Assert.assertEquals(Byte.valueOf(0), sum);
+    }
+
+    /**
+     * Ensures that concurrent additions are never lost.
+     *
+     * @throws InterruptedException
+     *             In case the test is interrupted.
+     */
+    @Test
+    public void shouldSumConcurrentAdditions() throws InterruptedException {
+        // Given
+        final StorageUnitAdder adder = new StorageUnitAdder();
+        final int threads = 8;
+        final int additions = 100_000;
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> workers = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            final long bytes = thread + 1;
+            final Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int addition = 0; addition < additions; addition++) {
+                    adder.add(bytes);
+                    adder.add(StorageUnits.kibibyte(bytes));
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+
+        // When
+        start.countDown();
+        for (final Thread worker : workers) {
+            worker.join();
+        }
+
+        // Then
+        final long expected = 1_025L * additions * threads * (threads + 1) / 2;
+        Assert.assertEquals(BigInteger.valueOf(expected), adder.sum().inByte());
+    }
+
+    /**
+     * Ensures that sums beyond the range of <code>long</code> are promoted to {@link BigInteger}.
+     */
+    @Test
+    public void shouldPromoteOverflowToBigInteger() {
+        // Given
+        final StorageUnitAdder adder = new StorageUnitAdder();
+
+        // When
+        adder.add(Long.MAX_VALUE);
+        adder.add(Long.MAX_VALUE);
+        adder.add(Long.MAX_VALUE);
+        adder.add(-1L);
+
+        // Then
+        final BigInteger expected = BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(3))
+                .subtract(BigInteger.ONE);
+        Assert.assertEquals(expected, adder.sum().inByte());
+    }
+
+    /**
+     * Ensures that units beyond the range of <code>long</code> can be added.
+     */
+    @Test
+    public void shouldAddBigUnits() {
+        // Given
+        final StorageUnitAdder adder = new StorageUnitAdder();
+
+        // When
+        adder.add(StorageUnits.yobibyte(1));
+        adder.add(StorageUnits.kibibyte(1));
+
+        // Then
+        Assert.assertEquals(StorageUnit.BYTES_IN_A_YOBIBYTE.add(BigInteger.valueOf(1_024L)), adder.sum().inByte());
+    }
+
+    /**
+     * Ensures that the sum is returned as best-matching unit.
+     */
+    @Test
+    public void shouldReturnBestMatchingUnit() {
+        // Given
+        final StorageUnitAdder adder = new StorageUnitAdder();
+
+        // When
+        adder.add(4_096L);
+        adder.add(StorageUnits.megabyte(2));
+
+        // Then
+        Assert.assertEquals("1.91 MiB", adder.sum().toString());
+        Assert.assertEquals("1.91 MiB", adder.toString());
+    }
+
+    /**
+     * Ensures that the sum is reset after being read.
+     */
+    @Test
+    public void shouldSumThenReset() {
+        // Given
+        final StorageUnitAdder adder = new StorageUnitAdder();
+        adder.add(Long.MAX_VALUE);
+        adder.add(Long.MAX_VALUE);
+
+        // When
+        final StorageUnit<?> sum = adder.sumThenReset();
+
+        // Then
+        Assert.assertEquals(BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1), sum.inByte());
+        Assert.assertEquals(Byte.valueOf(0), adder.sum());
+    }
+
+    /**
+     * Ensures that rehashing a contended thread never gets stuck and eventually reaches every stripe.
+     */
+    @Test
+    public void shouldAdvanceProbeOverAllStripes() {
+        // Given
+        final int stripes = 64;
+        final boolean[] visited = new boolean[stripes];
+        int probe = 1;
+
+        // When
+        for (int step = 0; step < 10_000; step++) {
+            probe = StorageUnitAdder.advanceProbe(probe);
+            Assert.assertNotEquals(0, probe);
+            visited[probe & stripes - 1] = true;
+        }
+
+        // Then
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            Assert.assertTrue("Stripe never reached: " + stripe, visited[stripe]);
+        }
+    }
+
+}
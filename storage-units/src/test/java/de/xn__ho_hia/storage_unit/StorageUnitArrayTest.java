@@ -0,0 +1,328 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+
+/**
+ * Test cases for the {@link StorageUnitArray} class.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class StorageUnitArrayTest {
+
+    private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
+    private static final BigInteger MIN_LONG = BigInteger.valueOf(Long.MIN_VALUE);
+
+    /**
+     * Ensures that entries are materialized into the type of the array.
+     */
+    @Test
+    public void shouldMaterializeIntoType() {
+        // Given
+        final StorageUnitArray array = new StorageUnitArray(StorageUnitType.MEBIBYTE);
+        array.add(1_048_576L);
+        array.add(StorageUnits.kibibyte(512));
+
+        // When
+        final StorageUnit<?> first = array.get(0);
+        final StorageUnit<?> second = array.get(1);
+
+        // Then
+        Assert.assertEquals(Mebibyte.ONE, first);
+        Assert.assertEquals(Mebibyte.valueOf(524_288L), second);
+        Assert.assertEquals("1.50 MiB", array.sum().toString());
+    }
+
+    /**
+     * Ensures that entries survive a round trip, including those beyond the range of <code>long</code>.
+     */
+    @Test
+    public void shouldRoundTripEntries() {
+        // Given
+        final List<BigInteger> expected = randomValues(new Random(1), 10_000);
+        final StorageUnitArray array = new StorageUnitArray();
+
+        // When
+        expected.forEach(array::add);
+
+        // Then
+        Assert.assertEquals(expected.size(), array.size());
+        for (int index = 0; index < expected.size(); index++) {
+            Assert.assertEquals("Wrong entry at " + index, expected.get(index), array.getAsBigInteger(index));
+            Assert.assertEquals("Wrong unit at " + index, Byte.valueOf(expected.get(index)), array.get(index));
+        }
+    }
+
+    /**
+     * Ensures that the aggregates match {@link BigInteger} arithmetic.
+     */
+    @Test
+    public void shouldAggregateLikeBigInteger() {
+        for (int seed = 0; seed < 50; seed++) {
+            // Given
+            final Random random = new Random(seed);
+            final List<BigInteger> values = randomValues(random, 1 + random.nextInt(500));
+            final StorageUnitArray array = new StorageUnitArray(StorageUnitType.BYTE, 4);
+            values.forEach(array::add);
+            final BigInteger sum = values.stream().reduce(BigInteger.ZERO, BigInteger::add);
+
+            // When
+            final StorageUnit<?> actualSum = array.sum();
+            final StorageUnit<?> min = array.min();
+            final StorageUnit<?> max = array.max();
+            final StorageUnit<?> mean = array.mean();
+
+            // Then
+            Assert.assertEquals("Wrong sum", sum, actualSum.inByte());
+            Assert.assertEquals("Wrong min", Collections.min(values), min.inByte());
+            Assert.assertEquals("Wrong max", Collections.max(values), max.inByte());
+            Assert.assertEquals("Wrong mean", new BigDecimal(sum).divide(BigDecimal.valueOf(values.size()), 0,
+                    RoundingMode.HALF_UP).toBigInteger(), mean.inByte());
+        }
+    }
+
+    /**
+     * Ensures that sums of large <code>long</code> values do not overflow.
+     */
+    @Test
+    public void shouldSumBeyondLongRange() {
+        // Given
+        final StorageUnitArray array = new StorageUnitArray();
+        array.add(Long.MAX_VALUE - 1).add(Long.MAX_VALUE - 1).add(Long.MIN_VALUE + 1).add(Long.MIN_VALUE + 1)
+                .add(Long.MIN_VALUE + 1);
+
+        // When
+        final StorageUnit<?> sum = array.sum();
+
+        // Then
+        Assert.assertEquals(MAX_LONG.subtract(BigInteger.ONE).multiply(BigInteger.valueOf(2))
+                .add(MIN_LONG.add(BigInteger.ONE).multiply(BigInteger.valueOf(3))), sum.inByte());
+        Assert.assertTrue("Sum must not fit into a long", sum.inByte().bitLength() >= Long.SIZE);
+    }
+
+    /**
+     * Ensures that sorting orders all entries, including placeholders for large values.
+     */
+    @Test
+    public void shouldSortEntries() {
+        for (int seed = 0; seed < 50; seed++) {
+            // Given
+            final Random random = new Random(seed);
+            final List<BigInteger> values = randomValues(random, random.nextInt(300));
+            final StorageUnitArray array = new StorageUnitArray();
+            values.forEach(array::add);
+            Collections.sort(values);
+
+            // When
+            array.sort();
+
+            // Then
+            for (int index = 0; index < values.size(); index++) {
+                Assert.assertEquals("Wrong entry at " + index, values.get(index), array.getAsBigInteger(index));
+            }
+        }
+    }
+
+    /**
+     * Ensures that binary search finds all contained entries and insertion points for missing entries.
+     */
+    @Test
+    public void shouldSearchSortedEntries() {
+        // Given
+        final Random random = new Random(7);
+        final List<BigInteger> values = randomValues(random, 1_000);
+        final StorageUnitArray array = new StorageUnitArray();
+        values.forEach(array::add);
+        array.sort();
+        Collections.sort(values);
+
+        for (final BigInteger value : values) {
+            // When
+            final int index = array.binarySearch(value);
+
+            // Then
+            Assert.assertEquals("Did not find " + value, value, array.getAsBigInteger(index));
+            Assert.assertEquals("Did not find unit " + value, index, array.binarySearch(Byte.valueOf(value)));
+        }
+        for (int probe = 0; probe < 1_000; probe++) {
+            final BigInteger value = randomValue(random);
+            final int expected = Collections.binarySearch(values, value);
+            if (expected < 0) {
+                Assert.assertEquals("Wrong insertion point for " + value, expected, array.binarySearch(value));
+            }
+        }
+    }
+
+    /**
+     * Ensures that {@link Long#MIN_VALUE} and {@link Long#MAX_VALUE} are stored as regular entries.
+     */
+    @Test
+    public void shouldHandleLongBoundaries() {
+        // Given
+        final StorageUnitArray array = new StorageUnitArray();
+
+        // When
+        array.add(Long.MAX_VALUE).add(0).add(Long.MIN_VALUE);
+
+        // Then
+        Assert.assertEquals(Long.MAX_VALUE, array.getAsLong(0));
+        Assert.assertEquals(Long.MIN_VALUE, array.getAsLong(2));
+        Assert.assertEquals(MAX_LONG, array.max().inByte());
+        Assert.assertEquals(MIN_LONG, array.min().inByte());
+        Assert.assertEquals(BigInteger.valueOf(-1), array.sum().inByte());
+        array.sort();
+        Assert.assertEquals(0, array.binarySearch(Long.MIN_VALUE));
+        Assert.assertEquals(2, array.binarySearch(Long.MAX_VALUE));
+    }
+
+    /**
+     * Ensures that all entries are copied into a primitive array.
+     */
+    @Test
+    public void shouldCopyIntoLongArray() {
+        // Given
+        final StorageUnitArray array = new StorageUnitArray();
+        array.add(Long.MAX_VALUE).add(1_024).add(MIN_LONG);
+
+        // When
+        final long[] values = array.toLongArray();
+
+        // Then
+        Assert.assertTrue(array.fitsIntoLong());
+        Assert.assertArrayEquals(new long[] { Long.MAX_VALUE, 1_024L, Long.MIN_VALUE }, values);
+    }
+
+    /**
+     * Ensures that entries beyond <code>long</code> cannot be copied into a primitive array.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void shouldRejectLongArrayBeyondLongRange() {
+        // Given
+        final StorageUnitArray array = new StorageUnitArray();
+        array.add(1).add(MAX_LONG.add(BigInteger.ONE));
+
+        // When
+        Assert.assertFalse(array.fitsIntoLong());
+        array.toLongArray();
+    }
+
+    /**
+     * Ensures that single entries are checked against the range of <code>long</code>, including placeholder values.
+     */
+    @Test
+    public void shouldCheckSingleEntriesAgainstLongRange() {
+        // Given
+        final StorageUnitArray array = new StorageUnitArray();
+
+        // When
+        array.add(1).add(Long.MAX_VALUE).add(Long.MIN_VALUE).add(MAX_LONG.add(BigInteger.ONE));
+
+        // Then
+        Assert.assertTrue(array.fitsIntoLong(0));
+        Assert.assertTrue(array.fitsIntoLong(1));
+        Assert.assertTrue(array.fitsIntoLong(2));
+        Assert.assertFalse(array.fitsIntoLong(3));
+        Assert.assertFalse(array.fitsIntoLong());
+    }
+
+    /**
+     * Ensures that single entries are checked against the size of the array.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldRejectFitsIntoLongBeyondSize() {
+        // Given
+        final StorageUnitArray array = new StorageUnitArray();
+        array.add(1);
+
+        // When
+        array.fitsIntoLong(1);
+    }
+
+    /**
+     * Ensures that reading entries beyond <code>long</code> as <code>long</code> fails.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void shouldRejectLongAccessBeyondLongRange() {
+        // Given
+        final StorageUnitArray array = new StorageUnitArray();
+        array.add(MAX_LONG.add(BigInteger.ONE));
+
+        // When
+        array.getAsLong(0);
+    }
+
+    /**
+     * Ensures that an empty array sums up to zero.
+     */
+    @Test
+    public void shouldSumEmptyArrayToZero() {
+        // Given
+        final StorageUnitArray array = new StorageUnitArray(StorageUnitType.GIGABYTE);
+
+        // When
+        final StorageUnit<?> sum = array.sum();
+
+        // Then
+        Assert.assertTrue(array.isEmpty());
+        Assert.assertEquals(Gigabyte.valueOf(0), sum);
+    }
+
+    /**
+     * Ensures that an empty array has no minimum.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void shouldFailMinOfEmptyArray() {
+        new StorageUnitArray().min();
+    }
+
+    /**
+     * Ensures that entries outside of the array cannot be read.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldRejectIndexBeyondSize() {
+        // Given
+        final StorageUnitArray array = new StorageUnitArray(StorageUnitType.BYTE, 10);
+        array.add(1);
+
+        // When
+        array.get(1);
+    }
+
+    private static List<BigInteger> randomValues(final Random random, final int count) {
+        final List<BigInteger> values = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            values.add(randomValue(random));
+        }
+        return values;
+    }
+
+    private static BigInteger randomValue(final Random random) {
+        switch (random.nextInt(10)) {
+            case 0:
+                return new BigInteger(70, random).subtract(BigInteger.ONE.shiftLeft(69));
+            case 1:
+                return BigInteger.valueOf(random.nextLong());
+            case 2:
+                return random.nextBoolean() ? MAX_LONG : MIN_LONG;
+            default:
+                return BigInteger.valueOf(random.nextInt(1 << 20));
+        }
+    }
+
+}
@@ -0,0 +1,406 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+
+/**
+ * Test cases for the {@link StorageUnitBinaryCodec} class.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class StorageUnitBinaryCodecTest {
+
+    private static final StorageUnit<?>[] UNITS = {
+            StorageUnits.bytes(0),
+            StorageUnits.bytes(-1),
+            StorageUnits.bytes(63),
+            StorageUnits.bytes(64),
+            StorageUnits.kibibyte(1),
+            StorageUnits.gigabyte(3),
+            StorageUnits.commonGigabyte(5),
+            StorageUnits.bytes(Long.MAX_VALUE),
+            StorageUnits.bytes(Long.MIN_VALUE),
+            StorageUnits.yobibyte(1),
+            StorageUnits.zettabyte(-7),
+            StorageUnits.commonYottabyte(1_000_000) };
+
+    /**
+     * Units written by version 4 of this library: <code>gibibyte(10)</code>, <code>kilobyte(3)</code>,
+     * <code>commonMegabyte(5)</code> and <code>yobibyte(2)</code>.
+     */
+    private static final String LEGACY_STREAM = ""
+            + "rO0ABXNyACNkZS54bl9faG9faGlhLnN0b3JhZ2VfdW5pdC5HaWJpYnl0ZfCrI8ZpX8LKAgAAeHIAJmRlLnhuX19ob19oaWEuc3Rv"
+            + "cmFnZV91bml0LlN0b3JhZ2VVbml0mhIPhHNuxBsCAAFMAAVieXRlc3QAFkxqYXZhL21hdGgvQmlnSW50ZWdlcjt4cgAQamF2YS5s"
+            + "YW5nLk51bWJlcoaslR0LlOCLAgAAeHBzcgAUamF2YS5tYXRoLkJpZ0ludGVnZXKM/J8fqTv7HQMABkkACGJpdENvdW50SQAJYml0"
+            + "TGVuZ3RoSQATZmlyc3ROb256ZXJvQnl0ZU51bUkADGxvd2VzdFNldEJpdEkABnNpZ251bVsACW1hZ25pdHVkZXQAAltCeHEAfgAD"
+            + "///////////////+/////gAAAAF1cgACW0Ks8xf4BghU4AIAAHhwAAAABQKAAAAAeHNyACNkZS54bl9faG9faGlhLnN0b3JhZ2Vf"
+            + "dW5pdC5LaWxvYnl0ZWB7UOoRCDFAAgAAeHEAfgABc3EAfgAF///////////////+/////gAAAAF1cQB+AAgAAAACC7h4c3IAKWRl"
+            + "LnhuX19ob19oaWEuc3RvcmFnZV91bml0LkNvbW1vbk1lZ2FieXRlatNPklzKvGQCAAB4cQB+AAFzcQB+AAX///////////////7/"
+            + "///+AAAAAXVxAH4ACAAAAANQAAB4c3IAI2RlLnhuX19ob19oaWEuc3RvcmFnZV91bml0LllvYmlieXRlsjJXC8draR4CAAB4cQB+"
+            + "AAFzcQB+AAX///////////////7////+AAAAAXVxAH4ACAAAAAsCAAAAAAAAAAAAAHg=";
+
+    /**
+     * Ensures that all units survive a round trip through a byte array and keep their class.
+     */
+    @Test
+    public void shouldRoundTripByteArrays() {
+        for (final StorageUnit<?> unit : UNITS) {
+            // Given
+            final StorageUnitBinaryCodec codec = StorageUnitBinaryCodec.TAGGED;
+
+            // When
+            final byte[] encoded = codec.encode(unit);
+            final StorageUnit<?> decoded = codec.decode(encoded);
+
+            // Then
+            Assert.assertEquals(unit.toString(), codec.encodedLength(unit), encoded.length);
+            Assert.assertEquals(unit.getClass(), decoded.getClass());
+            Assert.assertEquals(unit.inByte(), decoded.inByte());
+        }
+    }
+
+    /**
+     * Ensures that many units can be written to and read from a single buffer.
+     */
+    @Test
+    public void shouldRoundTripByteBuffers() {
+        // Given
+        final StorageUnitBinaryCodec codec = StorageUnitBinaryCodec.TAGGED;
+        final ByteBuffer buffer = ByteBuffer.allocate(1_024);
+
+        // When
+        for (final StorageUnit<?> unit : UNITS) {
+            codec.encode(unit, buffer);
+        }
+        buffer.flip();
+
+        // Then
+        for (final StorageUnit<?> unit : UNITS) {
+            Assert.assertEquals(unit, codec.decode(buffer));
+        }
+        Assert.assertFalse(buffer.hasRemaining());
+    }
+
+    /**
+     * @throws IOException
+     *             In case something goes wrong during encoding.
+     */
+    @Test
+    public void shouldRoundTripDataStreams() throws IOException {
+        // Given
+        final StorageUnitBinaryCodec codec = StorageUnitBinaryCodec.TAGGED;
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        // When
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            for (final StorageUnit<?> unit : UNITS) {
+                codec.encode(unit, output);
+            }
+        }
+
+        // Then
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            for (final StorageUnit<?> unit : UNITS) {
+                Assert.assertEquals(unit, codec.decode(input));
+            }
+            Assert.assertEquals(-1, input.read());
+        }
+    }
+
+    /**
+     * Ensures that random amounts survive a round trip through both buffer and stream encodings.
+     *
+     * @throws IOException
+     *             In case something goes wrong during encoding.
+     */
+    @Test
+    public void shouldRoundTripRandomAmounts() throws IOException {
+        // Given
+        final StorageUnitBinaryCodec codec = StorageUnitBinaryCodec.untagged(StorageUnitType.BYTE);
+        final Random random = new Random(1);
+
+        for (int index = 0; index < 10_000; index++) {
+            final long amount = random.nextLong() >> random.nextInt(Long.SIZE);
+            final StorageUnit<?> unit = StorageUnits.bytes(amount);
+
+            // When
+            final byte[] encoded = codec.encode(unit);
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            codec.encode(unit, new DataOutputStream(bytes));
+
+            // Then
+            Assert.assertArrayEquals(encoded, bytes.toByteArray());
+            Assert.assertEquals(amount, codec.decode(encoded).longValue());
+            Assert.assertEquals(amount, codec
+                    .decode(new DataInputStream(new ByteArrayInputStream(encoded))).longValue());
+        }
+    }
+
+    /**
+     * Ensures that small amounts take a single byte and no long takes more than 10 bytes.
+     */
+    @Test
+    public void shouldEncodeCompactly() {
+        // Given
+        final StorageUnitBinaryCodec codec = StorageUnitBinaryCodec.untagged(StorageUnitType.GIBIBYTE);
+
+        // When
+        final byte[] zero = codec.encode(StorageUnits.bytes(0));
+        final byte[] small = codec.encode(StorageUnits.bytes(-64));
+        final byte[] gibibytes = codec.encode(StorageUnits.gibibyte(10));
+        final byte[] maximum = codec.encode(StorageUnits.bytes(Long.MIN_VALUE));
+
+        // Then
+        Assert.assertArrayEquals(new byte[] { 0 }, zero);
+        Assert.assertArrayEquals(new byte[] { 127 }, small);
+        Assert.assertEquals(5, gibibytes.length);
+        Assert.assertEquals(StorageUnitBinaryCodec.MAX_LONG_ENCODED_LENGTH - 1, maximum.length);
+        Assert.assertEquals(Gibibyte.class, codec.decode(gibibytes).getClass());
+    }
+
+    /**
+     * Ensures that amounts beyond long are escaped with an overlong varint.
+     */
+    @Test
+    public void shouldEscapeBigIntegers() {
+        // Given
+        final BigInteger amount = StorageUnits.yobibyte(1).inByte();
+        final StorageUnitBinaryCodec codec = StorageUnitBinaryCodec.untagged(StorageUnitType.YOBIBYTE);
+
+        // When
+        final byte[] encoded = codec.encode(StorageUnits.bytes(amount));
+
+        // Then
+        Assert.assertEquals((byte) 0x80, encoded[0]);
+        Assert.assertEquals(0, encoded[1]);
+        Assert.assertEquals(amount.toByteArray().length, encoded[2]);
+        Assert.assertEquals(Yobibyte.ONE, codec.decode(encoded));
+    }
+
+    /**
+     * Ensures that unknown tags are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectUnknownTag() {
+        // Given
+        final byte[] encoded = { 25, 0 };
+
+        // When
+        StorageUnitBinaryCodec.TAGGED.decode(encoded);
+
+        // Then
+        // expect exception
+    }
+
+    /**
+     * Ensures that varints longer than 10 bytes are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectOverlongVarint() {
+        // Given
+        final byte[] encoded = { -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 1 };
+
+        // When
+        StorageUnitBinaryCodec.untagged(StorageUnitType.BYTE).decode(encoded);
+
+        // Then
+        // expect exception
+    }
+
+    /**
+     * Ensures that escaped amounts longer than the maximum length are rejected before allocating them.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectHugeLengthInByteArray() {
+        // Given
+        final byte[] encoded = { -128, 0, -1, -1, -1, -1, 7 };
+
+        // When
+        StorageUnitBinaryCodec.untagged(StorageUnitType.BYTE).decode(encoded);
+
+        // Then
+        // expect exception
+    }
+
+    /**
+     * Ensures that escaped amounts longer than the maximum length are rejected before reading them.
+     *
+     * @throws IOException
+     *             In case the input cannot be read.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectHugeLengthInDataInput() throws IOException {
+        // Given
+        final byte[] encoded = { -128, 0, -1, -1, -1, -1, 7 };
+
+        // When
+        StorageUnitBinaryCodec.untagged(StorageUnitType.BYTE)
+                .decode(new DataInputStream(new ByteArrayInputStream(encoded)));
+
+        // Then
+        // expect exception
+    }
+
+    /**
+     * Ensures that escaped amounts longer than the remaining bytes of a buffer are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectLengthBeyondRemainingBytes() {
+        // Given
+        final ByteBuffer encoded = ByteBuffer.wrap(new byte[] { -128, 0, 40, 1, 2 });
+
+        // When
+        StorageUnitBinaryCodec.untagged(StorageUnitType.BYTE).decode(encoded);
+
+        // Then
+        // expect exception
+    }
+
+    /**
+     * Ensures that amounts longer than the maximum length are not encoded.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectEncodingOfHugeAmounts() {
+        // Given
+        final StorageUnit<?> unit = StorageUnits.bytes(BigInteger.ONE
+                .shiftLeft(StorageUnitBinaryCodec.MAX_BIG_INTEGER_LENGTH * java.lang.Byte.SIZE));
+
+        // When
+        StorageUnitBinaryCodec.TAGGED.encode(unit);
+
+        // Then
+        // expect exception
+    }
+
+    /**
+     * Ensures that serialized units with malformed amounts are rejected as invalid objects.
+     *
+     * @throws IOException
+     *             In case something goes wrong during serialization.
+     * @throws ClassNotFoundException
+     *             In case the proxy class cannot be loaded.
+     */
+    @Test(expected = InvalidObjectException.class)
+    public void shouldRejectSerializedHugeLength() throws IOException, ClassNotFoundException {
+        // Given
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(StorageUnits.yobibyte(1));
+        }
+        final byte[] stream = bytes.toByteArray();
+        for (int index = 0; index < stream.length - 2; index++) {
+            if (stream[index] == -128 && stream[index + 1] == 0 && stream[index + 2] == 11) {
+                stream[index + 2] = 127;
+            }
+        }
+
+        // When
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(stream))) {
+            input.readObject();
+        }
+
+        // Then
+        // expect exception
+    }
+
+    /**
+     * Ensures that trailing bytes are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectTrailingBytes() {
+        // Given
+        final byte[] encoded = { 0, 2, 0 };
+
+        // When
+        StorageUnitBinaryCodec.TAGGED.decode(encoded);
+
+        // Then
+        // expect exception
+    }
+
+    /**
+     * Ensures that Java serialization uses the compact proxy and restores the exact unit.
+     *
+     * @throws IOException
+     *             In case something goes wrong during serialization.
+     * @throws ClassNotFoundException
+     *             In case the proxy class cannot be loaded.
+     */
+    @Test
+    public void shouldSerializeCompactly() throws IOException, ClassNotFoundException {
+        for (final StorageUnit<?> unit : UNITS) {
+            // Given
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+            // When
+            try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+                output.writeObject(unit);
+            }
+            final Object deserialized;
+            try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                deserialized = input.readObject();
+            }
+
+            // Then
+            Assert.assertTrue(unit + ": " + bytes.size(), bytes.size() < 100);
+            Assert.assertEquals(unit.getClass(), deserialized.getClass());
+            Assert.assertEquals(unit, deserialized);
+        }
+    }
+
+    /**
+     * Ensures that streams written by previous versions, which serialized the amount as a {@link BigInteger} field,
+     * can still be read.
+     *
+     * @throws IOException
+     *             In case something goes wrong during deserialization.
+     * @throws ClassNotFoundException
+     *             In case a unit class cannot be loaded.
+     */
+    @Test
+    public void shouldReadStreamsOfPreviousVersions() throws IOException, ClassNotFoundException {
+        // Given
+        final byte[] stream = Base64.getDecoder().decode(LEGACY_STREAM);
+
+        // When
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(stream))) {
+            final Object gibibytes = input.readObject();
+            final Object kilobytes = input.readObject();
+            final Object megabytes = input.readObject();
+            final Object yobibytes = input.readObject();
+
+            // Then
+            Assert.assertEquals(Gibibyte.class, gibibytes.getClass());
+            Assert.assertEquals(StorageUnits.gibibyte(10), gibibytes);
+            Assert.assertEquals(10L * 1_073_741_824L, ((StorageUnit<?>) gibibytes).longValue());
+            Assert.assertEquals(Kilobyte.class, kilobytes.getClass());
+            Assert.assertEquals(StorageUnits.kilobyte(3), kilobytes);
+            Assert.assertEquals(CommonMegabyte.class, megabytes.getClass());
+            Assert.assertEquals(StorageUnits.commonMegabyte(5), megabytes);
+            Assert.assertEquals(Yobibyte.class, yobibytes.getClass());
+            Assert.assertEquals(StorageUnits.yobibyte(2), yobibytes);
+            Assert.assertEquals(BigInteger.valueOf(2).shiftLeft(80), ((StorageUnit<?>) yobibytes).inByte());
+        }
+    }
+
+}
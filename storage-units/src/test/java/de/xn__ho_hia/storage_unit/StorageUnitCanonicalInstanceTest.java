@@ -0,0 +1,168 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import static de.xn__ho_hia.quality.null_analysis.Nullsafe.asLong;
+import static de.xn__ho_hia.storage_unit.TestObjects.bigIntegerBasedConstructors;
+import static de.xn__ho_hia.storage_unit.TestObjects.longBasedConstructors;
+
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+
+/**
+ * Test cases for the canonical instances returned by the <code>valueOf</code> methods of all storage units.
+ */
+@RunWith(Theories.class)
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.NULL, CompilerWarnings.STATIC_METHOD })
+public class StorageUnitCanonicalInstanceTest {
+
+    /**
+     * Amounts of bytes that are cached.
+     */
+    @DataPoints
+    public static long[] CACHED_BYTES = { 0, 1, 2, 100, 255, 256, 512, 1000, 1024, 4096, 1_000_000, 1L << 20,
+            1_000_000_000_000_000_000L, 1L << 62 };
+
+    /**
+     * The factory methods to create storage units to test.
+     */
+    @DataPoints
+    public static List<Function<Long, StorageUnit<?>>> UNITS = longBasedConstructors();
+
+    /**
+     * @param bytes
+     *            The number of bytes to create.
+     * @param constructor
+     *            The constructor function for the storage unit under test.
+     */
+    @Theory
+    public void shouldReturnSameInstanceForCachedValues(
+            final long bytes,
+            final Function<Long, StorageUnit<?>> constructor) {
+        // Given
+        final StorageUnit<?> first = constructor.apply(asLong(bytes));
+
+        // When
+        final StorageUnit<?> second = constructor.apply(asLong(bytes));
+
+        // Then
+        Assert.assertSame("Cached values must be canonical", first, second);
+        Assert.assertEquals("Cached value has wrong amount", BigInteger.valueOf(bytes), second.inByte());
+    }
+
+    /**
+     * @param constructor
+     *            The constructor function for the storage unit under test.
+     */
+    @Theory
+    public void shouldReturnNewInstanceForOtherValues(final Function<Long, StorageUnit<?>> constructor) {
+        // Given
+        final long bytes = 123_456_789L;
+
+        // When
+        final StorageUnit<?> first = constructor.apply(asLong(bytes));
+        final StorageUnit<?> second = constructor.apply(asLong(bytes));
+
+        // Then
+        Assert.assertNotSame("Uncached values must not be shared", first, second);
+        Assert.assertEquals("Units with equal amounts must be equal", first, second);
+    }
+
+    /**
+     * Ensures that units created from a {@link BigInteger} within the <code>long</code> range use the same cache.
+     */
+    @Test
+    public void shouldShareCacheWithBigIntegerFactories() {
+        final List<Function<Long, StorageUnit<?>>> longConstructors = longBasedConstructors();
+        final List<Function<BigInteger, StorageUnit<?>>> bigIntegerConstructors = bigIntegerBasedConstructors();
+        for (int index = 0; index < longConstructors.size(); index++) {
+            // Given
+            final StorageUnit<?> expected = longConstructors.get(index).apply(asLong(4096));
+
+            // When
+            final StorageUnit<?> unit = bigIntegerConstructors.get(index).apply(BigInteger.valueOf(4096));
+
+            // Then
+            Assert.assertSame("BigInteger factory does not return the canonical instance", expected, unit);
+        }
+    }
+
+    /**
+     * Ensures that the unit constants are returned by the factories in {@link StorageUnits}.
+     */
+    @Test
+    public void shouldReturnConstantsFromFactories() {
+        Assert.assertSame(Byte.ONE, StorageUnits.bytes(1));
+        Assert.assertSame(Kibibyte.ONE, StorageUnits.kibibyte(1));
+        Assert.assertSame(Mebibyte.ONE, StorageUnits.mebibyte(1));
+        Assert.assertSame(Gibibyte.ONE, StorageUnits.gibibyte(1));
+        Assert.assertSame(Exbibyte.ONE, StorageUnits.exbibyte(1));
+        Assert.assertSame(Kilobyte.ONE, StorageUnits.kilobyte(1));
+        Assert.assertSame(Megabyte.ONE, StorageUnits.megabyte(1));
+        Assert.assertSame(Exabyte.ONE, StorageUnits.exabyte(1));
+        Assert.assertSame(CommonKilobyte.ONE, StorageUnits.commonKilobyte(1));
+        Assert.assertSame(CommonExabyte.ONE, StorageUnits.commonExabyte(1));
+        Assert.assertEquals(StorageUnits.yobibyte(1), Yobibyte.ONE);
+        Assert.assertEquals(StorageUnits.yottabyte(1), Yottabyte.ONE);
+    }
+
+    /**
+     * Ensures that the best-matching factories return canonical instances.
+     */
+    @Test
+    public void shouldReturnCanonicalInstancesFromValueOfFactories() {
+        Assert.assertSame(Kibibyte.ONE, StorageUnits.binaryValueOf(1024));
+        Assert.assertSame(Mebibyte.ONE, StorageUnits.binaryValueOf(BigInteger.valueOf(1L << 20)));
+        Assert.assertSame(Megabyte.ONE, StorageUnits.decimalValueOf(1_000_000));
+        Assert.assertSame(CommonGigabyte.ONE, StorageUnits.commonValueOf(1L << 30));
+        Assert.assertSame(Gibibyte.ONE, Byte.valueOf(1L << 30).asGibibyte());
+        Assert.assertSame(Byte.ONE, StorageUnits.parse("1 B"));
+    }
+
+    /**
+     * Ensures that all cached amounts of bytes occupy a distinct slot in the cache.
+     */
+    @Test
+    public void shouldAssignDistinctIndices() {
+        // Given
+        final Set<Integer> indices = new HashSet<>();
+        long powerOfTen = 1;
+
+        // When
+        for (long bytes = 0; bytes < 256; bytes++) {
+            indices.add(Integer.valueOf(UnitCache.index(bytes)));
+        }
+        for (int exponent = 0; exponent < Long.SIZE - 1; exponent++) {
+            indices.add(Integer.valueOf(UnitCache.index(1L << exponent)));
+        }
+        for (int exponent = 0; exponent <= 18; exponent++) {
+            indices.add(Integer.valueOf(UnitCache.index(powerOfTen)));
+            powerOfTen *= 10;
+        }
+
+        // Then
+        Assert.assertEquals(256 + 55 + 16, indices.size());
+        Assert.assertFalse(indices.contains(Integer.valueOf(-1)));
+        Assert.assertEquals(-1, UnitCache.index(-1));
+        Assert.assertEquals(-1, UnitCache.index(Long.MIN_VALUE));
+        Assert.assertEquals(-1, UnitCache.index(257));
+        Assert.assertEquals(-1, UnitCache.index(3000));
+    }
+
+}
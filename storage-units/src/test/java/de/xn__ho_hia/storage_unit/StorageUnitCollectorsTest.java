@@ -0,0 +1,189 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+
+/**
+ * Test cases for the {@link StorageUnitCollectors} class.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class StorageUnitCollectorsTest {
+
+    /**
+     * Ensures that parallel streams sum up to the same result as {@link StorageUnit#add(StorageUnit)}.
+     */
+    @Test
+    public void shouldSumLikeAdd() {
+        // Given
+        final List<StorageUnit<?>> units = randomUnits(new Random(1), 10_000);
+        StorageUnit<?> expected = StorageUnits.bytes(0);
+        for (final StorageUnit<?> unit : units) {
+            expected = expected.add(unit);
+        }
+
+        // When
+        final StorageUnit<?> sum = units.parallelStream().collect(StorageUnitCollectors.summing());
+
+        // Then
+        Assert.assertEquals(expected.inByte(), sum.inByte());
+    }
+
+    /**
+     * Ensures that empty streams sum up to zero.
+     */
+    @Test
+    public void shouldSumEmptyStream() {
+        // Given
+        final Stream<StorageUnit<?>> units = Stream.empty();
+
+        // When
+        final StorageUnit<?> sum = units.collect(StorageUnitCollectors.summing());
+
+        // Then
+        Assert.assertEquals(Byte.valueOf(0), sum);
+    }
+
+    /**
+     * Ensures that sums beyond the range of <code>long</code> are promoted to {@link BigInteger}.
+     */
+    @Test
+    public void shouldSumBeyondLongRange() {
+        // Given
+        final Stream<StorageUnit<?>> units = Stream.of(StorageUnits.exbibyte(7), StorageUnits.exbibyte(7),
+                StorageUnits.zebibyte(1));
+
+        // When
+        final StorageUnit<?> sum = units.collect(StorageUnitCollectors.summing());
+
+        // Then
+        Assert.assertEquals(StorageUnit.BYTES_IN_A_EXBIBYTE.multiply(BigInteger.valueOf(14))
+                .add(StorageUnit.BYTES_IN_A_ZEBIBYTE), sum.inByte());
+    }
+
+    /**
+     * Ensures that summary statistics of parallel streams match a sequential calculation.
+     */
+    @Test
+    public void shouldSummarizeLikeSequentialCalculation() {
+        // Given
+        final List<StorageUnit<?>> units = randomUnits(new Random(2), 10_000);
+        BigInteger sum = BigInteger.ZERO;
+        BigInteger min = null;
+        BigInteger max = null;
+        for (final StorageUnit<?> unit : units) {
+            sum = sum.add(unit.inByte());
+            min = min == null ? unit.inByte() : min.min(unit.inByte());
+            max = max == null ? unit.inByte() : max.max(unit.inByte());
+        }
+
+        // When
+        final StorageUnitSummaryStatistics statistics = units.parallelStream()
+                .collect(StorageUnitCollectors.summarizing());
+
+        // Then
+        Assert.assertEquals(units.size(), statistics.getCount());
+        Assert.assertEquals(sum, statistics.getSum().inByte());
+        Assert.assertEquals(min, statistics.getMin().inByte());
+        Assert.assertEquals(max, statistics.getMax().inByte());
+    }
+
+    /**
+     * Ensures that extremes are found among units beyond the range of <code>long</code> only.
+     */
+    @Test
+    public void shouldSummarizeBigUnitsOnly() {
+        // Given
+        final Stream<StorageUnit<?>> units = Stream.of(StorageUnits.zebibyte(3), StorageUnits.zebibyte(1),
+                StorageUnits.zebibyte(2));
+
+        // When
+        final StorageUnitSummaryStatistics statistics = units.collect(StorageUnitCollectors.summarizing());
+
+        // Then
+        Assert.assertEquals("1.00 ZiB", statistics.getMin().toString());
+        Assert.assertEquals("3.00 ZiB", statistics.getMax().toString());
+        Assert.assertEquals("2.00 ZiB", statistics.getAverage().toString());
+    }
+
+    /**
+     * Ensures that the average is rounded half up to whole bytes.
+     */
+    @Test
+    public void shouldRoundAverage() {
+        // Given
+        final StorageUnitSummaryStatistics statistics = new StorageUnitSummaryStatistics();
+
+        // When
+        statistics.accept(1L);
+        statistics.accept(StorageUnits.bytes(2));
+
+        // Then
+        Assert.assertEquals(Byte.valueOf(2), statistics.getAverage());
+    }
+
+    /**
+     * Ensures that units are summed per group.
+     */
+    @Test
+    public void shouldSumGroups() {
+        // Given
+        final Stream<StorageUnit<?>> units = Stream.of(StorageUnits.kibibyte(1), StorageUnits.kilobyte(2),
+                StorageUnits.kibibyte(3), StorageUnits.megabyte(1));
+
+        // When
+        final Map<String, StorageUnit<?>> sums = units
+                .collect(StorageUnitCollectors.groupingBySum(unit -> unit.getSymbol()));
+
+        // Then
+        Assert.assertEquals(3, sums.size());
+        Assert.assertEquals("4.00 KiB", sums.get("KiB").toString());
+        Assert.assertEquals("1.95 KiB", sums.get("kB").toString());
+        Assert.assertEquals("976.56 KiB", sums.get("MB").toString());
+    }
+
+    /**
+     * Ensures that units of arbitrary elements are summed per group.
+     */
+    @Test
+    public void shouldSumGroupsOfElements() {
+        // Given
+        final Stream<String> files = Stream.of("alice:1024", "bob:2048", "alice:3072");
+
+        // When
+        final Map<String, StorageUnit<?>> sums = files.parallel()
+                .collect(StorageUnitCollectors.groupingBySum(file -> file.split(":")[0],
+                        file -> StorageUnits.bytes(Long.parseLong(file.split(":")[1]))));
+
+        // Then
+        Assert.assertEquals(Kibibyte.valueOf(4_096L), sums.get("alice"));
+        Assert.assertEquals(Kibibyte.valueOf(2_048L), sums.get("bob"));
+    }
+
+    private static List<StorageUnit<?>> randomUnits(final Random random, final int count) {
+        final List<StorageUnit<?>> units = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            if (random.nextInt(100) == 0) {
+                units.add(StorageUnits.yobibyte(random.nextInt(5) - 2));
+            } else {
+                units.add(StorageUnits.bytes(random.nextLong() >> random.nextInt(Long.SIZE)));
+            }
+        }
+        return units;
+    }
+
+}
@@ -0,0 +1,261 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+
+/**
+ * Test cases for the {@link StorageUnitColumn} class.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class StorageUnitColumnTest {
+
+    /**
+     * Temporary folder for mapped files.
+     */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Ensures that files written as little-endian longs are read without any conversion.
+     *
+     * @throws IOException
+     *             In case the file cannot be written.
+     */
+    @Test
+    public void shouldOpenLittleEndianFile() throws IOException {
+        // Given
+        final Path file = this.folder.newFile().toPath();
+        final ByteBuffer buffer = ByteBuffer.allocate(3 * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putLong(1_024L).putLong(3_145_728L).putLong(-1L);
+        Files.write(file, buffer.array());
+
+        // When
+        final StorageUnitColumn column = StorageUnitColumn.open(file);
+
+        // Then
+        Assert.assertEquals(3, column.size());
+        Assert.assertEquals(Kibibyte.ONE, column.get(0));
+        Assert.assertEquals("3.00 MiB", column.get(1).toString());
+        Assert.assertEquals(-1L, column.getAsLong(2));
+        Assert.assertEquals(Megabyte.valueOf(3_145_728L), column.get(1, StorageUnitType.MEGABYTE));
+    }
+
+    /**
+     * Ensures that files spanning several chunks are mapped and aggregated correctly.
+     *
+     * @throws IOException
+     *             In case the file cannot be mapped.
+     */
+    @Test
+    public void shouldSpanSeveralChunks() throws IOException {
+        // Given
+        final Path file = this.folder.newFile().toPath();
+        final Random random = new Random(1);
+        final long[] values = new long[1_000];
+        final StorageUnitColumn written = StorageUnitColumn.create(file, values.length, 6);
+        for (int index = 0; index < values.length; index++) {
+            values[index] = random.nextLong() >> random.nextInt(Long.SIZE);
+            written.set(index, values[index]);
+        }
+        written.force();
+
+        // When
+        final StorageUnitColumn column = StorageUnitColumn.open(file, 6);
+
+        // Then
+        BigInteger sum = BigInteger.ZERO;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        final Map<StorageUnitType, Long> counts = new EnumMap<>(StorageUnitType.class);
+        for (int index = 0; index < values.length; index++) {
+            Assert.assertEquals("Wrong entry at " + index, values[index], column.getAsLong(index));
+            sum = sum.add(BigInteger.valueOf(values[index]));
+            min = Math.min(min, values[index]);
+            max = Math.max(max, values[index]);
+            counts.merge(binaryType(values[index]), Long.valueOf(1), Long::sum);
+        }
+        Assert.assertEquals(StorageUnits.binaryValueOf(sum), column.sum());
+        Assert.assertEquals(StorageUnits.binaryValueOf(min), column.min());
+        Assert.assertEquals(StorageUnits.binaryValueOf(max), column.max());
+        Assert.assertEquals(counts, column.countByBinaryUnit());
+    }
+
+    /**
+     * Ensures that the sum of a column is not limited to the range of <code>long</code>.
+     */
+    @Test
+    public void shouldSumBeyondLongRange() {
+        // Given
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(3 * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putLong(Long.MAX_VALUE).putLong(Long.MAX_VALUE).putLong(Long.MAX_VALUE).flip();
+        final StorageUnitColumn column = StorageUnitColumn.wrap(buffer);
+
+        // When
+        final StorageUnit<?> sum = column.sum();
+
+        // Then
+        Assert.assertEquals(BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(3)),
+                sum.inByte());
+    }
+
+    /**
+     * Ensures that wrapped buffers are shared instead of copied.
+     */
+    @Test
+    public void shouldShareWrappedBuffer() {
+        // Given
+        final ByteBuffer buffer = ByteBuffer.allocate(2 * Long.BYTES);
+        final StorageUnitColumn column = StorageUnitColumn.wrap(buffer);
+
+        // When
+        column.set(1, StorageUnits.kibibyte(2));
+
+        // Then
+        Assert.assertEquals(2_048L, buffer.order(ByteOrder.LITTLE_ENDIAN).getLong(Long.BYTES));
+    }
+
+    /**
+     * Ensures that wrapped buffers spanning several chunks are read and written at the right positions.
+     */
+    @Test
+    public void shouldSpanSeveralChunksOfWrappedBuffer() {
+        // Given
+        final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + 100 * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int index = 0; index < 101; index++) {
+            buffer.putLong(index);
+        }
+        buffer.flip();
+        buffer.position(Long.BYTES);
+
+        // When
+        final StorageUnitColumn column = StorageUnitColumn.wrap(buffer, 4);
+        column.set(99, 1_024L);
+
+        // Then
+        Assert.assertEquals(100L, column.size());
+        for (int index = 0; index < 99; index++) {
+            Assert.assertEquals("Wrong entry at " + index, index + 1L, column.getAsLong(index));
+        }
+        Assert.assertEquals(1_024L, column.getAsLong(99));
+        Assert.assertEquals(1_024L, buffer.getLong(100 * Long.BYTES));
+        Assert.assertEquals(StorageUnits.binaryValueOf(99L * 100L / 2L + 1_024L), column.sum());
+    }
+
+    /**
+     * Ensures that read-only files cannot be modified.
+     *
+     * @throws IOException
+     *             In case the file cannot be mapped.
+     */
+    @Test(expected = ReadOnlyBufferException.class)
+    public void shouldRejectWritesToReadOnlyFile() throws IOException {
+        // Given
+        final Path file = this.folder.newFile().toPath();
+        Files.write(file, new byte[Long.BYTES]);
+        final StorageUnitColumn column = StorageUnitColumn.open(file);
+
+        // When
+        column.set(0, 1L);
+
+        // Then
+        // expect exception
+    }
+
+    /**
+     * Ensures that files which do not contain whole longs are rejected.
+     *
+     * @throws IOException
+     *             In case the file cannot be mapped.
+     */
+    @Test(expected = IOException.class)
+    public void shouldRejectPartialEntries() throws IOException {
+        // Given
+        final Path file = this.folder.newFile().toPath();
+        Files.write(file, new byte[Long.BYTES + 1]);
+
+        // When
+        StorageUnitColumn.open(file);
+
+        // Then
+        // expect exception
+    }
+
+    /**
+     * Ensures that indices are checked against the size of the column.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldRejectIndexBeyondSize() {
+        // Given
+        final StorageUnitColumn column = StorageUnitColumn.wrap(ByteBuffer.allocate(Long.BYTES));
+
+        // When
+        column.getAsLong(1);
+
+        // Then
+        // expect exception
+    }
+
+    /**
+     * Ensures that empty columns have no minimum.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void shouldNotFindMinimumOfEmptyColumn() {
+        // Given
+        final StorageUnitColumn column = StorageUnitColumn.wrap(ByteBuffer.allocate(0));
+
+        // When
+        column.min();
+
+        // Then
+        // expect exception
+    }
+
+    /**
+     * Ensures that empty columns sum up to zero and contain no units.
+     */
+    @Test
+    public void shouldAggregateEmptyColumn() {
+        // Given
+        final StorageUnitColumn column = StorageUnitColumn.wrap(ByteBuffer.allocate(0));
+
+        // When
+        final StorageUnit<?> sum = column.sum();
+
+        // Then
+        Assert.assertEquals(Byte.valueOf(0), sum);
+        Assert.assertTrue(column.countByBinaryUnit().isEmpty());
+    }
+
+    private static StorageUnitType binaryType(final long bytes) {
+        final String symbol = StorageUnits.binaryValueOf(bytes).getSymbol();
+        for (final StorageUnitType type : StorageUnitType.values()) {
+            if (type.getSymbol().equals(symbol)) {
+                return type;
+            }
+        }
+        throw new AssertionError(symbol);
+    }
+
+}
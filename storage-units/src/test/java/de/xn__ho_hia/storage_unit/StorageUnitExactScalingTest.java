@@ -0,0 +1,81 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.jooq.lambda.tuple.Tuple;
+import org.jooq.lambda.tuple.Tuple2;
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+
+/**
+ * Test cases that ensure the <code>inUnit</code> methods of the {@link StorageUnit} class produce the same results
+ * as dividing by the number of bytes per unit.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class StorageUnitExactScalingTest {
+
+    private static final List<Tuple2<Function<StorageUnit<?>, BigDecimal>, BigInteger>> CONVERSIONS = conversions();
+
+    /**
+     * Ensures that every conversion matches a division at the default scale rounded towards positive infinity.
+     */
+    @Test
+    public void shouldMatchDivision() {
+        // Given
+        final Random random = new Random(4711);
+
+        for (int index = 0; index < 5000; index++) {
+            final BigInteger bytes = new BigInteger(random.nextInt(100) + 1, random)
+                    .multiply(BigInteger.valueOf(random.nextBoolean() ? 1 : -1));
+            final StorageUnit<?> unit = Byte.valueOf(bytes);
+
+            for (final Tuple2<Function<StorageUnit<?>, BigDecimal>, BigInteger> conversion : CONVERSIONS) {
+                // When
+                final BigDecimal result = conversion.v1.apply(unit);
+
+                // Then
+                Assert.assertEquals("Wrong conversion of " + bytes + " into units of " + conversion.v2,
+                        new BigDecimal(bytes).divide(new BigDecimal(conversion.v2), 24, RoundingMode.CEILING),
+                        result);
+            }
+        }
+    }
+
+    private static List<Tuple2<Function<StorageUnit<?>, BigDecimal>, BigInteger>> conversions() {
+        final List<Tuple2<Function<StorageUnit<?>, BigDecimal>, BigInteger>> conversions = new ArrayList<>();
+        conversions.add(Tuple.tuple(StorageUnit::inKibibyte, StorageUnit.BYTES_IN_A_KIBIBYTE));
+        conversions.add(Tuple.tuple(StorageUnit::inMebibyte, StorageUnit.BYTES_IN_A_MEBIBYTE));
+        conversions.add(Tuple.tuple(StorageUnit::inGibibyte, StorageUnit.BYTES_IN_A_GIBIBYTE));
+        conversions.add(Tuple.tuple(StorageUnit::inTebibyte, StorageUnit.BYTES_IN_A_TEBIBYTE));
+        conversions.add(Tuple.tuple(StorageUnit::inPebibyte, StorageUnit.BYTES_IN_A_PEBIBYTE));
+        conversions.add(Tuple.tuple(StorageUnit::inExbibyte, StorageUnit.BYTES_IN_A_EXBIBYTE));
+        conversions.add(Tuple.tuple(StorageUnit::inZebibyte, StorageUnit.BYTES_IN_A_ZEBIBYTE));
+        conversions.add(Tuple.tuple(StorageUnit::inYobibyte, StorageUnit.BYTES_IN_A_YOBIBYTE));
+        conversions.add(Tuple.tuple(StorageUnit::inKilobyte, StorageUnit.BYTES_IN_A_KILOBYTE));
+        conversions.add(Tuple.tuple(StorageUnit::inMegabyte, StorageUnit.BYTES_IN_A_MEGABYTE));
+        conversions.add(Tuple.tuple(StorageUnit::inGigabyte, StorageUnit.BYTES_IN_A_GIGABYTE));
+        conversions.add(Tuple.tuple(StorageUnit::inTerabyte, StorageUnit.BYTES_IN_A_TERABYTE));
+        conversions.add(Tuple.tuple(StorageUnit::inPetabyte, StorageUnit.BYTES_IN_A_PETABYTE));
+        conversions.add(Tuple.tuple(StorageUnit::inExabyte, StorageUnit.BYTES_IN_A_EXABYTE));
+        conversions.add(Tuple.tuple(StorageUnit::inZettabyte, StorageUnit.BYTES_IN_A_ZETTABYTE));
+        conversions.add(Tuple.tuple(StorageUnit::inYottabyte, StorageUnit.BYTES_IN_A_YOTTABYTE));
+        conversions.add(Tuple.tuple(StorageUnit::inCommonKilobyte, StorageUnit.BYTES_IN_A_KIBIBYTE));
+        conversions.add(Tuple.tuple(StorageUnit::inCommonYottabyte, StorageUnit.BYTES_IN_A_YOBIBYTE));
+        return conversions;
+    }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.text.DecimalFormat;
+import java.text.Format;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.null_analysis.Nullsafe;
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+
+/**
+ * Test cases for the <code>formatTo</code> methods of the {@link StorageUnit} and {@link StorageUnits} classes.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class StorageUnitFormatToTest {
+
+    private static final List<Function<StorageUnit<?>, StorageUnit<?>>> CONVERSIONS = Arrays.asList(
+            StorageUnit::asByte, StorageUnit::asKibibyte, StorageUnit::asMebibyte, StorageUnit::asGibibyte,
+            StorageUnit::asTebibyte, StorageUnit::asPebibyte, StorageUnit::asExbibyte, StorageUnit::asZebibyte,
+            StorageUnit::asYobibyte, StorageUnit::asKilobyte, StorageUnit::asMegabyte, StorageUnit::asGigabyte,
+            StorageUnit::asTerabyte, StorageUnit::asPetabyte, StorageUnit::asExabyte, StorageUnit::asZettabyte,
+            StorageUnit::asYottabyte, StorageUnit::asCommonKilobyte, StorageUnit::asCommonMegabyte,
+            StorageUnit::asCommonGigabyte, StorageUnit::asCommonTerabyte, StorageUnit::asCommonPetabyte,
+            StorageUnit::asCommonExabyte, StorageUnit::asCommonZettabyte, StorageUnit::asCommonYottabyte);
+
+    private static final List<Locale> LOCALES = Arrays.asList(Locale.ENGLISH, Locale.GERMAN,
+            new Locale("th", "TH", "TH"), new Locale("ar", "EG"));
+
+    /**
+     * Ensures that formatting into a builder produces the same output as a {@link java.text.DecimalFormat} with the
+     * default pattern, including rounding of ties and the extreme values of <code>long</code>.
+     */
+    @Test
+    public void shouldFormatLikeDecimalFormat() {
+        // Given
+        final List<Long> values = values();
+
+        for (final Locale locale : LOCALES) {
+            for (final long value : values) {
+                for (final Function<StorageUnit<?>, StorageUnit<?>> conversion : CONVERSIONS) {
+                    final StorageUnit<?> unit = conversion.apply(Byte.valueOf(value));
+                    final StringBuilder builder = new StringBuilder();
+
+                    // When
+                    try {
+                        unit.formatTo(builder, Nullsafe.nonNull(locale));
+                    } catch (final IOException exception) {
+                        throw new AssertionError(exception);
+                    }
+
+                    // Then
+                    Assert.assertEquals("Wrong format for " + value + " in " + locale,
+                            unit.toString(StorageUnit.DEFAULT_FORMAT_PATTERN, locale), builder.toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Ensures that formatting into a builder produces the same output as {@link StorageUnit#toString()}.
+     */
+    @Test
+    public void shouldFormatToBuilder() {
+        // Given
+        final StorageUnit<?> unit = StorageUnits.kibibyte(1536);
+        final StringBuilder builder = new StringBuilder("size: ");
+
+        // When
+        final StringBuilder result = unit.formatTo(builder);
+
+        // Then
+        Assert.assertSame(builder, result);
+        Assert.assertEquals("size: " + unit.toString(), result.toString());
+    }
+
+    /**
+     * Ensures that formatting into any {@link Appendable} produces the same output as {@link StorageUnit#toString()}.
+     *
+     * @throws IOException
+     *             Should not fail in case the writer works.
+     */
+    @Test
+    public void shouldFormatToAppendable() throws IOException {
+        // Given
+        final StorageUnit<?> unit = StorageUnits.gigabyte(3);
+        final StringWriter writer = new StringWriter();
+
+        // When
+        unit.formatTo(writer);
+
+        // Then
+        Assert.assertEquals(unit.toString(), writer.toString());
+    }
+
+    /**
+     * Ensures that units outside of the <code>long</code> range are formatted as well.
+     */
+    @Test
+    public void shouldFormatBigUnitToBuilder() {
+        // Given
+        final StorageUnit<?> unit = StorageUnits.yobibyte(BigInteger.valueOf(5));
+
+        // When
+        final StringBuilder result = unit.formatTo(new StringBuilder());
+
+        // Then
+        Assert.assertEquals(unit.toString(StorageUnit.DEFAULT_FORMAT_PATTERN), result.toString());
+    }
+
+    /**
+     * Ensures that the static entry points produce the same output as their <code>formatAs</code> counterparts.
+     */
+    @Test
+    public void shouldFormatBytesToBuilder() {
+        // Given
+        final StringBuilder builder = new StringBuilder();
+        final Format format = new DecimalFormat(StorageUnit.DEFAULT_FORMAT_PATTERN);
+
+        for (final long value : values()) {
+            // When
+            builder.setLength(0);
+            final String binary = StorageUnits.formatAsBinaryUnitTo(value, builder).toString();
+            builder.setLength(0);
+            final String decimal = StorageUnits.formatAsDecimalUnitTo(value, builder).toString();
+            builder.setLength(0);
+            final String common = StorageUnits.formatAsCommonUnitTo(value, builder).toString();
+
+            // Then
+            Assert.assertEquals(StorageUnits.formatAsBinaryUnit(value, format), binary);
+            Assert.assertEquals(StorageUnits.formatAsDecimalUnit(value, format), decimal);
+            Assert.assertEquals(StorageUnits.formatAsCommonUnit(value, format), common);
+        }
+    }
+
+    private static List<Long> values() {
+        final List<Long> values = new ArrayList<>();
+        values.add(Long.valueOf(0));
+        values.add(Long.valueOf(Long.MAX_VALUE));
+        values.add(Long.valueOf(Long.MIN_VALUE));
+        for (int shift = 0; shift < Long.SIZE - 1; shift++) {
+            for (final long odd : new long[] { 1, 3, 5, 7, 25, 75, 125 }) {
+                addWithNeighbours(values, odd << shift);
+            }
+        }
+        for (long power = 1; power <= Long.MAX_VALUE / 100; power *= 10) {
+            for (final long factor : new long[] { 1, 5, 15, 25, 95, 99 }) {
+                addWithNeighbours(values, factor * power);
+            }
+        }
+        final Random random = new Random(4711);
+        for (int index = 0; index < 500; index++) {
+            values.add(Long.valueOf(random.nextLong() >> random.nextInt(Long.SIZE)));
+        }
+        return values;
+    }
+
+    private static void addWithNeighbours(final List<Long> values, final long value) {
+        for (final long candidate : new long[] { value - 1, value, value + 1 }) {
+            values.add(Long.valueOf(candidate));
+            values.add(Long.valueOf(-candidate));
+        }
+    }
+
+}
@@ -0,0 +1,243 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.null_analysis.Nullsafe;
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+import de.xn__ho_hia.storage_unit.StorageUnitFormatter.SymbolPlacement;
+
+/**
+ * Test cases for the {@link StorageUnitFormatter} class.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class StorageUnitFormatterTest {
+
+    /**
+     * Ensures that amounts are formatted into their best-matching binary unit.
+     */
+    @Test
+    public void shouldFormatBinaryUnits() {
+        // Given
+        final StorageUnitFormatter formatter = StorageUnitFormatter.ofBinaryUnits().withLocale(Locale.ENGLISH);
+
+        // When
+        final String formatted = formatter.format(1_572_864L);
+
+        // Then
+        Assert.assertEquals("1.50 MiB", formatted);
+    }
+
+    /**
+     * Ensures that amounts are formatted into their best-matching decimal unit.
+     */
+    @Test
+    public void shouldFormatDecimalUnits() {
+        // Given
+        final StorageUnitFormatter formatter = StorageUnitFormatter.ofDecimalUnits().withLocale(Locale.ENGLISH);
+
+        // When
+        final String formatted = formatter.format(BigInteger.valueOf(1_500_000L));
+
+        // Then
+        Assert.assertEquals("1.50 MB", formatted);
+    }
+
+    /**
+     * Ensures that units are formatted into their best-matching common unit.
+     */
+    @Test
+    public void shouldFormatCommonUnits() {
+        // Given
+        final StorageUnitFormatter formatter = StorageUnitFormatter.ofCommonUnits().withLocale(Locale.ENGLISH);
+
+        // When
+        final String formatted = formatter.format(Kibibyte.valueOf(1_572_864L));
+
+        // Then
+        Assert.assertEquals("1.50 MB", formatted);
+    }
+
+    /**
+     * Ensures that amounts are formatted into a fixed unit.
+     */
+    @Test
+    public void shouldFormatFixedUnit() {
+        // Given
+        final StorageUnitFormatter formatter = StorageUnitFormatter.ofUnit(StorageUnit::asKibibyte)
+                .withLocale(Locale.ENGLISH);
+
+        // When
+        final String formatted = formatter.format(1_572_864L);
+
+        // Then
+        Assert.assertEquals("1536.00 KiB", formatted);
+    }
+
+    /**
+     * Ensures that the pattern and locale are applied.
+     */
+    @Test
+    public void shouldApplyPatternAndLocale() {
+        // Given
+        final StorageUnitFormatter formatter = StorageUnitFormatter.ofUnit(StorageUnit::asKibibyte)
+                .withPattern("#,##0.0")
+                .withLocale(Locale.GERMAN);
+
+        // When
+        final String formatted = formatter.format(1_572_864L);
+
+        // Then
+        Assert.assertEquals("1.536,0 KiB", formatted);
+    }
+
+    /**
+     * Ensures that the symbol can be placed in front of the amount.
+     */
+    @Test
+    public void shouldPlaceSymbolBeforeAmount() {
+        // Given
+        final StorageUnitFormatter formatter = StorageUnitFormatter.ofBinaryUnits()
+                .withLocale(Locale.ENGLISH)
+                .withSymbolPlacement(SymbolPlacement.PREFIX);
+
+        // When
+        final String formatted = formatter.format(2048L);
+
+        // Then
+        Assert.assertEquals("KiB 2.00", formatted);
+    }
+
+    /**
+     * Ensures that the symbol can be omitted.
+     */
+    @Test
+    public void shouldOmitSymbol() {
+        // Given
+        final StorageUnitFormatter formatter = StorageUnitFormatter.ofBinaryUnits()
+                .withLocale(Locale.ENGLISH)
+                .withSymbolPlacement(SymbolPlacement.NONE);
+
+        // When
+        final String formatted = formatter.format(2048L);
+
+        // Then
+        Assert.assertEquals("2.00", formatted);
+    }
+
+    /**
+     * Ensures that the <code>with</code> methods do not modify the original formatter.
+     */
+    @Test
+    public void shouldBeImmutable() {
+        // Given
+        final StorageUnitFormatter formatter = StorageUnitFormatter.ofBinaryUnits();
+
+        // When
+        final StorageUnitFormatter modified = formatter.withPattern("0.0")
+                .withLocale(Locale.GERMAN)
+                .withSymbolPlacement(SymbolPlacement.PREFIX);
+
+        // Then
+        Assert.assertEquals(StorageUnit.DEFAULT_FORMAT_PATTERN, formatter.getPattern());
+        Assert.assertNull(formatter.getLocale());
+        Assert.assertEquals(SymbolPlacement.SUFFIX, formatter.getSymbolPlacement());
+        Assert.assertEquals("0.0", modified.getPattern());
+        Assert.assertEquals(Locale.GERMAN, modified.getLocale());
+        Assert.assertEquals(SymbolPlacement.PREFIX, modified.getSymbolPlacement());
+    }
+
+    /**
+     * Ensures that unchanged settings return the same formatter instance.
+     */
+    @Test
+    public void shouldReuseFormatterForUnchangedSettings() {
+        // Given
+        final StorageUnitFormatter formatter = StorageUnitFormatter.ofBinaryUnits().withLocale(Locale.GERMAN);
+
+        // When
+        final StorageUnitFormatter same = formatter.withPattern(StorageUnit.DEFAULT_FORMAT_PATTERN)
+                .withLocale(Locale.GERMAN)
+                .withSymbolPlacement(SymbolPlacement.SUFFIX);
+
+        // Then
+        Assert.assertSame(formatter, same);
+    }
+
+    /**
+     * Ensures that formatters derived for the static format methods are cached per pattern and locale.
+     */
+    @Test
+    public void shouldCacheDerivedFormatters() {
+        // Given
+        final StorageUnitFormatter formatter = StorageUnitFormatter.ofBinaryUnits();
+
+        // When
+        final StorageUnitFormatter first = formatter.withCachedSettings("0.0", Locale.GERMAN);
+        final StorageUnitFormatter second = formatter.withCachedSettings("0.0", Locale.GERMAN);
+        final StorageUnitFormatter other = formatter.withCachedSettings("0.0", Locale.ENGLISH);
+
+        // Then
+        Assert.assertSame(first, second);
+        Assert.assertNotSame(first, other);
+        Assert.assertEquals("0.0", first.getPattern());
+        Assert.assertEquals(Locale.GERMAN, first.getLocale());
+        Assert.assertSame(formatter, formatter.withCachedSettings(StorageUnit.DEFAULT_FORMAT_PATTERN, null));
+    }
+
+    /**
+     * Ensures that a formatter can be shared between threads.
+     *
+     * @throws Exception
+     *             Should not fail in case the formatter is thread-safe.
+     */
+    @Test
+    public void shouldBeThreadSafe() throws Exception {
+        // Given
+        final StorageUnitFormatter formatter = StorageUnitFormatter.ofBinaryUnits()
+                .withPattern("#,##0.000")
+                .withLocale(Locale.ENGLISH);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final List<Future<Boolean>> results = new ArrayList<>();
+
+        try {
+            // When
+            for (int thread = 0; thread < 8; thread++) {
+                final long offset = thread;
+                results.add(executor.submit((Callable<Boolean>) () -> {
+                    for (long bytes = 1024 * offset; bytes < 1024 * offset + 5000; bytes++) {
+                        final String expected = Byte.valueOf(bytes).asBestMatchingBinaryUnit()
+                                .toString(FormatUtils.asFormat("#,##0.000", Nullsafe.nonNull(Locale.ENGLISH)));
+                        if (!expected.equals(formatter.format(bytes))) {
+                            return Boolean.FALSE;
+                        }
+                    }
+                    return Boolean.TRUE;
+                }));
+            }
+
+            // Then
+            for (final Future<Boolean> result : results) {
+                Assert.assertTrue("Formatter produced wrong output", result.get().booleanValue());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
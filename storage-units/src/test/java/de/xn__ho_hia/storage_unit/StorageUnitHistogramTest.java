@@ -0,0 +1,313 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+
+/**
+ * Test cases for the {@link StorageUnitHistogram} class.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class StorageUnitHistogramTest {
+
+    /**
+     * Ensures that every recorded amount lies within its bucket and that buckets are contiguous.
+     */
+    @Test
+    public void shouldPlaceAmountsIntoContiguousBuckets() {
+        final Random random = new Random(1);
+        for (final StorageUnitHistogram histogram : layouts()) {
+            for (int iteration = 0; iteration < 100_000; iteration++) {
+                // Given
+                final long bytes = random.nextLong() >>> 1 + random.nextInt(Long.SIZE - 1);
+
+                // When
+                final int index = histogram.index(bytes);
+
+                // Then
+                Assert.assertTrue("Amount below its bucket: " + bytes, bytes >= histogram.lowerBound(index));
+                if (index + 1 < histogram.index(Long.MAX_VALUE)) {
+                    Assert.assertTrue("Amount above its bucket: " + bytes, bytes < histogram.lowerBound(index + 1));
+                }
+            }
+        }
+    }
+
+    /**
+     * Ensures that binary unit boundaries start new buckets in binary histograms.
+     */
+    @Test
+    public void shouldAlignBinaryBucketsToBinaryUnits() {
+        // Given
+        final StorageUnitHistogram histogram = StorageUnitHistogram.binary(3);
+
+        for (long boundary = 1_024L; boundary > 0; boundary *= 1_024L) {
+            // When
+            final int index = histogram.index(boundary);
+
+            // Then
+            Assert.assertEquals(boundary, histogram.lowerBound(index));
+            Assert.assertEquals(index - 1, histogram.index(boundary - 1));
+        }
+    }
+
+    /**
+     * Ensures that decimal unit boundaries start new buckets in decimal histograms.
+     */
+    @Test
+    public void shouldAlignDecimalBucketsToDecimalUnits() {
+        // Given
+        final StorageUnitHistogram histogram = StorageUnitHistogram.decimal(1);
+
+        for (long boundary = 1_000L; boundary > 0 && boundary <= Long.MAX_VALUE / 1_000L; boundary *= 1_000L) {
+            // When
+            final int index = histogram.index(boundary);
+
+            // Then
+            Assert.assertEquals(boundary, histogram.lowerBound(index));
+            Assert.assertEquals(index - 1, histogram.index(boundary - 1));
+        }
+    }
+
+    /**
+     * Ensures that quantiles stay within the precision of the histogram.
+     */
+    @Test
+    public void shouldEstimateQuantiles() {
+        for (final StorageUnitHistogram histogram : new StorageUnitHistogram[] { StorageUnitHistogram.binary(8),
+                StorageUnitHistogram.decimal(3) }) {
+            // Given
+            final Random random = new Random(2);
+            final long[] values = new long[10_000];
+            for (int index = 0; index < values.length; index++) {
+                values[index] = (long) Math.exp(random.nextDouble() * 40);
+                histogram.record(values[index]);
+            }
+            Arrays.sort(values);
+
+            for (final double quantile : new double[] { 0.01, 0.25, 0.5, 0.75, 0.9, 0.99, 0.999, 1 }) {
+                // When
+                final long estimate = histogram.quantile(quantile).inByte().longValue();
+
+                // Then
+                final long exact = values[(int) Math.ceil(quantile * values.length) - 1];
+                Assert.assertTrue("Estimate above exact value for " + quantile, estimate <= exact);
+                Assert.assertTrue("Estimate too small for " + quantile, exact - estimate <= exact / 100);
+            }
+        }
+    }
+
+    /**
+     * Ensures that the smallest and largest recorded amounts are kept exactly.
+     */
+    @Test
+    public void shouldKeepExactExtremes() {
+        // Given
+        final StorageUnitHistogram histogram = StorageUnitHistogram.decimal(1);
+
+        // When
+        histogram.record(1_234_567L);
+        histogram.record(StorageUnits.kilobyte(3));
+        histogram.record(98_765_432L, 10);
+
+        // Then
+        Assert.assertEquals(12, histogram.getTotalCount());
+        Assert.assertEquals(Kilobyte.valueOf(3_000L), histogram.min());
+        Assert.assertEquals(Megabyte.valueOf(98_765_432L), histogram.max());
+        Assert.assertEquals(histogram.min(), histogram.quantile(0));
+        Assert.assertEquals(histogram.max(), histogram.quantile(1));
+    }
+
+    /**
+     * Ensures that merging histograms equals recording all amounts into a single histogram.
+     */
+    @Test
+    public void shouldMergeWithoutLoss() {
+        // Given
+        final Random random = new Random(3);
+        final StorageUnitHistogram all = StorageUnitHistogram.binary(5);
+        final StorageUnitHistogram first = StorageUnitHistogram.binary(5);
+        final StorageUnitHistogram second = StorageUnitHistogram.binary(5);
+        for (int index = 0; index < 1_000; index++) {
+            final long bytes = random.nextLong() >>> 1 + random.nextInt(Long.SIZE - 1);
+            all.record(bytes);
+            (index % 3 == 0 ? first : second).record(bytes);
+        }
+
+        // When
+        first.merge(second);
+
+        // Then
+        Assert.assertArrayEquals(all.toByteArray(), first.toByteArray());
+    }
+
+    /**
+     * Ensures that histograms survive a round trip through their encoded form.
+     */
+    @Test
+    public void shouldRoundTripEncodedForm() {
+        final Random random = new Random(4);
+        for (final StorageUnitHistogram histogram : layouts()) {
+            // Given
+            for (int index = 0; index < 500; index++) {
+                histogram.record(random.nextLong() >>> 1 + random.nextInt(Long.SIZE - 1), 1 + random.nextInt(10));
+            }
+
+            // When
+            final StorageUnitHistogram decoded = StorageUnitHistogram.fromByteArray(histogram.toByteArray());
+
+            // Then
+            Assert.assertEquals(histogram.getTotalCount(), decoded.getTotalCount());
+            Assert.assertEquals(histogram.min(), decoded.min());
+            Assert.assertEquals(histogram.max(), decoded.max());
+            Assert.assertEquals(histogram.quantile(0.5), decoded.quantile(0.5));
+            Assert.assertArrayEquals(histogram.toByteArray(), decoded.toByteArray());
+        }
+    }
+
+    /**
+     * Ensures that empty histograms survive a round trip through their encoded form.
+     */
+    @Test
+    public void shouldRoundTripEmptyHistogram() {
+        // Given
+        final StorageUnitHistogram histogram = StorageUnitHistogram.decimal(2);
+
+        // When
+        final StorageUnitHistogram decoded = StorageUnitHistogram.fromByteArray(histogram.toByteArray());
+
+        // Then
+        Assert.assertTrue(decoded.isEmpty());
+        decoded.merge(histogram);
+        Assert.assertTrue(decoded.isEmpty());
+    }
+
+    /**
+     * Ensures that histograms with different layouts cannot be merged.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectMergingDifferentLayouts() {
+        // Given
+        final StorageUnitHistogram histogram = StorageUnitHistogram.binary(3);
+
+        // When
+        histogram.merge(StorageUnitHistogram.decimal(1));
+
+        // Then
+        // expect exception
+    }
+
+    /**
+     * Ensures that negative amounts cannot be recorded.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNegativeAmounts() {
+        // Given
+        final StorageUnitHistogram histogram = StorageUnitHistogram.binary(3);
+
+        // When
+        histogram.record(-1L);
+
+        // Then
+        // expect exception
+    }
+
+    /**
+     * Ensures that truncated encodings are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectTruncatedEncoding() {
+        // Given
+        final StorageUnitHistogram histogram = StorageUnitHistogram.binary(3);
+        histogram.record(12_345L);
+        final byte[] encoded = histogram.toByteArray();
+
+        // When
+        StorageUnitHistogram.fromByteArray(Arrays.copyOf(encoded, encoded.length - 1));
+
+        // Then
+        // expect exception
+    }
+
+    /**
+     * Ensures that encodings which repeat a bucket are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectZeroBucketOffset() {
+        // Given
+        final byte[] encoded = { 1, 2, 3, 0, 0, 1, 1, 0, 1 };
+
+        // When
+        StorageUnitHistogram.fromByteArray(encoded);
+
+        // Then
+        // expect exception
+    }
+
+    /**
+     * Ensures that encodings with empty buckets are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectZeroBucketCount() {
+        // Given
+        final byte[] encoded = { 1, 2, 3, 0, 0, 1, 0 };
+
+        // When
+        StorageUnitHistogram.fromByteArray(encoded);
+
+        // Then
+        // expect exception
+    }
+
+    /**
+     * Ensures that encodings with buckets beyond the layout of the histogram are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectBucketOutOfRange() {
+        // Given
+        final byte[] encoded = { 1, 2, 3, 0, 0, (byte) 0xFF, 0x7F, 1 };
+
+        // When
+        StorageUnitHistogram.fromByteArray(encoded);
+
+        // Then
+        // expect exception
+    }
+
+    /**
+     * Ensures that empty histograms have no quantiles.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void shouldNotFindQuantileOfEmptyHistogram() {
+        // Given
+        final StorageUnitHistogram histogram = StorageUnitHistogram.binary(3);
+
+        // When
+        histogram.quantile(0.5);
+
+        // Then
+        // expect exception
+    }
+
+    private static StorageUnitHistogram[] layouts() {
+        return new StorageUnitHistogram[] {
+                StorageUnitHistogram.binary(1),
+                StorageUnitHistogram.binary(7),
+                StorageUnitHistogram.binary(12),
+                StorageUnitHistogram.decimal(1),
+                StorageUnitHistogram.decimal(2),
+                StorageUnitHistogram.decimal(4) };
+    }
+
+}
@@ -79,4 +79,34 @@ public class StorageUnitNumberTest {
         Assert.assertEquals("Conversion was not correct", 1024, result);
     }
 
+    /**
+     * Ensures that units within the range of <code>long</code> are reported as such.
+     */
+    @Test
+    public void shouldFitIntoLong() {
+        // Given
+        final StorageUnit<?> unit = StorageUnits.bytes(Long.MAX_VALUE);
+
+        // When
+        final boolean result = unit.fitsIntoLong();
+
+        // Then
+        Assert.assertTrue("Unit does not fit into long", result);
+    }
+
+    /**
+     * Ensures that units beyond the range of <code>long</code> are reported as such.
+     */
+    @Test
+    public void shouldNotFitIntoLong() {
+        // Given
+        final StorageUnit<?> unit = StorageUnits.bytes(Long.MAX_VALUE).add(1);
+
+        // When
+        final boolean result = unit.fitsIntoLong();
+
+        // Then
+        Assert.assertFalse("Unit fits into long", result);
+    }
+
 }
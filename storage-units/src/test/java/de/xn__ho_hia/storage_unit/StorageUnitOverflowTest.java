@@ -0,0 +1,176 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import java.math.BigInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+
+/**
+ * Test cases for the {@link StorageUnit} class that check its behavior around the boundaries of <code>long</code>.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class StorageUnitOverflowTest {
+
+    private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
+    private static final BigInteger MIN_LONG = BigInteger.valueOf(Long.MIN_VALUE);
+
+    /**
+     * Ensures that adding beyond {@link Long#MAX_VALUE} does not overflow.
+     */
+    @Test
+    public void shouldAddBeyondLongRange() {
+        // Given
+        final StorageUnit<?> unit = Byte.valueOf(Long.MAX_VALUE);
+
+        // When
+        final StorageUnit<?> result = unit.add(1);
+
+        // Then
+        Assert.assertEquals("Addition overflowed", MAX_LONG.add(BigInteger.ONE), result.inByte());
+    }
+
+    /**
+     * Ensures that adding a unit beyond {@link Long#MAX_VALUE} does not overflow.
+     */
+    @Test
+    public void shouldAddUnitBeyondLongRange() {
+        // Given
+        final StorageUnit<?> unit = Byte.valueOf(Long.MAX_VALUE);
+
+        // When
+        final StorageUnit<?> result = unit.add(Kibibyte.valueOf(Long.MAX_VALUE));
+
+        // Then
+        Assert.assertEquals("Addition overflowed", MAX_LONG.add(MAX_LONG), result.inByte());
+    }
+
+    /**
+     * Ensures that subtracting below {@link Long#MIN_VALUE} does not overflow.
+     */
+    @Test
+    public void shouldSubtractBeyondLongRange() {
+        // Given
+        final StorageUnit<?> unit = Byte.valueOf(Long.MIN_VALUE);
+
+        // When
+        final StorageUnit<?> result = unit.subtract(1);
+
+        // Then
+        Assert.assertEquals("Subtraction overflowed", MIN_LONG.subtract(BigInteger.ONE), result.inByte());
+    }
+
+    /**
+     * Ensures that multiplying beyond {@link Long#MAX_VALUE} does not overflow.
+     */
+    @Test
+    public void shouldMultiplyBeyondLongRange() {
+        // Given
+        final StorageUnit<?> unit = Byte.valueOf(Long.MAX_VALUE);
+
+        // When
+        final StorageUnit<?> result = unit.multiply(Long.MAX_VALUE);
+
+        // Then
+        Assert.assertEquals("Multiplication overflowed", MAX_LONG.multiply(MAX_LONG), result.inByte());
+    }
+
+    /**
+     * Ensures that dividing {@link Long#MIN_VALUE} by <code>-1</code> does not overflow.
+     */
+    @Test
+    public void shouldDivideBeyondLongRange() {
+        // Given
+        final StorageUnit<?> unit = Byte.valueOf(Long.MIN_VALUE);
+
+        // When
+        final StorageUnit<?> result = unit.divide(-1);
+
+        // Then
+        Assert.assertEquals("Division overflowed", MIN_LONG.negate(), result.inByte());
+    }
+
+    /**
+     * Ensures that results which fit into a <code>long</code> again are equal to units created from a
+     * <code>long</code>.
+     */
+    @Test
+    public void shouldReturnIntoLongRange() {
+        // Given
+        final StorageUnit<?> unit = Byte.valueOf(Long.MAX_VALUE).add(1);
+
+        // When
+        final StorageUnit<?> result = unit.subtract(1);
+
+        // Then
+        Assert.assertEquals("Units are not equal", Byte.valueOf(Long.MAX_VALUE), result);
+        Assert.assertEquals("Hash codes are not equal", Byte.valueOf(Long.MAX_VALUE).hashCode(), result.hashCode());
+    }
+
+    /**
+     * Ensures that units created from a {@link BigInteger} are equal to units created from a <code>long</code>.
+     */
+    @Test
+    public void shouldBeEqualRegardlessOfConstruction() {
+        // Given
+        final StorageUnit<?> first = Gibibyte.valueOf(123456789L);
+        final StorageUnit<?> second = Gibibyte.valueOf(BigInteger.valueOf(123456789L));
+
+        // When
+        final boolean result = first.equals(second);
+
+        // Then
+        Assert.assertTrue("Units are not equal", result);
+    }
+
+    /**
+     * Ensures that the hash code matches the hash code of the amount of bytes as {@link BigInteger}.
+     */
+    @Test
+    public void shouldCalculateSameHashCodeAsBigInteger() {
+        // Given
+        final long[] values = { 0, 1, -1, 1024, -1024, Integer.MAX_VALUE, Integer.MIN_VALUE, 1L << 32,
+                -(1L << 32), 123456789012345L, -123456789012345L, Long.MAX_VALUE, Long.MIN_VALUE };
+
+        for (final long value : values) {
+            // When
+            final int hashCode = Byte.valueOf(value).hashCode();
+
+            // Then
+            Assert.assertEquals("Hash code differs for " + value, BigInteger.valueOf(value).hashCode(), hashCode);
+        }
+    }
+
+    /**
+     * Ensures that units beyond the range of <code>long</code> compare correctly with units inside of it.
+     */
+    @Test
+    public void shouldCompareAcrossLongRange() {
+        // Given
+        final StorageUnit<?> huge = Byte.valueOf(MAX_LONG.add(BigInteger.ONE));
+        final StorageUnit<?> tiny = Byte.valueOf(MIN_LONG.subtract(BigInteger.ONE));
+        final StorageUnit<?> zero = Byte.valueOf(0);
+
+        // When
+        final int hugeToZero = huge.compareTo(zero);
+        final int zeroToHuge = zero.compareTo(huge);
+        final int tinyToZero = tiny.compareTo(zero);
+        final int zeroToTiny = zero.compareTo(tiny);
+        final int hugeToTiny = huge.compareTo(tiny);
+
+        // Then
+        Assert.assertTrue("Huge unit is not bigger than zero", hugeToZero > 0);
+        Assert.assertTrue("Zero is not smaller than huge unit", zeroToHuge < 0);
+        Assert.assertTrue("Tiny unit is not smaller than zero", tinyToZero < 0);
+        Assert.assertTrue("Zero is not bigger than tiny unit", zeroToTiny > 0);
+        Assert.assertTrue("Huge unit is not bigger than tiny unit", hugeToTiny > 0);
+    }
+
+}
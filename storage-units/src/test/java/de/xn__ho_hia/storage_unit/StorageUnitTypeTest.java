@@ -0,0 +1,172 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+
+/**
+ * Test cases for the {@link StorageUnitType} enum.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class StorageUnitTypeTest {
+
+    private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
+    private static final BigInteger MIN_LONG = BigInteger.valueOf(Long.MIN_VALUE);
+
+    /**
+     * Ensures that each type matches the number of bytes and symbol of its storage unit.
+     */
+    @Test
+    public void shouldMatchStorageUnits() {
+        for (final StorageUnitType type : StorageUnitType.values()) {
+            // Given
+            final StorageUnit<?> unit = type.of(1);
+
+            // When
+            final BigInteger numberOfBytes = type.getNumberOfBytes();
+
+            // Then
+            Assert.assertEquals("Wrong number of bytes for " + type, unit.getNumberOfBytesPerUnit(), numberOfBytes);
+            Assert.assertEquals("Wrong number of bytes in unit for " + type, numberOfBytes, unit.inByte());
+            Assert.assertEquals("Wrong symbol for " + type, unit.getSymbol(), type.getSymbol());
+        }
+    }
+
+    /**
+     * Ensures that each type is found by the class of its storage unit and creates units of that class.
+     */
+    @Test
+    public void shouldLookUpTypeByUnitClass() {
+        for (final StorageUnitType type : StorageUnitType.values()) {
+            // Given
+            final Class<?> unitClass = type.of(1).getClass();
+
+            // When
+            final StorageUnitType found = StorageUnitType.forClass(unitClass);
+
+            // Then
+            Assert.assertSame("Wrong type for " + unitClass, type, found);
+            Assert.assertSame("Wrong unit class for " + type, unitClass, type.getUnitClass());
+            Assert.assertSame("Wrong class of long unit for " + type, unitClass, type.ofBytes(1).getClass());
+            Assert.assertSame("Wrong class of big unit for " + type, unitClass,
+                    type.ofBytes(BigInteger.ONE).getClass());
+        }
+        Assert.assertNull(StorageUnitType.forClass(StorageUnit.class));
+    }
+
+    /**
+     * Ensures that all conversions between all types match the exact result calculated with {@link BigInteger}.
+     */
+    @Test
+    public void shouldConvertLikeBigInteger() {
+        // Given
+        final long[] amounts = { 0, 1, -1, 999, 1000, 1023, 1024, -1025, 123_456_789, 1L << 40, Integer.MAX_VALUE,
+                Long.MAX_VALUE / 1000, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1 };
+
+        for (final StorageUnitType source : StorageUnitType.values()) {
+            for (final StorageUnitType target : StorageUnitType.values()) {
+                for (final long amount : amounts) {
+                    // When
+                    final long converted = target.convert(amount, source);
+
+                    // Then
+                    final BigInteger expected = BigInteger.valueOf(amount).multiply(source.getNumberOfBytes())
+                            .divide(target.getNumberOfBytes()).max(MIN_LONG).min(MAX_LONG);
+                    Assert.assertEquals("Wrong conversion of " + amount + " " + source + " to " + target,
+                            expected.longValue(), converted);
+                }
+            }
+        }
+    }
+
+    /**
+     * Ensures that conversions between binary and decimal units match the exact result for random amounts of any
+     * magnitude.
+     */
+    @Test
+    public void shouldConvertRandomAmountsAcrossBases() {
+        // Given
+        final Random random = new Random(7);
+
+        for (int iteration = 0; iteration < 20_000; iteration++) {
+            final StorageUnitType source = StorageUnitType.values()[random.nextInt(StorageUnitType.values().length)];
+            final StorageUnitType target = StorageUnitType.values()[random.nextInt(StorageUnitType.values().length)];
+            final long amount = random.nextLong() >> random.nextInt(Long.SIZE);
+
+            // When
+            final long converted = target.convert(amount, source);
+
+            // Then
+            final BigInteger expected = BigInteger.valueOf(amount).multiply(source.getNumberOfBytes())
+                    .divide(target.getNumberOfBytes()).max(MIN_LONG).min(MAX_LONG);
+            Assert.assertEquals("Wrong conversion of " + amount + " " + source + " to " + target,
+                    expected.longValue(), converted);
+        }
+    }
+
+    /**
+     * Ensures that conversions into bytes are saturated.
+     */
+    @Test
+    public void shouldSaturateBytes() {
+        // Given
+        final StorageUnitType type = StorageUnitType.EXBIBYTE;
+
+        // When
+        final long positive = type.toBytes(8);
+        final long negative = type.toBytes(-9);
+        final long huge = StorageUnitType.YOTTABYTE.toBytes(1);
+
+        // Then
+        Assert.assertEquals(Long.MAX_VALUE, positive);
+        Assert.assertEquals(Long.MIN_VALUE, negative);
+        Assert.assertEquals(Long.MAX_VALUE, huge);
+    }
+
+    /**
+     * Ensures that conversions into larger units truncate towards zero.
+     */
+    @Test
+    public void shouldTruncateTowardsZero() {
+        // Given
+        final StorageUnitType type = StorageUnitType.GIBIBYTE;
+
+        // When
+        final long positive = type.convert(2047, StorageUnitType.MEBIBYTE);
+        final long negative = type.convert(-2047, StorageUnitType.MEBIBYTE);
+
+        // Then
+        Assert.assertEquals(1, positive);
+        Assert.assertEquals(-1, negative);
+    }
+
+    /**
+     * Ensures that the <code>double</code> variants retain fractions.
+     */
+    @Test
+    public void shouldConvertDoubles() {
+        // Given
+        final StorageUnitType type = StorageUnitType.GIBIBYTE;
+
+        // When
+        final double converted = type.convert(1536.0, StorageUnitType.MEBIBYTE);
+        final double bytes = StorageUnitType.KILOBYTE.toBytes(1.5);
+        final double yottabytes = StorageUnitType.YOTTABYTE.convert(1.0, StorageUnitType.COMMON_YOTTABYTE);
+
+        // Then
+        Assert.assertEquals(1.5, converted, 0.0);
+        Assert.assertEquals(1500.0, bytes, 0.0);
+        Assert.assertEquals(1.2089258196146292, yottabytes, 1e-15);
+    }
+
+}
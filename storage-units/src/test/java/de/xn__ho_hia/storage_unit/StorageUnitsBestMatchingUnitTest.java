@@ -0,0 +1,145 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+
+/**
+ * Test cases for the best-matching unit selection of the {@link StorageUnits} class around unit boundaries.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class StorageUnitsBestMatchingUnitTest {
+
+    private static final List<Class<?>> BINARY_UNITS = Arrays.asList(Byte.class, Kibibyte.class, Mebibyte.class,
+            Gibibyte.class, Tebibyte.class, Pebibyte.class, Exbibyte.class, Zebibyte.class, Yobibyte.class);
+    private static final List<Class<?>> DECIMAL_UNITS = Arrays.asList(Byte.class, Kilobyte.class, Megabyte.class,
+            Gigabyte.class, Terabyte.class, Petabyte.class, Exabyte.class, Zettabyte.class, Yottabyte.class);
+    private static final List<Class<?>> COMMON_UNITS = Arrays.asList(Byte.class, CommonKilobyte.class,
+            CommonMegabyte.class, CommonGigabyte.class, CommonTerabyte.class, CommonPetabyte.class,
+            CommonExabyte.class, CommonZettabyte.class, CommonYottabyte.class);
+
+    /**
+     * Ensures that binary units are selected correctly around every unit boundary.
+     */
+    @Test
+    public void shouldSelectBinaryUnitAtBoundaries() {
+        for (final BigInteger value : boundaries(StorageUnit.BINARY_UNIT_BASE)) {
+            // Given
+            final Class<?> expected = expectedUnit(value, StorageUnit.BINARY_UNIT_BASE, BINARY_UNITS);
+
+            // When
+            final StorageUnit<?> unit = StorageUnits.binaryValueOf(value);
+
+            // Then
+            Assert.assertEquals("Wrong unit for " + value, expected, unit.getClass());
+            Assert.assertEquals("Wrong amount for " + value, value, unit.inByte());
+            if (value.bitLength() < Long.SIZE) {
+                Assert.assertEquals("Wrong unit for long " + value, expected,
+                        StorageUnits.binaryValueOf(value.longValue()).getClass());
+            }
+        }
+    }
+
+    /**
+     * Ensures that decimal units are selected correctly around every unit boundary.
+     */
+    @Test
+    public void shouldSelectDecimalUnitAtBoundaries() {
+        for (final BigInteger value : boundaries(StorageUnit.DECIMAL_UNIT_BASE)) {
+            // Given
+            final Class<?> expected = expectedUnit(value, StorageUnit.DECIMAL_UNIT_BASE, DECIMAL_UNITS);
+
+            // When
+            final StorageUnit<?> unit = StorageUnits.decimalValueOf(value);
+
+            // Then
+            Assert.assertEquals("Wrong unit for " + value, expected, unit.getClass());
+            Assert.assertEquals("Wrong amount for " + value, value, unit.inByte());
+            if (value.bitLength() < Long.SIZE) {
+                Assert.assertEquals("Wrong unit for long " + value, expected,
+                        StorageUnits.decimalValueOf(value.longValue()).getClass());
+            }
+        }
+    }
+
+    /**
+     * Ensures that common units are selected correctly around every unit boundary.
+     */
+    @Test
+    public void shouldSelectCommonUnitAtBoundaries() {
+        for (final BigInteger value : boundaries(StorageUnit.BINARY_UNIT_BASE)) {
+            // Given
+            final Class<?> expected = expectedUnit(value, StorageUnit.BINARY_UNIT_BASE, COMMON_UNITS);
+
+            // When
+            final StorageUnit<?> unit = StorageUnits.commonValueOf(value);
+
+            // Then
+            Assert.assertEquals("Wrong unit for " + value, expected, unit.getClass());
+            Assert.assertEquals("Wrong amount for " + value, value, unit.inByte());
+            if (value.bitLength() < Long.SIZE) {
+                Assert.assertEquals("Wrong unit for long " + value, expected,
+                        StorageUnits.commonValueOf(value.longValue()).getClass());
+            }
+        }
+    }
+
+    /**
+     * Ensures that the extreme values of <code>long</code> are represented by the largest long-sized units.
+     */
+    @Test
+    public void shouldSelectUnitForLongExtremes() {
+        // Given
+        final long[] values = { Long.MAX_VALUE, Long.MIN_VALUE };
+
+        for (final long value : values) {
+            // When
+            final StorageUnit<?> binary = StorageUnits.binaryValueOf(value);
+            final StorageUnit<?> decimal = StorageUnits.decimalValueOf(value);
+            final StorageUnit<?> common = StorageUnits.commonValueOf(value);
+
+            // Then
+            Assert.assertEquals("Wrong binary unit for " + value, Exbibyte.class, binary.getClass());
+            Assert.assertEquals("Wrong decimal unit for " + value, Exabyte.class, decimal.getClass());
+            Assert.assertEquals("Wrong common unit for " + value, CommonExabyte.class, common.getClass());
+        }
+    }
+
+    private static List<BigInteger> boundaries(final BigInteger base) {
+        final List<BigInteger> values = new ArrayList<>();
+        values.add(BigInteger.ZERO);
+        values.add(BigInteger.valueOf(Long.MAX_VALUE));
+        values.add(BigInteger.valueOf(Long.MIN_VALUE));
+        for (int exponent = 1; exponent <= 10; exponent++) {
+            final BigInteger boundary = base.pow(exponent);
+            for (final BigInteger value : Arrays.asList(boundary.subtract(BigInteger.ONE), boundary,
+                    boundary.add(BigInteger.ONE))) {
+                values.add(value);
+                values.add(value.negate());
+            }
+        }
+        return values;
+    }
+
+    private static Class<?> expectedUnit(final BigInteger value, final BigInteger base, final List<Class<?>> units) {
+        final BigInteger magnitude = value.abs();
+        int index = 0;
+        while (index < units.size() - 1 && magnitude.compareTo(base.pow(index + 1)) >= 0) {
+            index++;
+        }
+        return units.get(index);
+    }
+
+}
@@ -0,0 +1,245 @@
+/*
+ * This file is part of storage-units. It is subject to the license terms in the LICENSE file found in the top-level
+ * directory of this distribution and at http://creativecommons.org/publicdomain/zero/1.0/. No part of storage-units,
+ * including this file, may be copied, modified, propagated, or distributed except according to the terms contained
+ * in the LICENSE file.
+ */
+package de.xn__ho_hia.storage_unit;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.xn__ho_hia.quality.suppression.CompilerWarnings;
+
+/**
+ * Test cases for the parse methods of the {@link StorageUnits} class.
+ */
+@SuppressWarnings({ CompilerWarnings.NLS, CompilerWarnings.STATIC_METHOD })
+public class StorageUnitsParseTest {
+
+    private static final StorageUnitType[] PARSEABLE_TYPES = {
+            StorageUnitType.BYTE,
+            StorageUnitType.KIBIBYTE,
+            StorageUnitType.MEBIBYTE,
+            StorageUnitType.GIBIBYTE,
+            StorageUnitType.TEBIBYTE,
+            StorageUnitType.PEBIBYTE,
+            StorageUnitType.EXBIBYTE,
+            StorageUnitType.ZEBIBYTE,
+            StorageUnitType.YOBIBYTE,
+            StorageUnitType.KILOBYTE,
+            StorageUnitType.MEGABYTE,
+            StorageUnitType.GIGABYTE,
+            StorageUnitType.TERABYTE,
+            StorageUnitType.PETABYTE,
+            StorageUnitType.EXABYTE,
+            StorageUnitType.ZETTABYTE,
+            StorageUnitType.YOTTABYTE };
+
+    /**
+     * Ensures that the symbol of each unit is parsed into that unit.
+     */
+    @Test
+    public void shouldParseSymbolOfEachUnit() {
+        for (final StorageUnitType type : PARSEABLE_TYPES) {
+            // Given
+            final String text = "3 " + type.getSymbol();
+
+            // When
+            final StorageUnit<?> unit = StorageUnits.parse(text);
+
+            // Then
+            Assert.assertEquals("Wrong unit for " + text, type.of(3).getClass(), unit.getClass());
+            Assert.assertEquals("Wrong amount for " + text, type.of(3), unit);
+        }
+    }
+
+    /**
+     * Ensures that the output of {@link StorageUnit#toString()} can be parsed back.
+     */
+    @Test
+    public void shouldParseDefaultFormat() {
+        // Given
+        final StorageUnit<?> unit = StorageUnits.gibibyte(3).add(StorageUnits.mebibyte(512));
+
+        // When
+        final StorageUnit<?> parsed = StorageUnits.parse(unit.toString());
+
+        // Then
+        Assert.assertEquals("3.50 GiB", unit.toString());
+        Assert.assertEquals(unit, parsed);
+    }
+
+    /**
+     * Ensures that random amounts are parsed exactly like {@link BigDecimal} arithmetic would.
+     */
+    @Test
+    public void shouldMatchBigDecimalArithmetic() {
+        // Given
+        final Random random = new Random(42);
+
+        for (int iteration = 0; iteration < 20_000; iteration++) {
+            final StorageUnitType type = PARSEABLE_TYPES[random.nextInt(PARSEABLE_TYPES.length)];
+            final String amount = randomAmount(random);
+            final String text = amount + (random.nextBoolean() ? " " : "") + type.getSymbol();
+            final BigInteger expected = new BigDecimal(amount).multiply(new BigDecimal(type.getNumberOfBytes()))
+                    .setScale(0, RoundingMode.HALF_UP).toBigInteger();
+
+            // When
+            final StorageUnit<?> unit = StorageUnits.parse(text);
+
+            // Then
+            Assert.assertEquals("Wrong amount for " + text, expected, unit.inByte());
+            if (expected.bitLength() < Long.SIZE) {
+                Assert.assertEquals("Wrong bytes for " + text, expected.longValue(), StorageUnits.parseBytes(text));
+            }
+        }
+    }
+
+    /**
+     * Ensures that fractions of a byte are rounded half up.
+     */
+    @Test
+    public void shouldRoundHalfUp() {
+        // Given
+        final String[] texts = { "1.5 B", "2.5 B", "-1.5 B", "1.4 B", "0.0005 kB", "-0.0005 kB", "0.001 KiB" };
+        final long[] expected = { 2, 3, -2, 1, 1, -1, 1 };
+
+        for (int index = 0; index < texts.length; index++) {
+            // When
+            final long bytes = StorageUnits.parseBytes(texts[index]);
+
+            // Then
+            Assert.assertEquals("Wrong rounding for " + texts[index], expected[index], bytes);
+        }
+    }
+
+    /**
+     * Ensures that amounts at the boundaries of <code>long</code> are parsed.
+     */
+    @Test
+    public void shouldParseLongBoundaries() {
+        // Given
+        final String maximum = Long.MAX_VALUE + " B";
+        final String minimum = "-8 EiB";
+
+        // When
+        final long maximumBytes = StorageUnits.parseBytes(maximum);
+        final long minimumBytes = StorageUnits.parseBytes(minimum);
+
+        // Then
+        Assert.assertEquals(Long.MAX_VALUE, maximumBytes);
+        Assert.assertEquals(Long.MIN_VALUE, minimumBytes);
+    }
+
+    /**
+     * Ensures that amounts beyond <code>long</code> are parsed into units but rejected as bytes.
+     */
+    @Test
+    public void shouldParseBeyondLongRange() {
+        // Given
+        final String text = "8 EiB";
+
+        // When
+        final StorageUnit<?> unit = StorageUnits.parse(text);
+
+        // Then
+        Assert.assertEquals(BigInteger.ONE.shiftLeft(63), unit.inByte());
+        try {
+            StorageUnits.parseBytes(text);
+            Assert.fail("Parsed amount beyond long range");
+        } catch (final NumberFormatException expected) {
+            // expected
+        }
+    }
+
+    /**
+     * Ensures that strict parsing rejects inputs that do not match the exact symbols and spacing.
+     */
+    @Test
+    public void shouldRejectInvalidInputInStrictMode() {
+        // Given
+        final String[] texts = { "", " ", "1", "KiB", " 1 KiB", "1 KiB ", "1  KiB", "1 kiB", "1 KB", "1 Kib", "1 kb",
+                "+1 KiB", ".5 KiB", "1. KiB", "1.5.5 KiB", "1,5 KiB", "- 1 KiB", "1 bytes", "1 XB", "1 KiBB", "1e3 B",
+                "-", "- KiB" };
+
+        for (final String text : texts) {
+            try {
+                // When
+                StorageUnits.parseBytes(text);
+
+                // Then
+                Assert.fail("Accepted invalid input: '" + text + "'");
+            } catch (final NumberFormatException expected) {
+                // expected
+            }
+        }
+    }
+
+    /**
+     * Ensures that lenient parsing accepts relaxed spelling and spacing.
+     */
+    @Test
+    public void shouldAcceptRelaxedInputInLenientMode() {
+        // Given
+        final String[] texts = { " 1 KiB ", "1\tkib", "1 Ki", "1ki", "+1 KIB", "1.024 kb", "1.024 KB", "1.024 k",
+                "1024", "1024 b", "1024 bytes", "1024 Byte", ".5 Ki", "+.5 kib", "0.5 KiB", "2. kIb" };
+        final long[] expected = { 1024, 1024, 1024, 1024, 1024, 1024, 1024, 1024, 1024, 1024, 1024, 1024, 512, 512,
+                512, 2048 };
+
+        for (int index = 0; index < texts.length; index++) {
+            // When
+            final long bytes = StorageUnits.parseBytes(texts[index], StorageUnitParseMode.LENIENT);
+
+            // Then
+            Assert.assertEquals("Wrong bytes for '" + texts[index] + "'", expected[index], bytes);
+        }
+    }
+
+    /**
+     * Ensures that lenient parsing still rejects malformed input.
+     */
+    @Test
+    public void shouldRejectInvalidInputInLenientMode() {
+        // Given
+        final String[] texts = { "", "  ", "KiB", "1 kibi", "1 kBi", "1 XB", "1.5.5 KiB", "1,5 KiB", "1 2 KiB", ".",
+                "+-1 KiB", "1 byt" };
+
+        for (final String text : texts) {
+            try {
+                // When
+                StorageUnits.parseBytes(text, StorageUnitParseMode.LENIENT);
+
+                // Then
+                Assert.fail("Accepted invalid input: '" + text + "'");
+            } catch (final NumberFormatException expected) {
+                // expected
+            }
+        }
+    }
+
+    private static String randomAmount(final Random random) {
+        final StringBuilder builder = new StringBuilder();
+        if (random.nextBoolean()) {
+            builder.append('-');
+        }
+        final int integerDigits = 1 + random.nextInt(random.nextBoolean() ? 4 : 22);
+        for (int digit = 0; digit < integerDigits; digit++) {
+            builder.append((char) ('0' + random.nextInt(10)));
+        }
+        if (random.nextBoolean()) {
+            builder.append('.');
+            final int fractionDigits = 1 + random.nextInt(random.nextBoolean() ? 3 : 22);
+            for (int digit = 0; digit < fractionDigits; digit++) {
+                builder.append((char) ('0' + random.nextInt(10)));
+            }
+        }
+        return builder.toString();
+    }
+
+}